@@ -0,0 +1,187 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark compares lookups and insertions of {@link Base36Map} with a {@link HashMap} that uses {@link Base36} keys.
+ * Every invocation processes all keys of the map so that the results are the average time for one operation.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Base36MapBenchmark {
+  /**
+   * Number of digits of all keys.
+   */
+  private static final int DIGITS = 8;
+
+  /**
+   * Number of entries of the maps.
+   */
+  @Param({ "1000", "100000", "1000000" })
+  private int size;
+
+  /**
+   * Keys of all entries.
+   */
+  private Base36[] keys;
+
+  /**
+   * Numerical values of all keys.
+   */
+  private long[] longKeys;
+
+  /**
+   * Keys that are not contained in the maps.
+   */
+  private Base36[] missingKeys;
+
+  /**
+   * Base 36 map with all entries.
+   */
+  private Base36Map<Long> base36Map;
+
+  /**
+   * Hash map with all entries.
+   */
+  private Map<Base36, Long> hashMap;
+
+  /**
+   * Method creates random keys and fills both maps with them.
+   */
+  @Setup
+  public void setup( ) {
+    Random lRandom = new Random(4711);
+    keys = new Base36[size];
+    longKeys = new long[size];
+    missingKeys = new Base36[size];
+    base36Map = new Base36Map<>(DIGITS, size);
+    hashMap = new HashMap<>(size * 2);
+    long lMaxValue = 2821109907456L;
+    for (int i = 0; i < size; i++) {
+      // Even values are contained in the maps, odd values are missing.
+      long lValue = (long) (lRandom.nextDouble() * (lMaxValue / 2)) * 2;
+      keys[i] = new Base36(lValue, DIGITS);
+      longKeys[i] = lValue;
+      missingKeys[i] = new Base36(lValue + 1, DIGITS);
+      base36Map.put(keys[i], Long.valueOf(i));
+      hashMap.put(keys[i], Long.valueOf(i));
+    }
+  }
+
+  /**
+   * Method looks up all keys in the base 36 map.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   */
+  @Benchmark
+  public void base36MapGet( Blackhole pBlackhole ) {
+    for (Base36 lKey : keys) {
+      pBlackhole.consume(base36Map.get(lKey));
+    }
+  }
+
+  /**
+   * Method looks up the numerical values of all keys in the base 36 map.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   */
+  @Benchmark
+  public void base36MapGetLong( Blackhole pBlackhole ) {
+    for (long lKey : longKeys) {
+      pBlackhole.consume(base36Map.get(lKey));
+    }
+  }
+
+  /**
+   * Method looks up all keys in the hash map.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   */
+  @Benchmark
+  public void hashMapGet( Blackhole pBlackhole ) {
+    for (Base36 lKey : keys) {
+      pBlackhole.consume(hashMap.get(lKey));
+    }
+  }
+
+  /**
+   * Method looks up keys that are not contained in the base 36 map.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   */
+  @Benchmark
+  public void base36MapGetMissing( Blackhole pBlackhole ) {
+    for (Base36 lKey : missingKeys) {
+      pBlackhole.consume(base36Map.get(lKey));
+    }
+  }
+
+  /**
+   * Method looks up keys that are not contained in the hash map.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   */
+  @Benchmark
+  public void hashMapGetMissing( Blackhole pBlackhole ) {
+    for (Base36 lKey : missingKeys) {
+      pBlackhole.consume(hashMap.get(lKey));
+    }
+  }
+
+  /**
+   * Method fills a new base 36 map with all keys.
+   *
+   * @return {@link Base36Map} Filled map. The method never returns null.
+   */
+  @Benchmark
+  public Base36Map<Long> base36MapPut( ) {
+    Base36Map<Long> lMap = new Base36Map<>(DIGITS);
+    for (int i = 0; i < keys.length; i++) {
+      lMap.put(keys[i], Long.valueOf(i));
+    }
+    return lMap;
+  }
+
+  /**
+   * Method fills a new hash map with all keys.
+   *
+   * @return {@link Map} Filled map. The method never returns null.
+   */
+  @Benchmark
+  public Map<Base36, Long> hashMapPut( ) {
+    Map<Base36, Long> lMap = new HashMap<>();
+    for (int i = 0; i < keys.length; i++) {
+      lMap.put(keys[i], Long.valueOf(i));
+    }
+    return lMap;
+  }
+}
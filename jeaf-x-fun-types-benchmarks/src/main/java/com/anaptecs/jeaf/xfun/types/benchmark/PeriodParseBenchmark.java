@@ -0,0 +1,178 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.benchmark;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.anaptecs.jeaf.xfun.types.Period;
+import com.anaptecs.jeaf.xfun.types.Period.DateStringRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark compares {@link Period#parse(CharSequence, DateStringRepresentation)} with parsing start and end of the
+ * same string representations through {@link SimpleDateFormat}. In addition complete round trips of formatting and
+ * parsing are compared. Every invocation processes all periods so that the results are the average time for one period.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PeriodParseBenchmark {
+  /**
+   * Number of periods that are processed by every invocation.
+   */
+  private static final int SIZE = 1000;
+
+  /**
+   * Prefix of the string representation of a period.
+   */
+  private static final String START_PREFIX = "Start: ";
+
+  /**
+   * Separator between start and end in the string representation of a period.
+   */
+  private static final String END_SEPARATOR = " End: ";
+
+  /**
+   * Representation of start and end of all periods.
+   */
+  @Param({ "DATE", "TIMESTAMP" })
+  private DateStringRepresentation representation;
+
+  /**
+   * Periods that are formatted and parsed.
+   */
+  private Period[] periods;
+
+  /**
+   * String representations of all periods.
+   */
+  private String[] texts;
+
+  /**
+   * Date format with the pattern of the representation. As {@link SimpleDateFormat} is not thread safe every thread has
+   * its own one.
+   */
+  private SimpleDateFormat dateFormat;
+
+  /**
+   * Method creates random periods between 1970 and 2100 and their string representations.
+   */
+  @Setup
+  public void setup( ) {
+    Random lRandom = new Random(4711);
+    periods = new Period[SIZE];
+    texts = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      long lStart = (long) (lRandom.nextDouble() * 4102444800000L);
+      periods[i] = new Period(lStart, lStart + lRandom.nextInt(Integer.MAX_VALUE));
+      texts[i] = periods[i].toString(representation);
+    }
+    String lPattern;
+    switch (representation) {
+      case DATE:
+        lPattern = Period.DATE_PATTERN;
+        break;
+      case DATE_TIME:
+        lPattern = Period.DATE_TIME_PATTERN;
+        break;
+      case DATE_TIME_SECONDS:
+        lPattern = Period.DATE_TIME_SECONDS_PATTERN;
+        break;
+      default:
+        lPattern = Period.TIMESTAMP_PATTERN;
+    }
+    dateFormat = new SimpleDateFormat(lPattern);
+    dateFormat.setLenient(false);
+  }
+
+  /**
+   * Method parses all string representations with {@link Period#parse(CharSequence, DateStringRepresentation)}.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   */
+  @Benchmark
+  public void periodParse( Blackhole pBlackhole ) {
+    for (String lText : texts) {
+      pBlackhole.consume(Period.parse(lText, representation));
+    }
+  }
+
+  /**
+   * Method parses start and end of all string representations with {@link SimpleDateFormat}.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   * @throws ParseException if a string representation can not be parsed.
+   */
+  @Benchmark
+  public void simpleDateFormatParse( Blackhole pBlackhole ) throws ParseException {
+    for (String lText : texts) {
+      pBlackhole.consume(this.parseWithDateFormat(lText));
+    }
+  }
+
+  /**
+   * Method formats all periods and parses them again with {@link Period}.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   */
+  @Benchmark
+  public void periodRoundTrip( Blackhole pBlackhole ) {
+    StringBuilder lBuilder = new StringBuilder(64);
+    for (Period lPeriod : periods) {
+      lBuilder.setLength(0);
+      pBlackhole.consume(Period.parse(lPeriod.appendTo(lBuilder, representation), representation));
+    }
+  }
+
+  /**
+   * Method formats all periods and parses them again with {@link SimpleDateFormat}.
+   *
+   * @param pBlackhole Blackhole that consumes the results.
+   * @throws ParseException if a string representation can not be parsed.
+   */
+  @Benchmark
+  public void simpleDateFormatRoundTrip( Blackhole pBlackhole ) throws ParseException {
+    for (Period lPeriod : periods) {
+      String lText = START_PREFIX + dateFormat.format(lPeriod.getStart()) + END_SEPARATOR
+          + dateFormat.format(lPeriod.getEnd());
+      pBlackhole.consume(this.parseWithDateFormat(lText));
+    }
+  }
+
+  /**
+   * Method parses start and end of the passed string representation with {@link SimpleDateFormat}.
+   *
+   * @param pText String representation of a period without open boundaries. The parameter must not be null.
+   * @return {@link Period} Parsed period. The method never returns null.
+   * @throws ParseException if the string representation can not be parsed.
+   */
+  private Period parseWithDateFormat( String pText ) throws ParseException {
+    int lSeparator = pText.indexOf(END_SEPARATOR);
+    Date lStart = dateFormat.parse(pText.substring(START_PREFIX.length(), lSeparator));
+    Date lEnd = dateFormat.parse(pText.substring(lSeparator + END_SEPARATOR.length()));
+    return new Period(lStart, lEnd);
+  }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.TimeOrderedBase36Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark measures the throughput of {@link TimeOrderedBase36Generator} with one and with several threads that share
+ * the same generator.
+ *
+ * @author JEAF Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TimeOrderedBase36GeneratorBenchmark {
+  /**
+   * Generator that is shared by all threads.
+   */
+  private TimeOrderedBase36Generator generator;
+
+  /**
+   * Method creates the generator. With 65536 numbers per millisecond the generator rarely has to continue with the next
+   * millisecond and 12 digits still hold timestamps up to the year 2083.
+   */
+  @Setup
+  public void setup( ) {
+    generator = new TimeOrderedBase36Generator(12, 36, 7, 65536);
+  }
+
+  /**
+   * Method generates the numerical value of the next number with one thread.
+   *
+   * @return long Generated value.
+   */
+  @Benchmark
+  @Threads(1)
+  public long nextValue( ) {
+    return generator.nextValue();
+  }
+
+  /**
+   * Method generates the numerical value of the next number with 8 threads.
+   *
+   * @return long Generated value.
+   */
+  @Benchmark
+  @Threads(8)
+  public long nextValueContended( ) {
+    return generator.nextValue();
+  }
+
+  /**
+   * Method generates the next number with one thread.
+   *
+   * @return {@link Base36} Generated number. The method never returns null.
+   */
+  @Benchmark
+  @Threads(1)
+  public Base36 next( ) {
+    return generator.next();
+  }
+
+  /**
+   * Method generates the next number with 8 threads.
+   *
+   * @return {@link Base36} Generated number. The method never returns null.
+   */
+  @Benchmark
+  @Threads(8)
+  public Base36 nextContended( ) {
+    return generator.next();
+  }
+}
@@ -0,0 +1,380 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements the open addressing hash table that is shared by {@link Base36Map} and {@link Base36LongMap}. Keys
+ * are the numerical values of base 36 numbers and are stored in a long array that is probed linearly. Values are
+ * stored by the subclasses in an array with the same index as the key.
+ *
+ * All modifications are synchronized on the map. Reads do not use any locks. Therefore keys and values are written and
+ * read with release / acquire semantics. A new entry publishes its value before its key, removed entries are marked as
+ * tombstone before their value is cleared. Slots of removed entries are not reused before the table is rebuilt. Thus a
+ * slot never contains another key once it contained a key. Readers check the key again after they read the value so
+ * that they never return the value of another key. When the table has to grow or contains too many tombstones a new
+ * table is built and then published at once.
+ *
+ * @author JEAF Development Team
+ */
+abstract class AbstractBase36Map {
+  /**
+   * Marker for a slot that was never used.
+   */
+  static final long EMPTY = -1;
+
+  /**
+   * Marker for a slot whose entry was removed.
+   */
+  static final long TOMBSTONE = -2;
+
+  /**
+   * Smallest capacity of a table.
+   */
+  private static final int MIN_CAPACITY = 16;
+
+  /**
+   * Variable handle to access the keys of a table with memory ordering.
+   */
+  private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  /**
+   * Number of digits of all keys of this map.
+   */
+  private final int digits;
+
+  /**
+   * Current table of this map.
+   */
+  private volatile Table table;
+
+  /**
+   * Number of entries of this map.
+   */
+  private volatile int size;
+
+  /**
+   * Number of slots of the current table that are not empty (entries and tombstones).
+   */
+  private int usedSlots;
+
+  /**
+   * Initialize map.
+   *
+   * @param pDigits Number of digits of all keys of the map. The parameter must be greater than zero.
+   * @param pExpectedSize Expected number of entries. The parameter must not be negative.
+   */
+  AbstractBase36Map( int pDigits, int pExpectedSize ) {
+    // Check parameters.
+    if (pDigits <= 0) {
+      throw new IllegalArgumentException("Parameter 'pDigits' must be greater than zero but is " + pDigits + ".");
+    }
+    Check.checkIsZeroOrGreater(pExpectedSize, "pExpectedSize");
+
+    digits = pDigits;
+    table = this.createTable(AbstractBase36Map.getCapacity(pExpectedSize));
+  }
+
+  /**
+   * Method creates a new empty table with the passed capacity.
+   *
+   * @param pCapacity Capacity of the table. The capacity is always a power of 2.
+   * @return {@link Table} Created table. All keys of the table have to be {@link #EMPTY}.
+   */
+  abstract Table createTable( int pCapacity );
+
+  /**
+   * Method copies the value of the passed slot of the source table to the passed slot of the target table. The target
+   * table is not yet published.
+   *
+   * @param pSource Table from which the value should be copied.
+   * @param pSourceIndex Slot of the source table.
+   * @param pTarget Table to which the value should be copied.
+   * @param pTargetIndex Slot of the target table.
+   */
+  abstract void copyValue( Table pSource, int pSourceIndex, Table pTarget, int pTargetIndex );
+
+  /**
+   * Method clears the value of the passed slot after its entry was removed.
+   *
+   * @param pTable Table whose value should be cleared.
+   * @param pIndex Slot whose value should be cleared.
+   */
+  abstract void clearValue( Table pTable, int pIndex );
+
+  /**
+   * Method returns the number of digits of all keys of this map.
+   *
+   * @return int Number of digits.
+   */
+  public final int getMaxLength( ) {
+    return digits;
+  }
+
+  /**
+   * Method returns the number of entries of this map.
+   *
+   * @return int Number of entries.
+   */
+  public final int size( ) {
+    return size;
+  }
+
+  /**
+   * Method checks if this map is empty.
+   *
+   * @return boolean Method returns true if this map does not contain any entry and false in all other cases.
+   */
+  public final boolean isEmpty( ) {
+    return size == 0;
+  }
+
+  /**
+   * Method removes all entries from this map.
+   */
+  public final synchronized void clear( ) {
+    table = this.createTable(MIN_CAPACITY);
+    size = 0;
+    usedSlots = 0;
+  }
+
+  /**
+   * Method returns the current table of this map.
+   *
+   * @return {@link Table} Current table. The method never returns null.
+   */
+  final Table getTable( ) {
+    return table;
+  }
+
+  /**
+   * Method converts the passed base 36 number into the key that is stored in the table.
+   *
+   * @param pKey Base 36 number. The parameter must not be null.
+   * @return long Key of the passed number or {@link #EMPTY} if the number can not be a key of this map.
+   */
+  final long toKey( Base36 pKey ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+
+    long lKey;
+    if (pKey.isLongValue() == true && this.isValidKey(pKey.toLong()) == true) {
+      lKey = pKey.toLong();
+    }
+    else {
+      lKey = EMPTY;
+    }
+    return lKey;
+  }
+
+  /**
+   * Method checks if the passed value can be used as key of this map.
+   *
+   * @param pKey Key that should be checked.
+   * @return boolean Method returns true if the passed key can be represented with the number of digits of this map.
+   */
+  final boolean isValidKey( long pKey ) {
+    return pKey >= 0 && (digits > Base36.MAX_COMPACT_DIGITS || pKey < Base36.POWERS[digits]);
+  }
+
+  /**
+   * Method ensures that the passed value can be used as key of this map.
+   *
+   * @param pKey Key that should be checked.
+   */
+  final void checkKey( long pKey ) {
+    if (this.isValidKey(pKey) == false) {
+      throw new IllegalArgumentException(
+          "Value " + pKey + " can not be represented as base 36 number with " + digits + " digits.");
+    }
+  }
+
+  /**
+   * Method returns the key of the passed slot.
+   *
+   * @param pTable Table whose key should be read.
+   * @param pIndex Slot of the key.
+   * @return long Key of the slot, {@link #EMPTY} or {@link #TOMBSTONE}.
+   */
+  static long getKey( Table pTable, int pIndex ) {
+    return (long) KEYS.getAcquire(pTable.keys, pIndex);
+  }
+
+  /**
+   * Method searches the slot of the passed key. The method does not require any lock.
+   *
+   * @param pTable Table that should be searched.
+   * @param pKey Key that should be searched. The key must not be negative.
+   * @return int Slot of the key or -1 if the table does not contain the key.
+   */
+  static int indexOf( Table pTable, long pKey ) {
+    final int lMask = pTable.keys.length - 1;
+    int lIndex = AbstractBase36Map.hash(pKey) & lMask;
+    int lResult = -1;
+    long lKey = AbstractBase36Map.getKey(pTable, lIndex);
+    while (lKey != EMPTY) {
+      if (lKey == pKey) {
+        lResult = lIndex;
+        break;
+      }
+      lIndex = (lIndex + 1) & lMask;
+      lKey = AbstractBase36Map.getKey(pTable, lIndex);
+    }
+    return lResult;
+  }
+
+  /**
+   * Method searches the slot for the passed key in order to store a value. If the table does not contain the key yet
+   * it will be added to an empty slot. Tombstones are not reused as a reader might still check the key of a removed
+   * entry. The method must only be called while the lock on this map is held and before the value is stored.
+   *
+   * @param pKey Key that should be stored. The key must be valid.
+   * @return int Slot of the key if the table already contained it. Otherwise the complement (~) of the slot to which
+   * the value has to be written before the key is published with {@link #publishKey(Table, int, long)}.
+   */
+  final int reserveSlot( long pKey ) {
+    // Ensure that there is space for one more entry. Tables are at most filled up to 75% so that probing ends quickly.
+    // As tombstones count as used slots they are removed by rebuilding the table when there are too many of them.
+    Table lTable = table;
+    if ((usedSlots + 1) * 4L > lTable.keys.length * 3L) {
+      lTable = this.rehash(AbstractBase36Map.getCapacity(size + 1));
+    }
+
+    final int lMask = lTable.keys.length - 1;
+    int lIndex = AbstractBase36Map.hash(pKey) & lMask;
+    int lResult = 0;
+    boolean lFound = false;
+    while (lFound == false) {
+      long lKey = lTable.keys[lIndex];
+      if (lKey == pKey) {
+        lResult = lIndex;
+        lFound = true;
+      }
+      else if (lKey == EMPTY) {
+        lResult = ~lIndex;
+        lFound = true;
+      }
+      else {
+        lIndex = (lIndex + 1) & lMask;
+      }
+    }
+    return lResult;
+  }
+
+  /**
+   * Method publishes the passed key after its value was written. The method must only be called while the lock on this
+   * map is held.
+   *
+   * @param pTable Table to which the key belongs.
+   * @param pIndex Slot that was returned by {@link #reserveSlot(long)}.
+   * @param pKey Key that should be published.
+   */
+  final void publishKey( Table pTable, int pIndex, long pKey ) {
+    usedSlots++;
+    KEYS.setRelease(pTable.keys, pIndex, pKey);
+    size = size + 1;
+  }
+
+  /**
+   * Method removes the entry with the passed key. The method must only be called while the lock on this map is held.
+   *
+   * @param pKey Key of the entry that should be removed.
+   * @return int Slot of the removed entry or -1 if the map does not contain the key.
+   */
+  final int removeKey( long pKey ) {
+    Table lTable = table;
+    int lIndex = AbstractBase36Map.indexOf(lTable, pKey);
+    if (lIndex >= 0) {
+      KEYS.setRelease(lTable.keys, lIndex, TOMBSTONE);
+      this.clearValue(lTable, lIndex);
+      size = size - 1;
+    }
+    return lIndex;
+  }
+
+  /**
+   * Method creates a new table with the passed capacity that contains all entries of the current one. Afterwards the
+   * new table is published.
+   *
+   * @param pCapacity Capacity of the new table.
+   * @return {@link Table} New table. The method never returns null.
+   */
+  private Table rehash( int pCapacity ) {
+    Table lOldTable = table;
+    Table lNewTable = this.createTable(pCapacity);
+    final int lMask = pCapacity - 1;
+    for (int i = 0; i < lOldTable.keys.length; i++) {
+      long lKey = lOldTable.keys[i];
+      if (lKey >= 0) {
+        int lIndex = AbstractBase36Map.hash(lKey) & lMask;
+        while (lNewTable.keys[lIndex] != EMPTY) {
+          lIndex = (lIndex + 1) & lMask;
+        }
+        lNewTable.keys[lIndex] = lKey;
+        this.copyValue(lOldTable, i, lNewTable, lIndex);
+      }
+    }
+    usedSlots = size;
+    table = lNewTable;
+    return lNewTable;
+  }
+
+  /**
+   * Method calculates the capacity of a table for the passed number of entries.
+   *
+   * @param pEntries Number of entries.
+   * @return int Capacity of the table. The capacity is always a power of 2.
+   */
+  private static int getCapacity( int pEntries ) {
+    long lRequired = Math.max(MIN_CAPACITY, pEntries * 2L);
+    if (lRequired > 1 << 30) {
+      throw new IllegalStateException("Base 36 maps support at most " + (1 << 29) + " entries.");
+    }
+    return Integer.highestOneBit((int) lRequired - 1) << 1;
+  }
+
+  /**
+   * Method calculates the hash code of the passed key. The bits of the key are spread so that sequential keys are
+   * distributed over the whole table.
+   *
+   * @param pKey Key whose hash code should be calculated.
+   * @return int Hash code of the key.
+   */
+  private static int hash( long pKey ) {
+    long lHash = pKey * 0x9E3779B97F4A7C15L;
+    return (int) (lHash ^ (lHash >>> 32));
+  }
+
+  /**
+   * Class represents a table with the keys and values of a map. Both arrays have the same length.
+   */
+  static final class Table {
+    /**
+     * Keys of the table.
+     */
+    final long[] keys;
+
+    /**
+     * Values of the table. The type of the array depends on the map.
+     */
+    final Object values;
+
+    /**
+     * Initialize object.
+     *
+     * @param pKeys Keys of the table. All keys have to be {@link AbstractBase36Map#EMPTY}.
+     * @param pValues Values of the table.
+     */
+    Table( long[] pKeys, Object pValues ) {
+      keys = pKeys;
+      values = pValues;
+    }
+  }
+}
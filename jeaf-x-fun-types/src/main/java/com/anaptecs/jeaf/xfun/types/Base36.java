@@ -5,11 +5,19 @@
  */
 package com.anaptecs.jeaf.xfun.types;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
 import java.util.Arrays;
+import java.util.Locale;
 
 import com.anaptecs.jeaf.xfun.api.XFunMessages;
-import com.anaptecs.jeaf.xfun.api.checks.Assert;
 import com.anaptecs.jeaf.xfun.api.checks.Check;
 import com.anaptecs.jeaf.xfun.api.errorhandling.ErrorCode;
 import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
@@ -23,6 +31,13 @@ import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
  * 
  * Sample: "123#" is bigger that "3210###" since the third digit has the highest weight.
  * 
+ * Numbers with up to {@link #MAX_COMPACT_DIGITS} digits are internally stored as primitive long value. Arithmetic
+ * operations, comparisons and the calculation of the hash code on such numbers do not require any decoding of
+ * characters. The base 36 encoded string representation is only created when it is requested. Numbers with more digits
+ * are stored as array of long values (limbs) with {@link #MAX_COMPACT_DIGITS} digits each. Thus arithmetic operations
+ * and comparisons on such numbers also work without decoding of characters. Their numerical value is available through
+ * {@link #toBigInteger()}.
+ * 
  * The class does currently not support negative values.
  * 
  * @author JEAF Development Team
@@ -30,9 +45,10 @@ import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
  */
 public class Base36 implements Serializable, Comparable<Base36> {
   /**
-   * Constant defines the offset of digits compared with characters.
+   * Maximum number of digits of a base 36 number that can always be represented by a primitive long value (36^12 - 1 is
+   * smaller than {@link Long#MAX_VALUE}).
    */
-  private static final int DIGIT_OFFSET = 10;
+  public static final int MAX_COMPACT_DIGITS = 12;
 
   /**
    * Serial version uid of this class.
@@ -40,22 +56,30 @@ public class Base36 implements Serializable, Comparable<Base36> {
   private static final long serialVersionUID = 1L;
 
   /**
-   * Character array contains all possible values for one base 36 encoded digit. The values are ordered to their natural
-   * order.
+   * Serialized form of objects of this class only consists of the base 36 encoded character array as it was the case
+   * for former versions.
    */
-  private static final char[] VALUES = new char[] { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C',
-    'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z' };
+  private static final ObjectStreamField[] serialPersistentFields =
+      new ObjectStreamField[] { new ObjectStreamField("value", char[].class) };
 
   /**
-   * Constant for the value 1 encoded as base 36 char array.
+   * Base 36 encoded character array of an object that is currently read from a stream. As such an object is always
+   * resolved directly after it was read, there is at most one per thread.
    */
-  private static final char[] ONE = new char[] { VALUES[1] };
+  private static final ThreadLocal<char[]> SERIALIZED_VALUE = new ThreadLocal<>();
+
+  /**
+   * Character array contains all possible values for one base 36 encoded digit. The values are ordered to their natural
+   * order.
+   */
+  static final char[] VALUES = new char[] { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C',
+    'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z' };
 
   /**
    * Constant for the fixed size place holder as it is used by the Persistence Framework Avantis Unisuite. This constant
    * is only used for compatibility with it.
    */
-  private static final char AVANTIS_EMPTY_CHAR = '#';
+  static final char AVANTIS_EMPTY_CHAR = '#';
 
   /**
    * Attribute contains the divisor to create a base36-number.
@@ -63,18 +87,61 @@ public class Base36 implements Serializable, Comparable<Base36> {
   private static final int BASE = 36;
 
   /**
-   * Regular expression pattern that describes structure of a base 36 encoded string.
+   * Array contains the powers of 36 from 36^0 up to 36^{@link #MAX_COMPACT_DIGITS}. The value at index i is the
+   * smallest number that requires i + 1 digits.
    */
-  private static final String BASE36_NUMBER_PATTERN = "[0-9A-Z]+[#]*";
+  static final long[] POWERS = new long[MAX_COMPACT_DIGITS + 1];
 
   /**
-   * Base 36 encoded representation of a number. The reference is never null since this value has to be passed to the
-   * class' constructor. The values are ordered in a way that is reversed to the natural order of numbers. This means if
-   * you read the digits from left to right that the most left digit has the smallest weight.
-   * 
-   * Sample: "123#" is bigger that "3210###" since the third digit has the highest weight.
+   * Base of the limbs of numbers with more than {@link #MAX_COMPACT_DIGITS} digits (36^{@link #MAX_COMPACT_DIGITS}).
+   */
+  static final long LIMB_BASE = 4738381338321616896L;
+
+  /**
+   * Base of the limbs as {@link BigInteger}.
+   */
+  private static final BigInteger BIG_LIMB_BASE = BigInteger.valueOf(LIMB_BASE);
+
+  /**
+   * Lookup table that contains the value of every base 36 digit for all ASCII characters. Characters that are not a
+   * base 36 digit have value -1.
+   */
+  static final byte[] DIGIT_VALUES = new byte[128];
+
+  static {
+    POWERS[0] = 1;
+    for (int i = 1; i < POWERS.length; i++) {
+      POWERS[i] = POWERS[i - 1] * BASE;
+    }
+    Arrays.fill(DIGIT_VALUES, (byte) -1);
+    for (int i = 0; i < VALUES.length; i++) {
+      DIGIT_VALUES[VALUES[i]] = (byte) i;
+    }
+  }
+
+  /**
+   * Number of digits of which this base 36 number consists at a maximum.
+   */
+  private final int digits;
+
+  /**
+   * Numerical value of this base 36 number. The attribute is only used if the number does not have more than
+   * {@link #MAX_COMPACT_DIGITS} digits.
    */
-  private final char[] value;
+  private final long number;
+
+  /**
+   * Number of characters of the string representation that are not filled up with <code>AVANTIS_EMPTY_CHAR</code>.
+   */
+  private final int length;
+
+  /**
+   * Numerical value of a base 36 number with more than {@link #MAX_COMPACT_DIGITS} digits. The reference is only set in
+   * this case. The value is split into limbs of {@link #MAX_COMPACT_DIGITS} digits each with the lowest limb first.
+   * This means that the value is the sum of limbs[i] * 36^(i * {@link #MAX_COMPACT_DIGITS}). The array has as many
+   * limbs as are required for the number of digits of this number.
+   */
+  private final long[] limbs;
 
   /**
    * Create new Base36 object with the passed value.
@@ -85,8 +152,8 @@ public class Base36 implements Serializable, Comparable<Base36> {
    * more characters than digits but may have less.
    */
   public Base36( String pValue, int pDigits ) {
-    // Check of parameters not required. All parameters are checked by the called method.
-    value = this.toBase36Chars(pValue, pDigits);
+    // Convert passed String to base 36 encoded number.
+    this(Base36.checkValue(pValue), 0, pValue.length(), pDigits);
   }
 
   /**
@@ -97,11 +164,83 @@ public class Base36 implements Serializable, Comparable<Base36> {
    * not have more characters than digits but may have less.
    */
   public Base36( int pValue, int pDigits ) {
-    char[] emptyValue = new char[pDigits];
-    Arrays.fill(emptyValue, AVANTIS_EMPTY_CHAR);
-    value = this.add(emptyValue, this.toBase36Chars(pValue));
-    // Check maximum length of base 36 encoded value.
-    Check.checkMaxStringLength(new String(value), pDigits, "pValue");
+    this((long) pValue, pDigits);
+  }
+
+  /**
+   * Create new Base36 object with the passed long value.
+   * 
+   * @param pValue Value to initialize the object. The parameter must not be negative.
+   * @param pDigits Number of digits of which the base 36 number consists at a maximum. The passed long value must not
+   * have more characters than digits but may have less.
+   */
+  public Base36( long pValue, int pDigits ) {
+    // Check parameters.
+    if (pValue < 0) {
+      throw new IllegalArgumentException("Parameter 'pValue' must be zero or greater but is " + pValue + ".");
+    }
+    if (Base36.getRequiredDigits(pValue) > pDigits) {
+      // Check maximum length of base 36 encoded value. As the check fails an exception will be thrown.
+      Check.checkMaxStringLength(new String(Base36.toBase36Chars(pValue)), pDigits, "pValue");
+    }
+
+    digits = pDigits;
+    length = Base36.getLength(pValue, pDigits);
+    if (pDigits <= MAX_COMPACT_DIGITS) {
+      number = pValue;
+      limbs = null;
+    }
+    else {
+      number = 0;
+      limbs = new long[Base36.getLimbCount(pDigits)];
+      limbs[0] = pValue % LIMB_BASE;
+      limbs[1] = pValue / LIMB_BASE;
+    }
+  }
+
+  /**
+   * Create new Base36 object with the passed value. Values that exceed the range of long values require more than
+   * {@link #MAX_COMPACT_DIGITS} digits.
+   * 
+   * @param pValue Value to initialize the object. The parameter must not be null and must not be negative.
+   * @param pDigits Number of digits of which the base 36 number consists at a maximum. The passed value must not have
+   * more characters than digits but may have less.
+   */
+  public Base36( BigInteger pValue, int pDigits ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+    if (pValue.signum() < 0) {
+      throw new IllegalArgumentException("Parameter 'pValue' must be zero or greater but is " + pValue + ".");
+    }
+
+    // Split value into limbs. Every limb holds more than 62 bits.
+    long[] lLimbs = new long[pValue.bitLength() / (Long.SIZE - 2) + 1];
+    int lLimbCount = 0;
+    BigInteger lLeftValue = pValue;
+    while (lLeftValue.signum() > 0) {
+      BigInteger[] lResult = lLeftValue.divideAndRemainder(BIG_LIMB_BASE);
+      lLimbs[lLimbCount] = lResult[1].longValue();
+      lLeftValue = lResult[0];
+      lLimbCount++;
+    }
+    final int lRequiredDigits = Base36.getLength(lLimbs);
+    if (lRequiredDigits > pDigits) {
+      // Check maximum length of base 36 encoded value. As the check fails an exception will be thrown.
+      String lBase36Value = new StringBuilder(pValue.toString(BASE)).reverse().toString();
+      Check.checkMaxStringLength(lBase36Value.toUpperCase(Locale.ROOT), pDigits, "pValue");
+    }
+
+    digits = pDigits;
+    if (pDigits <= MAX_COMPACT_DIGITS) {
+      number = lLimbs[0];
+      length = Base36.getLength(lLimbs[0], pDigits);
+      limbs = null;
+    }
+    else {
+      number = 0;
+      length = lRequiredDigits;
+      limbs = Arrays.copyOf(lLimbs, Base36.getLimbCount(pDigits));
+    }
   }
 
   /**
@@ -112,11 +251,242 @@ public class Base36 implements Serializable, Comparable<Base36> {
    * number. The parameter must not be null.
    */
   public Base36( String pValue ) {
-    // Check parameters
+    // Convert passed String to base 36 encoded number.
+    this(Base36.checkValue(pValue), 0, pValue.length(), pValue.length());
+  }
+
+  /**
+   * Initialize object with the passed range of a base 36 encoded character sequence. The characters are checked in one
+   * pass using a lookup table.
+   * 
+   * @param pValue Base 36 encoded characters. The parameter must not be null. The characters of the range must match to
+   * the pattern [0-9A-Z]+[#]*.
+   * @param pStart Index of the first character of the base 36 number.
+   * @param pEnd Index after the last character of the base 36 number.
+   * @param pDigits Number of digits of this base 36 number. The parameter must not be smaller than the length of the
+   * passed range.
+   */
+  private Base36( CharSequence pValue, int pStart, int pEnd, int pDigits ) {
+    // Check length of the passed range.
+    final int lStringLength = pEnd - pStart;
+    if (lStringLength > pDigits) {
+      Check.checkMaxStringLength(pValue.subSequence(pStart, pEnd).toString(), pDigits, "pValue");
+    }
+    final boolean lCompact = pDigits <= MAX_COMPACT_DIGITS;
+    long[] lLimbs;
+    if (lCompact == true) {
+      lLimbs = null;
+    }
+    else {
+      lLimbs = new long[Base36.getLimbCount(pDigits)];
+    }
+
+    // Check characters and calculate numerical value. AVANTIS_EMPTY_CHAR may only be used after at least one digit.
+    long lNumber = 0;
+    int lLength = lStringLength;
+    boolean lValid = lStringLength > 0;
+    for (int i = 0; i < lStringLength && lValid == true; i++) {
+      char lNextChar = pValue.charAt(pStart + i);
+      int lDigitValue;
+      if (lNextChar < DIGIT_VALUES.length) {
+        lDigitValue = DIGIT_VALUES[lNextChar];
+      }
+      else {
+        lDigitValue = -1;
+      }
+
+      if (lDigitValue >= 0 && i < lLength) {
+        if (lCompact == true) {
+          lNumber = lNumber + lDigitValue * POWERS[i];
+        }
+        else {
+          lLimbs[i / MAX_COMPACT_DIGITS] += lDigitValue * POWERS[i % MAX_COMPACT_DIGITS];
+        }
+      }
+      else if (lNextChar == AVANTIS_EMPTY_CHAR && i > 0) {
+        lLength = Math.min(lLength, i);
+      }
+      else {
+        lValid = false;
+      }
+    }
+    if (lValid == false) {
+      throw new IllegalArgumentException("'" + pValue.subSequence(pStart, pEnd)
+          + "' is not a valid base 36 number. Expected pattern is [0-9A-Z]+[#]*.");
+    }
+
+    digits = pDigits;
+    length = lLength;
+    number = lNumber;
+    limbs = lLimbs;
+  }
+
+  /**
+   * Initialize object that is the result of an arithmetic operation on base 36 numbers with at most
+   * {@link #MAX_COMPACT_DIGITS} digits.
+   * 
+   * @param pDigits Number of digits of which the base 36 number consists at a maximum.
+   * @param pNumber Numerical value of the new object. The value must fit into the passed number of digits.
+   * @param pLength Number of characters of the string representation that are not filled up with
+   * <code>AVANTIS_EMPTY_CHAR</code>.
+   */
+  private Base36( int pDigits, long pNumber, int pLength ) {
+    digits = pDigits;
+    number = pNumber;
+    length = pLength;
+    limbs = null;
+  }
+
+  /**
+   * Initialize object that is the result of an arithmetic operation on base 36 numbers with more than
+   * {@link #MAX_COMPACT_DIGITS} digits.
+   * 
+   * @param pDigits Number of digits of which the base 36 number consists at a maximum.
+   * @param pLimbs Limbs with the numerical value of the new object. The parameter must not be null. The array will not
+   * be copied.
+   */
+  private Base36( int pDigits, long[] pLimbs ) {
+    digits = pDigits;
+    number = 0;
+    limbs = pLimbs;
+    length = Base36.getLength(pLimbs);
+  }
+
+  /**
+   * Method parses the passed range of a character sequence as base 36 number. In contrast to the String based
+   * constructors no temporary objects are created to check and convert the passed characters.
+   * 
+   * @param pValue Character sequence that contains the base 36 number. The parameter must not be null. The characters
+   * of the passed range must match to the pattern [0-9A-Z]+[#]*.
+   * @param pStart Index of the first character of the base 36 number.
+   * @param pEnd Index after the last character of the base 36 number.
+   * @param pDigits Number of digits of which the base 36 number consists at a maximum. The passed range must not have
+   * more characters than digits but may have less.
+   * @return {@link Base36} Parsed base 36 number. The method never returns null.
+   * @throws JEAFSystemException with error code {@link XFunMessages#INVALID_BASE_36_DIGIT} if the range contains a
+   * character that does not match to the pattern like it is the case for {@link Base36Codec}.
+   */
+  public static Base36 parse( CharSequence pValue, int pStart, int pEnd, int pDigits ) {
+    // Check parameters.
     Check.checkInvalidParameterNull(pValue, "pValue");
+    if (pStart < 0 || pStart > pEnd || pEnd > pValue.length()) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + pStart + ", " + pEnd + ") is out of bounds for length " + pValue.length());
+    }
+    try {
+      return new Base36(pValue, pStart, pEnd, pDigits);
+    }
+    // Constructors report invalid characters as IllegalArgumentException. The invalid character is only searched for
+    // in this case so that valid numbers are still checked in one pass.
+    catch (IllegalArgumentException e) {
+      int lInvalidIndex = Base36.getInvalidIndex(pValue, pStart, pEnd);
+      if (lInvalidIndex < 0 || pEnd - pStart > pDigits) {
+        throw e;
+      }
+      String[] lParams = new String[] { Character.toString(pValue.charAt(lInvalidIndex)) };
+      throw new JEAFSystemException(XFunMessages.INVALID_BASE_36_DIGIT, lParams);
+    }
+  }
 
-    // Convert passed String to base 36 encoded number.
-    value = this.toBase36Chars(pValue, pValue.length());
+  /**
+   * Method returns the index of the first character of the passed range that does not match to the pattern
+   * [0-9A-Z]+[#]*.
+   * 
+   * @param pValue Character sequence that contains the base 36 number. The parameter must not be null.
+   * @param pStart Index of the first character of the base 36 number.
+   * @param pEnd Index after the last character of the base 36 number.
+   * @return int Index of the first invalid character or -1 if all characters of the range are valid.
+   */
+  private static int getInvalidIndex( CharSequence pValue, int pStart, int pEnd ) {
+    int lInvalidIndex = -1;
+    boolean lPadding = false;
+    for (int i = pStart; i < pEnd && lInvalidIndex < 0; i++) {
+      char lNextChar = pValue.charAt(i);
+      if (lNextChar == AVANTIS_EMPTY_CHAR && i > pStart) {
+        lPadding = true;
+      }
+      else if (lPadding == true || lNextChar >= DIGIT_VALUES.length || DIGIT_VALUES[lNextChar] < 0) {
+        lInvalidIndex = i;
+      }
+    }
+    return lInvalidIndex;
+  }
+
+  /**
+   * Method checks if this number is stored as primitive long value.
+   * 
+   * @return boolean Method returns true if the number does not have more than {@link #MAX_COMPACT_DIGITS} digits and
+   * false in all other cases.
+   */
+  private boolean isCompact( ) {
+    return limbs == null;
+  }
+
+  /**
+   * Method returns the number of limbs of this number. Numbers that are stored as primitive long value consist of one
+   * limb.
+   * 
+   * @return int Number of limbs of this number.
+   */
+  private int getLimbCount( ) {
+    int lLimbCount;
+    if (this.isCompact()) {
+      lLimbCount = 1;
+    }
+    else {
+      lLimbCount = limbs.length;
+    }
+    return lLimbCount;
+  }
+
+  /**
+   * Method returns the limb with the passed index.
+   * 
+   * @param pIndex Index of the limb. The index may exceed the number of limbs of this number.
+   * @return long Value of the limb. If this number does not have a limb with the passed index 0 is returned.
+   */
+  final long getLimb( int pIndex ) {
+    long lLimb;
+    if (this.isCompact()) {
+      if (pIndex == 0) {
+        lLimb = number;
+      }
+      else {
+        lLimb = 0;
+      }
+    }
+    else if (pIndex < limbs.length) {
+      lLimb = limbs[pIndex];
+    }
+    else {
+      lLimb = 0;
+    }
+    return lLimb;
+  }
+
+  /**
+   * Method checks if the value of this number can be represented as long value without an overflow.
+   * 
+   * @return boolean Method returns true if the value of this number is not greater than {@link Long#MAX_VALUE} and
+   * false in all other cases.
+   */
+  final boolean isLongValue( ) {
+    boolean lIsLongValue;
+    if (this.isCompact()) {
+      lIsLongValue = true;
+    }
+    else {
+      // Long.MAX_VALUE is less than 2 * LIMB_BASE.
+      boolean lHighLimbsZero = true;
+      for (int i = 2; i < limbs.length; i++) {
+        if (limbs[i] != 0) {
+          lHighLimbsZero = false;
+        }
+      }
+      lIsLongValue = lHighLimbsZero == true
+          && (limbs[1] == 0 || (limbs[1] == 1 && limbs[0] <= Long.MAX_VALUE - LIMB_BASE));
+    }
+    return lIsLongValue;
   }
 
   /**
@@ -125,7 +495,7 @@ public class Base36 implements Serializable, Comparable<Base36> {
    * @return int Maximum length of this base 36 number.
    */
   public final int getMaxLength( ) {
-    return value.length;
+    return digits;
   }
 
   /**
@@ -139,8 +509,13 @@ public class Base36 implements Serializable, Comparable<Base36> {
     // No parameter check required.
     Base36 lResult;
     if (pValueToAdd != null) {
-      final char[] lResultArray = this.add(value, pValueToAdd.value);
-      lResult = new Base36(new String(lResultArray), lResultArray.length);
+      final int lDigits = Math.max(digits, pValueToAdd.digits);
+      if (lDigits <= MAX_COMPACT_DIGITS) {
+        lResult = this.add(pValueToAdd.number, lDigits);
+      }
+      else {
+        lResult = this.add(pValueToAdd, 0, lDigits);
+      }
     }
     // Nothing to add.
     else {
@@ -160,10 +535,17 @@ public class Base36 implements Serializable, Comparable<Base36> {
     // Check parameter.
     Check.checkIsZeroOrGreater(pAddValue, "pAddValue");
 
-    // Convert int value to base 36 number, add it to this object and return the result.
-    final char[] lValueAsBase36Chars = this.toBase36Chars(pAddValue);
-    final char[] lResultValue = this.add(value, lValueAsBase36Chars);
-    return new Base36(new String(lResultValue));
+    // Add value to this object and return the result. If the passed value requires more digits than this object the
+    // result will have as many digits as the passed value.
+    final int lDigits = Math.max(digits, Base36.getRequiredDigits(pAddValue));
+    Base36 lResult;
+    if (lDigits <= MAX_COMPACT_DIGITS) {
+      lResult = this.add(pAddValue, lDigits);
+    }
+    else {
+      lResult = this.add(null, pAddValue, lDigits);
+    }
+    return lResult;
   }
 
   /**
@@ -173,151 +555,336 @@ public class Base36 implements Serializable, Comparable<Base36> {
    */
   public final Base36 increment( ) {
     // Increment this object by 1 and return the result.
-    final char[] lResultArray = this.add(value, ONE);
-    return new Base36(new String(lResultArray), lResultArray.length);
+    Base36 lResult;
+    if (this.isCompact()) {
+      lResult = this.add(1, digits);
+    }
+    else {
+      lResult = this.add(null, 1, digits);
+    }
+    return lResult;
   }
 
   /**
-   * Method adds the two base 36 encoded char[] and returns the result.
+   * Method decrements this base 36 number by 1 and returns the new number.
    * 
-   * @param pFirstValue Character array with the first summand. The parameter must not be null.
-   * @param pSecondValue Character array with the second summand. The parameter must not be null.
-   * @return char[] Result of the addition. The method never returns null.
+   * @return Base36 New base 36 number that is smaller than this object by 1. The method never returns null.
    */
-  private char[] add( char[] pFirstValue, char[] pSecondValue ) {
-    // Check parameters.
-    Assert.assertNotNull(pFirstValue, "pFirstValue");
-    Assert.assertNotNull(pSecondValue, "pSecondValue");
-
-    // Create new array for result.
-    final int lSize = Math.max(pFirstValue.length, pSecondValue.length);
-    char[] lResult = new char[lSize];
-
-    final int lFirstValueLength = pFirstValue.length;
-    final int lSecondValueLength = pSecondValue.length;
+  public final Base36 decrement( ) {
+    // Decrement this object by 1 and return the result.
+    Base36 lResult;
+    if (this.isCompact()) {
+      lResult = this.subtract(1, digits);
+    }
+    else {
+      lResult = this.subtract(null, 1, digits);
+    }
+    return lResult;
+  }
 
-    int lOverflow = 0;
-    int lDigitValue = 0;
-    for (int i = 0; i < lSize; i++) {
-      // Get next value for first summand.
-      int lFirstDigit;
-      if (i < lFirstValueLength) {
-        lFirstDigit = this.toIntValue(pFirstValue[i]);
+  /**
+   * Method subtracts the passed Base36 number from this number and returns the result.
+   * 
+   * @param pValueToSubtract Value to subtract from this object. The parameter may be null. In this case the method
+   * returns this object. The value must not be greater than this number.
+   * @return Base36 Result of the subtraction. The result has as many digits as the longer one of both numbers. The
+   * method never returns null.
+   */
+  public final Base36 subtract( Base36 pValueToSubtract ) {
+    // No parameter check required.
+    Base36 lResult;
+    if (pValueToSubtract != null) {
+      final int lDigits = Math.max(digits, pValueToSubtract.digits);
+      if (lDigits <= MAX_COMPACT_DIGITS) {
+        lResult = this.subtract(pValueToSubtract.number, lDigits);
       }
       else {
-        lFirstDigit = 0;
+        lResult = this.subtract(pValueToSubtract, 0, lDigits);
       }
+    }
+    // Nothing to subtract.
+    else {
+      lResult = this;
+    }
+    // Return result.
+    return lResult;
+  }
+
+  /**
+   * Method subtracts the passed value from this base 36 encoded number.
+   * 
+   * @param pSubtractValue Integer value to subtract from this object. The parameter must not be negative and must not
+   * be greater than this number.
+   * @return {@link Base36} New base 36 encoded number with the result of the subtraction. The result has as many digits
+   * as this number. The method never returns null.
+   */
+  public final Base36 subtract( int pSubtractValue ) {
+    // Check parameter.
+    Check.checkIsZeroOrGreater(pSubtractValue, "pSubtractValue");
+
+    Base36 lResult;
+    if (this.isCompact()) {
+      lResult = this.subtract(pSubtractValue, digits);
+    }
+    else {
+      lResult = this.subtract(null, pSubtractValue, digits);
+    }
+    return lResult;
+  }
 
-      // Get next value for second summand.
-      int lSecondDigit;
-      if (i < lSecondValueLength) {
-        lSecondDigit = this.toIntValue(pSecondValue[i]);
+  /**
+   * Method multiplies this base 36 encoded number with the passed factor.
+   * 
+   * @param pFactor Factor with which this number should be multiplied. The parameter must not be negative.
+   * @return {@link Base36} New base 36 encoded number with the result of the multiplication. The result has as many
+   * digits as this number. The method never returns null.
+   */
+  public final Base36 multiply( int pFactor ) {
+    // Check parameter.
+    Check.checkIsZeroOrGreater(pFactor, "pFactor");
+
+    Base36 lResult;
+    if (this.isCompact()) {
+      // Check for overflow before the multiplication as the product might exceed the range of long.
+      if (pFactor > 0 && number > (POWERS[digits] - 1) / pFactor) {
+        throw this.createValueExceededException(new String(Base36.toBase36Chars(pFactor)));
       }
-      else {
-        lSecondDigit = 0;
+      final long lProduct = number * pFactor;
+      lResult = new Base36(digits, lProduct, Base36.getLength(lProduct, digits));
+    }
+    else {
+      // Products of wide numbers are rare so they are calculated without a specific limb based algorithm.
+      BigInteger lProduct = this.toBigInteger().multiply(BigInteger.valueOf(pFactor));
+      if (lProduct.compareTo(BigInteger.valueOf(BASE).pow(digits)) >= 0) {
+        throw this.createValueExceededException(new String(Base36.toBase36Chars(pFactor)));
       }
+      lResult = new Base36(lProduct, digits);
+    }
+    return lResult;
+  }
 
-      int lSum = lFirstDigit + lSecondDigit + lOverflow;
+  /**
+   * Method calculates the difference between this number and the passed one. The number of digits of both numbers does
+   * not matter.
+   * 
+   * @param pOther Number that should be subtracted from this one. The parameter must not be null.
+   * @return long Difference of both numbers. The result is negative if the passed number is greater than this one.
+   * @throws ArithmeticException if the difference exceeds the range of long values.
+   */
+  public final long difference( Base36 pOther ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pOther, "pOther");
 
-      lOverflow = lSum / BASE;
-      lDigitValue = lSum % BASE;
-      lResult[i] = VALUES[lDigitValue];
+    long lDifference;
+    if (this.isLongValue() == true && pOther.isLongValue() == true) {
+      // As both values are not negative their difference can not exceed the range of long.
+      lDifference = this.toLong() - pOther.toLong();
     }
-    // Check if there is an overflow on the last digit. If yes this means that were ran over the maximum possible
-    // number.
-    if (lOverflow > 0) {
+    else {
+      lDifference = this.toBigInteger().subtract(pOther.toBigInteger()).longValueExact();
+    }
+    return lDifference;
+  }
+
+  /**
+   * Method adds the passed value to the numerical value of this object. The method must only be called if the result
+   * has at most {@link #MAX_COMPACT_DIGITS} digits.
+   * 
+   * @param pValueToAdd Value that should be added. The value must not be negative.
+   * @param pDigits Number of digits of the result.
+   * @return {@link Base36} Result of the addition. The method never returns null.
+   */
+  private Base36 add( long pValueToAdd, int pDigits ) {
+    // As both summands are less than 36^12 the sum is less than 2^64. Thus it is correct if it is interpreted as
+    // unsigned value.
+    final long lSum = number + pValueToAdd;
+
+    // Check if the result still fits into the available digits.
+    if (Long.compareUnsigned(lSum, POWERS[pDigits]) >= 0) {
       final ErrorCode lErrorCode = XFunMessages.MAX_BASE36_VALUE_EXCEEDED;
-      String[] lParams = new String[] { new String(pFirstValue), new String(pSecondValue) };
+      String[] lParams = new String[] { this.toString(), new String(Base36.toBase36Chars(pValueToAdd)) };
       throw new JEAFSystemException(lErrorCode, lParams);
     }
+    return new Base36(pDigits, lSum, Base36.getLength(lSum, pDigits));
+  }
 
-    // if there are 0 at the end of the number, replace them with #
-    boolean lZero = true;
-    int lResLength = lResult.length - 1;
-    while (lZero) {
-      if (lResult[lResLength] == '0') {
-        lResult[lResLength] = AVANTIS_EMPTY_CHAR;
+  /**
+   * Method adds the passed number and the passed value to this number limb by limb. The method is used if the result
+   * has more than {@link #MAX_COMPACT_DIGITS} digits.
+   * 
+   * @param pValueToAdd Number that should be added. The parameter may be null.
+   * @param pValue Value that should be added. The value must not be negative and must be less than {@link #LIMB_BASE}.
+   * If a number is passed the value has to be 0.
+   * @param pDigits Number of digits of the result.
+   * @return {@link Base36} Result of the addition. The method never returns null.
+   */
+  private Base36 add( Base36 pValueToAdd, long pValue, int pDigits ) {
+    final int lLimbCount = Base36.getLimbCount(pDigits);
+    long[] lLimbs = new long[lLimbCount];
+
+    // The passed value is added as carry to the lowest limb. As all limbs are less than LIMB_BASE the sum of a limb is
+    // less than 2^64 and thus correct if it is interpreted as unsigned value. The carry to the next limb is at most 1.
+    long lCarry = pValue;
+    for (int i = 0; i < lLimbCount; i++) {
+      long lSum = this.getLimb(i) + lCarry;
+      if (pValueToAdd != null) {
+        lSum = lSum + pValueToAdd.getLimb(i);
       }
-      else {
-        lZero = false;
+      if (Long.compareUnsigned(lSum, LIMB_BASE) >= 0) {
+        lLimbs[i] = lSum - LIMB_BASE;
+        lCarry = 1;
       }
-      lResLength--;
-      if (lResLength < 1) {
-        lZero = false;
+      else {
+        lLimbs[i] = lSum;
+        lCarry = 0;
       }
-
     }
 
-    // Return result of addition.
-    return lResult;
+    // Check if the result still fits into the available digits.
+    final int lDigitsOfHighestLimb = pDigits - (lLimbCount - 1) * MAX_COMPACT_DIGITS;
+    if (lCarry > 0 || lLimbs[lLimbCount - 1] >= POWERS[lDigitsOfHighestLimb]) {
+      String lAddedValue;
+      if (pValueToAdd != null) {
+        lAddedValue = pValueToAdd.toString();
+      }
+      else {
+        lAddedValue = new String(Base36.toBase36Chars(pValue));
+      }
+      final ErrorCode lErrorCode = XFunMessages.MAX_BASE36_VALUE_EXCEEDED;
+      String[] lParams = new String[] { this.toString(), lAddedValue };
+      throw new JEAFSystemException(lErrorCode, lParams);
+    }
+    return new Base36(pDigits, lLimbs);
   }
 
   /**
-   * Method converts the passed base 36 encoded String object to a character array with the passed length. If the
-   * resulting character array has more digits than the passed string characters then the returned char[] will be filled
-   * up with <code>AVANTIS_EMPTY_CHAR</code>.
+   * Method subtracts the passed value from the numerical value of this object. The method must only be called if the
+   * result has at most {@link #MAX_COMPACT_DIGITS} digits.
    * 
-   * @param pValue Base 36 encoded String. The parameter must not be null must must only contain characters that match
-   * to the defined pattern for base 36 numbers.
-   * @param pDigits Number of digits that the returned char[] should have. The parameter must not be smaller than the
-   * length of the passed string.
-   * @return char[] Character array containing the base 36 encoded number. The method never returns null.
+   * @param pValueToSubtract Value that should be subtracted. The value must not be negative.
+   * @param pDigits Number of digits of the result.
+   * @return {@link Base36} Result of the subtraction. The method never returns null.
+   */
+  private Base36 subtract( long pValueToSubtract, int pDigits ) {
+    final long lDifference = number - pValueToSubtract;
+
+    // Base 36 numbers can not be negative.
+    if (lDifference < 0) {
+      throw this.createValueExceededException(new String(Base36.toBase36Chars(pValueToSubtract)));
+    }
+    return new Base36(pDigits, lDifference, Base36.getLength(lDifference, pDigits));
+  }
+
+  /**
+   * Method subtracts the passed number and the passed value from this number limb by limb. The method is used if the
+   * result has more than {@link #MAX_COMPACT_DIGITS} digits.
    * 
-   * @see #AVANTIS_EMPTY_CHAR
+   * @param pValueToSubtract Number that should be subtracted. The parameter may be null.
+   * @param pValue Value that should be subtracted. The value must not be negative and must be less than
+   * {@link #LIMB_BASE}. If a number is passed the value has to be 0.
+   * @param pDigits Number of digits of the result.
+   * @return {@link Base36} Result of the subtraction. The method never returns null.
    */
-  private char[] toBase36Chars( String pValue, int pDigits ) {
-    // Check parameters.
-    Check.checkInvalidParameterNull(pValue, "pValue");
-    Check.checkPattern(pValue, BASE36_NUMBER_PATTERN);
-    Check.checkMaxStringLength(pValue, pDigits, "pValue");
+  private Base36 subtract( Base36 pValueToSubtract, long pValue, int pDigits ) {
+    final int lLimbCount = Base36.getLimbCount(pDigits);
+    long[] lLimbs = new long[lLimbCount];
 
-    // Create character array to store the value of this object.
-    char[] lValue;
-    final int lLength = pValue.length();
-    final char[] lValueAsChars = pValue.toCharArray();
-    if (lLength < pDigits) {
-      // Create array to store the value
-      lValue = new char[pDigits];
+    // The passed value is subtracted as borrow from the lowest limb. The borrow from the next limb is at most 1.
+    long lBorrow = pValue;
+    for (int i = 0; i < lLimbCount; i++) {
+      long lDifference = this.getLimb(i) - lBorrow;
+      if (pValueToSubtract != null) {
+        lDifference = lDifference - pValueToSubtract.getLimb(i);
+      }
+      if (lDifference < 0) {
+        lLimbs[i] = lDifference + LIMB_BASE;
+        lBorrow = 1;
+      }
+      else {
+        lLimbs[i] = lDifference;
+        lBorrow = 0;
+      }
+    }
 
-      System.arraycopy(lValueAsChars, 0, lValue, 0, lLength);
-      Arrays.fill(lValue, lLength, pDigits, AVANTIS_EMPTY_CHAR);
+    // Base 36 numbers can not be negative.
+    if (lBorrow > 0) {
+      String lSubtractedValue;
+      if (pValueToSubtract != null) {
+        lSubtractedValue = pValueToSubtract.toString();
+      }
+      else {
+        lSubtractedValue = new String(Base36.toBase36Chars(pValue));
+      }
+      throw this.createValueExceededException(lSubtractedValue);
+    }
+    return new Base36(pDigits, lLimbs);
+  }
+
+  /**
+   * Method creates the exception that is thrown if the result of an arithmetic operation on this number can not be
+   * represented as base 36 number with the available digits. This is also the case for negative results.
+   * 
+   * @param pOperand String representation of the other operand of the operation. The parameter must not be null.
+   * @return {@link JEAFSystemException} Exception with error code {@link XFunMessages#MAX_BASE36_VALUE_EXCEEDED}. The
+   * method never returns null.
+   */
+  private JEAFSystemException createValueExceededException( String pOperand ) {
+    final ErrorCode lErrorCode = XFunMessages.MAX_BASE36_VALUE_EXCEEDED;
+    String[] lParams = new String[] { this.toString(), pOperand };
+    return new JEAFSystemException(lErrorCode, lParams);
+  }
+
+  /**
+   * Method creates a new base 36 number from the passed limbs.
+   * 
+   * @param pDigits Number of digits of the new number.
+   * @param pLimbs Limbs with the numerical value of the new number. The parameter must not be null. Its length has to
+   * match to the passed number of digits and the value has to fit into them. The array will be copied.
+   * @return {@link Base36} New base 36 number. The method never returns null.
+   */
+  static Base36 valueOf( int pDigits, long[] pLimbs ) {
+    Base36 lValue;
+    if (pDigits <= MAX_COMPACT_DIGITS) {
+      lValue = new Base36(pDigits, pLimbs[0], Base36.getLength(pLimbs[0], pDigits));
     }
-    // The case that the passed string is longer than pDigits is already checked above.
     else {
-      lValue = lValueAsChars;
+      lValue = new Base36(pDigits, pLimbs.clone());
     }
     return lValue;
   }
 
   /**
-   * Method converts the passed integer value to a base 36 encoded representation (as char[]).
+   * Method checks the string that is passed to a constructor. The method is used to check the string before it is
+   * accessed by the arguments of another constructor.
    * 
-   * @param pValue Integer value that should be encoded as base 36 number. The parameter must not be negative.
-   * @return char[] Base 36 encoded character array representing the passed integer value. The method never returns
-   * null.
+   * @param pValue String that should be checked. The parameter must not be null.
+   * @return {@link String} Passed string. The method never returns null.
    */
-  private char[] toBase36Chars( int pValue ) {
-    // Check that parameter is positive
-    Assert.assertIsZeroOrGreater(pValue, "pValue");
+  private static String checkValue( String pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+    return pValue;
+  }
 
-    // Calculate number of digits that are required to store the integer.
-    int lRequiredDigits = 0;
-    int lRemains = pValue;
-    do {
-      lRemains = lRemains / BASE;
-      lRequiredDigits++;
-    }
-    while (lRemains > 0);
+  /**
+   * Method converts the passed long value to a base 36 encoded representation (as char[]).
+   * 
+   * @param pValue Long value that should be encoded as base 36 number. The parameter must not be negative.
+   * @return char[] Base 36 encoded character array representing the passed long value. The method never returns null.
+   */
+  private static char[] toBase36Chars( long pValue ) {
+    // Calculate number of digits that are required to store the value.
+    final int lRequiredDigits = Base36.getRequiredDigits(pValue);
 
     // Create char array for base 36 representation.
     char[] lResult = new char[lRequiredDigits];
 
-    // Convert integer to base 36 encoded chars.
-    int lLeftValue = pValue;
+    // Convert value to base 36 encoded chars.
+    long lLeftValue = pValue;
 
     for (int i = 0; i < lRequiredDigits; i++) {
       // Calculate value of next digit.
-      lResult[i] = VALUES[(lLeftValue % BASE)];
+      lResult[i] = VALUES[(int) (lLeftValue % BASE)];
       lLeftValue = lLeftValue / BASE;
     }
     // Return result of calculation.
@@ -325,53 +892,93 @@ public class Base36 implements Serializable, Comparable<Base36> {
   }
 
   /**
-   * Method returns the array index of the highest digit of this base 36 number.
+   * Method calculates the number of digits that are required to represent the passed value as base 36 number.
+   * 
+   * @param pValue Value for which the number of required digits should be calculated. The parameter must not be
+   * negative.
+   * @return int Number of required digits. The method always returns a value greater than zero.
+   */
+  private static int getRequiredDigits( long pValue ) {
+    int lRequiredDigits = 0;
+    long lRemains = pValue;
+    do {
+      lRemains = lRemains / BASE;
+      lRequiredDigits++;
+    }
+    while (lRemains > 0);
+    return lRequiredDigits;
+  }
+
+  /**
+   * Method returns the number of limbs that are required for a number with the passed number of digits.
    * 
-   * @return int Array index of the internal representation of a base 36 number of the highest digit of this object.
+   * @param pDigits Number of digits.
+   * @return int Number of limbs.
    */
-  private int getIndexOfHighestDigit( ) {
-    int lHighestDigit = 0;
-    for (int i = value.length - 1; i >= 0; i--) {
-      // Get numerical representation of current digit.
-      int lCurrentIntValue = this.toIntValue(value[i]);
+  static int getLimbCount( int pDigits ) {
+    return (pDigits + MAX_COMPACT_DIGITS - 1) / MAX_COMPACT_DIGITS;
+  }
 
-      // If the current digit is more than zero the highest digit is found.
-      if (lCurrentIntValue > 0) {
-        lHighestDigit = i;
+  /**
+   * Method calculates the number of characters that are not filled up with <code>AVANTIS_EMPTY_CHAR</code> for the
+   * passed limbs of a number with more than {@link #MAX_COMPACT_DIGITS} digits.
+   * 
+   * @param pLimbs Limbs of the number. The parameter must not be null.
+   * @return int Number of characters that are not filled up with <code>AVANTIS_EMPTY_CHAR</code>.
+   */
+  private static int getLength( long[] pLimbs ) {
+    int lLength = 1;
+    for (int i = pLimbs.length - 1; i >= 0; i--) {
+      if (pLimbs[i] != 0) {
+        lLength = i * MAX_COMPACT_DIGITS + Base36.getRequiredDigits(pLimbs[i]);
         break;
       }
     }
-    // Return index of highest digit.
-    return lHighestDigit;
+    return lLength;
   }
 
   /**
-   * Method returns the int value of the passed base36 encoded char.
+   * Method calculates the number of characters that are not filled up with <code>AVANTIS_EMPTY_CHAR</code> for the
+   * passed value. For compatibility reasons the value 0 is represented by <code>AVANTIS_EMPTY_CHAR</code> only if the
+   * number consists of only one digit.
    * 
-   * @param pBase36Char Base 36 encoded character that should be converted to an integer value.
-   * @return int Integer representation of the passed base 36 character.
+   * @param pValue Value for which the length should be calculated. The parameter must not be negative.
+   * @param pDigits Number of digits of the base 36 number.
+   * @return int Number of characters that are not filled up with <code>AVANTIS_EMPTY_CHAR</code>.
    */
-  private int toIntValue( char pBase36Char ) {
-    // Character is between 0 and 9.
-    int lIntValue;
-    if ('0' <= pBase36Char && pBase36Char <= '9') {
-      lIntValue = pBase36Char - '0';
+  static int getLength( long pValue, int pDigits ) {
+    int lLength;
+    if (pValue == 0 && pDigits == 1) {
+      lLength = 0;
     }
-    // Character is between A and Z.
-    else if ('A' <= pBase36Char && pBase36Char <= 'Z') {
-      lIntValue = pBase36Char - 'A' + DIGIT_OFFSET;
-    }
-    else if (AVANTIS_EMPTY_CHAR == pBase36Char) {
-      lIntValue = 0;
-    }
-    // Invalid character
     else {
-      // This should never happen since the the passed characters are always checked for correct characters before.
-      String[] lParams = new String[] { Character.toString(pBase36Char) };
-      throw new JEAFSystemException(XFunMessages.INVALID_BASE_36_DIGIT, lParams);
+      lLength = Base36.getRequiredDigits(pValue);
     }
-    // Return integer value of passed character.
-    return lIntValue;
+    return lLength;
+  }
+
+  /**
+   * Method returns the base 36 encoded character array of this number.
+   * 
+   * @return char[] Base 36 encoded character array. The method never returns null.
+   */
+  private char[] getChars( ) {
+    char[] lChars = new char[digits];
+    for (int lLimb = 0; lLimb < this.getLimbCount(); lLimb++) {
+      long lLeftValue = this.getLimb(lLimb);
+      final int lFirstDigit = lLimb * MAX_COMPACT_DIGITS;
+      final int lLastDigit = Math.min(digits, lFirstDigit + MAX_COMPACT_DIGITS);
+      for (int i = lFirstDigit; i < lLastDigit; i++) {
+        if (i < length) {
+          lChars[i] = VALUES[(int) (lLeftValue % BASE)];
+          lLeftValue = lLeftValue / BASE;
+        }
+        else {
+          lChars[i] = AVANTIS_EMPTY_CHAR;
+        }
+      }
+    }
+    return lChars;
   }
 
   /**
@@ -380,30 +987,136 @@ public class Base36 implements Serializable, Comparable<Base36> {
    * @return {@link String} String representation of this number. The method never returns null.
    */
   public final String toString( ) {
-    return new String(value);
+    return new String(this.getChars());
   }
 
   /**
-   * Method tries to convert the represented base 36 coded value to an integer. This is possible as long as INTEGER_MAX
-   * is not reached.
+   * Method appends the string representation of this number to the passed string builder. In contrast to
+   * {@link #toString()} no temporary objects are created for numbers with up to {@link #MAX_COMPACT_DIGITS} digits.
+   * 
+   * @param pBuilder String builder to which the number should be appended. The parameter must not be null.
+   * @return {@link StringBuilder} Passed string builder. The method never returns null.
+   */
+  public final StringBuilder appendTo( StringBuilder pBuilder ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pBuilder, "pBuilder");
+
+    if (this.isCompact()) {
+      long lLeftValue = number;
+      for (int i = 0; i < digits; i++) {
+        if (i < length) {
+          pBuilder.append(VALUES[(int) (lLeftValue % BASE)]);
+          lLeftValue = lLeftValue / BASE;
+        }
+        else {
+          pBuilder.append(AVANTIS_EMPTY_CHAR);
+        }
+      }
+    }
+    else {
+      pBuilder.append(this.getChars());
+    }
+    return pBuilder;
+  }
+
+  /**
+   * Method appends the string representation of this number to the passed appendable. In contrast to
+   * {@link #toString()} no temporary objects are created for numbers with up to {@link #MAX_COMPACT_DIGITS} digits.
+   * 
+   * @param pAppendable Appendable to which the number should be appended. The parameter must not be null.
+   * @return {@link Appendable} Passed appendable. The method never returns null.
+   * @throws IOException in case that the passed appendable fails to append the characters.
+   */
+  public final Appendable appendTo( Appendable pAppendable ) throws IOException {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pAppendable, "pAppendable");
+
+    if (this.isCompact()) {
+      long lLeftValue = number;
+      for (int i = 0; i < digits; i++) {
+        if (i < length) {
+          pAppendable.append(VALUES[(int) (lLeftValue % BASE)]);
+          lLeftValue = lLeftValue / BASE;
+        }
+        else {
+          pAppendable.append(AVANTIS_EMPTY_CHAR);
+        }
+      }
+    }
+    else {
+      for (char lNextChar : this.getChars()) {
+        pAppendable.append(lNextChar);
+      }
+    }
+    return pAppendable;
+  }
+
+  /**
+   * Method returns a canonical instance of this number from the shared {@link Base36Pool}. Numbers with the same value,
+   * the same number of digits and the same string representation that are interned share the same instance. Thus they
+   * can be compared by identity and only use memory once.
+   * 
+   * @return {@link Base36} Canonical instance of this number. If the shared pool is full this object is returned. The
+   * method never returns null.
+   * @see Base36Pool#getSharedPool()
+   */
+  public final Base36 intern( ) {
+    return Base36Pool.getSharedPool().intern(this);
+  }
+
+  /**
+   * Method checks if the passed number has the same representation as this one. In contrast to {@link #equals(Object)}
+   * also the number of digits and the string representation have to be the same.
+   * 
+   * @param pOther Number that should be compared with this one. The parameter must not be null.
+   * @return boolean Method returns true if both numbers have the same representation and false in all other cases.
+   */
+  final boolean hasSameRepresentation( Base36 pOther ) {
+    return digits == pOther.digits && length == pOther.length && this.compareTo(pOther) == 0;
+  }
+
+  /**
+   * Method tries to convert the represented base 36 coded value to a long. This is possible as long as
+   * {@link Long#MAX_VALUE} is not reached. Larger values overflow silently, use {@link #toBigInteger()} for them.
    * 
    * @return long Long value of this objects.
    */
   public final long toLong( ) {
-    long lDigitPositionValue = 1;
-    long lLongValue = 0;
-
-    // Loop over all digits to calculate the integer value of this object.
-    for (int i = 0; i < value.length; i++) {
-      // Multiply current digit with its base and add it to current integer value
-      lLongValue = lLongValue + (this.toIntValue(value[i]) * lDigitPositionValue);
-      // Increment base to value for next digit.
-      lDigitPositionValue = lDigitPositionValue * BASE;
+    long lLongValue;
+    if (this.isCompact()) {
+      lLongValue = number;
+    }
+    else {
+      // For compatibility reasons values that exceed the range of long overflow in the same way as before.
+      lLongValue = 0;
+      for (int i = limbs.length - 1; i >= 0; i--) {
+        lLongValue = lLongValue * LIMB_BASE + limbs[i];
+      }
     }
     // Return integer value.
     return lLongValue;
   }
 
+  /**
+   * Method converts the represented base 36 coded value to a big integer. In contrast to {@link #toLong()} this is
+   * possible for all values.
+   * 
+   * @return {@link BigInteger} Numerical value of this object. The method never returns null.
+   */
+  public final BigInteger toBigInteger( ) {
+    BigInteger lBigInteger;
+    if (this.isCompact()) {
+      lBigInteger = BigInteger.valueOf(number);
+    }
+    else {
+      lBigInteger = BigInteger.ZERO;
+      for (int i = limbs.length - 1; i >= 0; i--) {
+        lBigInteger = lBigInteger.multiply(BIG_LIMB_BASE).add(BigInteger.valueOf(limbs[i]));
+      }
+    }
+    return lBigInteger;
+  }
+
   /**
    * Method tries to convert the represented base 36 coded value to an integer. This is possible as long as INTEGER_MAX
    * is not reached.
@@ -426,8 +1139,12 @@ public class Base36 implements Serializable, Comparable<Base36> {
    */
   public final boolean equals( Object pObject ) {
     boolean lIsEqual;
+    // Same object, e.g. interned numbers.
+    if (pObject == this) {
+      lIsEqual = true;
+    }
     // Passed object is not null.
-    if (pObject != null) {
+    else if (pObject != null) {
       // Check if the internal representation of the base 36 number is the same.
       if (pObject instanceof Base36) {
         int lCompareResult = this.compareTo((Base36) pObject);
@@ -452,14 +1169,36 @@ public class Base36 implements Serializable, Comparable<Base36> {
   }
 
   /**
-   * Method returns the hash code of this Base36 object.
+   * Method returns the hash code of this Base36 object. The hash code is the same as the one of the base 36 encoded
+   * character array.
    * 
    * @return int Hash code of this Base36 object.
    * 
    * @see Object#hashCode()
+   * @see Arrays#hashCode(char[])
    */
   public final int hashCode( ) {
-    return Arrays.hashCode(value);
+    int lHashCode;
+    if (this.isCompact()) {
+      // Calculate hash code the same way as Arrays.hashCode(char[]) without creating the character array.
+      lHashCode = 1;
+      long lLeftValue = number;
+      for (int i = 0; i < digits; i++) {
+        char lNextChar;
+        if (i < length) {
+          lNextChar = VALUES[(int) (lLeftValue % BASE)];
+          lLeftValue = lLeftValue / BASE;
+        }
+        else {
+          lNextChar = AVANTIS_EMPTY_CHAR;
+        }
+        lHashCode = 31 * lHashCode + lNextChar;
+      }
+    }
+    else {
+      lHashCode = Arrays.hashCode(this.getChars());
+    }
+    return lHashCode;
   }
 
   /**
@@ -475,37 +1214,76 @@ public class Base36 implements Serializable, Comparable<Base36> {
     // Check parameter.
     Check.checkInvalidParameterNull(pAnotherBase36, "pAnotherBase36");
 
-    final int lThisHighestDigit = this.getIndexOfHighestDigit();
-    final int lParamHighestDigit = pAnotherBase36.getIndexOfHighestDigit();
-    final int lHighestDigit = Math.max(lThisHighestDigit, lParamHighestDigit);
-    // Compare all values with each other.
-    int lResult = 0;
-    for (int i = lHighestDigit; i >= 0; i--) {
-      // Get current digit of this base 36 number.
-      int lThisCurrentDigit;
-      if (i < value.length) {
-        lThisCurrentDigit = this.toIntValue(value[i]);
-      }
-      else {
-        lThisCurrentDigit = 0;
+    int lResult;
+    if (this.isCompact() && pAnotherBase36.isCompact()) {
+      lResult = Long.compare(number, pAnotherBase36.number);
+    }
+    else {
+      // Compare limbs starting with the highest one.
+      lResult = 0;
+      final int lLimbCount = Math.max(this.getLimbCount(), pAnotherBase36.getLimbCount());
+      for (int i = lLimbCount - 1; i >= 0 && lResult == 0; i--) {
+        lResult = Long.compare(this.getLimb(i), pAnotherBase36.getLimb(i));
       }
+    }
+    return lResult;
+  }
 
-      // Get current digit of the passed base 36 number.
-      int lParamCurrentDigit;
-      if (i < pAnotherBase36.value.length) {
-        lParamCurrentDigit = this.toIntValue(pAnotherBase36.value[i]);
-      }
-      else {
-        lParamCurrentDigit = 0;
+  /**
+   * Method writes this object to the passed stream. The serialized form only consists of the base 36 encoded character
+   * array and thus is the same as the one of former versions. As all attributes of this class are final the serialized
+   * form is written explicitly.
+   * 
+   * @param pStream Stream to which the object should be written. The parameter must not be null.
+   * @throws IOException in case that the object could not be written.
+   */
+  private void writeObject( ObjectOutputStream pStream ) throws IOException {
+    ObjectOutputStream.PutField lFields = pStream.putFields();
+    lFields.put("value", this.getChars());
+    pStream.writeFields();
+  }
+
+  /**
+   * Method reads an object from the passed stream. Such objects are always replaced by {@link #readResolve()}. As the
+   * attributes of this class are final the read character array is only kept until then.
+   * 
+   * @param pStream Stream from which the object should be read. The parameter must not be null.
+   * @throws IOException in case that the object could not be read.
+   * @throws ClassNotFoundException in case that a class of the serialized object could not be found.
+   */
+  private void readObject( ObjectInputStream pStream ) throws IOException, ClassNotFoundException {
+    ObjectInputStream.GetField lFields = pStream.readFields();
+    SERIALIZED_VALUE.set((char[]) lFields.get("value", null));
+  }
+
+  /**
+   * Method replaces an object that was read from a stream with the number of its serialized form. If the number was
+   * already interned its canonical instance is returned.
+   * 
+   * @return {@link Object} Canonical instance of the read number. The method never returns null.
+   * @throws ObjectStreamException if the serialized form does not contain a valid base 36 number.
+   */
+  private Object readResolve( ) throws ObjectStreamException {
+    char[] lValue = SERIALIZED_VALUE.get();
+    SERIALIZED_VALUE.remove();
+    if (lValue == null) {
+      throw new InvalidObjectException("Serialized base 36 number does not contain a value.");
+    }
+    Base36 lNumber;
+    // Older versions serialized value 0 with only one digit as AVANTIS_EMPTY_CHAR.
+    if (lValue.length == 1 && lValue[0] == AVANTIS_EMPTY_CHAR) {
+      lNumber = new Base36(1, 0, 0);
+    }
+    else {
+      try {
+        lNumber = new Base36(CharBuffer.wrap(lValue), 0, lValue.length, lValue.length);
       }
-      // Compare current digits with each other.
-      lResult = lThisCurrentDigit - lParamCurrentDigit;
-      if (lResult != 0) {
-        break;
+      catch (IllegalArgumentException e) {
+        InvalidObjectException lException = new InvalidObjectException(e.getMessage());
+        lException.initCause(e);
+        throw lException;
       }
     }
-
-    // Return result.
-    return lResult;
+    return Base36Pool.getSharedPool().getCanonical(lNumber);
   }
 }
@@ -0,0 +1,605 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+/**
+ * Class provides bulk conversions between the numerical values of base 36 numbers and their fixed-width string
+ * representation as it is used by {@link Base36}. The string representation of every number has exactly the passed
+ * number of digits with the lowest digit first and is filled up with '#'. Numbers are stored one after another without
+ * any separator.
+ *
+ * Besides that the class converts single numbers directly between this representation and the standard radix 36
+ * representation as it is used e.g. by {@link Long#toString(long, int)}. The standard representation starts with the
+ * highest digit and has no leading zeros and no place holders. These conversions work character by character and are
+ * not limited to {@link Base36#MAX_COMPACT_DIGITS} digits. Upper and lower case letters are accepted as input.
+ *
+ * In contrast to creating {@link Base36} objects the conversions do not create any objects per number. Thus they are
+ * intended to be used when large amounts of numbers have to be imported or exported.
+ *
+ * @author JEAF Development Team
+ */
+public final class Base36Codec {
+  /**
+   * Lower case characters of all base 36 digits.
+   */
+  private static final char[] LOWER_CASE_VALUES = new String(Base36.VALUES).toLowerCase(Locale.ROOT).toCharArray();
+
+  /**
+   * Class only provides static methods.
+   */
+  private Base36Codec( ) {
+  }
+
+  /**
+   * Method decodes the passed number of base 36 numbers from the passed buffer. Every number is expected to be stored
+   * as ASCII characters. Like {@link Base36#Base36(String, int)} every number has to start with a digit. Only the value
+   * 0 with one digit is represented by '#'. The position of the buffer is moved behind the last decoded number. In case
+   * of an error the position remains unchanged but the target array may already be partially written.
+   *
+   * @param pSource Buffer from which the numbers should be read. The parameter must not be null.
+   * @param pDigits Number of digits of every number. The parameter must be between 1 and
+   * {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pTarget Array to which the numerical values should be written. The parameter must not be null.
+   * @param pOffset Index of the target array to which the first value should be written.
+   * @param pCount Number of values that should be decoded.
+   */
+  public static void decode( ByteBuffer pSource, int pDigits, long[] pTarget, int pOffset, int pCount ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pSource, "pSource");
+    Base36Codec.checkParameters(pDigits, pTarget, pOffset, pCount);
+    if (pSource.remaining() < (long) pCount * pDigits) {
+      throw new BufferUnderflowException();
+    }
+
+    // Numbers are read with absolute positions so that the position is only moved if all numbers are valid.
+    int lPosition = pSource.position();
+    for (int i = 0; i < pCount; i++) {
+      long lValue = 0;
+      boolean lPadding = false;
+      for (int lDigit = 0; lDigit < pDigits; lDigit++) {
+        char lNextChar = (char) (pSource.get(lPosition) & 0xFF);
+        int lDigitValue = Base36Codec.toDigitValue(lNextChar, lDigit, pDigits, lPadding);
+        if (lDigitValue >= 0) {
+          lValue = lValue + lDigitValue * Base36.POWERS[lDigit];
+        }
+        else {
+          lPadding = true;
+        }
+        lPosition++;
+      }
+      pTarget[pOffset + i] = lValue;
+    }
+    pSource.position(lPosition);
+  }
+
+  /**
+   * Method decodes the passed number of base 36 numbers from the passed buffer. Like {@link Base36#Base36(String, int)}
+   * every number has to start with a digit. Only the value 0 with one digit is represented by '#'. The position of the
+   * buffer is moved behind the last decoded number. In case of an error the position remains unchanged but the target
+   * array may already be partially written.
+   *
+   * @param pSource Buffer from which the numbers should be read. The parameter must not be null.
+   * @param pDigits Number of digits of every number. The parameter must be between 1 and
+   * {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pTarget Array to which the numerical values should be written. The parameter must not be null.
+   * @param pOffset Index of the target array to which the first value should be written.
+   * @param pCount Number of values that should be decoded.
+   */
+  public static void decode( CharBuffer pSource, int pDigits, long[] pTarget, int pOffset, int pCount ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pSource, "pSource");
+    Base36Codec.checkParameters(pDigits, pTarget, pOffset, pCount);
+    if (pSource.remaining() < (long) pCount * pDigits) {
+      throw new BufferUnderflowException();
+    }
+
+    // Numbers are read with absolute positions so that the position is only moved if all numbers are valid.
+    int lPosition = pSource.position();
+    for (int i = 0; i < pCount; i++) {
+      long lValue = 0;
+      boolean lPadding = false;
+      for (int lDigit = 0; lDigit < pDigits; lDigit++) {
+        int lDigitValue = Base36Codec.toDigitValue(pSource.get(lPosition), lDigit, pDigits, lPadding);
+        if (lDigitValue >= 0) {
+          lValue = lValue + lDigitValue * Base36.POWERS[lDigit];
+        }
+        else {
+          lPadding = true;
+        }
+        lPosition++;
+      }
+      pTarget[pOffset + i] = lValue;
+    }
+    pSource.position(lPosition);
+  }
+
+  /**
+   * Method encodes the passed numerical values as base 36 numbers with the passed number of digits. The numbers are
+   * written as ASCII characters. The position of the buffer is moved behind the last encoded number. In case of an
+   * error the position remains unchanged but the buffer may already be partially written.
+   *
+   * @param pSource Array with the numerical values that should be encoded. The parameter must not be null.
+   * @param pOffset Index of the first value that should be encoded.
+   * @param pCount Number of values that should be encoded.
+   * @param pDigits Number of digits of every number. The parameter must be between 1 and
+   * {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pTarget Buffer to which the numbers should be written. The parameter must not be null.
+   */
+  public static void encode( long[] pSource, int pOffset, int pCount, int pDigits, ByteBuffer pTarget ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pTarget, "pTarget");
+    Base36Codec.checkParameters(pDigits, pSource, pOffset, pCount);
+    if (pTarget.remaining() < (long) pCount * pDigits) {
+      throw new BufferOverflowException();
+    }
+
+    // Numbers are written with absolute positions so that the position is only moved if all numbers are valid.
+    int lPosition = pTarget.position();
+    for (int i = 0; i < pCount; i++) {
+      long lLeftValue = pSource[pOffset + i];
+      final int lLength = Base36Codec.getLength(lLeftValue, pDigits);
+      for (int lDigit = 0; lDigit < pDigits; lDigit++) {
+        if (lDigit < lLength) {
+          pTarget.put(lPosition, (byte) Base36.VALUES[(int) (lLeftValue % 36)]);
+          lLeftValue = lLeftValue / 36;
+        }
+        else {
+          pTarget.put(lPosition, (byte) Base36.AVANTIS_EMPTY_CHAR);
+        }
+        lPosition++;
+      }
+    }
+    pTarget.position(lPosition);
+  }
+
+  /**
+   * Method encodes the passed numerical values as base 36 numbers with the passed number of digits. The position of the
+   * buffer is moved behind the last encoded number. In case of an error the position remains unchanged but the buffer
+   * may already be partially written.
+   *
+   * @param pSource Array with the numerical values that should be encoded. The parameter must not be null.
+   * @param pOffset Index of the first value that should be encoded.
+   * @param pCount Number of values that should be encoded.
+   * @param pDigits Number of digits of every number. The parameter must be between 1 and
+   * {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pTarget Buffer to which the numbers should be written. The parameter must not be null.
+   */
+  public static void encode( long[] pSource, int pOffset, int pCount, int pDigits, CharBuffer pTarget ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pTarget, "pTarget");
+    Base36Codec.checkParameters(pDigits, pSource, pOffset, pCount);
+    if (pTarget.remaining() < (long) pCount * pDigits) {
+      throw new BufferOverflowException();
+    }
+
+    // Numbers are written with absolute positions so that the position is only moved if all numbers are valid.
+    int lPosition = pTarget.position();
+    for (int i = 0; i < pCount; i++) {
+      long lLeftValue = pSource[pOffset + i];
+      final int lLength = Base36Codec.getLength(lLeftValue, pDigits);
+      for (int lDigit = 0; lDigit < pDigits; lDigit++) {
+        if (lDigit < lLength) {
+          pTarget.put(lPosition, Base36.VALUES[(int) (lLeftValue % 36)]);
+          lLeftValue = lLeftValue / 36;
+        }
+        else {
+          pTarget.put(lPosition, Base36.AVANTIS_EMPTY_CHAR);
+        }
+        lPosition++;
+      }
+    }
+    pTarget.position(lPosition);
+  }
+
+  /**
+   * Method converts one base 36 number from the representation of {@link Base36} into the standard radix 36
+   * representation. In case of an error the target array may already be partially written.
+   *
+   * @param pSource Characters of the base 36 number. The parameter must not be null.
+   * @param pStart Index of the first character of the number.
+   * @param pDigits Number of digits of the number. The parameter must be greater than zero.
+   * @param pTarget Array to which the standard representation should be written. The parameter must not be null.
+   * @param pTargetStart Index of the target array to which the first character should be written.
+   * @param pUpperCase Parameter defines whether letters are written in upper or in lower case.
+   * @return int Number of characters that were written to the target array.
+   */
+  public static int toRadix36( char[] pSource, int pStart, int pDigits, char[] pTarget, int pTargetStart,
+      boolean pUpperCase ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pSource, "pSource");
+    Check.checkInvalidParameterNull(pTarget, "pTarget");
+    Base36Codec.checkRange(pDigits, pSource.length, pStart, pDigits);
+
+    // Read digits starting with the highest one in a single pass. Place holders and leading zeros are skipped, all
+    // other digits are written immediately as standard representation does not have leading zeros.
+    int lLength = 0;
+    boolean lPadding = true;
+    for (int i = pDigits - 1; i >= 0; i--) {
+      int lDigitValue = Base36Codec.toPaddedDigitValue(pSource[pStart + i], false);
+      if (lDigitValue < 0) {
+        // Place holders are only allowed after the highest digit.
+        if (lPadding == false) {
+          String[] lParams = new String[] { Character.toString(pSource[pStart + i]) };
+          throw new JEAFSystemException(XFunMessages.INVALID_BASE_36_DIGIT, lParams);
+        }
+      }
+      else {
+        lPadding = false;
+        if (lDigitValue > 0 || lLength > 0) {
+          if (lLength == 0) {
+            Base36Codec.checkRange(i + 1, pTarget.length, pTargetStart, i + 1);
+          }
+          pTarget[pTargetStart + lLength] = Base36Codec.toCharacter(lDigitValue, pUpperCase);
+          lLength++;
+        }
+      }
+    }
+
+    // Value 0 is represented by a single zero.
+    if (lLength == 0) {
+      Base36Codec.checkRange(1, pTarget.length, pTargetStart, 1);
+      pTarget[pTargetStart] = Base36Codec.toCharacter(0, pUpperCase);
+      lLength = 1;
+    }
+    return lLength;
+  }
+
+  /**
+   * Method converts one base 36 number from the representation of {@link Base36} into the standard radix 36
+   * representation. The numbers are read and written as ASCII characters. The positions of both buffers are moved
+   * behind the converted number. In case of an error the positions remain unchanged but the target buffer may already
+   * be partially written.
+   *
+   * @param pSource Buffer from which the number should be read. The parameter must not be null.
+   * @param pDigits Number of digits of the number. The parameter must be greater than zero.
+   * @param pTarget Buffer to which the standard representation should be written. The parameter must not be null.
+   * @param pUpperCase Parameter defines whether letters are written in upper or in lower case.
+   * @return int Number of characters that were written to the target buffer.
+   */
+  public static int toRadix36( ByteBuffer pSource, int pDigits, ByteBuffer pTarget, boolean pUpperCase ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pSource, "pSource");
+    Check.checkInvalidParameterNull(pTarget, "pTarget");
+    if (pDigits <= 0) {
+      throw new IllegalArgumentException("Parameter 'pDigits' must be greater than zero but is " + pDigits + ".");
+    }
+    if (pSource.remaining() < pDigits) {
+      throw new BufferUnderflowException();
+    }
+
+    // Read digits starting with the highest one in a single pass. Place holders and leading zeros are skipped, all
+    // other digits are written immediately with absolute positions as standard representation does not have leading
+    // zeros.
+    final int lStart = pSource.position();
+    final int lTargetStart = pTarget.position();
+    int lLength = 0;
+    boolean lPadding = true;
+    for (int i = pDigits - 1; i >= 0; i--) {
+      int lDigitValue = Base36Codec.toPaddedDigitValue((char) (pSource.get(lStart + i) & 0xFF), false);
+      if (lDigitValue < 0) {
+        // Place holders are only allowed after the highest digit.
+        if (lPadding == false) {
+          String[] lParams = new String[] { Character.toString((char) (pSource.get(lStart + i) & 0xFF)) };
+          throw new JEAFSystemException(XFunMessages.INVALID_BASE_36_DIGIT, lParams);
+        }
+      }
+      else {
+        lPadding = false;
+        if (lDigitValue > 0 || lLength > 0) {
+          if (lLength == 0 && pTarget.remaining() < i + 1) {
+            throw new BufferOverflowException();
+          }
+          pTarget.put(lTargetStart + lLength, (byte) Base36Codec.toCharacter(lDigitValue, pUpperCase));
+          lLength++;
+        }
+      }
+    }
+
+    // Value 0 is represented by a single zero.
+    if (lLength == 0) {
+      if (pTarget.remaining() < 1) {
+        throw new BufferOverflowException();
+      }
+      pTarget.put(lTargetStart, (byte) Base36Codec.toCharacter(0, pUpperCase));
+      lLength = 1;
+    }
+    pSource.position(lStart + pDigits);
+    pTarget.position(lTargetStart + lLength);
+    return lLength;
+  }
+
+  /**
+   * Method converts one base 36 number from the standard radix 36 representation into the representation of
+   * {@link Base36}. In case of an error the target array may already be partially written.
+   *
+   * @param pSource Characters of the standard representation. The parameter must not be null.
+   * @param pStart Index of the first character of the number.
+   * @param pEnd Index after the last character of the number. The range must contain at least one character.
+   * @param pDigits Number of digits of the converted number. The number must fit into this number of digits.
+   * @param pTarget Array to which the converted number should be written. Exactly pDigits characters are written. The
+   * parameter must not be null.
+   * @param pTargetStart Index of the target array to which the first character should be written.
+   */
+  public static void fromRadix36( char[] pSource, int pStart, int pEnd, int pDigits, char[] pTarget,
+      int pTargetStart ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pSource, "pSource");
+    Check.checkInvalidParameterNull(pTarget, "pTarget");
+    Base36Codec.checkRange(pDigits, pSource.length, pStart, pEnd - pStart);
+    Base36Codec.checkRange(pDigits, pTarget.length, pTargetStart, pDigits);
+    if (pEnd <= pStart) {
+      throw new IllegalArgumentException("Empty string is not a valid base 36 number.");
+    }
+
+    // Skip leading zeros.
+    int lFirst = pStart;
+    while (lFirst < pEnd - 1 && pSource[lFirst] == '0') {
+      lFirst++;
+    }
+    final int lLength = Base36Codec.getLength(pSource[lFirst], pEnd - lFirst, pDigits);
+    if (lLength > pDigits) {
+      Check.checkMaxStringLength(new String(pSource, lFirst, pEnd - lFirst), pDigits, "pSource");
+    }
+
+    // Write digits starting with the lowest one.
+    for (int i = 0; i < pDigits; i++) {
+      if (i < lLength) {
+        pTarget[pTargetStart + i] = Base36Codec.toCharacter(Base36Codec.toDigit(pSource[pEnd - 1 - i]), true);
+      }
+      else {
+        pTarget[pTargetStart + i] = Base36.AVANTIS_EMPTY_CHAR;
+      }
+    }
+  }
+
+  /**
+   * Method converts one base 36 number from the standard radix 36 representation into the representation of
+   * {@link Base36}. The numbers are read and written as ASCII characters. The positions of both buffers are moved
+   * behind the converted number. In case of an error the positions remain unchanged.
+   *
+   * @param pSource Buffer from which the standard representation should be read. The parameter must not be null.
+   * @param pLength Number of characters of the standard representation. The parameter must be greater than zero.
+   * @param pDigits Number of digits of the converted number. The number must fit into this number of digits.
+   * @param pTarget Buffer to which the converted number should be written. Exactly pDigits characters are written. The
+   * parameter must not be null.
+   */
+  public static void fromRadix36( ByteBuffer pSource, int pLength, int pDigits, ByteBuffer pTarget ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pSource, "pSource");
+    Check.checkInvalidParameterNull(pTarget, "pTarget");
+    if (pDigits <= 0) {
+      throw new IllegalArgumentException("Parameter 'pDigits' must be greater than zero but is " + pDigits + ".");
+    }
+    if (pLength <= 0) {
+      throw new IllegalArgumentException("Empty string is not a valid base 36 number.");
+    }
+    if (pSource.remaining() < pLength) {
+      throw new BufferUnderflowException();
+    }
+    if (pTarget.remaining() < pDigits) {
+      throw new BufferOverflowException();
+    }
+
+    // Skip leading zeros.
+    final int lStart = pSource.position();
+    final int lEnd = lStart + pLength;
+    int lFirst = lStart;
+    while (lFirst < lEnd - 1 && pSource.get(lFirst) == '0') {
+      lFirst++;
+    }
+    final int lLength = Base36Codec.getLength((char) (pSource.get(lFirst) & 0xFF), lEnd - lFirst, pDigits);
+    if (lLength > pDigits) {
+      byte[] lBytes = new byte[lEnd - lFirst];
+      for (int i = 0; i < lBytes.length; i++) {
+        lBytes[i] = pSource.get(lFirst + i);
+      }
+      Check.checkMaxStringLength(new String(lBytes, StandardCharsets.US_ASCII), pDigits, "pSource");
+    }
+
+    // Write digits starting with the lowest one.
+    final int lTargetStart = pTarget.position();
+    for (int i = 0; i < pDigits; i++) {
+      if (i < lLength) {
+        char lNextChar = (char) (pSource.get(lEnd - 1 - i) & 0xFF);
+        pTarget.put(lTargetStart + i, (byte) Base36Codec.toCharacter(Base36Codec.toDigit(lNextChar), true));
+      }
+      else {
+        pTarget.put(lTargetStart + i, (byte) Base36.AVANTIS_EMPTY_CHAR);
+      }
+    }
+    pSource.position(lEnd);
+    pTarget.position(lTargetStart + pDigits);
+  }
+
+  /**
+   * Method checks that a range of an array is valid.
+   *
+   * @param pDigits Number of digits of the converted number.
+   * @param pArrayLength Length of the array.
+   * @param pStart Index of the first element of the range.
+   * @param pCount Number of elements of the range.
+   */
+  private static void checkRange( int pDigits, int pArrayLength, int pStart, int pCount ) {
+    if (pDigits <= 0) {
+      throw new IllegalArgumentException("Parameter 'pDigits' must be greater than zero but is " + pDigits + ".");
+    }
+    if (pStart < 0 || pCount < 0 || pStart > pArrayLength - pCount) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + pStart + ", " + pStart + " + " + pCount + ") is out of bounds for length " + pArrayLength);
+    }
+  }
+
+  /**
+   * Method calculates the number of characters of a number in the representation of {@link Base36} that are not
+   * filled up with '#'.
+   *
+   * @param pHighestChar Highest digit of the standard representation.
+   * @param pLength Number of characters of the standard representation without leading zeros.
+   * @param pDigits Number of digits of the converted number.
+   * @return int Number of characters that are not filled up with '#'.
+   */
+  private static int getLength( char pHighestChar, int pLength, int pDigits ) {
+    // For compatibility reasons value 0 with only one digit is represented by '#' only.
+    int lLength;
+    if (pLength == 1 && pDigits == 1 && Base36Codec.toDigit(pHighestChar) == 0) {
+      lLength = 0;
+    }
+    else {
+      lLength = pLength;
+    }
+    return lLength;
+  }
+
+  /**
+   * Method returns the value of the passed digit of the standard representation.
+   *
+   * @param pCharacter Character that should be converted. Upper and lower case letters are supported.
+   * @return int Value of the passed digit.
+   */
+  private static int toDigit( char pCharacter ) {
+    int lDigitValue = Base36Codec.toDigitValueIgnoreCase(pCharacter);
+    if (lDigitValue < 0) {
+      String[] lParams = new String[] { Character.toString(pCharacter) };
+      throw new JEAFSystemException(XFunMessages.INVALID_BASE_36_DIGIT, lParams);
+    }
+    return lDigitValue;
+  }
+
+  /**
+   * Method returns the value of the passed digit of the representation of {@link Base36}.
+   *
+   * @param pCharacter Character that should be converted. Upper and lower case letters are supported.
+   * @param pPadding Parameter defines whether a place holder was already found. In this case only further place holders
+   * are allowed.
+   * @return int Value of the passed digit or -1 if the passed character is the place holder '#'.
+   */
+  private static int toPaddedDigitValue( char pCharacter, boolean pPadding ) {
+    int lDigitValue;
+    if (pPadding == false) {
+      lDigitValue = Base36Codec.toDigitValueIgnoreCase(pCharacter);
+    }
+    else {
+      lDigitValue = -1;
+    }
+    if (lDigitValue < 0 && pCharacter != Base36.AVANTIS_EMPTY_CHAR) {
+      String[] lParams = new String[] { Character.toString(pCharacter) };
+      throw new JEAFSystemException(XFunMessages.INVALID_BASE_36_DIGIT, lParams);
+    }
+    return lDigitValue;
+  }
+
+  /**
+   * Method returns the value of the passed base 36 digit. Upper and lower case letters are supported.
+   *
+   * @param pCharacter Character that should be converted.
+   * @return int Value of the passed digit or -1 if the passed character is no base 36 digit.
+   */
+  private static int toDigitValueIgnoreCase( char pCharacter ) {
+    int lDigitValue;
+    if (pCharacter >= 'a' && pCharacter <= 'z') {
+      lDigitValue = pCharacter - 'a' + 10;
+    }
+    else if (pCharacter < Base36.DIGIT_VALUES.length) {
+      lDigitValue = Base36.DIGIT_VALUES[pCharacter];
+    }
+    else {
+      lDigitValue = -1;
+    }
+    return lDigitValue;
+  }
+
+  /**
+   * Method returns the character of the passed digit.
+   *
+   * @param pDigitValue Value of the digit.
+   * @param pUpperCase Parameter defines whether letters are returned in upper or in lower case.
+   * @return char Character of the passed digit.
+   */
+  private static char toCharacter( int pDigitValue, boolean pUpperCase ) {
+    char lCharacter;
+    if (pUpperCase == true) {
+      lCharacter = Base36.VALUES[pDigitValue];
+    }
+    else {
+      lCharacter = LOWER_CASE_VALUES[pDigitValue];
+    }
+    return lCharacter;
+  }
+
+  /**
+   * Method checks the parameters that are common for all conversions.
+   *
+   * @param pDigits Number of digits of every number.
+   * @param pValues Array with the numerical values.
+   * @param pOffset Index of the first value.
+   * @param pCount Number of values.
+   */
+  private static void checkParameters( int pDigits, long[] pValues, int pOffset, int pCount ) {
+    Check.checkInvalidParameterNull(pValues, "pValues");
+    if (pDigits <= 0 || pDigits > Base36.MAX_COMPACT_DIGITS) {
+      throw new IllegalArgumentException(
+          "Parameter 'pDigits' must be between 1 and " + Base36.MAX_COMPACT_DIGITS + " but is " + pDigits + ".");
+    }
+    if (pOffset < 0 || pCount < 0 || pOffset > pValues.length - pCount) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + pOffset + ", " + pOffset + " + " + pCount + ") is out of bounds for length " + pValues.length);
+    }
+  }
+
+  /**
+   * Method returns the value of the passed base 36 digit.
+   *
+   * @param pCharacter Character that should be converted.
+   * @param pDigit Index of the digit inside the number.
+   * @param pDigits Number of digits of the number.
+   * @param pPadding Parameter defines whether a place holder was already found. In this case only further place holders
+   * are allowed.
+   * @return int Value of the passed digit or -1 if the passed character is the place holder '#'.
+   */
+  private static int toDigitValue( char pCharacter, int pDigit, int pDigits, boolean pPadding ) {
+    int lDigitValue;
+    if (pCharacter < Base36.DIGIT_VALUES.length && pPadding == false) {
+      lDigitValue = Base36.DIGIT_VALUES[pCharacter];
+    }
+    else {
+      lDigitValue = -1;
+    }
+    // Place holder may only be used after the first digit except for value 0 with only one digit.
+    boolean lValidPadding = pCharacter == Base36.AVANTIS_EMPTY_CHAR && (pDigit > 0 || pDigits == 1);
+    if (lDigitValue < 0 && lValidPadding == false) {
+      String[] lParams = new String[] { Character.toString(pCharacter) };
+      throw new JEAFSystemException(XFunMessages.INVALID_BASE_36_DIGIT, lParams);
+    }
+    return lDigitValue;
+  }
+
+  /**
+   * Method returns the number of characters of the passed value that are not filled up with '#'.
+   *
+   * @param pValue Value that should be encoded. The value must not be negative and must fit into the passed number of
+   * digits.
+   * @param pDigits Number of digits of the encoded value.
+   * @return int Number of characters that are not filled up with '#'.
+   */
+  private static int getLength( long pValue, int pDigits ) {
+    if (pValue < 0 || pValue >= Base36.POWERS[pDigits]) {
+      throw new IllegalArgumentException(
+          "Value " + pValue + " can not be represented as base 36 number with " + pDigits + " digits.");
+    }
+    return Base36.getLength(pValue, pDigits);
+  }
+}
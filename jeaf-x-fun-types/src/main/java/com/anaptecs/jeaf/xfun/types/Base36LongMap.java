@@ -0,0 +1,258 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements a map from base 36 numbers to primitive long values, e.g. counters or offsets. Like
+ * {@link Base36Map} only the numerical values of the keys are stored in an open addressing hash table and values are
+ * stored without boxing.
+ *
+ * Keys are identified by their numerical value only. All keys of a map have the same number of digits. Values that
+ * exceed {@link Long#MAX_VALUE} are not supported as keys.
+ *
+ * Modifications of the map are synchronized. Reads do not use any locks and can be executed concurrently with each
+ * other and with modifications.
+ *
+ * @author JEAF Development Team
+ */
+public class Base36LongMap extends AbstractBase36Map {
+  /**
+   * Variable handle to access the values of a table with memory ordering.
+   */
+  private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(long[].class);
+
+  /**
+   * Initialize empty map.
+   *
+   * @param pDigits Number of digits of all keys of the map. The parameter must be greater than zero.
+   */
+  public Base36LongMap( int pDigits ) {
+    this(pDigits, 0);
+  }
+
+  /**
+   * Initialize empty map with space for the passed number of entries.
+   *
+   * @param pDigits Number of digits of all keys of the map. The parameter must be greater than zero.
+   * @param pExpectedSize Expected number of entries. The parameter must not be negative.
+   */
+  public Base36LongMap( int pDigits, int pExpectedSize ) {
+    super(pDigits, pExpectedSize);
+  }
+
+  /**
+   * Method returns the value of the passed key.
+   *
+   * @param pKey Key whose value should be returned. The parameter must not be null.
+   * @param pDefaultValue Value that is returned if the map does not contain the key.
+   * @return long Value of the passed key or the passed default value.
+   */
+  public long getOrDefault( Base36 pKey, long pDefaultValue ) {
+    return this.getOrDefault(this.toKey(pKey), pDefaultValue);
+  }
+
+  /**
+   * Method returns the value of the base 36 number with the passed value.
+   *
+   * @param pKey Numerical value of the key.
+   * @param pDefaultValue Value that is returned if the map does not contain the key.
+   * @return long Value of the passed key or the passed default value.
+   */
+  public long getOrDefault( long pKey, long pDefaultValue ) {
+    long lValue = pDefaultValue;
+    if (pKey >= 0) {
+      Table lTable = this.getTable();
+      int lIndex = AbstractBase36Map.indexOf(lTable, pKey);
+      if (lIndex >= 0) {
+        long lStoredValue = (long) VALUES.getAcquire((long[]) lTable.values, lIndex);
+        // Entry might have been removed or replaced by another one in the meantime.
+        if (AbstractBase36Map.getKey(lTable, lIndex) == pKey) {
+          lValue = lStoredValue;
+        }
+      }
+    }
+    return lValue;
+  }
+
+  /**
+   * Method checks if the map contains the passed key.
+   *
+   * @param pKey Key that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the map contains the key and false in all other cases.
+   */
+  public boolean containsKey( Base36 pKey ) {
+    return this.containsKey(this.toKey(pKey));
+  }
+
+  /**
+   * Method checks if the map contains the base 36 number with the passed value as key.
+   *
+   * @param pKey Numerical value of the key.
+   * @return boolean Method returns true if the map contains the key and false in all other cases.
+   */
+  public boolean containsKey( long pKey ) {
+    return pKey >= 0 && AbstractBase36Map.indexOf(this.getTable(), pKey) >= 0;
+  }
+
+  /**
+   * Method stores the passed value for the passed key.
+   *
+   * @param pKey Key of the value. The parameter must not be null and its value must be representable with the number
+   * of digits of this map.
+   * @param pValue Value that should be stored.
+   * @return boolean Method returns true if the map did not contain the key yet and false otherwise.
+   */
+  public boolean put( Base36 pKey, long pValue ) {
+    return this.put(this.toStorableKey(pKey), pValue);
+  }
+
+  /**
+   * Method stores the passed value for the base 36 number with the passed value.
+   *
+   * @param pKey Numerical value of the key. The value must be representable with the number of digits of this map.
+   * @param pValue Value that should be stored.
+   * @return boolean Method returns true if the map did not contain the key yet and false otherwise.
+   */
+  public synchronized boolean put( long pKey, long pValue ) {
+    // Check parameter.
+    this.checkKey(pKey);
+
+    int lIndex = this.reserveSlot(pKey);
+    Table lTable = this.getTable();
+    boolean lNewKey;
+    if (lIndex >= 0) {
+      VALUES.setRelease((long[]) lTable.values, lIndex, pValue);
+      lNewKey = false;
+    }
+    else {
+      VALUES.setRelease((long[]) lTable.values, ~lIndex, pValue);
+      this.publishKey(lTable, ~lIndex, pKey);
+      lNewKey = true;
+    }
+    return lNewKey;
+  }
+
+  /**
+   * Method adds the passed delta to the value of the passed key. If the map does not contain the key yet it is added
+   * with the passed delta as value.
+   *
+   * @param pKey Key whose value should be changed. The parameter must not be null and its value must be representable
+   * with the number of digits of this map.
+   * @param pDelta Delta that should be added.
+   * @return long New value of the key.
+   */
+  public long addTo( Base36 pKey, long pDelta ) {
+    return this.addTo(this.toStorableKey(pKey), pDelta);
+  }
+
+  /**
+   * Method adds the passed delta to the value of the base 36 number with the passed value. If the map does not contain
+   * the key yet it is added with the passed delta as value.
+   *
+   * @param pKey Numerical value of the key. The value must be representable with the number of digits of this map.
+   * @param pDelta Delta that should be added.
+   * @return long New value of the key.
+   */
+  public synchronized long addTo( long pKey, long pDelta ) {
+    // Check parameter.
+    this.checkKey(pKey);
+
+    int lIndex = this.reserveSlot(pKey);
+    Table lTable = this.getTable();
+    long lNewValue;
+    if (lIndex >= 0) {
+      lNewValue = ((long[]) lTable.values)[lIndex] + pDelta;
+      VALUES.setRelease((long[]) lTable.values, lIndex, lNewValue);
+    }
+    else {
+      lNewValue = pDelta;
+      VALUES.setRelease((long[]) lTable.values, ~lIndex, lNewValue);
+      this.publishKey(lTable, ~lIndex, pKey);
+    }
+    return lNewValue;
+  }
+
+  /**
+   * Method removes the passed key from the map.
+   *
+   * @param pKey Key that should be removed. The parameter must not be null.
+   * @return boolean Method returns true if the map contained the key and false otherwise.
+   */
+  public boolean remove( Base36 pKey ) {
+    return this.remove(this.toKey(pKey));
+  }
+
+  /**
+   * Method removes the base 36 number with the passed value from the map.
+   *
+   * @param pKey Numerical value of the key.
+   * @return boolean Method returns true if the map contained the key and false otherwise.
+   */
+  public synchronized boolean remove( long pKey ) {
+    return pKey >= 0 && this.removeKey(pKey) >= 0;
+  }
+
+  /**
+   * Method calls the passed action for all entries of the map. The keys are passed as new {@link Base36} objects with
+   * the number of digits of this map. The entries are not returned in any specific order.
+   *
+   * @param pAction Action that should be called for every entry. The parameter must not be null.
+   */
+  public void forEach( ObjLongConsumer<? super Base36> pAction ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pAction, "pAction");
+
+    Table lTable = this.getTable();
+    for (int i = 0; i < lTable.keys.length; i++) {
+      long lKey = AbstractBase36Map.getKey(lTable, i);
+      if (lKey >= 0) {
+        long lValue = (long) VALUES.getAcquire((long[]) lTable.values, i);
+        if (AbstractBase36Map.getKey(lTable, i) == lKey) {
+          pAction.accept(new Base36(lKey, this.getMaxLength()), lValue);
+        }
+      }
+    }
+  }
+
+  /**
+   * Method converts the passed base 36 number into a key that can be stored in this map.
+   *
+   * @param pKey Base 36 number. The parameter must not be null.
+   * @return long Numerical value of the passed number.
+   */
+  private long toStorableKey( Base36 pKey ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+    if (pKey.isLongValue() == false) {
+      throw new IllegalArgumentException("Base 36 number " + pKey + " is too large to be used as key.");
+    }
+    return pKey.toLong();
+  }
+
+  @Override
+  Table createTable( int pCapacity ) {
+    long[] lKeys = new long[pCapacity];
+    Arrays.fill(lKeys, EMPTY);
+    return new Table(lKeys, new long[pCapacity]);
+  }
+
+  @Override
+  void copyValue( Table pSource, int pSourceIndex, Table pTarget, int pTargetIndex ) {
+    ((long[]) pTarget.values)[pTargetIndex] = ((long[]) pSource.values)[pSourceIndex];
+  }
+
+  @Override
+  void clearValue( Table pTable, int pIndex ) {
+    VALUES.setRelease((long[]) pTable.values, pIndex, 0L);
+  }
+}
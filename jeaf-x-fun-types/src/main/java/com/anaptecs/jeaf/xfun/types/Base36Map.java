@@ -0,0 +1,219 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements a map whose keys are base 36 numbers. In contrast to a {@link java.util.HashMap} with {@link Base36}
+ * keys only the numerical values of the keys are stored in an open addressing hash table. Thus no entry objects are
+ * created and lookups neither require the calculation of the hash code of a base 36 number nor a call of
+ * {@link Base36#equals(Object)}.
+ *
+ * Like {@link Base36#equals(Object)} keys are identified by their numerical value only. All keys of a map have the same
+ * number of digits. Values that exceed {@link Long#MAX_VALUE} are not supported as keys. Null values are not supported.
+ *
+ * Modifications of the map are synchronized. Reads do not use any locks and can be executed concurrently with each
+ * other and with modifications.
+ *
+ * @param <V> Type of the values of the map.
+ * @author JEAF Development Team
+ */
+public class Base36Map<V> extends AbstractBase36Map {
+  /**
+   * Variable handle to access the values of a table with memory ordering.
+   */
+  private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+  /**
+   * Initialize empty map.
+   *
+   * @param pDigits Number of digits of all keys of the map. The parameter must be greater than zero.
+   */
+  public Base36Map( int pDigits ) {
+    this(pDigits, 0);
+  }
+
+  /**
+   * Initialize empty map with space for the passed number of entries.
+   *
+   * @param pDigits Number of digits of all keys of the map. The parameter must be greater than zero.
+   * @param pExpectedSize Expected number of entries. The parameter must not be negative.
+   */
+  public Base36Map( int pDigits, int pExpectedSize ) {
+    super(pDigits, pExpectedSize);
+  }
+
+  /**
+   * Method returns the value of the passed key.
+   *
+   * @param pKey Key whose value should be returned. The parameter must not be null.
+   * @return V Value of the passed key or null if the map does not contain the key.
+   */
+  public V get( Base36 pKey ) {
+    return this.get(this.toKey(pKey));
+  }
+
+  /**
+   * Method returns the value of the base 36 number with the passed value.
+   *
+   * @param pKey Numerical value of the key.
+   * @return V Value of the passed key or null if the map does not contain the key.
+   */
+  @SuppressWarnings("unchecked")
+  public V get( long pKey ) {
+    V lValue = null;
+    if (pKey >= 0) {
+      Table lTable = this.getTable();
+      int lIndex = AbstractBase36Map.indexOf(lTable, pKey);
+      if (lIndex >= 0) {
+        lValue = (V) VALUES.getAcquire((Object[]) lTable.values, lIndex);
+        // Entry might have been replaced by another one in the meantime.
+        if (AbstractBase36Map.getKey(lTable, lIndex) != pKey) {
+          lValue = null;
+        }
+      }
+    }
+    return lValue;
+  }
+
+  /**
+   * Method checks if the map contains the passed key.
+   *
+   * @param pKey Key that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the map contains the key and false in all other cases.
+   */
+  public boolean containsKey( Base36 pKey ) {
+    return this.get(pKey) != null;
+  }
+
+  /**
+   * Method checks if the map contains the base 36 number with the passed value as key.
+   *
+   * @param pKey Numerical value of the key.
+   * @return boolean Method returns true if the map contains the key and false in all other cases.
+   */
+  public boolean containsKey( long pKey ) {
+    return this.get(pKey) != null;
+  }
+
+  /**
+   * Method stores the passed value for the passed key.
+   *
+   * @param pKey Key of the value. The parameter must not be null and its value must be representable with the number
+   * of digits of this map.
+   * @param pValue Value that should be stored. The parameter must not be null.
+   * @return V Previous value of the key or null if the map did not contain the key.
+   */
+  public V put( Base36 pKey, V pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+    if (pKey.isLongValue() == false) {
+      throw new IllegalArgumentException("Base 36 number " + pKey + " is too large to be used as key.");
+    }
+    return this.put(pKey.toLong(), pValue);
+  }
+
+  /**
+   * Method stores the passed value for the base 36 number with the passed value.
+   *
+   * @param pKey Numerical value of the key. The value must be representable with the number of digits of this map.
+   * @param pValue Value that should be stored. The parameter must not be null.
+   * @return V Previous value of the key or null if the map did not contain the key.
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized V put( long pKey, V pValue ) {
+    // Check parameters.
+    this.checkKey(pKey);
+    Check.checkInvalidParameterNull(pValue, "pValue");
+
+    int lIndex = this.reserveSlot(pKey);
+    Table lTable = this.getTable();
+    V lPreviousValue;
+    if (lIndex >= 0) {
+      lPreviousValue = (V) ((Object[]) lTable.values)[lIndex];
+      VALUES.setRelease((Object[]) lTable.values, lIndex, pValue);
+    }
+    else {
+      lPreviousValue = null;
+      VALUES.setRelease((Object[]) lTable.values, ~lIndex, pValue);
+      this.publishKey(lTable, ~lIndex, pKey);
+    }
+    return lPreviousValue;
+  }
+
+  /**
+   * Method removes the passed key from the map.
+   *
+   * @param pKey Key that should be removed. The parameter must not be null.
+   * @return V Value of the removed key or null if the map did not contain the key.
+   */
+  public V remove( Base36 pKey ) {
+    return this.remove(this.toKey(pKey));
+  }
+
+  /**
+   * Method removes the base 36 number with the passed value from the map.
+   *
+   * @param pKey Numerical value of the key.
+   * @return V Value of the removed key or null if the map did not contain the key.
+   */
+  public synchronized V remove( long pKey ) {
+    V lValue = null;
+    if (pKey >= 0) {
+      lValue = this.get(pKey);
+      if (lValue != null) {
+        this.removeKey(pKey);
+      }
+    }
+    return lValue;
+  }
+
+  /**
+   * Method calls the passed action for all entries of the map. The keys are passed as new {@link Base36} objects with
+   * the number of digits of this map. The entries are not returned in any specific order.
+   *
+   * @param pAction Action that should be called for every entry. The parameter must not be null.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach( BiConsumer<? super Base36, ? super V> pAction ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pAction, "pAction");
+
+    Table lTable = this.getTable();
+    for (int i = 0; i < lTable.keys.length; i++) {
+      long lKey = AbstractBase36Map.getKey(lTable, i);
+      if (lKey >= 0) {
+        V lValue = (V) VALUES.getAcquire((Object[]) lTable.values, i);
+        if (lValue != null && AbstractBase36Map.getKey(lTable, i) == lKey) {
+          pAction.accept(new Base36(lKey, this.getMaxLength()), lValue);
+        }
+      }
+    }
+  }
+
+  @Override
+  Table createTable( int pCapacity ) {
+    long[] lKeys = new long[pCapacity];
+    Arrays.fill(lKeys, EMPTY);
+    return new Table(lKeys, new Object[pCapacity]);
+  }
+
+  @Override
+  void copyValue( Table pSource, int pSourceIndex, Table pTarget, int pTargetIndex ) {
+    ((Object[]) pTarget.values)[pTargetIndex] = ((Object[]) pSource.values)[pSourceIndex];
+  }
+
+  @Override
+  void clearValue( Table pTable, int pIndex ) {
+    VALUES.setRelease((Object[]) pTable.values, pIndex, (Object) null);
+  }
+}
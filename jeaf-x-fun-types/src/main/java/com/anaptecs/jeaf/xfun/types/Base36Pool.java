@@ -0,0 +1,263 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements a pool of canonical {@link Base36} instances. Values that occur very often, e.g. codes of tenants or
+ * branches, can be interned so that all references share the same instance. This saves memory and allows to compare
+ * interned numbers by identity.
+ *
+ * Two numbers are only represented by the same canonical instance if they have the same value, the same number of
+ * digits and the same string representation. The pool only keeps weak references to its instances. Thus instances
+ * that are not used any longer are removed by the garbage collector. The number of instances of a pool is limited. If
+ * a pool is full then numbers are no longer interned but returned unchanged.
+ *
+ * The pool is thread safe and does not use any locks.
+ *
+ * @author JEAF Development Team
+ */
+public final class Base36Pool {
+  /**
+   * Maximum number of instances of the shared pool.
+   */
+  public static final int SHARED_POOL_SIZE = 10000;
+
+  /**
+   * Pool that is used by {@link Base36#intern()} and for deserialized numbers.
+   */
+  private static final Base36Pool SHARED_POOL = new Base36Pool(SHARED_POOL_SIZE);
+
+  /**
+   * Maximum number of instances of this pool.
+   */
+  private final int maximumSize;
+
+  /**
+   * Map contains all entries of the pool. Key and value of every mapping are the same entry.
+   */
+  private final ConcurrentHashMap<Entry, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Queue receives all entries whose number was removed by the garbage collector.
+   */
+  private final ReferenceQueue<Base36> queue = new ReferenceQueue<>();
+
+  /**
+   * Initialize pool.
+   *
+   * @param pMaximumSize Maximum number of instances of the pool. The parameter must be greater than zero.
+   */
+  public Base36Pool( int pMaximumSize ) {
+    // Check parameter.
+    if (pMaximumSize <= 0) {
+      throw new IllegalArgumentException(
+          "Parameter 'pMaximumSize' must be greater than zero but is " + pMaximumSize + ".");
+    }
+    maximumSize = pMaximumSize;
+  }
+
+  /**
+   * Method returns the pool that is shared by the whole JVM. It is used by {@link Base36#intern()} and to resolve
+   * deserialized numbers.
+   *
+   * @return {@link Base36Pool} Shared pool. The method never returns null.
+   */
+  public static Base36Pool getSharedPool( ) {
+    return SHARED_POOL;
+  }
+
+  /**
+   * Method returns the canonical instance of the passed number. If the pool does not contain an instance yet the passed
+   * number becomes the canonical instance.
+   *
+   * @param pValue Number that should be interned. The parameter must not be null.
+   * @return {@link Base36} Canonical instance of the passed number. If the pool is full and does not contain the
+   * number yet the passed number is returned. The method never returns null.
+   */
+  public Base36 intern( Base36 pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+
+    Base36 lCanonical = this.lookup(pValue);
+    if (lCanonical == null) {
+      this.expungeStaleEntries();
+      if (entries.size() < maximumSize) {
+        Entry lEntry = new Entry(pValue, queue);
+        Entry lExistingEntry = entries.putIfAbsent(lEntry, lEntry);
+        if (lExistingEntry != null) {
+          lCanonical = lExistingEntry.get();
+        }
+        // Number was added or the number of another thread was removed by the garbage collector in the meantime.
+        if (lCanonical == null) {
+          lCanonical = pValue;
+        }
+      }
+      else {
+        lCanonical = pValue;
+      }
+    }
+    return lCanonical;
+  }
+
+  /**
+   * Method returns the canonical instance of the base 36 number with the passed value.
+   *
+   * @param pValue Value of the base 36 number. The parameter must not be null.
+   * @param pDigits Number of digits of the base 36 number.
+   * @return {@link Base36} Canonical instance. The method never returns null.
+   * @see Base36#Base36(String, int)
+   */
+  public Base36 valueOf( String pValue, int pDigits ) {
+    return this.intern(new Base36(pValue, pDigits));
+  }
+
+  /**
+   * Method returns the canonical instance of the base 36 number with the passed value.
+   *
+   * @param pValue Value of the base 36 number. The parameter must not be negative.
+   * @param pDigits Number of digits of the base 36 number.
+   * @return {@link Base36} Canonical instance. The method never returns null.
+   * @see Base36#Base36(long, int)
+   */
+  public Base36 valueOf( long pValue, int pDigits ) {
+    return this.intern(new Base36(pValue, pDigits));
+  }
+
+  /**
+   * Method returns the canonical instance of the passed number if it was already interned. In contrast to
+   * {@link #intern(Base36)} the passed number is not added to the pool.
+   *
+   * @param pValue Number whose canonical instance should be returned. The parameter must not be null.
+   * @return {@link Base36} Canonical instance or the passed number if the number was not interned. The method never
+   * returns null.
+   */
+  Base36 getCanonical( Base36 pValue ) {
+    Base36 lCanonical = this.lookup(pValue);
+    if (lCanonical == null) {
+      lCanonical = pValue;
+    }
+    return lCanonical;
+  }
+
+  /**
+   * Method returns the number of instances of this pool. Instances that were already removed by the garbage collector
+   * may still be counted.
+   *
+   * @return int Number of instances.
+   */
+  public int size( ) {
+    this.expungeStaleEntries();
+    return entries.size();
+  }
+
+  /**
+   * Method returns the maximum number of instances of this pool.
+   *
+   * @return int Maximum number of instances.
+   */
+  public int getMaximumSize( ) {
+    return maximumSize;
+  }
+
+  /**
+   * Method removes all instances from this pool.
+   */
+  public void clear( ) {
+    entries.clear();
+    this.expungeStaleEntries();
+  }
+
+  /**
+   * Method looks up the canonical instance of the passed number.
+   *
+   * @param pValue Number that should be looked up.
+   * @return {@link Base36} Canonical instance or null if the pool does not contain the number.
+   */
+  private Base36 lookup( Base36 pValue ) {
+    Entry lEntry = entries.get(new Entry(pValue, null));
+    Base36 lCanonical;
+    if (lEntry != null) {
+      lCanonical = lEntry.get();
+    }
+    else {
+      lCanonical = null;
+    }
+    return lCanonical;
+  }
+
+  /**
+   * Method removes all entries whose number was removed by the garbage collector.
+   */
+  private void expungeStaleEntries( ) {
+    Reference<? extends Base36> lReference = queue.poll();
+    while (lReference != null) {
+      entries.remove(lReference);
+      lReference = queue.poll();
+    }
+  }
+
+  /**
+   * Class represents an entry of the pool. Entries are equal if their numbers have the same representation. Entries
+   * whose number was removed by the garbage collector are only equal to themselves.
+   */
+  private static final class Entry extends WeakReference<Base36> {
+    /**
+     * Hash code of the number of this entry. The hash code of base 36 numbers depends on their string representation.
+     */
+    private final int hashCode;
+
+    /**
+     * Initialize object.
+     *
+     * @param pValue Number of this entry.
+     * @param pQueue Queue with which the entry is registered. The parameter may be null.
+     */
+    Entry( Base36 pValue, ReferenceQueue<Base36> pQueue ) {
+      super(pValue, pQueue);
+      hashCode = pValue.hashCode();
+    }
+
+    /**
+     * Method returns the hash code of the number of this entry.
+     *
+     * @return int Hash code of this entry.
+     */
+    @Override
+    public int hashCode( ) {
+      return hashCode;
+    }
+
+    /**
+     * Method checks if the passed object is an entry whose number has the same representation as the one of this entry.
+     *
+     * @param pObject Object to be compared for equality. The parameter may be null.
+     * @return boolean Method returns true if both entries are equal and false in all other cases.
+     */
+    @Override
+    public boolean equals( Object pObject ) {
+      boolean lIsEqual;
+      if (pObject == this) {
+        lIsEqual = true;
+      }
+      else if (pObject instanceof Entry && ((Entry) pObject).hashCode == hashCode) {
+        Base36 lValue = this.get();
+        Base36 lOtherValue = ((Entry) pObject).get();
+        lIsEqual = lValue != null && lOtherValue != null && lValue.hasSameRepresentation(lOtherValue);
+      }
+      else {
+        lIsEqual = false;
+      }
+      return lIsEqual;
+    }
+  }
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements an immutable index over base 36 numbers that supports searches for prefixes of their string
+ * representation, e.g. to implement an auto completion of partial numbers.
+ *
+ * As the first character of the string representation of a base 36 number is its lowest digit, all numbers with the
+ * same prefix do not form a contiguous range of numerical values. Therefore the index stores the numerical value of
+ * every number with its digits in reversed order as key, so that the most left character has the highest weight. Keys
+ * are kept in a sorted array. Thus the order of the keys is the same as the order of the string representations and
+ * all numbers with the same prefix form a contiguous range of keys that is found with a binary search. Lookups,
+ * counts and range scans neither create strings nor compare them.
+ *
+ * All numbers of an index have the same number of digits which must not be greater than
+ * {@link Base36#MAX_COMPACT_DIGITS}.
+ *
+ * @author JEAF Development Team
+ */
+public final class Base36PrefixIndex {
+  /**
+   * Number of digits of all numbers of this index.
+   */
+  private final int digits;
+
+  /**
+   * Sorted keys (numerical values with reversed digits) of all numbers of this index. Every key occurs only once.
+   */
+  private final long[] keys;
+
+  /**
+   * Initialize index with the passed numbers.
+   *
+   * @param pValues Numbers that should be indexed. The parameter must not be null and must not contain null. Numbers
+   * that occur more than once are only indexed once.
+   * @param pDigits Number of digits of all numbers of the index. All passed numbers have to fit into this number of
+   * digits.
+   */
+  public Base36PrefixIndex( Collection<Base36> pValues, int pDigits ) {
+    this(Base36PrefixIndex.toLongValues(pValues), pDigits);
+  }
+
+  /**
+   * Initialize index with the passed numerical values.
+   *
+   * @param pValues Numerical values of the numbers that should be indexed. The parameter must not be null. Values that
+   * occur more than once are only indexed once. The array is not changed.
+   * @param pDigits Number of digits of all numbers of the index. All passed values have to fit into this number of
+   * digits.
+   */
+  public Base36PrefixIndex( long[] pValues, int pDigits ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pValues, "pValues");
+    if (pDigits <= 0 || pDigits > Base36.MAX_COMPACT_DIGITS) {
+      throw new IllegalArgumentException(
+          "Parameter 'pDigits' must be between 1 and " + Base36.MAX_COMPACT_DIGITS + " but is " + pDigits + ".");
+    }
+    digits = pDigits;
+
+    // Convert values to keys, sort them and remove duplicates.
+    long[] lKeys = new long[pValues.length];
+    for (int i = 0; i < pValues.length; i++) {
+      if (pValues[i] < 0 || pValues[i] >= Base36.POWERS[pDigits]) {
+        throw new IllegalArgumentException(
+            "Value " + pValues[i] + " can not be represented as base 36 number with " + pDigits + " digits.");
+      }
+      lKeys[i] = this.reverse(pValues[i]);
+    }
+    Base36Sorter.sort(lKeys);
+    int lCount = 0;
+    for (int i = 0; i < lKeys.length; i++) {
+      if (lCount == 0 || lKeys[lCount - 1] != lKeys[i]) {
+        lKeys[lCount] = lKeys[i];
+        lCount++;
+      }
+    }
+    if (lCount < lKeys.length) {
+      long[] lDistinctKeys = new long[lCount];
+      System.arraycopy(lKeys, 0, lDistinctKeys, 0, lCount);
+      lKeys = lDistinctKeys;
+    }
+    keys = lKeys;
+  }
+
+  /**
+   * Method returns the numerical values of the passed numbers.
+   *
+   * @param pValues Numbers whose values should be returned. The parameter must not be null.
+   * @return long[] Numerical values of the passed numbers. The method never returns null.
+   */
+  private static long[] toLongValues( Collection<Base36> pValues ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValues, "pValues");
+
+    long[] lValues = new long[pValues.size()];
+    int i = 0;
+    for (Base36 lNext : pValues) {
+      Check.checkInvalidParameterNull(lNext, "pValues[" + i + "]");
+      if (lNext.isLongValue() == true) {
+        lValues[i] = lNext.toLong();
+      }
+      else {
+        throw new IllegalArgumentException("Base 36 number " + lNext + " is too large to be indexed.");
+      }
+      i++;
+    }
+    return lValues;
+  }
+
+  /**
+   * Method returns the number of digits of all numbers of this index.
+   *
+   * @return int Number of digits.
+   */
+  public int getMaxLength( ) {
+    return digits;
+  }
+
+  /**
+   * Method returns the number of distinct numbers of this index.
+   *
+   * @return int Number of numbers.
+   */
+  public int size( ) {
+    return keys.length;
+  }
+
+  /**
+   * Method checks if the index contains the passed number. Like {@link Base36#equals(Object)} only the numerical value
+   * is taken into account.
+   *
+   * @param pValue Number that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the index contains the passed number and false in all other cases.
+   */
+  public boolean contains( Base36 pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+
+    boolean lContained;
+    if (pValue.isLongValue() == true && pValue.toLong() < Base36.POWERS[digits]) {
+      long lKey = this.reverse(pValue.toLong());
+      int lIndex = this.lowerBound(lKey);
+      lContained = lIndex < keys.length && keys[lIndex] == lKey;
+    }
+    else {
+      lContained = false;
+    }
+    return lContained;
+  }
+
+  /**
+   * Method returns the number of indexed numbers whose string representation starts with the passed prefix.
+   *
+   * @param pPrefix Prefix that should be searched. The parameter must not be null. The prefix must only consist of the
+   * characters [0-9A-Z#].
+   * @return int Number of matching numbers.
+   */
+  public int countPrefix( CharSequence pPrefix ) {
+    int[] lBounds = this.getPrefixBounds(pPrefix);
+    return lBounds[1] - lBounds[0];
+  }
+
+  /**
+   * Method returns all indexed numbers whose string representation starts with the passed prefix.
+   *
+   * @param pPrefix Prefix that should be searched. The parameter must not be null. The prefix must only consist of the
+   * characters [0-9A-Z#].
+   * @return {@link List} Matching numbers in the order of their string representation. The method never returns null.
+   */
+  public List<Base36> findPrefix( CharSequence pPrefix ) {
+    return this.findPrefix(pPrefix, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Method returns the first indexed numbers whose string representation starts with the passed prefix.
+   *
+   * @param pPrefix Prefix that should be searched. The parameter must not be null. The prefix must only consist of the
+   * characters [0-9A-Z#].
+   * @param pMaxResults Maximum number of numbers that should be returned. The parameter must not be negative.
+   * @return {@link List} Matching numbers in the order of their string representation. The method never returns null.
+   */
+  public List<Base36> findPrefix( CharSequence pPrefix, int pMaxResults ) {
+    // Check parameter.
+    Check.checkIsZeroOrGreater(pMaxResults, "pMaxResults");
+
+    int[] lBounds = this.getPrefixBounds(pPrefix);
+    return this.toList(lBounds[0], (int) Math.min(lBounds[1], (long) lBounds[0] + pMaxResults));
+  }
+
+  /**
+   * Method returns all indexed numbers whose string representation is within the passed range. Strings are compared
+   * character by character where <code>'#'</code> is smaller than all digits.
+   *
+   * @param pFrom Lower bound (inclusive) of the range. The parameter must not be null. The number of digits of the
+   * bound has to be the same as the one of this index.
+   * @param pTo Upper bound (exclusive) of the range. The parameter must not be null. The number of digits of the bound
+   * has to be the same as the one of this index.
+   * @return {@link List} Numbers within the passed range in the order of their string representation. The method never
+   * returns null.
+   */
+  public List<Base36> range( Base36 pFrom, Base36 pTo ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pFrom, "pFrom");
+    Check.checkInvalidParameterNull(pTo, "pTo");
+    if (pFrom.getMaxLength() != digits || pTo.getMaxLength() != digits) {
+      throw new IllegalArgumentException("Bounds of the range must have " + digits + " digits.");
+    }
+
+    int lFirst = this.lowerBound(this.reverse(pFrom.toLong()));
+    int lEnd = this.lowerBound(this.reverse(pTo.toLong()));
+    List<Base36> lResult;
+    if (lFirst < lEnd) {
+      lResult = this.toList(lFirst, lEnd);
+    }
+    else {
+      lResult = Collections.emptyList();
+    }
+    return lResult;
+  }
+
+  /**
+   * Method returns all numbers of this index.
+   *
+   * @return {@link List} All numbers in the order of their string representation. The method never returns null.
+   */
+  public List<Base36> toList( ) {
+    return this.toList(0, keys.length);
+  }
+
+  /**
+   * Method calculates the range of keys of all numbers whose string representation starts with the passed prefix.
+   *
+   * @param pPrefix Prefix that should be searched. The parameter must not be null.
+   * @return int[] Index of the first matching key and index after the last matching key. The method never returns null.
+   */
+  private int[] getPrefixBounds( CharSequence pPrefix ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPrefix, "pPrefix");
+
+    // Calculate the key of the prefix. Characters after the prefix are treated as 0.
+    final int lLength = pPrefix.length();
+    long lPrefixKey = 0;
+    long lPrefixValue = 0;
+    int lFirstEmptyChar = -1;
+    boolean lPossible = lLength <= digits;
+    for (int i = 0; i < lLength; i++) {
+      char lNextChar = pPrefix.charAt(i);
+      int lDigitValue;
+      if (lNextChar < Base36.DIGIT_VALUES.length) {
+        lDigitValue = Base36.DIGIT_VALUES[lNextChar];
+      }
+      else {
+        lDigitValue = -1;
+      }
+      if (lNextChar == Base36.AVANTIS_EMPTY_CHAR) {
+        if (lFirstEmptyChar < 0) {
+          lFirstEmptyChar = i;
+        }
+      }
+      else if (lDigitValue < 0) {
+        throw new IllegalArgumentException(
+            "'" + pPrefix + "' is not a valid prefix of a base 36 number. Expected characters are [0-9A-Z#].");
+      }
+      // Digits after the first AVANTIS_EMPTY_CHAR are not possible.
+      else if (lFirstEmptyChar >= 0) {
+        lPossible = false;
+      }
+      else if (lPossible == true) {
+        lPrefixKey = lPrefixKey + lDigitValue * Base36.POWERS[digits - 1 - i];
+        lPrefixValue = lPrefixValue + lDigitValue * Base36.POWERS[i];
+      }
+    }
+
+    int[] lBounds;
+    if (lPossible == false) {
+      lBounds = new int[] { 0, 0 };
+    }
+    // If the prefix contains AVANTIS_EMPTY_CHAR then there is only one number that matches. As the string
+    // representation of a number is unique, the number of characters before AVANTIS_EMPTY_CHAR has to be its length.
+    else if (lFirstEmptyChar >= 0) {
+      if (Base36.getLength(lPrefixValue, digits) == lFirstEmptyChar) {
+        int lFirst = this.lowerBound(lPrefixKey);
+        int lEnd = lFirst;
+        if (lFirst < keys.length && keys[lFirst] == lPrefixKey) {
+          lEnd++;
+        }
+        lBounds = new int[] { lFirst, lEnd };
+      }
+      else {
+        lBounds = new int[] { 0, 0 };
+      }
+    }
+    // Otherwise all keys that start with the prefix key match. Only the smallest of these keys belongs to the number
+    // that consists of the prefix only. If the prefix ends with '0' this number is shorter than the prefix and thus its
+    // string representation contains AVANTIS_EMPTY_CHAR instead.
+    else {
+      long lFirstKey = lPrefixKey;
+      if (Base36.getLength(lPrefixValue, digits) < lLength) {
+        lFirstKey++;
+      }
+      long lEndKey = lPrefixKey + Base36.POWERS[digits - lLength];
+      lBounds = new int[] { this.lowerBound(lFirstKey), this.lowerBound(lEndKey) };
+    }
+    return lBounds;
+  }
+
+  /**
+   * Method returns the index of the first key that is not less than the passed key.
+   *
+   * @param pKey Key that should be searched.
+   * @return int Index of the first key that is not less than the passed key or the number of keys if there is none.
+   */
+  private int lowerBound( long pKey ) {
+    int lLow = 0;
+    int lHigh = keys.length;
+    while (lLow < lHigh) {
+      int lMiddle = (lLow + lHigh) >>> 1;
+      if (keys[lMiddle] < pKey) {
+        lLow = lMiddle + 1;
+      }
+      else {
+        lHigh = lMiddle;
+      }
+    }
+    return lLow;
+  }
+
+  /**
+   * Method creates the numbers of the passed range of keys.
+   *
+   * @param pFirst Index of the first key.
+   * @param pEnd Index after the last key.
+   * @return {@link List} Numbers of the passed range of keys. The method never returns null.
+   */
+  private List<Base36> toList( int pFirst, int pEnd ) {
+    List<Base36> lResult = new ArrayList<>(pEnd - pFirst);
+    for (int i = pFirst; i < pEnd; i++) {
+      lResult.add(new Base36(this.reverse(keys[i]), digits));
+    }
+    return lResult;
+  }
+
+  /**
+   * Method reverses the order of the digits of the passed value. As the operation is symmetric it converts values into
+   * keys and keys into values.
+   *
+   * @param pValue Value whose digits should be reversed. The value must fit into the number of digits of this index.
+   * @return long Value with reversed digits.
+   */
+  private long reverse( long pValue ) {
+    long lLeftValue = pValue;
+    long lReversed = 0;
+    for (int i = 0; i < digits; i++) {
+      lReversed = lReversed * 36 + lLeftValue % 36;
+      lLeftValue = lLeftValue / 36;
+    }
+    return lReversed;
+  }
+}
@@ -0,0 +1,484 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class represents a range of base 36 numbers with the same number of digits. The range starts with its lower bound
+ * (inclusive) and ends before its upper bound (exclusive).
+ *
+ * The numbers of a range are not stored but only created when they are requested. Ranges can be processed with
+ * (parallel) streams. Their spliterators know their exact size and are split into halves, so that the numbers are
+ * evenly distributed among the threads of a fork join pool. If only the numerical values are required
+ * {@link #longStream()} and {@link #longSpliterator()} should be used as they do not create any objects.
+ *
+ * As the values are handled as long values the bounds of a range must not exceed {@link Long#MAX_VALUE}.
+ *
+ * @author JEAF Development Team
+ */
+public final class Base36Range implements Iterable<Base36>, Serializable {
+  /**
+   * Default serial version uid.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Characteristics of all spliterators of a range.
+   */
+  private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED
+      | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+  /**
+   * Lower bound (inclusive) of the range.
+   */
+  private final long from;
+
+  /**
+   * Upper bound (exclusive) of the range.
+   */
+  private final long to;
+
+  /**
+   * Number of digits of all numbers of the range.
+   */
+  private final int digits;
+
+  /**
+   * Initialize range. The numbers of the range have as many digits as the lower bound. As the upper bound is exclusive
+   * it may have one more digit, e.g. all numbers with 3 digits are described by the bounds "0##" and "0001".
+   *
+   * @param pFrom Lower bound (inclusive) of the range. The parameter must not be null.
+   * @param pTo Upper bound (exclusive) of the range. The parameter must not be null and must not be less than the lower
+   * bound.
+   */
+  public Base36Range( Base36 pFrom, Base36 pTo ) {
+    this(pFrom, pTo, Base36Range.getMaxLength(pFrom));
+  }
+
+  /**
+   * Initialize range.
+   *
+   * @param pFrom Lower bound (inclusive) of the range. The parameter must not be null.
+   * @param pTo Upper bound (exclusive) of the range. The parameter must not be null and must not be less than the lower
+   * bound.
+   * @param pDigits Number of digits of all numbers of the range. All numbers of the range have to fit into the passed
+   * number of digits.
+   */
+  public Base36Range( Base36 pFrom, Base36 pTo, int pDigits ) {
+    this(Base36Range.toBound(pFrom, "pFrom"), Base36Range.toBound(pTo, "pTo"), pDigits);
+  }
+
+  /**
+   * Initialize range.
+   *
+   * @param pFrom Lower bound (inclusive) of the range. The value must not be negative.
+   * @param pTo Upper bound (exclusive) of the range. The value must not be less than the lower bound.
+   * @param pDigits Number of digits of all numbers of the range. All numbers of the range have to fit into the passed
+   * number of digits.
+   */
+  public Base36Range( long pFrom, long pTo, int pDigits ) {
+    // Check parameters.
+    if (pFrom < 0 || pTo < pFrom) {
+      throw new IllegalArgumentException("[" + pFrom + ", " + pTo + ") is not a valid range of base 36 numbers.");
+    }
+    if (pDigits <= 0) {
+      throw new IllegalArgumentException("Parameter 'pDigits' must be greater than zero but is " + pDigits + ".");
+    }
+    if (pTo > pFrom && pDigits <= Base36.MAX_COMPACT_DIGITS && pTo - 1 >= Base36.POWERS[pDigits]) {
+      throw new IllegalArgumentException(
+          "Value " + (pTo - 1) + " can not be represented as base 36 number with " + pDigits + " digits.");
+    }
+    from = pFrom;
+    to = pTo;
+    digits = pDigits;
+  }
+
+  /**
+   * Method returns the number of digits of the passed lower bound.
+   *
+   * @param pFrom Lower bound of a range. The parameter must not be null.
+   * @return int Number of digits of the lower bound.
+   */
+  private static int getMaxLength( Base36 pFrom ) {
+    Check.checkInvalidParameterNull(pFrom, "pFrom");
+    return pFrom.getMaxLength();
+  }
+
+  /**
+   * Method returns the numerical value of the passed bound.
+   *
+   * @param pBound Bound of a range. The parameter must not be null and its value must not exceed
+   * {@link Long#MAX_VALUE}.
+   * @param pName Name of the parameter.
+   * @return long Numerical value of the bound.
+   */
+  private static long toBound( Base36 pBound, String pName ) {
+    Check.checkInvalidParameterNull(pBound, pName);
+    if (pBound.isLongValue() == false) {
+      throw new IllegalArgumentException("Base 36 number " + pBound + " is too large to be used as bound of a range.");
+    }
+    return pBound.toLong();
+  }
+
+  /**
+   * Method returns the lower bound of this range.
+   *
+   * @return {@link Base36} Lower bound (inclusive) of this range. The method never returns null.
+   */
+  public Base36 getFrom( ) {
+    return new Base36(from, digits);
+  }
+
+  /**
+   * Method returns the upper bound of this range. If the upper bound does not fit into the number of digits of this
+   * range, the returned number has one more digit.
+   *
+   * @return {@link Base36} Upper bound (exclusive) of this range. The method never returns null.
+   */
+  public Base36 getTo( ) {
+    Base36 lTo;
+    if (digits <= Base36.MAX_COMPACT_DIGITS && to >= Base36.POWERS[digits]) {
+      lTo = new Base36(to, digits + 1);
+    }
+    else {
+      lTo = new Base36(to, digits);
+    }
+    return lTo;
+  }
+
+  /**
+   * Method returns the number of digits of all numbers of this range.
+   *
+   * @return int Number of digits.
+   */
+  public int getMaxLength( ) {
+    return digits;
+  }
+
+  /**
+   * Method returns the number of base 36 numbers in this range.
+   *
+   * @return long Number of base 36 numbers.
+   */
+  public long size( ) {
+    return to - from;
+  }
+
+  /**
+   * Method checks if this range is empty.
+   *
+   * @return boolean Method returns true if this range does not contain any number and false in all other cases.
+   */
+  public boolean isEmpty( ) {
+    return to == from;
+  }
+
+  /**
+   * Method checks if this range contains the passed number. Like {@link Base36#equals(Object)} only the numerical value
+   * is taken into account.
+   *
+   * @param pValue Number that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the passed number is within this range and false in all other cases.
+   */
+  public boolean contains( Base36 pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+    return pValue.isLongValue() == true && this.contains(pValue.toLong());
+  }
+
+  /**
+   * Method checks if this range contains the base 36 number with the passed value.
+   *
+   * @param pValue Numerical value that should be checked.
+   * @return boolean Method returns true if the passed value is within this range and false in all other cases.
+   */
+  public boolean contains( long pValue ) {
+    return pValue >= from && pValue < to;
+  }
+
+  /**
+   * Method returns an iterator over all numbers of this range in ascending order. Every number is created when it is
+   * requested.
+   *
+   * @return {@link Iterator} Iterator over all numbers of this range. The method never returns null.
+   */
+  @Override
+  public Iterator<Base36> iterator( ) {
+    return new Iterator<Base36>() {
+      private long next = from;
+
+      @Override
+      public boolean hasNext( ) {
+        return next < to;
+      }
+
+      @Override
+      public Base36 next( ) {
+        if (next >= to) {
+          throw new NoSuchElementException();
+        }
+        Base36 lNext = new Base36(next, digits);
+        next++;
+        return lNext;
+      }
+    };
+  }
+
+  /**
+   * Method returns a spliterator over all numbers of this range. Every number is created when it is requested.
+   *
+   * @return {@link Spliterator} Spliterator over all numbers of this range. The method never returns null.
+   */
+  @Override
+  public Spliterator<Base36> spliterator( ) {
+    return new Base36Spliterator(new LongRangeSpliterator(from, to), digits);
+  }
+
+  /**
+   * Method returns a spliterator over the numerical values of all numbers of this range.
+   *
+   * @return {@link Spliterator.OfLong} Spliterator over the numerical values of this range. The method never returns
+   * null.
+   */
+  public Spliterator.OfLong longSpliterator( ) {
+    return new LongRangeSpliterator(from, to);
+  }
+
+  /**
+   * Method returns a sequential stream of all numbers of this range.
+   *
+   * @return {@link Stream} Stream of all numbers of this range. The method never returns null.
+   */
+  public Stream<Base36> stream( ) {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  /**
+   * Method returns a parallel stream of all numbers of this range.
+   *
+   * @return {@link Stream} Parallel stream of all numbers of this range. The method never returns null.
+   */
+  public Stream<Base36> parallelStream( ) {
+    return StreamSupport.stream(this.spliterator(), true);
+  }
+
+  /**
+   * Method returns a sequential stream of the numerical values of all numbers of this range.
+   *
+   * @return {@link LongStream} Stream of the numerical values of this range. The method never returns null.
+   */
+  public LongStream longStream( ) {
+    return StreamSupport.longStream(this.longSpliterator(), false);
+  }
+
+  /**
+   * Method checks if the passed object is an equal range. Ranges are equal if they have the same bounds and the same
+   * number of digits.
+   *
+   * @param pObject Object to be compared for equality. The parameter may be null.
+   * @return boolean Method returns true if the passed object is an equal range and false in all other cases.
+   */
+  @Override
+  public boolean equals( Object pObject ) {
+    boolean lEqual;
+    if (pObject == this) {
+      lEqual = true;
+    }
+    else if (pObject instanceof Base36Range) {
+      Base36Range lOther = (Base36Range) pObject;
+      lEqual = from == lOther.from && to == lOther.to && digits == lOther.digits;
+    }
+    else {
+      lEqual = false;
+    }
+    return lEqual;
+  }
+
+  /**
+   * Method returns the hash code of this range.
+   *
+   * @return int Hash code of this range.
+   */
+  @Override
+  public int hashCode( ) {
+    return (Long.hashCode(from) * 31 + Long.hashCode(to)) * 31 + digits;
+  }
+
+  /**
+   * Method returns a string representation of this range.
+   *
+   * @return {@link String} String representation of this range. The method never returns null.
+   */
+  @Override
+  public String toString( ) {
+    StringBuilder lBuilder = new StringBuilder();
+    lBuilder.append('[');
+    this.getFrom().appendTo(lBuilder);
+    lBuilder.append(", ");
+    this.getTo().appendTo(lBuilder);
+    lBuilder.append(')');
+    return lBuilder.toString();
+  }
+
+  /**
+   * Class implements a spliterator over a range of long values that is split into halves.
+   */
+  private static final class LongRangeSpliterator implements Spliterator.OfLong {
+    /**
+     * Next value of the spliterator.
+     */
+    private long next;
+
+    /**
+     * Upper bound (exclusive) of the spliterator.
+     */
+    private final long end;
+
+    /**
+     * Initialize object.
+     *
+     * @param pNext First value of the spliterator.
+     * @param pEnd Upper bound (exclusive) of the spliterator.
+     */
+    LongRangeSpliterator( long pNext, long pEnd ) {
+      next = pNext;
+      end = pEnd;
+    }
+
+    @Override
+    public boolean tryAdvance( LongConsumer pAction ) {
+      boolean lAdvanced;
+      if (next < end) {
+        pAction.accept(next);
+        next++;
+        lAdvanced = true;
+      }
+      else {
+        lAdvanced = false;
+      }
+      return lAdvanced;
+    }
+
+    @Override
+    public void forEachRemaining( LongConsumer pAction ) {
+      // Position is updated before the values are passed so that the spliterator is also consumed in case of an error.
+      final long lNext = next;
+      final long lEnd = end;
+      next = lEnd;
+      for (long i = lNext; i < lEnd; i++) {
+        pAction.accept(i);
+      }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit( ) {
+      // Prefix of the remaining values is split off.
+      final long lMiddle = next + ((end - next) >>> 1);
+      LongRangeSpliterator lPrefix;
+      if (lMiddle > next) {
+        lPrefix = new LongRangeSpliterator(next, lMiddle);
+        next = lMiddle;
+      }
+      else {
+        lPrefix = null;
+      }
+      return lPrefix;
+    }
+
+    @Override
+    public long estimateSize( ) {
+      return end - next;
+    }
+
+    @Override
+    public int characteristics( ) {
+      return CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator( ) {
+      // Values are sorted in their natural order.
+      return null;
+    }
+  }
+
+  /**
+   * Class implements a spliterator that creates base 36 numbers for the values of a long based spliterator.
+   */
+  private static final class Base36Spliterator implements Spliterator<Base36> {
+    /**
+     * Spliterator with the numerical values.
+     */
+    private final Spliterator.OfLong values;
+
+    /**
+     * Number of digits of the created numbers.
+     */
+    private final int digits;
+
+    /**
+     * Initialize object.
+     *
+     * @param pValues Spliterator with the numerical values.
+     * @param pDigits Number of digits of the created numbers.
+     */
+    Base36Spliterator( Spliterator.OfLong pValues, int pDigits ) {
+      values = pValues;
+      digits = pDigits;
+    }
+
+    @Override
+    public boolean tryAdvance( Consumer<? super Base36> pAction ) {
+      return values.tryAdvance((LongConsumer) pValue -> pAction.accept(new Base36(pValue, digits)));
+    }
+
+    @Override
+    public void forEachRemaining( Consumer<? super Base36> pAction ) {
+      values.forEachRemaining((LongConsumer) pValue -> pAction.accept(new Base36(pValue, digits)));
+    }
+
+    @Override
+    public Spliterator<Base36> trySplit( ) {
+      Spliterator.OfLong lPrefix = values.trySplit();
+      Base36Spliterator lResult;
+      if (lPrefix != null) {
+        lResult = new Base36Spliterator(lPrefix, digits);
+      }
+      else {
+        lResult = null;
+      }
+      return lResult;
+    }
+
+    @Override
+    public long estimateSize( ) {
+      return values.estimateSize();
+    }
+
+    @Override
+    public int characteristics( ) {
+      return CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super Base36> getComparator( ) {
+      // Base 36 numbers are sorted in their natural order.
+      return null;
+    }
+  }
+}
@@ -0,0 +1,256 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import com.anaptecs.jeaf.xfun.api.errorhandling.ErrorCode;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+/**
+ * Class implements a thread safe sequence of base 36 numbers with a fixed number of digits. The sequence is backed by
+ * an atomic counter so that no locks are required to get the next number of the sequence. Threads that need a lot of
+ * numbers can reserve a block of numbers that can then be consumed without any contention with other threads.
+ *
+ * As soon as the sequence exceeds the highest number that can be represented with its number of digits an exception
+ * with error code {@link XFunMessages#MAX_BASE36_VALUE_EXCEEDED} is thrown.
+ *
+ * @author JEAF Development Team
+ */
+public class Base36Sequence {
+  /**
+   * Number of digits of all numbers of this sequence.
+   */
+  private final int digits;
+
+  /**
+   * Highest value that can be represented with the number of digits of this sequence.
+   */
+  private final long maxValue;
+
+  /**
+   * Counter contains the value that will be returned by the next call of {@link #next()}. Due to concurrent calls that
+   * exceed the maximum value the counter may be larger than {@link #maxValue} + 1.
+   */
+  private final AtomicLong counter;
+
+  /**
+   * Initialize sequence. The passed value is the first value that will be returned by the sequence.
+   *
+   * @param pInitialValue First value of the sequence. The parameter must not be null. The number of digits of the
+   * passed value defines the number of digits of all numbers of the sequence and must not be greater than
+   * {@link Base36#MAX_COMPACT_DIGITS}.
+   */
+  public Base36Sequence( Base36 pInitialValue ) {
+    this(Base36Sequence.checkInitialValue(pInitialValue), pInitialValue.toLong());
+  }
+
+  /**
+   * Initialize sequence with the numeric value of its first number. In contrast to {@link #Base36Sequence(Base36)} the
+   * initial value may be one above the highest value of the sequence. Such a sequence is already exhausted.
+   *
+   * @param pDigits Number of digits of all numbers of the sequence. The value must not be greater than
+   * {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pInitialValue Numeric value of the first number of the sequence.
+   */
+  Base36Sequence( int pDigits, long pInitialValue ) {
+    // Check parameter.
+    if (pDigits > Base36.MAX_COMPACT_DIGITS) {
+      throw new IllegalArgumentException(
+          "Base 36 sequences support at most " + Base36.MAX_COMPACT_DIGITS + " digits but not " + pDigits + ".");
+    }
+    digits = pDigits;
+    maxValue = Base36Sequence.getUpperBound(pDigits) - 1;
+    if (pInitialValue < 0 || pInitialValue > maxValue + 1) {
+      throw new IllegalArgumentException("Initial value " + pInitialValue + " is out of range of the sequence.");
+    }
+    counter = new AtomicLong(pInitialValue);
+  }
+
+  /**
+   * Method checks the passed initial value of a sequence.
+   *
+   * @param pInitialValue Initial value that should be checked. The parameter must not be null.
+   * @return int Number of digits of the passed value.
+   */
+  private static int checkInitialValue( Base36 pInitialValue ) {
+    Check.checkInvalidParameterNull(pInitialValue, "pInitialValue");
+    final int lDigits = pInitialValue.getMaxLength();
+    if (lDigits > Base36.MAX_COMPACT_DIGITS) {
+      throw new IllegalArgumentException(
+          "Base 36 sequences support at most " + Base36.MAX_COMPACT_DIGITS + " digits but not " + lDigits + ".");
+    }
+    return lDigits;
+  }
+
+  /**
+   * Method calculates the number of values that can be represented with the passed number of digits.
+   *
+   * @param pDigits Number of digits. The value must not be greater than {@link Base36#MAX_COMPACT_DIGITS}.
+   * @return long 36 to the power of the passed number of digits.
+   */
+  static long getUpperBound( int pDigits ) {
+    long lUpperBound = 1;
+    for (int i = 0; i < pDigits; i++) {
+      lUpperBound = lUpperBound * 36;
+    }
+    return lUpperBound;
+  }
+
+  /**
+   * Method returns the number of digits of all numbers of this sequence.
+   *
+   * @return int Number of digits of this sequence.
+   */
+  public final int getMaxLength( ) {
+    return digits;
+  }
+
+  /**
+   * Method returns the next number of this sequence. The method does not use any locks.
+   *
+   * @return {@link Base36} Next number of the sequence. The method never returns null.
+   */
+  public Base36 next( ) {
+    final long lValue = counter.getAndIncrement();
+    if (lValue > maxValue) {
+      this.throwMaxValueExceeded(1);
+    }
+    this.beforeIssue(lValue);
+    return new Base36(lValue, digits);
+  }
+
+  /**
+   * Method reserves a contiguous block of numbers of this sequence. The returned block belongs to the calling thread
+   * and can be consumed without any further synchronization. Numbers of a block that are not consumed are lost.
+   *
+   * @param pCount Number of values that should be reserved. The parameter must be greater than zero.
+   * @return {@link Block} Block with the reserved numbers. The method never returns null.
+   */
+  public Block reserve( int pCount ) {
+    // Check parameter.
+    if (pCount <= 0) {
+      throw new IllegalArgumentException("Parameter 'pCount' must be greater than zero but is " + pCount + ".");
+    }
+
+    // Move counter by the requested number of values. In contrast to next() compare and set is used here so that a
+    // failed reservation does not consume the remaining values of the sequence.
+    long lFirstValue;
+    long lLastValue;
+    do {
+      lFirstValue = counter.get();
+      lLastValue = lFirstValue + pCount - 1;
+      if (lLastValue > maxValue) {
+        this.throwMaxValueExceeded(pCount);
+      }
+    }
+    while (counter.compareAndSet(lFirstValue, lLastValue + 1) == false);
+
+    this.beforeIssue(lLastValue);
+    return new Block(lFirstValue, lLastValue, digits);
+  }
+
+  /**
+   * Method returns the highest value that can be represented with the number of digits of this sequence.
+   *
+   * @return long Highest value of this sequence.
+   */
+  final long getMaxValue( ) {
+    return maxValue;
+  }
+
+  /**
+   * Method is called before values of this sequence are handed out. Subclasses may use this method e.g. to persist the
+   * state of the sequence. This implementation does nothing.
+   *
+   * @param pLastValue Highest value that will be handed out.
+   */
+  void beforeIssue( long pLastValue ) {
+    // Nothing to do.
+  }
+
+  /**
+   * Method throws an exception as the maximum value of this sequence was exceeded.
+   *
+   * @param pCount Number of values by which the sequence should have been moved.
+   */
+  private void throwMaxValueExceeded( long pCount ) {
+    final ErrorCode lErrorCode = XFunMessages.MAX_BASE36_VALUE_EXCEEDED;
+    String[] lParams = new String[] { new Base36(maxValue, digits).toString(), Long.toString(pCount) };
+    throw new JEAFSystemException(lErrorCode, lParams);
+  }
+
+  /**
+   * Class represents a block of numbers that was reserved from a {@link Base36Sequence}. A block is intended to be used
+   * by one thread only and thus is not thread safe.
+   */
+  public static final class Block implements Iterator<Base36> {
+    /**
+     * Next value of the block that will be returned.
+     */
+    private long nextValue;
+
+    /**
+     * Last value that belongs to this block.
+     */
+    private final long lastValue;
+
+    /**
+     * Number of digits of the numbers of this block.
+     */
+    private final int digits;
+
+    /**
+     * Initialize object.
+     *
+     * @param pFirstValue First value of this block.
+     * @param pLastValue Last value of this block.
+     * @param pDigits Number of digits of the numbers of this block.
+     */
+    private Block( long pFirstValue, long pLastValue, int pDigits ) {
+      nextValue = pFirstValue;
+      lastValue = pLastValue;
+      digits = pDigits;
+    }
+
+    /**
+     * Method checks if there are still numbers left in this block.
+     *
+     * @return boolean Method returns true if there is at least one number left and false in all other cases.
+     */
+    @Override
+    public boolean hasNext( ) {
+      return nextValue <= lastValue;
+    }
+
+    /**
+     * Method returns the next number of this block.
+     *
+     * @return {@link Base36} Next number of this block. The method never returns null.
+     * @throws NoSuchElementException if all numbers of this block are already consumed.
+     */
+    @Override
+    public Base36 next( ) {
+      if (nextValue > lastValue) {
+        throw new NoSuchElementException("All numbers of the block are already consumed.");
+      }
+      return new Base36(nextValue++, digits);
+    }
+
+    /**
+     * Method returns the number of values that are left in this block.
+     *
+     * @return long Number of remaining values.
+     */
+    public long getRemaining( ) {
+      return lastValue - nextValue + 1;
+    }
+  }
+}
@@ -0,0 +1,1307 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements a set of base 36 numbers that is optimized for very large amounts of numbers. Only the numerical
+ * values of the numbers are stored as compressed bitmap. Therefore the values are grouped by their upper 48 bits. The
+ * lower 16 bits of every group are either stored as sorted array (sparse groups) or as bitmap with 65536 bits (dense
+ * groups). Thus a value only requires between 1 and 16 bits plus a small overhead per group.
+ *
+ * All numbers of a set have the same number of digits. Numbers that are added to the set only need to have a value
+ * that can be represented with this number of digits. Like {@link Base36#equals(Object)} membership only depends on
+ * the numerical value. The iteration returns the numbers in ascending numerical order as new {@link Base36} objects
+ * with the number of digits of the set.
+ *
+ * Besides the operations of {@link java.util.Set} the class provides fast set operations on two sets, range operations
+ * and a compact serialized form (see {@link #writeTo(DataOutput)}). Values that exceed {@link Long#MAX_VALUE} are not
+ * supported.
+ *
+ * The class is not thread safe.
+ *
+ * @author JEAF Development Team
+ */
+public class Base36Set extends AbstractSet<Base36> implements Serializable {
+  /**
+   * Serial version uid of this class.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Version of the format that is written by {@link #writeTo(DataOutput)}.
+   */
+  private static final int FORMAT_VERSION = 1;
+
+  /**
+   * Number of lower bits of a value that are stored inside a container.
+   */
+  private static final int CONTAINER_BITS = 16;
+
+  /**
+   * Mask to extract the lower bits of a value.
+   */
+  private static final int LOW_MASK = (1 << CONTAINER_BITS) - 1;
+
+  /**
+   * Maximum number of containers for which memory is reserved in advance when a set is read. The number of containers
+   * that is stored in a stream is not trusted so that memory is only allocated for containers that were actually read.
+   */
+  private static final int MAX_INITIAL_READ_CAPACITY = 1024;
+
+  /**
+   * Number of digits of all numbers of this set.
+   */
+  private final int digits;
+
+  /**
+   * Sorted upper bits of all values of this set. Every key has its own container.
+   */
+  private transient long[] keys;
+
+  /**
+   * Containers with the lower bits of the values. The container at index i belongs to the key at index i.
+   */
+  private transient Container[] containers;
+
+  /**
+   * Number of containers of this set.
+   */
+  private transient int containerCount;
+
+  /**
+   * Number of values of this set.
+   */
+  private transient long cardinality;
+
+  /**
+   * Initialize empty set.
+   *
+   * @param pDigits Number of digits of all numbers of this set. The parameter must be greater than zero.
+   */
+  public Base36Set( int pDigits ) {
+    // Check parameter.
+    if (pDigits <= 0) {
+      throw new IllegalArgumentException("Parameter 'pDigits' must be greater than zero but is " + pDigits + ".");
+    }
+    digits = pDigits;
+    this.initialize(0);
+  }
+
+  /**
+   * Method initializes the internal data structures of this set.
+   *
+   * @param pCapacity Number of containers for which space should be allocated.
+   */
+  private void initialize( int pCapacity ) {
+    keys = new long[Math.max(pCapacity, 4)];
+    containers = new Container[keys.length];
+    containerCount = 0;
+    cardinality = 0;
+  }
+
+  /**
+   * Method returns the number of digits of all numbers of this set.
+   *
+   * @return int Number of digits.
+   */
+  public final int getMaxLength( ) {
+    return digits;
+  }
+
+  /**
+   * Method adds the passed number to this set.
+   *
+   * @param pValue Number that should be added. The parameter must not be null and its value must be representable with
+   * the number of digits of this set.
+   * @return boolean Method returns true if the set did not contain the number yet and false otherwise.
+   */
+  @Override
+  public boolean add( Base36 pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+    if (pValue.isLongValue() == false) {
+      throw new IllegalArgumentException("Base 36 number " + pValue + " is too large for a base 36 set.");
+    }
+    return this.add(pValue.toLong());
+  }
+
+  /**
+   * Method adds the base 36 number with the passed value to this set.
+   *
+   * @param pValue Value that should be added. The value must not be negative and must be representable with the number
+   * of digits of this set.
+   * @return boolean Method returns true if the set did not contain the value yet and false otherwise.
+   */
+  public boolean add( long pValue ) {
+    // Check parameter.
+    this.checkValue(pValue);
+
+    long lKey = pValue >>> CONTAINER_BITS;
+    int lIndex = Arrays.binarySearch(keys, 0, containerCount, lKey);
+    if (lIndex < 0) {
+      lIndex = -lIndex - 1;
+      this.insertContainer(lIndex, lKey, new Container());
+    }
+    boolean lAdded = containers[lIndex].add((int) pValue & LOW_MASK);
+    if (lAdded == true) {
+      cardinality++;
+    }
+    return lAdded;
+  }
+
+  /**
+   * Method adds all values of the passed range to this set.
+   *
+   * @param pFrom First value of the range (inclusive). The value must not be negative.
+   * @param pTo Last value of the range (exclusive). The value must be representable with the number of digits of this
+   * set.
+   */
+  public void addRange( long pFrom, long pTo ) {
+    this.changeRange(pFrom, pTo, true);
+  }
+
+  /**
+   * Method removes all values of the passed range from this set.
+   *
+   * @param pFrom First value of the range (inclusive). The value must not be negative.
+   * @param pTo Last value of the range (exclusive).
+   */
+  public void removeRange( long pFrom, long pTo ) {
+    this.changeRange(pFrom, pTo, false);
+  }
+
+  /**
+   * Method adds or removes all values of the passed range.
+   *
+   * @param pFrom First value of the range (inclusive).
+   * @param pTo Last value of the range (exclusive).
+   * @param pAdd Parameter defines whether the values should be added or removed.
+   */
+  private void changeRange( long pFrom, long pTo, boolean pAdd ) {
+    // Check parameters.
+    if (pFrom < 0 || pFrom > pTo) {
+      throw new IllegalArgumentException("Range [" + pFrom + ", " + pTo + ") is not a valid range.");
+    }
+    if (pFrom < pTo) {
+      if (pAdd == true) {
+        this.checkValue(pTo - 1);
+      }
+      final long lLastValue = pTo - 1;
+      final long lLastKey = lLastValue >>> CONTAINER_BITS;
+      long lKey = pFrom >>> CONTAINER_BITS;
+      while (lKey <= lLastKey) {
+        int lIndex = Arrays.binarySearch(keys, 0, containerCount, lKey);
+
+        // Values can only be removed from existing containers, so we can directly move on to the next one.
+        if (pAdd == false && lIndex < 0) {
+          if (-lIndex - 1 == containerCount) {
+            break;
+          }
+          lKey = keys[-lIndex - 1];
+          continue;
+        }
+        int lFirstLow;
+        if (lKey == pFrom >>> CONTAINER_BITS) {
+          lFirstLow = (int) pFrom & LOW_MASK;
+        }
+        else {
+          lFirstLow = 0;
+        }
+        int lLastLow;
+        if (lKey == lLastValue >>> CONTAINER_BITS) {
+          lLastLow = (int) lLastValue & LOW_MASK;
+        }
+        else {
+          lLastLow = LOW_MASK;
+        }
+        long[] lBitmap;
+        if (lIndex >= 0) {
+          lBitmap = containers[lIndex].toBitmap();
+          cardinality = cardinality - containers[lIndex].cardinality;
+        }
+        else {
+          lBitmap = new long[Container.BITMAP_WORDS];
+        }
+        Container.setBits(lBitmap, lFirstLow, lLastLow + 1, pAdd);
+        Container lContainer = Container.of(lBitmap);
+        if (lContainer != null) {
+          cardinality = cardinality + lContainer.cardinality;
+          if (lIndex >= 0) {
+            containers[lIndex] = lContainer;
+          }
+          else {
+            this.insertContainer(-lIndex - 1, lKey, lContainer);
+          }
+        }
+        else if (lIndex >= 0) {
+          this.removeContainer(lIndex);
+        }
+        lKey++;
+      }
+    }
+  }
+
+  /**
+   * Method checks if this set contains the passed object.
+   *
+   * @param pObject Object that should be checked. The parameter may be null.
+   * @return boolean Method returns true if the passed object is a base 36 number whose value is contained in this set
+   * and false in all other cases.
+   */
+  @Override
+  public boolean contains( Object pObject ) {
+    boolean lContains;
+    if (pObject instanceof Base36 && ((Base36) pObject).isLongValue() == true) {
+      lContains = this.contains(((Base36) pObject).toLong());
+    }
+    else {
+      lContains = false;
+    }
+    return lContains;
+  }
+
+  /**
+   * Method checks if this set contains the passed value.
+   *
+   * @param pValue Value that should be checked.
+   * @return boolean Method returns true if this set contains the passed value and false in all other cases.
+   */
+  public boolean contains( long pValue ) {
+    boolean lContains;
+    int lIndex = Arrays.binarySearch(keys, 0, containerCount, pValue >>> CONTAINER_BITS);
+    if (pValue >= 0 && lIndex >= 0) {
+      lContains = containers[lIndex].contains((int) pValue & LOW_MASK);
+    }
+    else {
+      lContains = false;
+    }
+    return lContains;
+  }
+
+  /**
+   * Method removes the passed object from this set.
+   *
+   * @param pObject Object that should be removed. The parameter may be null.
+   * @return boolean Method returns true if the set contained the passed object and false in all other cases.
+   */
+  @Override
+  public boolean remove( Object pObject ) {
+    boolean lRemoved;
+    if (pObject instanceof Base36 && ((Base36) pObject).isLongValue() == true) {
+      lRemoved = this.remove(((Base36) pObject).toLong());
+    }
+    else {
+      lRemoved = false;
+    }
+    return lRemoved;
+  }
+
+  /**
+   * Method removes the passed value from this set.
+   *
+   * @param pValue Value that should be removed.
+   * @return boolean Method returns true if the set contained the passed value and false in all other cases.
+   */
+  public boolean remove( long pValue ) {
+    boolean lRemoved;
+    int lIndex = Arrays.binarySearch(keys, 0, containerCount, pValue >>> CONTAINER_BITS);
+    if (pValue >= 0 && lIndex >= 0) {
+      Container lContainer = containers[lIndex];
+      lRemoved = lContainer.remove((int) pValue & LOW_MASK);
+      if (lRemoved == true) {
+        cardinality--;
+        if (lContainer.cardinality == 0) {
+          this.removeContainer(lIndex);
+        }
+      }
+    }
+    else {
+      lRemoved = false;
+    }
+    return lRemoved;
+  }
+
+  /**
+   * Method returns the number of values of this set. If the set contains more than {@link Integer#MAX_VALUE} values
+   * then {@link Integer#MAX_VALUE} is returned.
+   *
+   * @return int Number of values of this set.
+   */
+  @Override
+  public int size( ) {
+    return (int) Math.min(cardinality, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Method returns the number of values of this set.
+   *
+   * @return long Number of values of this set.
+   */
+  public long getCardinality( ) {
+    return cardinality;
+  }
+
+  /**
+   * Method checks if this set is empty.
+   *
+   * @return boolean Method returns true if this set does not contain any values and false in all other cases.
+   */
+  @Override
+  public boolean isEmpty( ) {
+    return cardinality == 0;
+  }
+
+  /**
+   * Method removes all values from this set.
+   */
+  @Override
+  public void clear( ) {
+    this.initialize(0);
+  }
+
+  /**
+   * Method returns a new set that contains all values that are contained in this set or the passed one.
+   *
+   * @param pOther Other set. The parameter must not be null.
+   * @return {@link Base36Set} Union of both sets. The numbers of the new set have the larger number of digits of both
+   * sets. The method never returns null.
+   */
+  public Base36Set union( Base36Set pOther ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pOther, "pOther");
+
+    Base36Set lResult = new Base36Set(Math.max(digits, pOther.digits));
+    lResult.ensureCapacity(containerCount + pOther.containerCount);
+    int i = 0;
+    int j = 0;
+    while (i < containerCount || j < pOther.containerCount) {
+      if (j == pOther.containerCount || (i < containerCount && keys[i] < pOther.keys[j])) {
+        lResult.appendContainer(keys[i], containers[i].copy());
+        i++;
+      }
+      else if (i == containerCount || pOther.keys[j] < keys[i]) {
+        lResult.appendContainer(pOther.keys[j], pOther.containers[j].copy());
+        j++;
+      }
+      else {
+        lResult.appendContainer(keys[i], containers[i].or(pOther.containers[j]));
+        i++;
+        j++;
+      }
+    }
+    return lResult;
+  }
+
+  /**
+   * Method returns a new set that contains all values that are contained in this set and the passed one.
+   *
+   * @param pOther Other set. The parameter must not be null.
+   * @return {@link Base36Set} Intersection of both sets with the number of digits of this set. The method never returns
+   * null.
+   */
+  public Base36Set intersection( Base36Set pOther ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pOther, "pOther");
+
+    Base36Set lResult = new Base36Set(digits);
+    int i = 0;
+    int j = 0;
+    while (i < containerCount && j < pOther.containerCount) {
+      if (keys[i] < pOther.keys[j]) {
+        i++;
+      }
+      else if (pOther.keys[j] < keys[i]) {
+        j++;
+      }
+      else {
+        lResult.appendContainer(keys[i], containers[i].and(pOther.containers[j]));
+        i++;
+        j++;
+      }
+    }
+    return lResult;
+  }
+
+  /**
+   * Method returns a new set that contains all values of this set that are not contained in the passed one.
+   *
+   * @param pOther Other set. The parameter must not be null.
+   * @return {@link Base36Set} Difference of both sets with the number of digits of this set. The method never returns
+   * null.
+   */
+  public Base36Set difference( Base36Set pOther ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pOther, "pOther");
+
+    Base36Set lResult = new Base36Set(digits);
+    lResult.ensureCapacity(containerCount);
+    int j = 0;
+    for (int i = 0; i < containerCount; i++) {
+      while (j < pOther.containerCount && pOther.keys[j] < keys[i]) {
+        j++;
+      }
+      if (j < pOther.containerCount && pOther.keys[j] == keys[i]) {
+        lResult.appendContainer(keys[i], containers[i].andNot(pOther.containers[j]));
+      }
+      else {
+        lResult.appendContainer(keys[i], containers[i].copy());
+      }
+    }
+    return lResult;
+  }
+
+  /**
+   * Method returns an iterator over all numbers of this set in ascending numerical order.
+   *
+   * @return {@link Iterator} Iterator over all numbers. The method never returns null.
+   */
+  @Override
+  public Iterator<Base36> iterator( ) {
+    final ValueIterator lValues = new ValueIterator();
+    return new Iterator<Base36>() {
+      @Override
+      public boolean hasNext( ) {
+        return lValues.hasNext();
+      }
+
+      @Override
+      public Base36 next( ) {
+        return new Base36(lValues.nextLong(), digits);
+      }
+
+      @Override
+      public void remove( ) {
+        lValues.remove();
+      }
+    };
+  }
+
+  /**
+   * Method returns an iterator over all values of this set in ascending order. In contrast to {@link #iterator()} no
+   * objects are created per value.
+   *
+   * @return {@link PrimitiveIterator.OfLong} Iterator over all values. The method never returns null.
+   */
+  public PrimitiveIterator.OfLong longIterator( ) {
+    return new ValueIterator();
+  }
+
+  /**
+   * Method writes this set in its compact binary form to the passed output. The set can be read again using
+   * {@link #readFrom(DataInput)}.
+   *
+   * @param pOutput Output to which the set should be written. The parameter must not be null.
+   * @throws IOException in case that the set could not be written.
+   */
+  public void writeTo( DataOutput pOutput ) throws IOException {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pOutput, "pOutput");
+
+    pOutput.writeInt(FORMAT_VERSION);
+    pOutput.writeInt(digits);
+    this.writeContainers(pOutput);
+  }
+
+  /**
+   * Method reads a set that was written using {@link #writeTo(DataOutput)}.
+   *
+   * @param pInput Input from which the set should be read. The parameter must not be null.
+   * @return {@link Base36Set} Read set. The method never returns null.
+   * @throws IOException in case that the set could not be read or the data are not a valid set.
+   */
+  public static Base36Set readFrom( DataInput pInput ) throws IOException {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pInput, "pInput");
+
+    int lVersion = pInput.readInt();
+    if (lVersion != FORMAT_VERSION) {
+      throw new IOException("Unsupported format version " + lVersion + " of base 36 set.");
+    }
+    int lDigits = pInput.readInt();
+    if (lDigits <= 0) {
+      throw new IOException("Invalid number of digits " + lDigits + " of base 36 set.");
+    }
+    Base36Set lSet = new Base36Set(lDigits);
+    lSet.readContainers(pInput);
+    return lSet;
+  }
+
+  /**
+   * Method writes all containers of this set to the passed output.
+   *
+   * @param pOutput Output to which the containers should be written.
+   * @throws IOException in case that the containers could not be written.
+   */
+  private void writeContainers( DataOutput pOutput ) throws IOException {
+    pOutput.writeInt(containerCount);
+    for (int i = 0; i < containerCount; i++) {
+      pOutput.writeLong(keys[i]);
+      containers[i].write(pOutput);
+    }
+  }
+
+  /**
+   * Method reads the containers of this set from the passed input.
+   *
+   * @param pInput Input from which the containers should be read.
+   * @throws IOException in case that the containers could not be read or are invalid.
+   */
+  private void readContainers( DataInput pInput ) throws IOException {
+    int lContainerCount = pInput.readInt();
+    if (lContainerCount < 0) {
+      throw new IOException("Invalid number of containers " + lContainerCount + " of base 36 set.");
+    }
+    this.initialize(Math.min(lContainerCount, MAX_INITIAL_READ_CAPACITY));
+    long lPreviousKey = -1;
+    for (int i = 0; i < lContainerCount; i++) {
+      long lKey = pInput.readLong();
+      if (lKey <= lPreviousKey || lKey > Long.MAX_VALUE >>> CONTAINER_BITS) {
+        throw new IOException("Invalid or unsorted container key " + lKey + " of base 36 set.");
+      }
+      Container lContainer = Container.read(pInput);
+      if (this.isValidValue((lKey << CONTAINER_BITS) | lContainer.getLast()) == false) {
+        throw new IOException("Base 36 set contains values that exceed its number of digits.");
+      }
+      this.appendContainer(lKey, lContainer);
+      lPreviousKey = lKey;
+    }
+  }
+
+  /**
+   * Method writes this set to the passed stream. The serialized form only consists of the containers.
+   *
+   * @param pStream Stream to which the object should be written. The parameter must not be null.
+   * @throws IOException in case that the object could not be written.
+   */
+  private void writeObject( ObjectOutputStream pStream ) throws IOException {
+    pStream.defaultWriteObject();
+    this.writeContainers(pStream);
+  }
+
+  /**
+   * Method reads this set from the passed stream.
+   *
+   * @param pStream Stream from which the object should be read. The parameter must not be null.
+   * @throws IOException in case that the object could not be read.
+   * @throws ClassNotFoundException in case that a class of the serialized object could not be found.
+   */
+  private void readObject( ObjectInputStream pStream ) throws IOException, ClassNotFoundException {
+    pStream.defaultReadObject();
+    if (digits <= 0) {
+      throw new InvalidObjectException("Invalid number of digits " + digits + " of base 36 set.");
+    }
+    this.readContainers(pStream);
+  }
+
+  /**
+   * Method checks if the passed value can be stored in this set.
+   *
+   * @param pValue Value that should be checked.
+   */
+  private void checkValue( long pValue ) {
+    if (this.isValidValue(pValue) == false) {
+      throw new IllegalArgumentException(
+          "Value " + pValue + " can not be represented as base 36 number with " + digits + " digits.");
+    }
+  }
+
+  /**
+   * Method checks if the passed value can be represented with the number of digits of this set.
+   *
+   * @param pValue Value that should be checked.
+   * @return boolean Method returns true if the value is valid and false in all other cases.
+   */
+  private boolean isValidValue( long pValue ) {
+    return pValue >= 0 && (digits > Base36.MAX_COMPACT_DIGITS || pValue < Base36.POWERS[digits]);
+  }
+
+  /**
+   * Method ensures that the passed number of containers can be stored without resizing the internal arrays.
+   *
+   * @param pCapacity Required number of containers.
+   */
+  private void ensureCapacity( int pCapacity ) {
+    if (pCapacity > keys.length) {
+      int lNewCapacity = Math.max(pCapacity, keys.length + (keys.length >> 1));
+      keys = Arrays.copyOf(keys, lNewCapacity);
+      containers = Arrays.copyOf(containers, lNewCapacity);
+    }
+  }
+
+  /**
+   * Method inserts the passed container at the passed index.
+   *
+   * @param pIndex Index at which the container should be inserted.
+   * @param pKey Key of the container.
+   * @param pContainer Container that should be inserted.
+   */
+  private void insertContainer( int pIndex, long pKey, Container pContainer ) {
+    this.ensureCapacity(containerCount + 1);
+    System.arraycopy(keys, pIndex, keys, pIndex + 1, containerCount - pIndex);
+    System.arraycopy(containers, pIndex, containers, pIndex + 1, containerCount - pIndex);
+    keys[pIndex] = pKey;
+    containers[pIndex] = pContainer;
+    containerCount++;
+  }
+
+  /**
+   * Method appends the passed container. The key of the container must be larger than all keys of this set.
+   *
+   * @param pKey Key of the container.
+   * @param pContainer Container that should be appended. The parameter may be null. In this case nothing happens.
+   */
+  private void appendContainer( long pKey, Container pContainer ) {
+    if (pContainer != null) {
+      this.ensureCapacity(containerCount + 1);
+      keys[containerCount] = pKey;
+      containers[containerCount] = pContainer;
+      containerCount++;
+      cardinality = cardinality + pContainer.cardinality;
+    }
+  }
+
+  /**
+   * Method removes the container at the passed index.
+   *
+   * @param pIndex Index of the container that should be removed.
+   */
+  private void removeContainer( int pIndex ) {
+    System.arraycopy(keys, pIndex + 1, keys, pIndex, containerCount - pIndex - 1);
+    System.arraycopy(containers, pIndex + 1, containers, pIndex, containerCount - pIndex - 1);
+    containerCount--;
+    containers[containerCount] = null;
+  }
+
+  /**
+   * Class implements the iteration over all values of the set.
+   */
+  private final class ValueIterator implements PrimitiveIterator.OfLong {
+    /**
+     * Index of the container of the next value.
+     */
+    private int containerIndex;
+
+    /**
+     * Position inside the container from which on the next value is searched.
+     */
+    private int position;
+
+    /**
+     * Next value or -1 if there are no more values.
+     */
+    private long nextValue;
+
+    /**
+     * Value that was returned last or -1 if there is none that could be removed.
+     */
+    private long lastValue = -1;
+
+    /**
+     * Initialize object.
+     */
+    ValueIterator( ) {
+      this.findNext();
+    }
+
+    /**
+     * Method searches the next value starting at the current position.
+     */
+    private void findNext( ) {
+      nextValue = -1;
+      while (nextValue < 0 && containerIndex < containerCount) {
+        Container lContainer = containers[containerIndex];
+        int lPosition = lContainer.next(position);
+        if (lPosition >= 0) {
+          nextValue = (keys[containerIndex] << CONTAINER_BITS) | lContainer.getLow(lPosition);
+          position = lPosition + 1;
+        }
+        else {
+          containerIndex++;
+          position = 0;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext( ) {
+      return nextValue >= 0;
+    }
+
+    @Override
+    public long nextLong( ) {
+      if (nextValue < 0) {
+        throw new NoSuchElementException("All values of the set were already returned.");
+      }
+      lastValue = nextValue;
+      this.findNext();
+      return lastValue;
+    }
+
+    @Override
+    public void remove( ) {
+      if (lastValue < 0) {
+        throw new IllegalStateException("There is no value that could be removed.");
+      }
+      Base36Set.this.remove(lastValue);
+
+      // Containers might have changed, so the position of the next value has to be searched again.
+      long lKey = lastValue >>> CONTAINER_BITS;
+      containerIndex = Arrays.binarySearch(keys, 0, containerCount, lKey);
+      if (containerIndex >= 0) {
+        position = containers[containerIndex].positionOf(((int) lastValue & LOW_MASK) + 1);
+      }
+      else {
+        containerIndex = -containerIndex - 1;
+        position = 0;
+      }
+      lastValue = -1;
+      this.findNext();
+    }
+  }
+
+  /**
+   * Class represents the lower 16 bits of all values with the same upper bits. Sparse containers store the values in a
+   * sorted array. Dense containers with more than {@link #ARRAY_MAX} values use a bitmap.
+   */
+  private static final class Container {
+    /**
+     * Maximum number of values of a container that uses a sorted array.
+     */
+    static final int ARRAY_MAX = 4096;
+
+    /**
+     * Number of words of the bitmap of a dense container.
+     */
+    static final int BITMAP_WORDS = (1 << CONTAINER_BITS) / Long.SIZE;
+
+    /**
+     * Number of values of this container.
+     */
+    private int cardinality;
+
+    /**
+     * Sorted values of a sparse container. The reference is null for dense containers.
+     */
+    private char[] array;
+
+    /**
+     * Bitmap of a dense container. The reference is null for sparse containers.
+     */
+    private long[] bitmap;
+
+    /**
+     * Initialize empty sparse container.
+     */
+    Container( ) {
+      array = new char[4];
+    }
+
+    /**
+     * Initialize sparse container.
+     *
+     * @param pArray Sorted values. The array will not be copied.
+     * @param pCardinality Number of values of the array.
+     */
+    Container( char[] pArray, int pCardinality ) {
+      array = pArray;
+      cardinality = pCardinality;
+    }
+
+    /**
+     * Initialize dense container.
+     *
+     * @param pBitmap Bitmap with the values. The array will not be copied.
+     * @param pCardinality Number of bits that are set.
+     */
+    Container( long[] pBitmap, int pCardinality ) {
+      bitmap = pBitmap;
+      cardinality = pCardinality;
+    }
+
+    /**
+     * Method creates the most compact container for the passed bitmap.
+     *
+     * @param pBitmap Bitmap with the values. The array may be used by the new container.
+     * @return {@link Container} Container with the values of the bitmap or null if no bit is set.
+     */
+    static Container of( long[] pBitmap ) {
+      int lCardinality = 0;
+      for (long lWord : pBitmap) {
+        lCardinality = lCardinality + Long.bitCount(lWord);
+      }
+      Container lContainer;
+      if (lCardinality == 0) {
+        lContainer = null;
+      }
+      else if (lCardinality <= ARRAY_MAX) {
+        lContainer = new Container(Container.toArray(pBitmap, lCardinality), lCardinality);
+      }
+      else {
+        lContainer = new Container(pBitmap, lCardinality);
+      }
+      return lContainer;
+    }
+
+    /**
+     * Method converts the passed bitmap into a sorted array.
+     *
+     * @param pBitmap Bitmap that should be converted.
+     * @param pCardinality Number of bits that are set.
+     * @return char[] Sorted array with all values of the bitmap.
+     */
+    private static char[] toArray( long[] pBitmap, int pCardinality ) {
+      char[] lArray = new char[pCardinality];
+      int lIndex = 0;
+      for (int lWord = 0; lWord < pBitmap.length; lWord++) {
+        long lBits = pBitmap[lWord];
+        while (lBits != 0) {
+          lArray[lIndex++] = (char) (lWord * Long.SIZE + Long.numberOfTrailingZeros(lBits));
+          lBits = lBits & (lBits - 1);
+        }
+      }
+      return lArray;
+    }
+
+    /**
+     * Method sets or clears all bits of the passed range.
+     *
+     * @param pBitmap Bitmap that should be changed.
+     * @param pFrom First bit of the range (inclusive).
+     * @param pTo Last bit of the range (exclusive).
+     * @param pSet Parameter defines whether the bits should be set or cleared.
+     */
+    static void setBits( long[] pBitmap, int pFrom, int pTo, boolean pSet ) {
+      for (int lWord = pFrom / Long.SIZE; lWord <= (pTo - 1) / Long.SIZE; lWord++) {
+        long lMask = -1L;
+        if (lWord == pFrom / Long.SIZE) {
+          lMask = lMask & (-1L << pFrom);
+        }
+        if (lWord == (pTo - 1) / Long.SIZE) {
+          lMask = lMask & (-1L >>> (Long.SIZE - 1 - ((pTo - 1) % Long.SIZE)));
+        }
+        if (pSet == true) {
+          pBitmap[lWord] = pBitmap[lWord] | lMask;
+        }
+        else {
+          pBitmap[lWord] = pBitmap[lWord] & ~lMask;
+        }
+      }
+    }
+
+    /**
+     * Method checks if this container contains the passed value.
+     *
+     * @param pLow Lower bits of the value.
+     * @return boolean Method returns true if the value is contained and false otherwise.
+     */
+    boolean contains( int pLow ) {
+      boolean lContains;
+      if (array != null) {
+        lContains = Arrays.binarySearch(array, 0, cardinality, (char) pLow) >= 0;
+      }
+      else {
+        lContains = (bitmap[pLow >>> 6] & (1L << pLow)) != 0;
+      }
+      return lContains;
+    }
+
+    /**
+     * Method adds the passed value to this container. Sparse containers are converted into dense ones when they exceed
+     * {@link #ARRAY_MAX} values.
+     *
+     * @param pLow Lower bits of the value.
+     * @return boolean Method returns true if the value was added and false if it was already contained.
+     */
+    boolean add( int pLow ) {
+      boolean lAdded;
+      if (array != null) {
+        int lIndex = Arrays.binarySearch(array, 0, cardinality, (char) pLow);
+        if (lIndex >= 0) {
+          lAdded = false;
+        }
+        else if (cardinality < ARRAY_MAX) {
+          lIndex = -lIndex - 1;
+          if (cardinality == array.length) {
+            array = Arrays.copyOf(array, Math.min(ARRAY_MAX, cardinality * 2));
+          }
+          System.arraycopy(array, lIndex, array, lIndex + 1, cardinality - lIndex);
+          array[lIndex] = (char) pLow;
+          cardinality++;
+          lAdded = true;
+        }
+        else {
+          bitmap = this.toBitmap();
+          array = null;
+          lAdded = this.add(pLow);
+        }
+      }
+      else {
+        long lWord = bitmap[pLow >>> 6];
+        long lNewWord = lWord | (1L << pLow);
+        bitmap[pLow >>> 6] = lNewWord;
+        lAdded = lWord != lNewWord;
+        if (lAdded == true) {
+          cardinality++;
+        }
+      }
+      return lAdded;
+    }
+
+    /**
+     * Method removes the passed value from this container. Dense containers are converted into sparse ones if they
+     * only contain {@link #ARRAY_MAX} values any longer.
+     *
+     * @param pLow Lower bits of the value.
+     * @return boolean Method returns true if the value was removed and false if it was not contained.
+     */
+    boolean remove( int pLow ) {
+      boolean lRemoved;
+      if (array != null) {
+        int lIndex = Arrays.binarySearch(array, 0, cardinality, (char) pLow);
+        lRemoved = lIndex >= 0;
+        if (lRemoved == true) {
+          System.arraycopy(array, lIndex + 1, array, lIndex, cardinality - lIndex - 1);
+          cardinality--;
+        }
+      }
+      else {
+        long lWord = bitmap[pLow >>> 6];
+        long lNewWord = lWord & ~(1L << pLow);
+        bitmap[pLow >>> 6] = lNewWord;
+        lRemoved = lWord != lNewWord;
+        if (lRemoved == true) {
+          cardinality--;
+          if (cardinality <= ARRAY_MAX) {
+            array = Container.toArray(bitmap, cardinality);
+            bitmap = null;
+          }
+        }
+      }
+      return lRemoved;
+    }
+
+    /**
+     * Method returns the values of this container as bitmap.
+     *
+     * @return long[] New bitmap with all values of this container.
+     */
+    long[] toBitmap( ) {
+      long[] lBitmap;
+      if (array != null) {
+        lBitmap = new long[BITMAP_WORDS];
+        for (int i = 0; i < cardinality; i++) {
+          lBitmap[array[i] >>> 6] |= 1L << array[i];
+        }
+      }
+      else {
+        lBitmap = bitmap.clone();
+      }
+      return lBitmap;
+    }
+
+    /**
+     * Method returns a copy of this container.
+     *
+     * @return {@link Container} Copy of this container.
+     */
+    Container copy( ) {
+      Container lCopy;
+      if (array != null) {
+        lCopy = new Container(Arrays.copyOf(array, cardinality), cardinality);
+      }
+      else {
+        lCopy = new Container(bitmap.clone(), cardinality);
+      }
+      return lCopy;
+    }
+
+    /**
+     * Method returns a new container with all values of this and the passed container.
+     *
+     * @param pOther Other container.
+     * @return {@link Container} Union of both containers.
+     */
+    Container or( Container pOther ) {
+      Container lResult;
+      if (array != null && pOther.array != null && cardinality + pOther.cardinality <= ARRAY_MAX) {
+        // Merge both sorted arrays.
+        char[] lArray = new char[cardinality + pOther.cardinality];
+        int i = 0;
+        int j = 0;
+        int lCount = 0;
+        while (i < cardinality || j < pOther.cardinality) {
+          if (j == pOther.cardinality || (i < cardinality && array[i] < pOther.array[j])) {
+            lArray[lCount++] = array[i++];
+          }
+          else if (i == cardinality || pOther.array[j] < array[i]) {
+            lArray[lCount++] = pOther.array[j++];
+          }
+          else {
+            lArray[lCount++] = array[i++];
+            j++;
+          }
+        }
+        lResult = new Container(lArray, lCount);
+      }
+      else {
+        long[] lBitmap = this.toBitmap();
+        if (pOther.array != null) {
+          for (int i = 0; i < pOther.cardinality; i++) {
+            lBitmap[pOther.array[i] >>> 6] |= 1L << pOther.array[i];
+          }
+        }
+        else {
+          for (int i = 0; i < BITMAP_WORDS; i++) {
+            lBitmap[i] = lBitmap[i] | pOther.bitmap[i];
+          }
+        }
+        lResult = Container.of(lBitmap);
+      }
+      return lResult;
+    }
+
+    /**
+     * Method returns a new container with all values that are contained in this and the passed container.
+     *
+     * @param pOther Other container.
+     * @return {@link Container} Intersection of both containers or null if it is empty.
+     */
+    Container and( Container pOther ) {
+      Container lResult;
+      if (array != null) {
+        lResult = this.filter(pOther, true);
+      }
+      else if (pOther.array != null) {
+        lResult = pOther.filter(this, true);
+      }
+      else {
+        long[] lBitmap = new long[BITMAP_WORDS];
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          lBitmap[i] = bitmap[i] & pOther.bitmap[i];
+        }
+        lResult = Container.of(lBitmap);
+      }
+      return lResult;
+    }
+
+    /**
+     * Method returns a new container with all values of this container that are not contained in the passed one.
+     *
+     * @param pOther Other container.
+     * @return {@link Container} Difference of both containers or null if it is empty.
+     */
+    Container andNot( Container pOther ) {
+      Container lResult;
+      if (array != null) {
+        lResult = this.filter(pOther, false);
+      }
+      else {
+        long[] lBitmap = bitmap.clone();
+        if (pOther.array != null) {
+          for (int i = 0; i < pOther.cardinality; i++) {
+            lBitmap[pOther.array[i] >>> 6] &= ~(1L << pOther.array[i]);
+          }
+        }
+        else {
+          for (int i = 0; i < BITMAP_WORDS; i++) {
+            lBitmap[i] = lBitmap[i] & ~pOther.bitmap[i];
+          }
+        }
+        lResult = Container.of(lBitmap);
+      }
+      return lResult;
+    }
+
+    /**
+     * Method returns a new sparse container with all values of this sparse container that are contained or not
+     * contained in the passed container.
+     *
+     * @param pOther Other container.
+     * @param pContained Parameter defines whether contained or not contained values should be kept.
+     * @return {@link Container} Filtered container or null if it is empty.
+     */
+    private Container filter( Container pOther, boolean pContained ) {
+      char[] lArray = new char[cardinality];
+      int lCount = 0;
+      for (int i = 0; i < cardinality; i++) {
+        if (pOther.contains(array[i]) == pContained) {
+          lArray[lCount++] = array[i];
+        }
+      }
+      Container lResult;
+      if (lCount > 0) {
+        lResult = new Container(lArray, lCount);
+      }
+      else {
+        lResult = null;
+      }
+      return lResult;
+    }
+
+    /**
+     * Method returns the position of the first value that is equal to or greater than the passed position.
+     *
+     * @param pPosition Position from which on the next value should be searched.
+     * @return int Position of the next value or -1 if there are no more values.
+     */
+    int next( int pPosition ) {
+      int lPosition = -1;
+      if (array != null) {
+        if (pPosition < cardinality) {
+          lPosition = pPosition;
+        }
+      }
+      else {
+        int lWord = pPosition >>> 6;
+        if (lWord < BITMAP_WORDS) {
+          long lBits = bitmap[lWord] & (-1L << pPosition);
+          while (lBits == 0 && lWord < BITMAP_WORDS - 1) {
+            lWord++;
+            lBits = bitmap[lWord];
+          }
+          if (lBits != 0) {
+            lPosition = lWord * Long.SIZE + Long.numberOfTrailingZeros(lBits);
+          }
+        }
+      }
+      return lPosition;
+    }
+
+    /**
+     * Method returns the lower bits of the value at the passed position.
+     *
+     * @param pPosition Position of the value.
+     * @return int Lower bits of the value.
+     */
+    int getLow( int pPosition ) {
+      int lLow;
+      if (array != null) {
+        lLow = array[pPosition];
+      }
+      else {
+        lLow = pPosition;
+      }
+      return lLow;
+    }
+
+    /**
+     * Method returns the position from which on values that are equal to or greater than the passed value are stored.
+     *
+     * @param pLow Lower bits of the value.
+     * @return int Position of the passed value.
+     */
+    int positionOf( int pLow ) {
+      int lPosition;
+      if (array != null) {
+        lPosition = Arrays.binarySearch(array, 0, cardinality, (char) Math.min(pLow, LOW_MASK));
+        if (lPosition < 0) {
+          lPosition = -lPosition - 1;
+        }
+        else if (pLow > LOW_MASK) {
+          lPosition = cardinality;
+        }
+      }
+      else {
+        lPosition = pLow;
+      }
+      return lPosition;
+    }
+
+    /**
+     * Method returns the lower bits of the largest value of this container.
+     *
+     * @return int Lower bits of the largest value.
+     */
+    int getLast( ) {
+      int lLast;
+      if (array != null) {
+        lLast = array[cardinality - 1];
+      }
+      else {
+        int lWord = BITMAP_WORDS - 1;
+        while (bitmap[lWord] == 0) {
+          lWord--;
+        }
+        lLast = lWord * Long.SIZE + Long.SIZE - 1 - Long.numberOfLeadingZeros(bitmap[lWord]);
+      }
+      return lLast;
+    }
+
+    /**
+     * Method writes this container to the passed output. Sparse containers are written as sorted values with 2 bytes
+     * each and dense ones as bitmap.
+     *
+     * @param pOutput Output to which the container should be written.
+     * @throws IOException in case that the container could not be written.
+     */
+    void write( DataOutput pOutput ) throws IOException {
+      pOutput.writeInt(cardinality);
+      if (array != null) {
+        for (int i = 0; i < cardinality; i++) {
+          pOutput.writeChar(array[i]);
+        }
+      }
+      else {
+        for (long lWord : bitmap) {
+          pOutput.writeLong(lWord);
+        }
+      }
+    }
+
+    /**
+     * Method reads a container from the passed input.
+     *
+     * @param pInput Input from which the container should be read.
+     * @return {@link Container} Read container. The method never returns null.
+     * @throws IOException in case that the container could not be read or is invalid.
+     */
+    static Container read( DataInput pInput ) throws IOException {
+      int lCardinality = pInput.readInt();
+      if (lCardinality <= 0 || lCardinality > 1 << CONTAINER_BITS) {
+        throw new IOException("Invalid number of values " + lCardinality + " of a container of a base 36 set.");
+      }
+      Container lContainer;
+      if (lCardinality <= ARRAY_MAX) {
+        char[] lArray = new char[lCardinality];
+        for (int i = 0; i < lCardinality; i++) {
+          lArray[i] = pInput.readChar();
+          if (i > 0 && lArray[i] <= lArray[i - 1]) {
+            throw new IOException("Values of a container of a base 36 set are not sorted.");
+          }
+        }
+        lContainer = new Container(lArray, lCardinality);
+      }
+      else {
+        long[] lBitmap = new long[BITMAP_WORDS];
+        int lBitCount = 0;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          lBitmap[i] = pInput.readLong();
+          lBitCount = lBitCount + Long.bitCount(lBitmap[i]);
+        }
+        if (lBitCount != lCardinality) {
+          throw new IOException("Bitmap of a container of a base 36 set does not match to its number of values.");
+        }
+        lContainer = new Container(lBitmap, lCardinality);
+      }
+      return lContainer;
+    }
+  }
+}
@@ -0,0 +1,404 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class provides sorting of large amounts of base 36 numbers. Instead of comparing the numbers with each other they are
+ * sorted by an LSD radix sort over the bytes of their numerical values. Only as many passes are executed as bytes are
+ * required to represent the largest value and passes in which all values have the same byte are skipped.
+ *
+ * Base 36 numbers are sorted by their numerical value (same order as {@link Base36#compareTo(Base36)}). Sorting is
+ * stable, i.e. numbers with the same value but a different number of digits keep their relative order. Arrays or lists
+ * that contain numbers whose value exceeds {@link Long#MAX_VALUE} are sorted with {@link Arrays#sort(Object[])}
+ * instead.
+ *
+ * For very large inputs the parallel variants split the values by their highest byte in parallel and then sort every
+ * bucket concurrently using the common {@link ForkJoinPool}.
+ *
+ * @author JEAF Development Team
+ */
+public final class Base36Sorter {
+  /**
+   * Number of values up to which the parallel variants sort sequentially.
+   */
+  static final int PARALLEL_THRESHOLD = 1 << 16;
+
+  /**
+   * Number of buckets of one radix pass (one byte).
+   */
+  private static final int RADIX = 1 << Byte.SIZE;
+
+  /**
+   * Mask to extract one byte.
+   */
+  private static final int MASK = RADIX - 1;
+
+  /**
+   * Class only provides static methods.
+   */
+  private Base36Sorter( ) {
+  }
+
+  /**
+   * Method sorts the passed numerical values of base 36 numbers into ascending order.
+   *
+   * @param pValues Values that should be sorted. The parameter must not be null and must not contain negative values.
+   */
+  public static void sort( long[] pValues ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValues, "pValues");
+
+    Base36Sorter.sort(pValues, 0, pValues.length);
+  }
+
+  /**
+   * Method sorts the passed range of numerical values of base 36 numbers into ascending order.
+   *
+   * @param pValues Values that should be sorted. The parameter must not be null and the range must not contain negative
+   * values.
+   * @param pFromIndex Index of the first value that should be sorted (inclusive).
+   * @param pToIndex Index of the last value that should be sorted (exclusive).
+   */
+  public static void sort( long[] pValues, int pFromIndex, int pToIndex ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pValues, "pValues");
+    if (pFromIndex < 0 || pFromIndex > pToIndex || pToIndex > pValues.length) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + pFromIndex + ", " + pToIndex + ") is out of bounds for length " + pValues.length);
+    }
+
+    int lBytes = Base36Sorter.getRequiredBytes(pValues, pFromIndex, pToIndex);
+    Base36Sorter.radixSort(pValues, null, new long[pToIndex - pFromIndex], null, pFromIndex, pToIndex, 0, lBytes);
+  }
+
+  /**
+   * Method sorts the passed numerical values of base 36 numbers into ascending order. Large arrays are sorted
+   * concurrently.
+   *
+   * @param pValues Values that should be sorted. The parameter must not be null and must not contain negative values.
+   */
+  public static void parallelSort( long[] pValues ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValues, "pValues");
+
+    int lBytes = Base36Sorter.getRequiredBytes(pValues, 0, pValues.length);
+    Base36Sorter.parallelRadixSort(pValues, null, lBytes);
+  }
+
+  /**
+   * Method sorts the passed base 36 numbers into ascending order.
+   *
+   * @param pValues Numbers that should be sorted. The parameter must not be null and must not contain null elements.
+   */
+  public static void sort( Base36[] pValues ) {
+    Base36Sorter.sort(pValues, false);
+  }
+
+  /**
+   * Method sorts the passed base 36 numbers into ascending order. Large arrays are sorted concurrently.
+   *
+   * @param pValues Numbers that should be sorted. The parameter must not be null and must not contain null elements.
+   */
+  public static void parallelSort( Base36[] pValues ) {
+    Base36Sorter.sort(pValues, true);
+  }
+
+  /**
+   * Method sorts the passed list of base 36 numbers into ascending order.
+   *
+   * @param pValues List that should be sorted. The parameter must not be null and must not contain null elements. The
+   * list must be modifiable.
+   */
+  public static void sort( List<Base36> pValues ) {
+    Base36Sorter.sort(pValues, false);
+  }
+
+  /**
+   * Method sorts the passed list of base 36 numbers into ascending order. Large lists are sorted concurrently.
+   *
+   * @param pValues List that should be sorted. The parameter must not be null and must not contain null elements. The
+   * list must be modifiable.
+   */
+  public static void parallelSort( List<Base36> pValues ) {
+    Base36Sorter.sort(pValues, true);
+  }
+
+  /**
+   * Method sorts the passed list of base 36 numbers.
+   *
+   * @param pValues List that should be sorted. The parameter must not be null.
+   * @param pParallel Parameter defines whether large lists should be sorted concurrently.
+   */
+  private static void sort( List<Base36> pValues, boolean pParallel ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValues, "pValues");
+
+    Base36[] lValues = pValues.toArray(new Base36[pValues.size()]);
+    Base36Sorter.sort(lValues, pParallel);
+    ListIterator<Base36> lIterator = pValues.listIterator();
+    for (Base36 lNext : lValues) {
+      lIterator.next();
+      lIterator.set(lNext);
+    }
+  }
+
+  /**
+   * Method sorts the passed base 36 numbers by their numerical values. Therefore the numerical values are sorted
+   * together with the original positions of the numbers and afterwards the numbers are rearranged accordingly.
+   *
+   * @param pValues Numbers that should be sorted. The parameter must not be null.
+   * @param pParallel Parameter defines whether large arrays should be sorted concurrently.
+   */
+  private static void sort( Base36[] pValues, boolean pParallel ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValues, "pValues");
+
+    final int lLength = pValues.length;
+    long[] lKeys = new long[lLength];
+    long lMaxKey = 0;
+    boolean lLongValues = true;
+    for (int i = 0; i < lLength; i++) {
+      Base36 lValue = pValues[i];
+      Check.checkInvalidParameterNull(lValue, "pValues[" + i + "]");
+      if (lValue.isLongValue() == true) {
+        lKeys[i] = lValue.toLong();
+        lMaxKey = lMaxKey | lKeys[i];
+      }
+      else {
+        lLongValues = false;
+      }
+    }
+
+    // Numbers whose value does not fit into a long can only be sorted by comparing them.
+    if (lLongValues == false) {
+      if (pParallel == true) {
+        Arrays.parallelSort(pValues);
+      }
+      else {
+        Arrays.sort(pValues);
+      }
+    }
+    else {
+      int[] lIndices = new int[lLength];
+      for (int i = 0; i < lLength; i++) {
+        lIndices[i] = i;
+      }
+      int lBytes = Base36Sorter.getRequiredBytes(lMaxKey);
+      if (pParallel == true) {
+        Base36Sorter.parallelRadixSort(lKeys, lIndices, lBytes);
+      }
+      else {
+        Base36Sorter.radixSort(lKeys, lIndices, new long[lLength], new int[lLength], 0, lLength, 0, lBytes);
+      }
+      Base36[] lOriginalOrder = pValues.clone();
+      for (int i = 0; i < lLength; i++) {
+        pValues[i] = lOriginalOrder[lIndices[i]];
+      }
+    }
+  }
+
+  /**
+   * Method returns the number of bytes that are required to represent the largest of the passed values.
+   *
+   * @param pValues Values that should be checked.
+   * @param pFromIndex Index of the first value (inclusive).
+   * @param pToIndex Index of the last value (exclusive).
+   * @return int Number of required bytes. If all values are 0 then 0 is returned.
+   */
+  private static int getRequiredBytes( long[] pValues, int pFromIndex, int pToIndex ) {
+    long lAllBits = 0;
+    for (int i = pFromIndex; i < pToIndex; i++) {
+      lAllBits = lAllBits | pValues[i];
+    }
+    if (lAllBits < 0) {
+      throw new IllegalArgumentException("Negative values can not be sorted as base 36 numbers.");
+    }
+    return Base36Sorter.getRequiredBytes(lAllBits);
+  }
+
+  /**
+   * Method returns the number of bytes that are required to represent the passed value.
+   *
+   * @param pValue Value whose size should be calculated. The value must not be negative.
+   * @return int Number of required bytes.
+   */
+  private static int getRequiredBytes( long pValue ) {
+    return (Long.SIZE - Long.numberOfLeadingZeros(pValue) + Byte.SIZE - 1) / Byte.SIZE;
+  }
+
+  /**
+   * Method sorts the passed range of keys with an LSD radix sort. If indices are passed they are moved together with
+   * their keys. After the method returns the sorted keys are stored in the passed key array again.
+   *
+   * @param pKeys Keys that should be sorted.
+   * @param pIndices Indices that belong to the keys or null if only the keys should be sorted.
+   * @param pKeyBuffer Buffer for the keys. Starting at pBufferFromIndex it must provide space for the whole range.
+   * @param pIndexBuffer Buffer for the indices or null if no indices are passed.
+   * @param pFromIndex Index of the first key (inclusive).
+   * @param pToIndex Index of the last key (exclusive).
+   * @param pBufferFromIndex Index of both buffers that corresponds to pFromIndex.
+   * @param pBytes Number of lowest bytes by which the keys should be sorted.
+   */
+  private static void radixSort( long[] pKeys, int[] pIndices, long[] pKeyBuffer, int[] pIndexBuffer, int pFromIndex,
+      int pToIndex, int pBufferFromIndex, int pBytes ) {
+
+    final int lLength = pToIndex - pFromIndex;
+    if (lLength > 1 && pBytes > 0) {
+      // Build histograms for all bytes with a single pass over the keys.
+      int[][] lCounts = new int[pBytes][RADIX];
+      for (int i = pFromIndex; i < pToIndex; i++) {
+        long lKey = pKeys[i];
+        for (int lByte = 0; lByte < pBytes; lByte++) {
+          lCounts[lByte][(int) (lKey >>> (lByte * Byte.SIZE)) & MASK]++;
+        }
+      }
+
+      long[] lSourceKeys = pKeys;
+      int[] lSourceIndices = pIndices;
+      int lSourceFrom = pFromIndex;
+      long[] lTargetKeys = pKeyBuffer;
+      int[] lTargetIndices = pIndexBuffer;
+      int lTargetFrom = pBufferFromIndex;
+      for (int lByte = 0; lByte < pBytes; lByte++) {
+        final int lShift = lByte * Byte.SIZE;
+        int[] lOffsets = lCounts[lByte];
+
+        // All keys have the same value for this byte, so the pass would not change anything.
+        if (lOffsets[(int) (lSourceKeys[lSourceFrom] >>> lShift) & MASK] == lLength) {
+          continue;
+        }
+        int lOffset = lTargetFrom;
+        for (int lBucket = 0; lBucket < RADIX; lBucket++) {
+          int lCount = lOffsets[lBucket];
+          lOffsets[lBucket] = lOffset;
+          lOffset = lOffset + lCount;
+        }
+        final int lSourceTo = lSourceFrom + lLength;
+        if (lSourceIndices == null) {
+          for (int i = lSourceFrom; i < lSourceTo; i++) {
+            long lKey = lSourceKeys[i];
+            lTargetKeys[lOffsets[(int) (lKey >>> lShift) & MASK]++] = lKey;
+          }
+        }
+        else {
+          for (int i = lSourceFrom; i < lSourceTo; i++) {
+            long lKey = lSourceKeys[i];
+            int lPosition = lOffsets[(int) (lKey >>> lShift) & MASK]++;
+            lTargetKeys[lPosition] = lKey;
+            lTargetIndices[lPosition] = lSourceIndices[i];
+          }
+        }
+
+        // Swap source and target for the next pass.
+        long[] lKeys = lSourceKeys;
+        lSourceKeys = lTargetKeys;
+        lTargetKeys = lKeys;
+        int[] lIndices = lSourceIndices;
+        lSourceIndices = lTargetIndices;
+        lTargetIndices = lIndices;
+        int lFrom = lSourceFrom;
+        lSourceFrom = lTargetFrom;
+        lTargetFrom = lFrom;
+      }
+
+      // Result has to be stored in the passed arrays.
+      if (lSourceKeys != pKeys) {
+        System.arraycopy(lSourceKeys, lSourceFrom, pKeys, pFromIndex, lLength);
+        if (pIndices != null) {
+          System.arraycopy(lSourceIndices, lSourceFrom, pIndices, pFromIndex, lLength);
+        }
+      }
+    }
+  }
+
+  /**
+   * Method sorts the passed keys concurrently. Therefore the keys are distributed by their highest byte into buckets
+   * in parallel. Afterwards all buckets are sorted concurrently by the remaining bytes.
+   *
+   * @param pKeys Keys that should be sorted.
+   * @param pIndices Indices that belong to the keys or null if only the keys should be sorted.
+   * @param pBytes Number of bytes that are required to represent the largest key.
+   */
+  private static void parallelRadixSort( long[] pKeys, int[] pIndices, int pBytes ) {
+    final int lLength = pKeys.length;
+    long[] lKeyBuffer = new long[lLength];
+    int[] lIndexBuffer;
+    if (pIndices != null) {
+      lIndexBuffer = new int[lLength];
+    }
+    else {
+      lIndexBuffer = null;
+    }
+
+    // Small inputs or inputs with only one byte are sorted sequentially.
+    if (lLength <= PARALLEL_THRESHOLD || pBytes <= 1) {
+      Base36Sorter.radixSort(pKeys, pIndices, lKeyBuffer, lIndexBuffer, 0, lLength, 0, pBytes);
+    }
+    else {
+      final int lRemainingBytes = pBytes - 1;
+      final int lShift = lRemainingBytes * Byte.SIZE;
+      final int lChunks = Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, lLength / (PARALLEL_THRESHOLD / 4));
+      final int lChunkSize = (lLength + lChunks - 1) / lChunks;
+
+      // Count highest byte per chunk.
+      final int[][] lOffsets = new int[lChunks][RADIX];
+      IntStream.range(0, lChunks).parallel().forEach(lChunk -> {
+        int[] lCounts = lOffsets[lChunk];
+        int lEnd = Math.min(lLength, (lChunk + 1) * lChunkSize);
+        for (int i = lChunk * lChunkSize; i < lEnd; i++) {
+          lCounts[(int) (pKeys[i] >>> lShift) & MASK]++;
+        }
+      });
+
+      // Calculate the position of every bucket and the position of every chunk inside its bucket.
+      final int[] lBucketStarts = new int[RADIX + 1];
+      int lOffset = 0;
+      for (int lBucket = 0; lBucket < RADIX; lBucket++) {
+        lBucketStarts[lBucket] = lOffset;
+        for (int lChunk = 0; lChunk < lChunks; lChunk++) {
+          int lCount = lOffsets[lChunk][lBucket];
+          lOffsets[lChunk][lBucket] = lOffset;
+          lOffset = lOffset + lCount;
+        }
+      }
+      lBucketStarts[RADIX] = lLength;
+
+      // Distribute keys into buckets. Every chunk writes to its own positions.
+      IntStream.range(0, lChunks).parallel().forEach(lChunk -> {
+        int[] lPositions = lOffsets[lChunk];
+        int lEnd = Math.min(lLength, (lChunk + 1) * lChunkSize);
+        for (int i = lChunk * lChunkSize; i < lEnd; i++) {
+          int lPosition = lPositions[(int) (pKeys[i] >>> lShift) & MASK]++;
+          lKeyBuffer[lPosition] = pKeys[i];
+          if (pIndices != null) {
+            lIndexBuffer[lPosition] = pIndices[i];
+          }
+        }
+      });
+
+      // Sort buckets by the remaining bytes and copy them back.
+      IntStream.range(0, RADIX).parallel().forEach(lBucket -> {
+        int lFrom = lBucketStarts[lBucket];
+        int lTo = lBucketStarts[lBucket + 1];
+        if (lTo > lFrom) {
+          Base36Sorter.radixSort(lKeyBuffer, lIndexBuffer, pKeys, pIndices, lFrom, lTo, lFrom, lRemainingBytes);
+          System.arraycopy(lKeyBuffer, lFrom, pKeys, lFrom, lTo - lFrom);
+          if (pIndices != null) {
+            System.arraycopy(lIndexBuffer, lFrom, pIndices, lFrom, lTo - lFrom);
+          }
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,332 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.util.Locale;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import com.anaptecs.jeaf.xfun.api.errorhandling.ErrorCode;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+/**
+ * Class implements a base 36 number whose value can be changed in place. It is intended as accumulator in loops that
+ * walk through ranges of base 36 numbers or calculate offsets. In contrast to {@link Base36} no new object is created
+ * for every step. Once the calculation is done an immutable {@link Base36} can be created using {@link #freeze()}.
+ *
+ * Like {@link Base36} the number has a fixed number of digits. If the result of an operation does not fit into these
+ * digits or would be negative an exception with error code {@link XFunMessages#MAX_BASE36_VALUE_EXCEEDED} is thrown
+ * and the value of the accumulator remains unchanged.
+ *
+ * Objects of this class are not thread safe.
+ *
+ * @author JEAF Development Team
+ */
+public final class MutableBase36 {
+  /**
+   * Number of digits of this number.
+   */
+  private final int digits;
+
+  /**
+   * Numerical value of this number as limbs with {@link Base36#MAX_COMPACT_DIGITS} digits each, lowest limb first.
+   */
+  private final long[] limbs;
+
+  /**
+   * Exclusive upper bound of the highest limb.
+   */
+  private final long highestLimbBound;
+
+  /**
+   * Initialize accumulator with value 0.
+   *
+   * @param pDigits Number of digits of the accumulator. The parameter must be greater than zero.
+   */
+  public MutableBase36( int pDigits ) {
+    // Check parameter.
+    if (pDigits <= 0) {
+      throw new IllegalArgumentException("Parameter 'pDigits' must be greater than zero but is " + pDigits + ".");
+    }
+    digits = pDigits;
+    limbs = new long[Base36.getLimbCount(pDigits)];
+    highestLimbBound = Base36.POWERS[pDigits - (limbs.length - 1) * Base36.MAX_COMPACT_DIGITS];
+  }
+
+  /**
+   * Initialize accumulator with the value and the number of digits of the passed base 36 number.
+   *
+   * @param pValue Initial value of the accumulator. The parameter must not be null.
+   */
+  public MutableBase36( Base36 pValue ) {
+    this(pValue.getMaxLength());
+    this.set(pValue);
+  }
+
+  /**
+   * Method returns the number of digits of this number.
+   *
+   * @return int Number of digits of this number.
+   */
+  public int getMaxLength( ) {
+    return digits;
+  }
+
+  /**
+   * Method sets the value of this accumulator.
+   *
+   * @param pValue New value of this accumulator. The parameter must not be null and must not have more digits than this
+   * accumulator.
+   * @return {@link MutableBase36} This object. The method never returns null.
+   */
+  public MutableBase36 set( Base36 pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+    if (pValue.getMaxLength() > digits) {
+      throw new IllegalArgumentException("Base 36 number " + pValue + " has more than " + digits + " digits.");
+    }
+
+    for (int i = 0; i < limbs.length; i++) {
+      limbs[i] = pValue.getLimb(i);
+    }
+    return this;
+  }
+
+  /**
+   * Method sets the value of this accumulator.
+   *
+   * @param pValue New value of this accumulator. The parameter must not be negative and has to fit into the number of
+   * digits of this accumulator.
+   * @return {@link MutableBase36} This object. The method never returns null.
+   */
+  public MutableBase36 set( long pValue ) {
+    // Check parameter.
+    if (pValue < 0) {
+      throw new IllegalArgumentException("Parameter 'pValue' must be zero or greater but is " + pValue + ".");
+    }
+
+    long lLow = pValue % Base36.LIMB_BASE;
+    long lHigh = pValue / Base36.LIMB_BASE;
+    if ((lHigh > 0 && limbs.length == 1) || (limbs.length == 1 && lLow >= highestLimbBound)
+        || (limbs.length == 2 && lHigh >= highestLimbBound)) {
+      throw new IllegalArgumentException(
+          "Value " + pValue + " can not be represented as base 36 number with " + digits + " digits.");
+    }
+    limbs[0] = lLow;
+    if (limbs.length > 1) {
+      limbs[1] = lHigh;
+      for (int i = 2; i < limbs.length; i++) {
+        limbs[i] = 0;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Method increments this number by 1.
+   *
+   * @return {@link MutableBase36} This object. The method never returns null.
+   */
+  public MutableBase36 increment( ) {
+    return this.add(1);
+  }
+
+  /**
+   * Method decrements this number by 1.
+   *
+   * @return {@link MutableBase36} This object. The method never returns null.
+   */
+  public MutableBase36 decrement( ) {
+    return this.subtract(1);
+  }
+
+  /**
+   * Method adds the passed value to this number.
+   *
+   * @param pValue Value that should be added. Negative values are subtracted.
+   * @return {@link MutableBase36} This object. The method never returns null.
+   */
+  public MutableBase36 add( long pValue ) {
+    if (pValue >= 0) {
+      this.addMagnitude(pValue);
+    }
+    else {
+      // Negation of Long.MIN_VALUE is still correct if it is interpreted as unsigned value.
+      this.subtractMagnitude(-pValue);
+    }
+    return this;
+  }
+
+  /**
+   * Method subtracts the passed value from this number.
+   *
+   * @param pValue Value that should be subtracted. Negative values are added.
+   * @return {@link MutableBase36} This object. The method never returns null.
+   */
+  public MutableBase36 subtract( long pValue ) {
+    if (pValue >= 0) {
+      this.subtractMagnitude(pValue);
+    }
+    else {
+      // Negation of Long.MIN_VALUE is still correct if it is interpreted as unsigned value.
+      this.addMagnitude(-pValue);
+    }
+    return this;
+  }
+
+  /**
+   * Method returns the value of this accumulator as long. Like {@link Base36#toLong()} values that exceed
+   * {@link Long#MAX_VALUE} overflow silently.
+   *
+   * @return long Value of this accumulator.
+   */
+  public long toLong( ) {
+    long lLongValue = 0;
+    for (int i = limbs.length - 1; i >= 0; i--) {
+      lLongValue = lLongValue * Base36.LIMB_BASE + limbs[i];
+    }
+    return lLongValue;
+  }
+
+  /**
+   * Method creates an immutable base 36 number with the current value and the number of digits of this accumulator.
+   *
+   * @return {@link Base36} Base 36 number with the current value. The method never returns null.
+   */
+  public Base36 freeze( ) {
+    return Base36.valueOf(digits, limbs);
+  }
+
+  /**
+   * Method returns the base 36 encoded string representation of the current value.
+   *
+   * @return {@link String} String representation of this number. The method never returns null.
+   */
+  @Override
+  public String toString( ) {
+    return this.freeze().toString();
+  }
+
+  /**
+   * Method adds the passed unsigned value to this number.
+   *
+   * @param pMagnitude Value that should be added. The value is interpreted as unsigned value.
+   */
+  private void addMagnitude( long pMagnitude ) {
+    final long lLow = Long.remainderUnsigned(pMagnitude, Base36.LIMB_BASE);
+    final long lHigh = Long.divideUnsigned(pMagnitude, Base36.LIMB_BASE);
+    boolean lOverflow;
+    if (lHigh > 0 && limbs.length == 1) {
+      lOverflow = true;
+    }
+    else {
+      lOverflow = this.addLimbs(lLow, lHigh) == true || limbs[limbs.length - 1] >= highestLimbBound;
+      if (lOverflow == true) {
+        // Restore previous value. As all operations are done modulo LIMB_BASE^n this is always possible.
+        this.subtractLimbs(lLow, lHigh);
+      }
+    }
+    if (lOverflow == true) {
+      throw this.createValueExceededException(pMagnitude);
+    }
+  }
+
+  /**
+   * Method subtracts the passed unsigned value from this number.
+   *
+   * @param pMagnitude Value that should be subtracted. The value is interpreted as unsigned value.
+   */
+  private void subtractMagnitude( long pMagnitude ) {
+    final long lLow = Long.remainderUnsigned(pMagnitude, Base36.LIMB_BASE);
+    final long lHigh = Long.divideUnsigned(pMagnitude, Base36.LIMB_BASE);
+    boolean lUnderflow;
+    if (lHigh > 0 && limbs.length == 1) {
+      lUnderflow = true;
+    }
+    else {
+      lUnderflow = this.subtractLimbs(lLow, lHigh);
+      if (lUnderflow == true) {
+        // Restore previous value.
+        this.addLimbs(lLow, lHigh);
+      }
+    }
+    if (lUnderflow == true) {
+      throw this.createValueExceededException(pMagnitude);
+    }
+  }
+
+  /**
+   * Method adds the passed limbs to the limbs of this number.
+   *
+   * @param pLow Value that should be added to the lowest limb. The value must be less than {@link Base36#LIMB_BASE}.
+   * @param pHigh Value that should be added to the second limb. The value must be 0 if this number has only one limb.
+   * @return boolean Method returns true if there is a carry from the highest limb and false otherwise.
+   */
+  private boolean addLimbs( long pLow, long pHigh ) {
+    long lCarry = pLow;
+    for (int i = 0; i < limbs.length && (lCarry > 0 || i <= 1); i++) {
+      long lSum = limbs[i] + lCarry;
+      if (i == 1) {
+        lSum = lSum + pHigh;
+      }
+      // Sum is less than 2^64 and thus correct if it is interpreted as unsigned value.
+      if (Long.compareUnsigned(lSum, Base36.LIMB_BASE) >= 0) {
+        limbs[i] = lSum - Base36.LIMB_BASE;
+        lCarry = 1;
+      }
+      else {
+        limbs[i] = lSum;
+        lCarry = 0;
+      }
+    }
+    return lCarry > 0;
+  }
+
+  /**
+   * Method subtracts the passed limbs from the limbs of this number.
+   *
+   * @param pLow Value that should be subtracted from the lowest limb. The value must be less than
+   * {@link Base36#LIMB_BASE}.
+   * @param pHigh Value that should be subtracted from the second limb. The value must be 0 if this number has only one
+   * limb.
+   * @return boolean Method returns true if there is a borrow from the highest limb and false otherwise.
+   */
+  private boolean subtractLimbs( long pLow, long pHigh ) {
+    long lBorrow = pLow;
+    for (int i = 0; i < limbs.length && (lBorrow > 0 || i <= 1); i++) {
+      long lDifference = limbs[i] - lBorrow;
+      if (i == 1) {
+        lDifference = lDifference - pHigh;
+      }
+      if (lDifference < 0) {
+        limbs[i] = lDifference + Base36.LIMB_BASE;
+        lBorrow = 1;
+      }
+      else {
+        limbs[i] = lDifference;
+        lBorrow = 0;
+      }
+    }
+    return lBorrow > 0;
+  }
+
+  /**
+   * Method creates the exception that is thrown if the result of an operation can not be represented with the digits of
+   * this number.
+   *
+   * @param pMagnitude Unsigned value that should have been added or subtracted.
+   * @return {@link JEAFSystemException} Exception with error code {@link XFunMessages#MAX_BASE36_VALUE_EXCEEDED}. The
+   * method never returns null.
+   */
+  private JEAFSystemException createValueExceededException( long pMagnitude ) {
+    // Base 36 numbers are written with the lowest digit first.
+    String lOperand = new StringBuilder(Long.toUnsignedString(pMagnitude, 36).toUpperCase(Locale.ROOT)).reverse()
+        .toString();
+    final ErrorCode lErrorCode = XFunMessages.MAX_BASE36_VALUE_EXCEEDED;
+    String[] lParams = new String[] { this.toString(), lOperand };
+    return new JEAFSystemException(lErrorCode, lParams);
+  }
+}
@@ -0,0 +1,316 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.checks.Assert;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import com.anaptecs.jeaf.xfun.api.errorhandling.ErrorCode;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+/**
+ * Class allocates base 36 numbers with a fixed number of digits from one partition of the value space. The value space
+ * of all numbers with the given number of digits is split into disjoint partitions, e.g. one per node or shard. Every
+ * node creates an allocator for its own partition and allocates numbers locally without any coordination with other
+ * nodes.
+ *
+ * The value space can be split in two ways (see {@link Strategy}). Either every partition gets a contiguous range of
+ * numbers or the partitions are interleaved so that partition i gets all numbers n with n mod count = i. If the value
+ * space is split into 36 contiguous ranges then the highest digit of every number is the index of its partition.
+ *
+ * The allocator is thread safe and does not use any locks. As soon as all numbers of the partition are used an
+ * exception with error code {@link XFunMessages#MAX_BASE36_VALUE_EXCEEDED} is thrown.
+ *
+ * The allocator does not persist its state. If a node is restarted the number of values that were already allocated
+ * ({@link #getUsed()}) has to be passed to the new allocator. Otherwise numbers are allocated again.
+ *
+ * @author JEAF Development Team
+ */
+public class PartitionedBase36Allocator {
+  /**
+   * Enumeration defines how the value space is split into partitions.
+   */
+  public enum Strategy {
+    /**
+     * Every partition gets a contiguous range of numbers. The last partition also gets the remaining numbers if the
+     * value space can not be split evenly.
+     */
+    RANGE,
+
+    /**
+     * Partitions are interleaved. Partition i gets all numbers n with n mod count = i.
+     */
+    STRIDE;
+  }
+
+  /**
+   * Number of digits of all numbers that are allocated.
+   */
+  private final int digits;
+
+  /**
+   * Number of partitions into which the value space is split.
+   */
+  private final int partitionCount;
+
+  /**
+   * Index of the partition of this allocator.
+   */
+  private final int partition;
+
+  /**
+   * Strategy that is used to split the value space.
+   */
+  private final Strategy strategy;
+
+  /**
+   * Smallest value of the partition of this allocator.
+   */
+  private final long firstValue;
+
+  /**
+   * Number of values that belong to the partition of this allocator.
+   */
+  private final long capacity;
+
+  /**
+   * Counter contains the number of values that were already allocated. Due to concurrent calls that exceed the capacity
+   * the counter may be larger than {@link #capacity}.
+   */
+  private final AtomicLong used;
+
+  /**
+   * Initialize allocator.
+   *
+   * @param pDigits Number of digits of all numbers. The parameter must be greater than zero and must not be greater
+   * than {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pPartitionCount Number of partitions into which the value space should be split. The parameter must be
+   * greater than zero and must not exceed the number of values of the value space.
+   * @param pPartition Index of the partition from which this allocator allocates numbers. The index must be between 0
+   * and pPartitionCount - 1.
+   * @param pStrategy Strategy that is used to split the value space. The parameter must not be null.
+   */
+  public PartitionedBase36Allocator( int pDigits, int pPartitionCount, int pPartition, Strategy pStrategy ) {
+    this(pDigits, pPartitionCount, pPartition, pStrategy, 0);
+  }
+
+  /**
+   * Initialize allocator that continues after the passed number of already allocated values. This should be used if a
+   * node is restarted so that numbers that were already allocated before are not allocated again.
+   *
+   * @param pDigits Number of digits of all numbers. The parameter must be greater than zero and must not be greater
+   * than {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pPartitionCount Number of partitions into which the value space should be split. The parameter must be
+   * greater than zero and must not exceed the number of values of the value space.
+   * @param pPartition Index of the partition from which this allocator allocates numbers. The index must be between 0
+   * and pPartitionCount - 1.
+   * @param pStrategy Strategy that is used to split the value space. The parameter must not be null.
+   * @param pUsed Number of values of the partition that were already allocated (see {@link #getUsed()}). The value
+   * must be between 0 and the capacity of the partition.
+   */
+  public PartitionedBase36Allocator( int pDigits, int pPartitionCount, int pPartition, Strategy pStrategy,
+      long pUsed ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pStrategy, "pStrategy");
+    if (pDigits <= 0 || pDigits > Base36.MAX_COMPACT_DIGITS) {
+      throw new IllegalArgumentException(
+          "Parameter 'pDigits' must be between 1 and " + Base36.MAX_COMPACT_DIGITS + " but is " + pDigits + ".");
+    }
+    long lValueSpace = Base36.POWERS[pDigits];
+    if (pPartitionCount <= 0 || pPartitionCount > lValueSpace) {
+      throw new IllegalArgumentException("Parameter 'pPartitionCount' must be between 1 and " + lValueSpace
+          + " but is " + pPartitionCount + ".");
+    }
+    if (pPartition < 0 || pPartition >= pPartitionCount) {
+      throw new IllegalArgumentException("Parameter 'pPartition' must be between 0 and " + (pPartitionCount - 1)
+          + " but is " + pPartition + ".");
+    }
+
+    digits = pDigits;
+    partitionCount = pPartitionCount;
+    partition = pPartition;
+    strategy = pStrategy;
+
+    // Calculate first value and capacity of the partition.
+    switch (pStrategy) {
+      case RANGE:
+        long lRangeSize = lValueSpace / pPartitionCount;
+        firstValue = pPartition * lRangeSize;
+        if (pPartition == pPartitionCount - 1) {
+          capacity = lValueSpace - firstValue;
+        }
+        else {
+          capacity = lRangeSize;
+        }
+        break;
+
+      case STRIDE:
+        firstValue = pPartition;
+        capacity = (lValueSpace - pPartition + pPartitionCount - 1) / pPartitionCount;
+        break;
+
+      default:
+        firstValue = 0;
+        capacity = 0;
+        Assert.unexpectedEnumLiteral(pStrategy);
+    }
+    if (pUsed < 0 || pUsed > capacity) {
+      throw new IllegalArgumentException(
+          "Parameter 'pUsed' must be between 0 and " + capacity + " but is " + pUsed + ".");
+    }
+    used = new AtomicLong(pUsed);
+  }
+
+  /**
+   * Method allocates the next number of the partition.
+   *
+   * @return {@link Base36} Next number of the partition. The method never returns null.
+   */
+  public Base36 next( ) {
+    final long lIndex = used.getAndIncrement();
+    if (lIndex >= capacity) {
+      final ErrorCode lErrorCode = XFunMessages.MAX_BASE36_VALUE_EXCEEDED;
+      String[] lParams = new String[] { this.getLastValue().toString(), "1" };
+      throw new JEAFSystemException(lErrorCode, lParams);
+    }
+    return new Base36(this.toValue(lIndex), digits);
+  }
+
+  /**
+   * Method converts the passed index inside the partition into the numerical value of the number.
+   *
+   * @param pIndex Index inside the partition.
+   * @return long Numerical value.
+   */
+  private long toValue( long pIndex ) {
+    long lValue;
+    if (strategy == Strategy.RANGE) {
+      lValue = firstValue + pIndex;
+    }
+    else {
+      lValue = firstValue + pIndex * partitionCount;
+    }
+    return lValue;
+  }
+
+  /**
+   * Method checks if the passed number belongs to the partition of this allocator.
+   *
+   * @param pValue Number that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the passed number belongs to the partition and false in all other cases.
+   */
+  public boolean contains( Base36 pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+
+    boolean lContains;
+    if (pValue.getMaxLength() > digits) {
+      lContains = false;
+    }
+    else {
+      long lValue = pValue.toLong();
+      if (strategy == Strategy.RANGE) {
+        lContains = lValue >= firstValue && lValue - firstValue < capacity;
+      }
+      else {
+        lContains = lValue % partitionCount == partition;
+      }
+    }
+    return lContains;
+  }
+
+  /**
+   * Method returns the number of digits of all numbers that are allocated.
+   *
+   * @return int Number of digits.
+   */
+  public int getMaxLength( ) {
+    return digits;
+  }
+
+  /**
+   * Method returns the number of partitions into which the value space is split.
+   *
+   * @return int Number of partitions.
+   */
+  public int getPartitionCount( ) {
+    return partitionCount;
+  }
+
+  /**
+   * Method returns the index of the partition of this allocator.
+   *
+   * @return int Index of the partition.
+   */
+  public int getPartition( ) {
+    return partition;
+  }
+
+  /**
+   * Method returns the strategy that is used to split the value space.
+   *
+   * @return {@link Strategy} Strategy of the allocator. The method never returns null.
+   */
+  public Strategy getStrategy( ) {
+    return strategy;
+  }
+
+  /**
+   * Method returns the smallest number of the partition.
+   *
+   * @return {@link Base36} Smallest number of the partition. The method never returns null.
+   */
+  public Base36 getFirstValue( ) {
+    return new Base36(firstValue, digits);
+  }
+
+  /**
+   * Method returns the largest number of the partition.
+   *
+   * @return {@link Base36} Largest number of the partition. The method never returns null.
+   */
+  public Base36 getLastValue( ) {
+    return new Base36(this.toValue(capacity - 1), digits);
+  }
+
+  /**
+   * Method returns the number of values that belong to the partition.
+   *
+   * @return long Number of values of the partition.
+   */
+  public long getCapacity( ) {
+    return capacity;
+  }
+
+  /**
+   * Method returns the number of values that were already allocated.
+   *
+   * @return long Number of allocated values. The value is never greater than the capacity of the partition.
+   */
+  public long getUsed( ) {
+    return Math.min(used.get(), capacity);
+  }
+
+  /**
+   * Method returns the number of values that can still be allocated.
+   *
+   * @return long Number of remaining values.
+   */
+  public long getRemaining( ) {
+    return capacity - this.getUsed();
+  }
+
+  /**
+   * Method returns the share of the partition that is already used.
+   *
+   * @return double Share of used values between 0.0 and 1.0.
+   */
+  public double getUtilization( ) {
+    return (double) this.getUsed() / capacity;
+  }
+}
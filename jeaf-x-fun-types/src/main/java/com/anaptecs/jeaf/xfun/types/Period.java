@@ -5,12 +5,31 @@
  */
 package com.anaptecs.jeaf.xfun.types;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.anaptecs.jeaf.xfun.api.checks.Assert;
 import com.anaptecs.jeaf.xfun.api.checks.Check;
@@ -22,6 +41,11 @@ import com.anaptecs.jeaf.xfun.api.checks.Check;
  * The class is immutable which means that the objects internal state can not be edited after the object was once
  * created.
  * 
+ * Start and end are stored as milliseconds since 1970. Thus checks like {@link #isEnclosed(long)},
+ * {@link #overlaps(Period)} or {@link #equals(Object)} do not create any objects. An open beginning is represented by
+ * {@link #OPEN_BEGINNING} and an open end by {@link #OPEN_END}. Therefore points in time with these milliseconds can
+ * not be used as start or end of a period.
+ * 
  * @author JEAF Development Team
  * @version JEAF Release 1.2
  */
@@ -53,10 +77,20 @@ public class Period implements Serializable {
    */
   public static final String TIMESTAMP_PATTERN = DATE_PATTERN + " HH:mm:ss.SSS";
 
+  /**
+   * Constant defines the milliseconds that are used to represent an open beginning of a period.
+   */
+  public static final long OPEN_BEGINNING = Long.MIN_VALUE;
+
+  /**
+   * Constant defines the milliseconds that are used to represent an open end of a period.
+   */
+  public static final long OPEN_END = Long.MAX_VALUE;
+
   /**
    * Constant for convenience purpose that represents an unlimited period.
    */
-  public static final Period UNLIMITED_PERIOD = new Period((Date) null, (Date) null);
+  public static final Period UNLIMITED_PERIOD = new Period(OPEN_BEGINNING, OPEN_END);
 
   /**
    * Constant for the name of the start attribute
@@ -74,16 +108,93 @@ public class Period implements Serializable {
   private static final long serialVersionUID = 1L;
 
   /**
-   * Attribute represents the beginning of the represented period of time. The attribute may be null which means the
-   * period is open to the beginning.
+   * Serialized form of periods consists of start and end as {@link Date} objects as it was the case for former
+   * versions.
+   */
+  private static final ObjectStreamField[] serialPersistentFields =
+      new ObjectStreamField[] { new ObjectStreamField(START_ATTRIBUTE, Date.class),
+        new ObjectStreamField(END_ATTRIBUTE, Date.class) };
+
+  /**
+   * Period that is currently read from a stream. As such a period is always resolved directly after it was read, there
+   * is at most one per thread.
+   */
+  private static final ThreadLocal<Period> READ_PERIOD = new ThreadLocal<>();
+
+  /**
+   * Shared formatter for {@link DateStringRepresentation#DATE}. In contrast to {@link SimpleDateFormat} formatters are
+   * immutable and thread safe.
+   */
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
+  /**
+   * Shared formatter for {@link DateStringRepresentation#DATE_TIME}.
+   */
+  private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+  /**
+   * Shared formatter for {@link DateStringRepresentation#DATE_TIME_SECONDS}.
+   */
+  private static final DateTimeFormatter DATE_TIME_SECONDS_FORMATTER =
+      DateTimeFormatter.ofPattern(DATE_TIME_SECONDS_PATTERN);
+
+  /**
+   * Shared formatter for {@link DateStringRepresentation#TIMESTAMP}.
+   */
+  private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN);
+
+  /**
+   * Shared formatters create exactly the same output as {@link SimpleDateFormat} from 1900-01-01 (UTC) up to the end of
+   * year 9998 as long as both use the same offset of the time zone. Outside of this range {@link SimpleDateFormat} uses
+   * different calendar rules and time zone offsets and formats years with more than 4 digits without sign. Therefore it
+   * is still used for these points in time. Constant defines the start of the range in which the shared formatters are
+   * used (1900-01-01T00:00:00Z).
+   */
+  private static final long MIN_FORMATTER_MILLIS = -2208988800000L;
+
+  /**
+   * Exclusive end of the range in which the shared formatters are used (9999-01-01T00:00:00Z).
+   */
+  private static final long MAX_FORMATTER_MILLIS = 253370764800000L;
+
+  /**
+   * Patterns of all string representations ordered by their length. Each of them extends the previous one.
+   */
+  private static final String[] PATTERNS =
+      new String[] { DATE_PATTERN, DATE_TIME_PATTERN, DATE_TIME_SECONDS_PATTERN, TIMESTAMP_PATTERN };
+
+  /**
+   * Map contains for every default format locale that was already used whether {@link SimpleDateFormat} uses the
+   * Gregorian calendar and ASCII digits for it. Only in this case the shared formatters create the same output.
+   */
+  private static final ConcurrentMap<Locale, Boolean> FORMATTER_LOCALES = new ConcurrentHashMap<>();
+
+  /**
+   * Prefix of the string representation of a period.
+   */
+  private static final String START_PREFIX = "Start: ";
+
+  /**
+   * Separator between start and end in the string representation of a period.
    */
-  private final Date start;
+  private static final String END_SEPARATOR = " End: ";
 
   /**
-   * Attribute represents the end of the represented period of time. The attribute may be null which means the period is
-   * open to the end.
+   * String representation of an open beginning or end.
    */
-  private final Date end;
+  private static final String OPEN_BOUNDARY = "null";
+
+  /**
+   * Attribute represents the beginning of the represented period of time as milliseconds since 1970. The attribute is
+   * {@link #OPEN_BEGINNING} if the period is open to the beginning.
+   */
+  private final long start;
+
+  /**
+   * Attribute represents the end of the represented period of time as milliseconds since 1970. The attribute is
+   * {@link #OPEN_END} if the period is open to the end.
+   */
+  private final long end;
 
   /**
    * Initialize new period object.
@@ -95,21 +206,8 @@ public class Period implements Serializable {
     // Check parameters.
     Check.checkValidPeriod(pStart, pEnd);
 
-    // Create clone of passed start date in order to ensure that it can not be edited.
-    if (pStart != null) {
-      start = (Date) pStart.clone();
-    }
-    else {
-      start = null;
-    }
-
-    // Create clone of end date in order to ensure that it can not be edited.
-    if (pEnd != null) {
-      end = (Date) pEnd.clone();
-    }
-    else {
-      end = null;
-    }
+    start = Period.toStartMillis(pStart);
+    end = Period.toEndMillis(pEnd);
   }
 
   /**
@@ -135,8 +233,34 @@ public class Period implements Serializable {
     }
     Check.checkValidPeriod(lStartDate, lEndDate);
 
-    start = lStartDate;
-    end = lEndDate;
+    start = Period.toStartMillis(lStartDate);
+    end = Period.toEndMillis(lEndDate);
+  }
+
+  /**
+   * Initialize new period object.
+   * 
+   * @param pStart Beginning of the period of time. The parameter may be null.
+   * @param pEnd End of the period of time. The parameter may be null.
+   */
+  public Period( Instant pStart, Instant pEnd ) {
+    this(Period.toStartMillis(pStart), Period.toEndMillis(pEnd));
+  }
+
+  /**
+   * Initialize new period object.
+   * 
+   * @param pStart Beginning of the period of time as milliseconds since 1970. {@link #OPEN_BEGINNING} defines an open
+   * beginning.
+   * @param pEnd End of the period of time as milliseconds since 1970. {@link #OPEN_END} defines an open end.
+   */
+  public Period( long pStart, long pEnd ) {
+    // Check parameters. Dates are only created in case of an invalid period to get the usual error.
+    if (pStart > pEnd) {
+      Check.checkValidPeriod(new Date(pStart), new Date(pEnd));
+    }
+    start = pStart;
+    end = pEnd;
   }
 
   /**
@@ -148,19 +272,8 @@ public class Period implements Serializable {
     // Check parameter.
     Check.checkInvalidParameterNull(pPeriod, "pPeriod");
 
-    if (pPeriod.start != null) {
-      start = new Date(pPeriod.start.getTime());
-    }
-    else {
-      start = null;
-    }
-
-    if (pPeriod.end != null) {
-      end = new Date(pPeriod.end.getTime());
-    }
-    else {
-      end = null;
-    }
+    start = pPeriod.start;
+    end = pPeriod.end;
   }
 
   /**
@@ -172,9 +285,9 @@ public class Period implements Serializable {
   public Date getStart( ) {
     Date lStart;
     // Start date not defined.
-    if (start != null) {
-      // Method returns a clone to ensure immutability.
-      lStart = (Date) start.clone();
+    if (start != OPEN_BEGINNING) {
+      // Method returns a new object to ensure immutability.
+      lStart = new Date(start);
     }
     else {
       lStart = null;
@@ -191,9 +304,61 @@ public class Period implements Serializable {
   public Date getEnd( ) {
     Date lEnd;
     // Start date not defined.
-    if (end != null) {
-      // Method returns a clone to ensure immutability.
-      lEnd = (Date) end.clone();
+    if (end != OPEN_END) {
+      // Method returns a new object to ensure immutability.
+      lEnd = new Date(end);
+    }
+    else {
+      lEnd = null;
+    }
+    return lEnd;
+  }
+
+  /**
+   * Method returns the start of the period as milliseconds since 1970.
+   * 
+   * @return long Start of the period of time. The method returns {@link #OPEN_BEGINNING} if the period has an open
+   * beginning.
+   */
+  public long getStartMillis( ) {
+    return start;
+  }
+
+  /**
+   * Method returns the end of the period as milliseconds since 1970.
+   * 
+   * @return long End of the period of time. The method returns {@link #OPEN_END} if the period has an open end.
+   */
+  public long getEndMillis( ) {
+    return end;
+  }
+
+  /**
+   * Method returns the start of the period.
+   * 
+   * @return {@link Instant} Start of the period of time. The method will return null if the period has an open
+   * beginning.
+   */
+  public Instant getStartInstant( ) {
+    Instant lStart;
+    if (start != OPEN_BEGINNING) {
+      lStart = Instant.ofEpochMilli(start);
+    }
+    else {
+      lStart = null;
+    }
+    return lStart;
+  }
+
+  /**
+   * Method returns the end of the period.
+   * 
+   * @return {@link Instant} End of the period of time. The method will return null if the period has an open end.
+   */
+  public Instant getEndInstant( ) {
+    Instant lEnd;
+    if (end != OPEN_END) {
+      lEnd = Instant.ofEpochMilli(end);
     }
     else {
       lEnd = null;
@@ -207,7 +372,7 @@ public class Period implements Serializable {
    * @return boolean Method returns true if the period has an open beginning and false in all other cases.
    */
   public boolean hasOpenBeginning( ) {
-    return start == null;
+    return start == OPEN_BEGINNING;
   }
 
   /**
@@ -216,7 +381,7 @@ public class Period implements Serializable {
    * @return boolean Method returns true if the period has an open end and false in all other cases.
    */
   public boolean hasOpenEnd( ) {
-    return end == null;
+    return end == OPEN_END;
   }
 
   /**
@@ -232,19 +397,36 @@ public class Period implements Serializable {
     // Check parameter.
     Check.checkInvalidParameterNull(pPointOfTime, "pPointOfTime");
 
-    // Start of period is defined AND Parameter is before beginning of period.
-    boolean lIsEnclosed = true;
-    if (start != null && pPointOfTime.before(start) == true) {
-      lIsEnclosed = false;
-    }
+    return this.isEnclosed(pPointOfTime.getTime());
+  }
 
-    // Check of start successful. Now let's also check ends.
-    if (end != null && lIsEnclosed == true && pPointOfTime.after(end) == true) {
-      lIsEnclosed = false;
-    }
+  /**
+   * Method checks whether the passed point of time is enclosed by the represented period of time.
+   * 
+   * @param pPointOfTime Point of time for which will be checked if it is enclosed within the period of time. The
+   * parameter must not be null.
+   * @return boolean Method returns true is the passed point of time is within the period that is defined by this object
+   * and false in all other cases.
+   */
+  public boolean isEnclosed( Instant pPointOfTime ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPointOfTime, "pPointOfTime");
+
+    return this.isEnclosed(pPointOfTime.toEpochMilli());
+  }
 
-    // Return result.
-    return lIsEnclosed;
+  /**
+   * Method checks whether the passed point of time is enclosed by the represented period of time. The method does not
+   * create any objects.
+   * 
+   * @param pPointOfTime Point of time as milliseconds since 1970 for which will be checked if it is enclosed within the
+   * period of time.
+   * @return boolean Method returns true is the passed point of time is within the period that is defined by this object
+   * and false in all other cases.
+   */
+  public boolean isEnclosed( long pPointOfTime ) {
+    // As open beginning and open end are represented by the smallest and largest value no special handling is required.
+    return pPointOfTime >= start && pPointOfTime <= end;
   }
 
   /**
@@ -269,7 +451,7 @@ public class Period implements Serializable {
    * @return boolean The method returns true if now is enclosed within the period and false in all other cases.
    */
   public boolean isNowEnclosed( ) {
-    return this.isEnclosed(new Date());
+    return this.isEnclosed(System.currentTimeMillis());
   }
 
   /**
@@ -358,10 +540,10 @@ public class Period implements Serializable {
     Check.checkInvalidParameterNull(pOtherPeriod, "pOtherPeriod");
 
     boolean lStartsAfter;
-    if (start != null) {
-      if (pOtherPeriod.end != null) {
+    if (start != OPEN_BEGINNING) {
+      if (pOtherPeriod.end != OPEN_END) {
         // If start is after or equal to the end of the passed period it ends before.
-        lStartsAfter = start.compareTo(pOtherPeriod.end) >= 0;
+        lStartsAfter = start >= pOtherPeriod.end;
       }
       // End of other period is null which means that it never ends.
       else {
@@ -389,9 +571,9 @@ public class Period implements Serializable {
     Check.checkInvalidParameterNull(pOtherPeriod, "pOtherPeriod");
 
     boolean lEndsBefore;
-    if (end != null) {
-      if (pOtherPeriod.start != null) {
-        lEndsBefore = end.compareTo(pOtherPeriod.start) <= 0;
+    if (end != OPEN_END) {
+      if (pOtherPeriod.start != OPEN_BEGINNING) {
+        lEndsBefore = end <= pOtherPeriod.start;
       }
       // Begin of other period is null which means that it starts at the beginning of time ;-)
       else {
@@ -407,18 +589,19 @@ public class Period implements Serializable {
   }
 
   /**
-   * Method returns the hashCode of this object. Therefore the start or end of the period is used.
+   * Method returns the hashCode of this object. Therefore the start or end of the period is used. The hash code is the
+   * same as the one of the corresponding {@link Date}.
    * 
    * @return HashCode of this object.
    */
   @Override
   public int hashCode( ) {
     int lHashCode;
-    if (start != null) {
-      lHashCode = start.hashCode();
+    if (start != OPEN_BEGINNING) {
+      lHashCode = Long.hashCode(start);
     }
-    else if (end != null) {
-      lHashCode = end.hashCode();
+    else if (end != OPEN_END) {
+      lHashCode = Long.hashCode(end);
     }
     else {
       lHashCode = 0;
@@ -436,38 +619,8 @@ public class Period implements Serializable {
   public boolean equals( Object pObject ) {
     boolean lIsEqual;
     if (pObject instanceof Period) {
-      // Check start of period
-      boolean lStartIsEqual;
-      boolean lEndIsEqual;
       Period lOtherPeriod = (Period) pObject;
-
-      // Start of period is set on this object
-      Date lOtherPeriodStart = lOtherPeriod.getStart();
-      if (start != null) {
-        lStartIsEqual = start.equals(lOtherPeriodStart);
-      }
-      // Start of period is not set
-      else {
-        lStartIsEqual = (lOtherPeriodStart == null);
-      }
-
-      // Check end of period
-      if (lStartIsEqual == true) {
-        // End of period is set on this object
-        Date lOtherPeriodEnd = lOtherPeriod.getEnd();
-        if (end != null) {
-          lEndIsEqual = end.equals(lOtherPeriodEnd);
-        }
-        // End of period is not set
-        else {
-          lEndIsEqual = (lOtherPeriodEnd == null);
-        }
-      }
-      // Check of end of period is not required since its start is not equal.
-      else {
-        lEndIsEqual = false;
-      }
-      lIsEqual = lStartIsEqual && lEndIsEqual;
+      lIsEqual = start == lOtherPeriod.start && end == lOtherPeriod.end;
     }
     // Passed object is not a period or null.
     else {
@@ -491,60 +644,513 @@ public class Period implements Serializable {
    * @return String representation of this object. The method never returns null.
    */
   public String toString( DateStringRepresentation pStringRepresentationType ) {
-    StringBuilder lBuilder = new StringBuilder(64);
+    return this.appendTo(new StringBuilder(64), pStringRepresentationType).toString();
+  }
 
-    lBuilder.append("Start: ");
-    if (start != null) {
-      lBuilder.append(this.toString(start, pStringRepresentationType));
+  /**
+   * Method appends a string representation of this object describing the start and end of the period to the passed
+   * builder. The representation is the same as the one of {@link #toString(DateStringRepresentation)} but no
+   * intermediate strings are created.
+   * 
+   * @param pBuilder Builder to which the string representation should be appended. The parameter must not be null.
+   * @param pStringRepresentationType Way how start and end should be represented as string.
+   * @return {@link StringBuilder} The passed builder. The method never returns null.
+   */
+  public StringBuilder appendTo( StringBuilder pBuilder, DateStringRepresentation pStringRepresentationType ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pBuilder, "pBuilder");
+
+    pBuilder.append(START_PREFIX);
+    if (start != OPEN_BEGINNING) {
+      this.appendTo(pBuilder, start, pStringRepresentationType);
     }
     else {
-      lBuilder.append("null");
+      pBuilder.append(OPEN_BOUNDARY);
     }
 
-    lBuilder.append(" End: ");
-    if (end != null) {
-      lBuilder.append(this.toString(end, pStringRepresentationType));
+    pBuilder.append(END_SEPARATOR);
+    if (end != OPEN_END) {
+      this.appendTo(pBuilder, end, pStringRepresentationType);
     }
     else {
-      lBuilder.append("null");
+      pBuilder.append(OPEN_BOUNDARY);
     }
-    return lBuilder.toString();
+    return pBuilder;
   }
 
   /**
-   * Method returns a string representation of the passed date as
+   * Method appends a string representation of the passed point of time to the passed builder.
    * 
-   * @param pDate Date that should be returned as string. The parameter must not be null.
-   * @param pStringRepresentationType Way how the passed date should be represented as string.
-   * @return String representation of the passed date. The method never returns null.
+   * @param pBuilder Builder to which the point of time should be appended. The parameter must not be null.
+   * @param pMillis Point of time as milliseconds since 1970.
+   * @param pStringRepresentationType Way how the passed point of time should be represented as string.
    */
-  private String toString( Date pDate, DateStringRepresentation pStringRepresentationType ) {
+  private void appendTo( StringBuilder pBuilder, long pMillis, DateStringRepresentation pStringRepresentationType ) {
     // Check parameter
     Check.checkInvalidParameterNull(pStringRepresentationType, "pStringRepresentationType");
 
-    SimpleDateFormat lDateFormat;
+    DateTimeFormatter lFormatter;
+    String lPattern;
+    switch (pStringRepresentationType) {
+      case DATE:
+        lFormatter = DATE_FORMATTER;
+        lPattern = DATE_PATTERN;
+        break;
+
+      case DATE_TIME:
+        lFormatter = DATE_TIME_FORMATTER;
+        lPattern = DATE_TIME_PATTERN;
+        break;
+
+      case DATE_TIME_SECONDS:
+        lFormatter = DATE_TIME_SECONDS_FORMATTER;
+        lPattern = DATE_TIME_SECONDS_PATTERN;
+        break;
+
+      case TIMESTAMP:
+        lFormatter = TIMESTAMP_FORMATTER;
+        lPattern = TIMESTAMP_PATTERN;
+        break;
+
+      default:
+        lFormatter = null;
+        lPattern = null;
+        Assert.unexpectedEnumLiteral(pStringRepresentationType);
+    }
+
+    // Like SimpleDateFormat the current default time zone is used.
+    ZoneOffset lOffset = Period.getFormatterOffset(pMillis);
+    if (lOffset != null) {
+      LocalDateTime lDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(pMillis), lOffset);
+      lFormatter.formatTo(lDateTime, pBuilder);
+    }
+    else {
+      pBuilder.append(new SimpleDateFormat(lPattern).format(new Date(pMillis)));
+    }
+  }
+
+  /**
+   * Method parses the passed string representation of a period as it is created by
+   * {@link #toString(DateStringRepresentation)}. The representation of start and end is detected by their length.
+   * 
+   * @param pText String representation of the period, e.g. "Start: 2010-12-31 End: null". The parameter must not be
+   * null.
+   * @return {@link Period} Period that is described by the passed string. The method never returns null.
+   */
+  public static Period parse( CharSequence pText ) {
+    return Period.parse(pText, null);
+  }
+
+  /**
+   * Method parses the passed string representation of a period as it is created by
+   * {@link #toString(DateStringRepresentation)}. Like the string representation the current default time zone is
+   * used. In contrast to {@link SimpleDateFormat} the fields of start and end are read directly from their fixed
+   * positions.
+   * 
+   * @param pText String representation of the period, e.g. "Start: 2010-12-31 End: null". The parameter must not be
+   * null.
+   * @param pStringRepresentationType Way how start and end are represented. The parameter may be null. In this case the
+   * representation is detected by the length of start and end.
+   * @return {@link Period} Period that is described by the passed string. The method never returns null.
+   */
+  public static Period parse( CharSequence pText, DateStringRepresentation pStringRepresentationType ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pText, "pText");
+
+    int lSeparator = Period.indexOf(pText, END_SEPARATOR, START_PREFIX.length());
+    if (Period.regionMatches(pText, 0, START_PREFIX) == false || lSeparator < 0) {
+      throw Period.createParseException(pText);
+    }
+    int lEndStart = lSeparator + END_SEPARATOR.length();
+    long lStart = Period.parseMillis(pText, START_PREFIX.length(), lSeparator, OPEN_BEGINNING,
+        pStringRepresentationType);
+    long lEnd = Period.parseMillis(pText, lEndStart, pText.length(), OPEN_END, pStringRepresentationType);
+    return new Period(lStart, lEnd);
+  }
+
+  /**
+   * Method parses the passed point of time.
+   * 
+   * @param pText String that contains the point of time. The parameter must not be null.
+   * @param pFrom Index of the first character of the point of time.
+   * @param pTo Index after the last character of the point of time.
+   * @param pOpenBoundary Value that is returned if the point of time is "null".
+   * @param pStringRepresentationType Expected representation of the point of time. The parameter may be null.
+   * @return long Point of time as milliseconds since 1970.
+   */
+  private static long parseMillis( CharSequence pText, int pFrom, int pTo, long pOpenBoundary,
+      DateStringRepresentation pStringRepresentationType ) {
+    int lLength = pTo - pFrom;
+    long lMillis;
+    if (lLength == OPEN_BOUNDARY.length() && Period.regionMatches(pText, pFrom, OPEN_BOUNDARY) == true) {
+      lMillis = pOpenBoundary;
+    }
+    // Calendar and digits of the default format locale differ from the ones of the shared formatters. As the length of
+    // the fields then also may differ, all matching patterns are tried with SimpleDateFormat.
+    else if (Period.isFormatterLocale() == false) {
+      Date lDate = null;
+      for (int i = PATTERNS.length - 1; i >= 0 && lDate == null; i--) {
+        if (pStringRepresentationType == null || PATTERNS[i].equals(Period.getPattern(pStringRepresentationType))) {
+          lDate = Period.parseDate(pText, pFrom, pTo, PATTERNS[i]);
+        }
+      }
+      if (lDate == null) {
+        throw Period.createParseException(pText);
+      }
+      lMillis = lDate.getTime();
+    }
+    else {
+      // Patterns only differ in their length as each of them extends the previous one.
+      String lPattern = null;
+      for (String lNextPattern : PATTERNS) {
+        if (lLength == lNextPattern.length()) {
+          lPattern = lNextPattern;
+        }
+      }
+      if (lPattern == null || (pStringRepresentationType != null
+          && lPattern.equals(Period.getPattern(pStringRepresentationType)) == false)) {
+        throw Period.createParseException(pText);
+      }
+
+      // Separators have to be the same as in the pattern and all other characters have to be digits.
+      for (int i = 0; i < lLength; i++) {
+        char lPatternChar = lPattern.charAt(i);
+        char lNextChar = pText.charAt(pFrom + i);
+        if (Character.isLetter(lPatternChar) == true) {
+          if (lNextChar < '0' || lNextChar > '9') {
+            throw Period.createParseException(pText);
+          }
+        }
+        else if (lNextChar != lPatternChar) {
+          throw Period.createParseException(pText);
+        }
+      }
+      int lYear = Period.parseNumber(pText, pFrom, 4);
+      int lMonth = Period.parseNumber(pText, pFrom + 5, 2);
+      int lDay = Period.parseNumber(pText, pFrom + 8, 2);
+      int lHour = 0;
+      int lMinute = 0;
+      int lSecond = 0;
+      int lMilliseconds = 0;
+      if (lLength >= DATE_TIME_PATTERN.length()) {
+        lHour = Period.parseNumber(pText, pFrom + 11, 2);
+        lMinute = Period.parseNumber(pText, pFrom + 14, 2);
+      }
+      if (lLength >= DATE_TIME_SECONDS_PATTERN.length()) {
+        lSecond = Period.parseNumber(pText, pFrom + 17, 2);
+      }
+      if (lLength == TIMESTAMP_PATTERN.length()) {
+        lMilliseconds = Period.parseNumber(pText, pFrom + 20, 3);
+      }
+
+      // Outside of the range of the shared formatters SimpleDateFormat is used to be the inverse of toString().
+      boolean lUseFormatter = false;
+      lMillis = 0;
+      if (lYear > 1900 && lYear < 9999) {
+        try {
+          LocalDateTime lDateTime =
+              LocalDateTime.of(lYear, lMonth, lDay, lHour, lMinute, lSecond, lMilliseconds * 1000000);
+          // Like SimpleDateFormat the later instant is used if the local time is ambiguous due to a transition of the
+          // time zone offset. If the local time is within a gap according to the rules of java.time, these rules may
+          // differ from the ones of TimeZone. SimpleDateFormat then decides whether the local time exists.
+          ZonedDateTime lZonedDateTime =
+              ZonedDateTime.ofLocal(lDateTime, ZoneId.systemDefault(), null).withLaterOffsetAtOverlap();
+          if (lZonedDateTime.toLocalDateTime().equals(lDateTime) == true) {
+            lMillis = lZonedDateTime.toInstant().toEpochMilli();
+            lUseFormatter = Period.getFormatterOffset(lMillis) != null;
+          }
+        }
+        catch (DateTimeException e) {
+          // Invalid dates are rejected by SimpleDateFormat.
+          lUseFormatter = false;
+        }
+      }
+      if (lUseFormatter == false) {
+        Date lDate = Period.parseDate(pText, pFrom, pTo, lPattern);
+        if (lDate == null) {
+          throw Period.createParseException(pText);
+        }
+        lMillis = lDate.getTime();
+      }
+    }
+    return lMillis;
+  }
+
+  /**
+   * Method parses the passed point of time with a non lenient {@link SimpleDateFormat}.
+   * 
+   * @param pText String that contains the point of time. The parameter must not be null.
+   * @param pFrom Index of the first character of the point of time.
+   * @param pTo Index after the last character of the point of time.
+   * @param pPattern Pattern of the point of time. The parameter must not be null.
+   * @return {@link Date} Parsed point of time or null if the passed string does not match to the pattern.
+   */
+  private static Date parseDate( CharSequence pText, int pFrom, int pTo, String pPattern ) {
+    SimpleDateFormat lDateFormat = new SimpleDateFormat(pPattern);
+    lDateFormat.setLenient(false);
+    ParsePosition lPosition = new ParsePosition(0);
+    Date lDate = lDateFormat.parse(pText.subSequence(pFrom, pTo).toString(), lPosition);
+    if (lPosition.getIndex() != pTo - pFrom) {
+      lDate = null;
+    }
+    return lDate;
+  }
+
+
+  /**
+   * Method returns the offset of the current default time zone at the passed point of time if the shared formatters
+   * create the same output as {@link SimpleDateFormat} for it. java.time and {@link TimeZone} use different
+   * implementations of the time zone rules that calculate different offsets for some zones far in the future, e.g.
+   * Africa/Windhoek from 2089 on. In this case {@link SimpleDateFormat} has to be used.
+   * 
+   * @param pMillis Point of time as milliseconds since 1970.
+   * @return {@link ZoneOffset} Offset of the current default time zone or null if the shared formatters can not be
+   * used for the passed point of time.
+   */
+  private static ZoneOffset getFormatterOffset( long pMillis ) {
+    ZoneOffset lOffset;
+    if (pMillis >= MIN_FORMATTER_MILLIS && pMillis < MAX_FORMATTER_MILLIS && Period.isFormatterLocale() == true) {
+      TimeZone lTimeZone = TimeZone.getDefault();
+      ZoneOffset lZoneOffset = lTimeZone.toZoneId().getRules().getOffset(Instant.ofEpochMilli(pMillis));
+      if (lZoneOffset.getTotalSeconds() * 1000L == lTimeZone.getOffset(pMillis)) {
+        lOffset = lZoneOffset;
+      }
+      else {
+        lOffset = null;
+      }
+    }
+    else {
+      lOffset = null;
+    }
+    return lOffset;
+  }
+
+  /**
+   * Method checks whether the shared formatters can be used with the current default format locale. Shared formatters
+   * always use the ISO calendar and ASCII digits whereas {@link SimpleDateFormat} uses the calendar and the digits of
+   * the default format locale, e.g. the Buddhist calendar for th_TH or Devanagari digits for hi-IN-u-nu-deva.
+   * 
+   * @return boolean Method returns true if {@link SimpleDateFormat} uses the Gregorian calendar and ASCII digits for
+   * the current default format locale and false in all other cases.
+   */
+  private static boolean isFormatterLocale( ) {
+    return FORMATTER_LOCALES.computeIfAbsent(Locale.getDefault(Locale.Category.FORMAT),
+        pLocale -> "gregory".equals(Calendar.getInstance(pLocale).getCalendarType())
+            && DecimalFormatSymbols.getInstance(pLocale).getZeroDigit() == '0');
+  }
+
+  /**
+   * Method returns the pattern of the passed string representation.
+   * 
+   * @param pStringRepresentationType String representation. The parameter must not be null.
+   * @return {@link String} Pattern of the passed string representation. The method never returns null.
+   */
+  private static String getPattern( DateStringRepresentation pStringRepresentationType ) {
+    String lPattern;
     switch (pStringRepresentationType) {
       case DATE:
-        lDateFormat = new SimpleDateFormat(DATE_PATTERN);
+        lPattern = DATE_PATTERN;
         break;
 
       case DATE_TIME:
-        lDateFormat = new SimpleDateFormat(DATE_TIME_PATTERN);
+        lPattern = DATE_TIME_PATTERN;
         break;
 
       case DATE_TIME_SECONDS:
-        lDateFormat = new SimpleDateFormat(DATE_TIME_SECONDS_PATTERN);
+        lPattern = DATE_TIME_SECONDS_PATTERN;
         break;
 
       case TIMESTAMP:
-        lDateFormat = new SimpleDateFormat(TIMESTAMP_PATTERN);
+        lPattern = TIMESTAMP_PATTERN;
         break;
 
       default:
-        lDateFormat = null;
+        lPattern = null;
         Assert.unexpectedEnumLiteral(pStringRepresentationType);
     }
-    return lDateFormat.format(pDate);
+    return lPattern;
+  }
+
+  /**
+   * Method parses a number with the passed number of digits. All characters must already be checked to be digits.
+   * 
+   * @param pText String that contains the number. The parameter must not be null.
+   * @param pFrom Index of the first digit.
+   * @param pDigits Number of digits of the number.
+   * @return int Parsed number.
+   */
+  private static int parseNumber( CharSequence pText, int pFrom, int pDigits ) {
+    int lNumber = 0;
+    for (int i = 0; i < pDigits; i++) {
+      lNumber = lNumber * 10 + (pText.charAt(pFrom + i) - '0');
+    }
+    return lNumber;
+  }
+
+  /**
+   * Method returns the first index of the passed string within the passed text.
+   * 
+   * @param pText Text that should be searched. The parameter must not be null.
+   * @param pString String that should be found. The parameter must not be null.
+   * @param pFrom Index from which the search starts.
+   * @return int Index of the first occurrence or -1 if the text does not contain the string.
+   */
+  private static int indexOf( CharSequence pText, String pString, int pFrom ) {
+    int lIndex = -1;
+    for (int i = pFrom; i <= pText.length() - pString.length(); i++) {
+      if (Period.regionMatches(pText, i, pString) == true) {
+        lIndex = i;
+        break;
+      }
+    }
+    return lIndex;
+  }
+
+  /**
+   * Method checks whether the passed text contains the passed string at the passed index.
+   * 
+   * @param pText Text that should be checked. The parameter must not be null.
+   * @param pFrom Index at which the string is expected.
+   * @param pString String that is expected. The parameter must not be null.
+   * @return boolean Method returns true if the text contains the string at the passed index and false in all other
+   * cases.
+   */
+  private static boolean regionMatches( CharSequence pText, int pFrom, String pString ) {
+    boolean lMatches = pFrom + pString.length() <= pText.length();
+    for (int i = 0; i < pString.length() && lMatches == true; i++) {
+      lMatches = pText.charAt(pFrom + i) == pString.charAt(i);
+    }
+    return lMatches;
+  }
+
+  /**
+   * Method creates the exception that is thrown if a string can not be parsed into a period.
+   * 
+   * @param pText String that could not be parsed. The parameter must not be null.
+   * @return {@link IllegalArgumentException} Exception that describes the problem. The method never returns null.
+   */
+  private static IllegalArgumentException createParseException( CharSequence pText ) {
+    return new IllegalArgumentException("'" + pText + "' is not a valid string representation of a period.");
+  }
+
+  /**
+   * Method writes this period to the passed stream. The serialized form consists of start and end as {@link Date}
+   * objects and thus is the same as the one of former versions. As start and end are final the serialized form is
+   * written explicitly.
+   * 
+   * @param pOutputStream Stream to which the period is written. The parameter must not be null.
+   * @throws IOException if an I/O error occurs.
+   */
+  private void writeObject( ObjectOutputStream pOutputStream ) throws IOException {
+    ObjectOutputStream.PutField lFields = pOutputStream.putFields();
+    lFields.put(START_ATTRIBUTE, this.getStart());
+    lFields.put(END_ATTRIBUTE, this.getEnd());
+    pOutputStream.writeFields();
+  }
+
+  /**
+   * Method reads a period from the passed stream. Such periods are always replaced by {@link #readResolve()}. As start
+   * and end are final the read period is only kept until then.
+   * 
+   * @param pInputStream Stream from which the period is read. The parameter must not be null.
+   * @throws IOException if an I/O error occurs or the stream does not contain a valid period.
+   * @throws ClassNotFoundException if the class of a serialized object can not be found.
+   */
+  private void readObject( ObjectInputStream pInputStream ) throws IOException, ClassNotFoundException {
+    ObjectInputStream.GetField lFields = pInputStream.readFields();
+    Date lStart = (Date) lFields.get(START_ATTRIBUTE, null);
+    Date lEnd = (Date) lFields.get(END_ATTRIBUTE, null);
+    try {
+      READ_PERIOD.set(new Period(lStart, lEnd));
+    }
+    catch (IllegalArgumentException e) {
+      InvalidObjectException lException = new InvalidObjectException(e.getMessage());
+      lException.initCause(e);
+      throw lException;
+    }
+  }
+
+  /**
+   * Method replaces a period that was read from a stream with the period of its serialized form.
+   * 
+   * @return {@link Object} Period that was read. The method never returns null.
+   * @throws ObjectStreamException if the serialized form does not contain a valid period.
+   */
+  private Object readResolve( ) throws ObjectStreamException {
+    Period lPeriod = READ_PERIOD.get();
+    READ_PERIOD.remove();
+    if (lPeriod == null) {
+      throw new InvalidObjectException("Serialized period does not contain start and end.");
+    }
+    return lPeriod;
+  }
+
+  /**
+   * Method converts the passed start of a period into milliseconds since 1970.
+   * 
+   * @param pStart Start of the period. The parameter may be null.
+   * @return long Milliseconds since 1970 or {@link #OPEN_BEGINNING} if null is passed.
+   */
+  private static long toStartMillis( Date pStart ) {
+    long lStart;
+    if (pStart != null) {
+      lStart = pStart.getTime();
+    }
+    else {
+      lStart = OPEN_BEGINNING;
+    }
+    return lStart;
+  }
+
+  /**
+   * Method converts the passed end of a period into milliseconds since 1970.
+   * 
+   * @param pEnd End of the period. The parameter may be null.
+   * @return long Milliseconds since 1970 or {@link #OPEN_END} if null is passed.
+   */
+  private static long toEndMillis( Date pEnd ) {
+    long lEnd;
+    if (pEnd != null) {
+      lEnd = pEnd.getTime();
+    }
+    else {
+      lEnd = OPEN_END;
+    }
+    return lEnd;
+  }
+
+  /**
+   * Method converts the passed start of a period into milliseconds since 1970.
+   * 
+   * @param pStart Start of the period. The parameter may be null.
+   * @return long Milliseconds since 1970 or {@link #OPEN_BEGINNING} if null is passed.
+   */
+  private static long toStartMillis( Instant pStart ) {
+    long lStart;
+    if (pStart != null) {
+      lStart = pStart.toEpochMilli();
+    }
+    else {
+      lStart = OPEN_BEGINNING;
+    }
+    return lStart;
+  }
+
+  /**
+   * Method converts the passed end of a period into milliseconds since 1970.
+   * 
+   * @param pEnd End of the period. The parameter may be null.
+   * @return long Milliseconds since 1970 or {@link #OPEN_END} if null is passed.
+   */
+  private static long toEndMillis( Instant pEnd ) {
+    long lEnd;
+    if (pEnd != null) {
+      lEnd = pEnd.toEpochMilli();
+    }
+    else {
+      lEnd = OPEN_END;
+    }
+    return lEnd;
   }
 
   public enum DateStringRepresentation {
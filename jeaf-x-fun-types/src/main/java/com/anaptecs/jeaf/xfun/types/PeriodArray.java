@@ -0,0 +1,294 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class stores large amounts of periods in columnar form. Starts and ends of all periods are kept in two parallel
+ * arrays as milliseconds since 1970. Open boundaries are stored as {@link Period#OPEN_BEGINNING} and
+ * {@link Period#OPEN_END}. Thus a period only needs 16 bytes instead of a {@link Period} object.
+ *
+ * Besides access to single periods the class provides batch operations that check all periods at once. Their loops do
+ * not contain any branches that depend on the data so that they can be optimized by the JIT compiler. Results are
+ * either counts or {@link BitSet}s with the indexes of all matching periods. All checks have exactly the same semantics
+ * as the corresponding methods of {@link Period}.
+ *
+ * Objects of this class are not thread safe.
+ *
+ * @author JEAF Development Team
+ */
+public final class PeriodArray {
+  /**
+   * Start of all periods.
+   */
+  private long[] starts;
+
+  /**
+   * End of all periods.
+   */
+  private long[] ends;
+
+  /**
+   * Number of periods.
+   */
+  private int size;
+
+  /**
+   * Initialize empty array.
+   *
+   * @param pInitialCapacity Number of periods that can be added before the array has to grow. The parameter must be
+   * zero or greater.
+   */
+  public PeriodArray( int pInitialCapacity ) {
+    // Check parameter.
+    Check.checkIsZeroOrGreater(pInitialCapacity, "pInitialCapacity");
+
+    starts = new long[pInitialCapacity];
+    ends = new long[pInitialCapacity];
+  }
+
+  /**
+   * Initialize array with the passed periods.
+   *
+   * @param pPeriods Periods that should be added. The parameter must not be null and must not contain null.
+   */
+  public PeriodArray( Collection<? extends Period> pPeriods ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriods, "pPeriods");
+
+    starts = new long[pPeriods.size()];
+    ends = new long[pPeriods.size()];
+    for (Period lPeriod : pPeriods) {
+      this.add(lPeriod);
+    }
+  }
+
+  /**
+   * Method returns the number of periods.
+   *
+   * @return int Number of periods.
+   */
+  public int size( ) {
+    return size;
+  }
+
+  /**
+   * Method adds the passed period.
+   *
+   * @param pPeriod Period that should be added. The parameter must not be null.
+   * @return int Index of the added period.
+   */
+  public int add( Period pPeriod ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriod, "pPeriod");
+
+    return this.add(pPeriod.getStartMillis(), pPeriod.getEndMillis());
+  }
+
+  /**
+   * Method adds the passed period.
+   *
+   * @param pStart Start of the period as milliseconds since 1970. {@link Period#OPEN_BEGINNING} defines an open
+   * beginning.
+   * @param pEnd End of the period as milliseconds since 1970. {@link Period#OPEN_END} defines an open end. The end must
+   * not be before the start.
+   * @return int Index of the added period.
+   */
+  public int add( long pStart, long pEnd ) {
+    // Check parameters.
+    if (pStart > pEnd) {
+      throw new IllegalArgumentException("Start " + pStart + " of a period must not be after its end " + pEnd + ".");
+    }
+
+    if (size == starts.length) {
+      int lCapacity = Math.max(size * 2, 16);
+      starts = Arrays.copyOf(starts, lCapacity);
+      ends = Arrays.copyOf(ends, lCapacity);
+    }
+    starts[size] = pStart;
+    ends[size] = pEnd;
+    size++;
+    return size - 1;
+  }
+
+  /**
+   * Method returns the start of the period with the passed index.
+   *
+   * @param pIndex Index of the period.
+   * @return long Start of the period or {@link Period#OPEN_BEGINNING} if the period has an open beginning.
+   */
+  public long getStart( int pIndex ) {
+    this.checkIndex(pIndex);
+    return starts[pIndex];
+  }
+
+  /**
+   * Method returns the end of the period with the passed index.
+   *
+   * @param pIndex Index of the period.
+   * @return long End of the period or {@link Period#OPEN_END} if the period has an open end.
+   */
+  public long getEnd( int pIndex ) {
+    this.checkIndex(pIndex);
+    return ends[pIndex];
+  }
+
+  /**
+   * Method returns the period with the passed index.
+   *
+   * @param pIndex Index of the period.
+   * @return {@link Period} Period with the passed index. The method never returns null.
+   */
+  public Period get( int pIndex ) {
+    this.checkIndex(pIndex);
+    return new Period(starts[pIndex], ends[pIndex]);
+  }
+
+  /**
+   * Method returns all periods as objects.
+   *
+   * @return {@link List} List with all periods in the order of their index. The method never returns null.
+   */
+  public List<Period> toList( ) {
+    List<Period> lPeriods = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      lPeriods.add(new Period(starts[i], ends[i]));
+    }
+    return lPeriods;
+  }
+
+  /**
+   * Method counts all periods that enclose the passed point of time (see {@link Period#isEnclosed(long)}).
+   *
+   * @param pPointOfTime Point of time as milliseconds since 1970.
+   * @return int Number of periods that enclose the passed point of time.
+   */
+  public int countEnclosing( long pPointOfTime ) {
+    final long[] lStarts = starts;
+    final long[] lEnds = ends;
+    long lCount = 0;
+    for (int i = 0; i < size; i++) {
+      lCount += 1 - (PeriodArray.lessThan(pPointOfTime, lStarts[i]) | PeriodArray.lessThan(lEnds[i], pPointOfTime));
+    }
+    return (int) lCount;
+  }
+
+  /**
+   * Method marks all periods that enclose the passed point of time (see {@link Period#isEnclosed(long)}).
+   *
+   * @param pPointOfTime Point of time as milliseconds since 1970.
+   * @return {@link BitSet} Bit set with the indexes of all periods that enclose the passed point of time. The method
+   * never returns null.
+   */
+  public BitSet findEnclosing( long pPointOfTime ) {
+    final long[] lStarts = starts;
+    final long[] lEnds = ends;
+    long[] lWords = new long[(size + Long.SIZE - 1) / Long.SIZE];
+    for (int i = 0; i < size; i++) {
+      long lMatch = 1 - (PeriodArray.lessThan(pPointOfTime, lStarts[i]) | PeriodArray.lessThan(lEnds[i], pPointOfTime));
+      lWords[i >>> 6] |= lMatch << i;
+    }
+    return BitSet.valueOf(lWords);
+  }
+
+  /**
+   * Method counts all periods that overlap with the passed period (see {@link Period#overlaps(Period)}).
+   *
+   * @param pPeriod Period that should be checked. The parameter must not be null.
+   * @return int Number of periods that overlap with the passed period.
+   */
+  public int countOverlapping( Period pPeriod ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriod, "pPeriod");
+
+    return this.countOverlapping(pPeriod.getStartMillis(), pPeriod.getEndMillis());
+  }
+
+  /**
+   * Method counts all periods that overlap with the passed period (see {@link Period#overlaps(Period)}). Like there
+   * periods that only touch the passed one do not overlap with it.
+   *
+   * @param pStart Start of the period as milliseconds since 1970. {@link Period#OPEN_BEGINNING} defines an open
+   * beginning.
+   * @param pEnd End of the period as milliseconds since 1970. {@link Period#OPEN_END} defines an open end.
+   * @return int Number of periods that overlap with the passed period.
+   */
+  public int countOverlapping( long pStart, long pEnd ) {
+    final long[] lStarts = starts;
+    final long[] lEnds = ends;
+    long lCount = 0;
+    for (int i = 0; i < size; i++) {
+      lCount += PeriodArray.lessThan(lStarts[i], pEnd) & PeriodArray.lessThan(pStart, lEnds[i]);
+    }
+    return (int) lCount;
+  }
+
+  /**
+   * Method marks all periods that overlap with the passed period (see {@link Period#overlaps(Period)}).
+   *
+   * @param pPeriod Period that should be checked. The parameter must not be null.
+   * @return {@link BitSet} Bit set with the indexes of all periods that overlap with the passed period. The method
+   * never returns null.
+   */
+  public BitSet findOverlapping( Period pPeriod ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriod, "pPeriod");
+
+    return this.findOverlapping(pPeriod.getStartMillis(), pPeriod.getEndMillis());
+  }
+
+  /**
+   * Method marks all periods that overlap with the passed period (see {@link Period#overlaps(Period)}). Like there
+   * periods that only touch the passed one do not overlap with it.
+   *
+   * @param pStart Start of the period as milliseconds since 1970. {@link Period#OPEN_BEGINNING} defines an open
+   * beginning.
+   * @param pEnd End of the period as milliseconds since 1970. {@link Period#OPEN_END} defines an open end.
+   * @return {@link BitSet} Bit set with the indexes of all periods that overlap with the passed period. The method
+   * never returns null.
+   */
+  public BitSet findOverlapping( long pStart, long pEnd ) {
+    final long[] lStarts = starts;
+    final long[] lEnds = ends;
+    long[] lWords = new long[(size + Long.SIZE - 1) / Long.SIZE];
+    for (int i = 0; i < size; i++) {
+      long lMatch = PeriodArray.lessThan(lStarts[i], pEnd) & PeriodArray.lessThan(pStart, lEnds[i]);
+      lWords[i >>> 6] |= lMatch << i;
+    }
+    return BitSet.valueOf(lWords);
+  }
+
+  /**
+   * Method compares the passed values without branches. In contrast to the sign of the difference the result is also
+   * correct if the difference overflows.
+   *
+   * @param pLeft Left value.
+   * @param pRight Right value.
+   * @return long 1 if the left value is less than the right one and 0 otherwise.
+   */
+  private static long lessThan( long pLeft, long pRight ) {
+    long lDifference = pLeft - pRight;
+    return (lDifference ^ ((pLeft ^ pRight) & (lDifference ^ pLeft))) >>> 63;
+  }
+
+  /**
+   * Method checks that the passed index is valid.
+   *
+   * @param pIndex Index that should be checked.
+   */
+  private void checkIndex( int pIndex ) {
+    if (pIndex < 0 || pIndex >= size) {
+      throw new IndexOutOfBoundsException("Index " + pIndex + " out of bounds for length " + size);
+    }
+  }
+}
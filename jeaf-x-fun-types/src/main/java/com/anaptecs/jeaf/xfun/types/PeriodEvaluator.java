@@ -0,0 +1,320 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class evaluates a predicate for large amounts of periods at once. The result is either returned as {@link BitSet}
+ * that contains the indexes of all matching periods or as list of the matching periods.
+ *
+ * As long as there are less than {@link #PARALLEL_THRESHOLD} periods they are evaluated sequentially in the calling
+ * thread. Larger amounts of periods are split into chunks that are evaluated by a {@link ForkJoinPool}. Therefore
+ * predicates must be thread safe. The predicates that are provided by this class, e.g. {@link #enclosing(long)}, are
+ * thread safe and do not create any objects during evaluation.
+ *
+ * @author JEAF Development Team
+ */
+public final class PeriodEvaluator {
+  /**
+   * Minimum number of periods that are evaluated in parallel.
+   */
+  public static final int PARALLEL_THRESHOLD = 16 * 1024;
+
+  /**
+   * Maximum number of periods that are evaluated by a single task. The value has to be a multiple of 64 so that every
+   * task writes its own words of the result.
+   */
+  private static final int CHUNK_SIZE = 4 * 1024;
+
+  /**
+   * Class only provides static methods.
+   */
+  private PeriodEvaluator( ) {
+    // Nothing to do.
+  }
+
+  /**
+   * Method returns a predicate that checks whether a period encloses the passed point of time.
+   *
+   * @param pPointOfTime Point of time as milliseconds since 1970.
+   * @return {@link Predicate} Predicate that calls {@link Period#isEnclosed(long)}. The method never returns null.
+   */
+  public static Predicate<Period> enclosing( long pPointOfTime ) {
+    return pPeriod -> pPeriod.isEnclosed(pPointOfTime);
+  }
+
+  /**
+   * Method returns a predicate that checks whether a period encloses the passed point of time.
+   *
+   * @param pPointOfTime Point of time that should be checked. The parameter must not be null.
+   * @return {@link Predicate} Predicate that calls {@link Period#isEnclosed(long)}. The method never returns null.
+   */
+  public static Predicate<Period> enclosing( Date pPointOfTime ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPointOfTime, "pPointOfTime");
+
+    return PeriodEvaluator.enclosing(pPointOfTime.getTime());
+  }
+
+  /**
+   * Method returns a predicate that checks whether a period overlaps with the passed one.
+   *
+   * @param pPeriod Period that should be checked. The parameter must not be null.
+   * @return {@link Predicate} Predicate that calls {@link Period#overlaps(Period)}. The method never returns null.
+   */
+  public static Predicate<Period> overlapping( Period pPeriod ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriod, "pPeriod");
+
+    return pOtherPeriod -> pOtherPeriod.overlaps(pPeriod);
+  }
+
+  /**
+   * Method returns a predicate that checks whether a period ends before the passed one starts.
+   *
+   * @param pPeriod Period that should be checked. The parameter must not be null.
+   * @return {@link Predicate} Predicate that calls {@link Period#endsBefore(Period)}. The method never returns null.
+   */
+  public static Predicate<Period> endingBefore( Period pPeriod ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriod, "pPeriod");
+
+    return pOtherPeriod -> pOtherPeriod.endsBefore(pPeriod);
+  }
+
+  /**
+   * Method evaluates the passed predicate for all passed periods. Large arrays are evaluated in parallel using the
+   * common pool.
+   *
+   * @param pPeriods Periods that should be evaluated. The parameter must not be null and must not contain null.
+   * @param pPredicate Predicate that should be evaluated. The parameter must not be null.
+   * @return {@link BitSet} Bit set that contains the indexes of all periods that match the predicate. The method never
+   * returns null.
+   */
+  public static BitSet evaluate( Period[] pPeriods, Predicate<? super Period> pPredicate ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriods, "pPeriods");
+
+    return PeriodEvaluator.evaluate(Arrays.asList(pPeriods), pPredicate, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method evaluates the passed predicate for all passed periods. Large collections are evaluated in parallel using the
+   * common pool.
+   *
+   * @param pPeriods Periods that should be evaluated. The parameter must not be null and must not contain null.
+   * @param pPredicate Predicate that should be evaluated. The parameter must not be null.
+   * @return {@link BitSet} Bit set that contains the indexes of all periods in iteration order that match the
+   * predicate. The method never returns null.
+   */
+  public static BitSet evaluate( Collection<? extends Period> pPeriods, Predicate<? super Period> pPredicate ) {
+    return PeriodEvaluator.evaluate(pPeriods, pPredicate, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method evaluates the passed predicate for all passed periods. Large collections are evaluated in parallel using the
+   * passed pool.
+   *
+   * @param pPeriods Periods that should be evaluated. The parameter must not be null and must not contain null.
+   * @param pPredicate Predicate that should be evaluated. The parameter must not be null.
+   * @param pPool Pool that is used for parallel evaluation. The parameter must not be null.
+   * @return {@link BitSet} Bit set that contains the indexes of all periods in iteration order that match the
+   * predicate. The method never returns null.
+   */
+  public static BitSet evaluate( Collection<? extends Period> pPeriods, Predicate<? super Period> pPredicate,
+      ForkJoinPool pPool ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pPeriods, "pPeriods");
+    Check.checkInvalidParameterNull(pPredicate, "pPredicate");
+    Check.checkInvalidParameterNull(pPool, "pPool");
+
+    BitSet lResult;
+    if (pPeriods.size() < PARALLEL_THRESHOLD) {
+      lResult = new BitSet(pPeriods.size());
+      int lIndex = 0;
+      for (Period lPeriod : pPeriods) {
+        if (pPredicate.test(lPeriod) == true) {
+          lResult.set(lIndex);
+        }
+        lIndex++;
+      }
+    }
+    else {
+      List<? extends Period> lPeriods = PeriodEvaluator.toRandomAccessList(pPeriods);
+      long[] lWords = new long[(lPeriods.size() + Long.SIZE - 1) / Long.SIZE];
+      pPool.invoke(new EvaluationTask(lPeriods, pPredicate, lWords, 0, lPeriods.size()));
+      lResult = BitSet.valueOf(lWords);
+    }
+    return lResult;
+  }
+
+  /**
+   * Method returns all passed periods that match the passed predicate. Large arrays are evaluated in parallel using the
+   * common pool.
+   *
+   * @param pPeriods Periods that should be filtered. The parameter must not be null and must not contain null.
+   * @param pPredicate Predicate that should be evaluated. The parameter must not be null.
+   * @return {@link List} List with all matching periods in their original order. The method never returns null.
+   */
+  public static <T extends Period> List<T> filter( T[] pPeriods, Predicate<? super Period> pPredicate ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriods, "pPeriods");
+
+    return PeriodEvaluator.filter(Arrays.asList(pPeriods), pPredicate, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method returns all passed periods that match the passed predicate. Large collections are evaluated in parallel
+   * using the common pool.
+   *
+   * @param pPeriods Periods that should be filtered. The parameter must not be null and must not contain null.
+   * @param pPredicate Predicate that should be evaluated. The parameter must not be null.
+   * @return {@link List} List with all matching periods in iteration order. The method never returns null.
+   */
+  public static <T extends Period> List<T> filter( Collection<T> pPeriods, Predicate<? super Period> pPredicate ) {
+    return PeriodEvaluator.filter(pPeriods, pPredicate, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Method returns all passed periods that match the passed predicate. Large collections are evaluated in parallel
+   * using the passed pool.
+   *
+   * @param pPeriods Periods that should be filtered. The parameter must not be null and must not contain null.
+   * @param pPredicate Predicate that should be evaluated. The parameter must not be null.
+   * @param pPool Pool that is used for parallel evaluation. The parameter must not be null.
+   * @return {@link List} List with all matching periods in iteration order. The method never returns null.
+   */
+  public static <T extends Period> List<T> filter( Collection<T> pPeriods, Predicate<? super Period> pPredicate,
+      ForkJoinPool pPool ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pPeriods, "pPeriods");
+    Check.checkInvalidParameterNull(pPredicate, "pPredicate");
+    Check.checkInvalidParameterNull(pPool, "pPool");
+
+    List<T> lResult;
+    if (pPeriods.size() < PARALLEL_THRESHOLD) {
+      lResult = new ArrayList<>();
+      for (T lPeriod : pPeriods) {
+        if (pPredicate.test(lPeriod) == true) {
+          lResult.add(lPeriod);
+        }
+      }
+    }
+    else {
+      List<T> lPeriods = PeriodEvaluator.toRandomAccessList(pPeriods);
+      BitSet lMatches = PeriodEvaluator.evaluate(lPeriods, pPredicate, pPool);
+      lResult = new ArrayList<>(lMatches.cardinality());
+      for (int i = lMatches.nextSetBit(0); i >= 0; i = lMatches.nextSetBit(i + 1)) {
+        lResult.add(lPeriods.get(i));
+      }
+    }
+    return lResult;
+  }
+
+  /**
+   * Method returns the passed collection as list that supports fast access by index.
+   *
+   * @param pPeriods Collection that should be converted. The parameter must not be null.
+   * @return {@link List} The passed collection itself if it already is such a list or a copy of it. The method never
+   * returns null.
+   */
+  private static <T> List<T> toRandomAccessList( Collection<T> pPeriods ) {
+    List<T> lList;
+    if (pPeriods instanceof List && pPeriods instanceof RandomAccess) {
+      lList = (List<T>) pPeriods;
+    }
+    else {
+      lList = new ArrayList<>(pPeriods);
+    }
+    return lList;
+  }
+
+  /**
+   * Class evaluates the predicate for a range of periods and splits the range as long as it is larger than
+   * {@link PeriodEvaluator#CHUNK_SIZE}.
+   */
+  private static final class EvaluationTask extends RecursiveAction {
+    /**
+     * Default serial version uid for this class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Periods that are evaluated.
+     */
+    private final List<? extends Period> periods;
+
+    /**
+     * Predicate that is evaluated.
+     */
+    private final Predicate<? super Period> predicate;
+
+    /**
+     * Words of the result. Bit i of word w is set if period 64 * w + i matches.
+     */
+    private final long[] words;
+
+    /**
+     * Index of the first period of this task. The index always is a multiple of 64.
+     */
+    private final int from;
+
+    /**
+     * Index after the last period of this task.
+     */
+    private final int to;
+
+    /**
+     * Initialize task.
+     *
+     * @param pPeriods Periods that are evaluated.
+     * @param pPredicate Predicate that is evaluated.
+     * @param pWords Words of the result.
+     * @param pFrom Index of the first period of this task.
+     * @param pTo Index after the last period of this task.
+     */
+    EvaluationTask( List<? extends Period> pPeriods, Predicate<? super Period> pPredicate, long[] pWords, int pFrom,
+        int pTo ) {
+      periods = pPeriods;
+      predicate = pPredicate;
+      words = pWords;
+      from = pFrom;
+      to = pTo;
+    }
+
+    /**
+     * Method evaluates the range of this task or splits it into two tasks.
+     */
+    @Override
+    protected void compute( ) {
+      if (to - from <= CHUNK_SIZE) {
+        // As ranges start at a multiple of 64 no other task writes to the same words.
+        for (int i = from; i < to; i++) {
+          if (predicate.test(periods.get(i)) == true) {
+            words[i >>> 6] |= 1L << i;
+          }
+        }
+      }
+      else {
+        int lMiddle = (from + (to - from) / 2) & -Long.SIZE;
+        invokeAll(new EvaluationTask(periods, predicate, words, from, lMiddle),
+            new EvaluationTask(periods, predicate, words, lMiddle, to));
+      }
+    }
+  }
+}
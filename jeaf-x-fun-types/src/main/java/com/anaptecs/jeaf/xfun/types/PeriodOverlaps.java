@@ -0,0 +1,298 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class finds all overlapping periods within a collection of periods. In contrast to calling
+ * {@link Period#getOverlappingPeriods(Collection)} for every period the periods are sorted by their start once and then
+ * processed in a single sweep. Thus finding all n periods with k overlapping pairs takes O(n log n + k) instead of
+ * O(n<sup>2</sup>).
+ *
+ * Two periods overlap exactly if {@link Period#overlaps(Period)} returns true. This means that periods that only touch
+ * each other at their boundaries do not overlap.
+ *
+ * @author JEAF Development Team
+ */
+public final class PeriodOverlaps {
+  /**
+   * Comparator orders periods by their start.
+   */
+  private static final Comparator<Period> START_ORDER = Comparator.comparingLong(Period::getStartMillis);
+
+  /**
+   * Class only provides static methods.
+   */
+  private PeriodOverlaps( ) {
+    // Nothing to do.
+  }
+
+  /**
+   * Method passes every pair of overlapping periods of the passed collection to the passed consumer. Every pair is only
+   * passed once. The first period of a pair never starts after the second one. No objects are created per pair.
+   *
+   * @param pPeriods Periods that should be checked for overlapping. The parameter must not be null and must not contain
+   * null.
+   * @param pConsumer Consumer to which all overlapping pairs are passed. The parameter must not be null.
+   */
+  public static <T extends Period> void forEachOverlappingPair( Collection<T> pPeriods,
+      BiConsumer<? super T, ? super T> pConsumer ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pPeriods, "pPeriods");
+    Check.checkInvalidParameterNull(pConsumer, "pConsumer");
+
+    T[] lSorted = PeriodOverlaps.sortByStart(pPeriods);
+    PeriodOverlaps.sweep(lSorted, ( pFirst, pSecond ) -> pConsumer.accept(lSorted[pFirst], lSorted[pSecond]));
+  }
+
+  /**
+   * Method returns all pairs of overlapping periods of the passed collection. Every pair is only returned once. The
+   * first period of a pair never starts after the second one.
+   *
+   * @param pPeriods Periods that should be checked for overlapping. The parameter must not be null and must not contain
+   * null.
+   * @return {@link List} List with all overlapping pairs. The method never returns null.
+   */
+  public static <T extends Period> List<Pair<T>> getOverlappingPairs( Collection<T> pPeriods ) {
+    List<Pair<T>> lPairs = new ArrayList<>();
+    PeriodOverlaps.forEachOverlappingPair(pPeriods, ( pFirst, pSecond ) -> lPairs.add(new Pair<>(pFirst, pSecond)));
+    return lPairs;
+  }
+
+  /**
+   * Method groups all overlapping periods of the passed collection into conflict clusters. Two periods belong to the
+   * same cluster if they overlap directly or through a chain of overlapping periods. Periods that do not overlap with
+   * any other period are not part of the result.
+   *
+   * @param pPeriods Periods that should be checked for overlapping. The parameter must not be null and must not contain
+   * null.
+   * @return {@link List} List with all clusters. Every cluster contains at least two periods ordered by their start.
+   * Clusters are ordered by the start of their first period. The method never returns null.
+   */
+  public static <T extends Period> List<List<T>> getConflictClusters( Collection<T> pPeriods ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriods, "pPeriods");
+
+    // Overlapping periods are merged into one cluster using union find.
+    T[] lSorted = PeriodOverlaps.sortByStart(pPeriods);
+    int[] lParents = new int[lSorted.length];
+    for (int i = 0; i < lParents.length; i++) {
+      lParents[i] = i;
+    }
+    PeriodOverlaps.sweep(lSorted, ( pFirst, pSecond ) -> {
+      int lFirstRoot = PeriodOverlaps.findRoot(lParents, pFirst);
+      int lSecondRoot = PeriodOverlaps.findRoot(lParents, pSecond);
+      // Root of a cluster always is its period with the lowest index.
+      if (lFirstRoot < lSecondRoot) {
+        lParents[lSecondRoot] = lFirstRoot;
+      }
+      else {
+        lParents[lFirstRoot] = lSecondRoot;
+      }
+    });
+
+    // As roots have the lowest index clusters are created in the order of their first period.
+    List<List<T>> lClusters = new ArrayList<>();
+    List<List<T>> lClustersByRoot = new ArrayList<>(lSorted.length);
+    for (int i = 0; i < lSorted.length; i++) {
+      int lRoot = PeriodOverlaps.findRoot(lParents, i);
+      List<T> lCluster;
+      if (lRoot == i) {
+        lCluster = new ArrayList<>(2);
+        lClusters.add(lCluster);
+      }
+      else {
+        lCluster = lClustersByRoot.get(lRoot);
+      }
+      lCluster.add(lSorted[i]);
+      lClustersByRoot.add(lCluster);
+    }
+    lClusters.removeIf(pCluster -> pCluster.size() < 2);
+    return lClusters;
+  }
+
+  /**
+   * Method returns the passed periods as array that is sorted by their start.
+   *
+   * @param pPeriods Periods that should be sorted. The parameter must not be null.
+   * @return T[] Array with all periods sorted by their start. The method never returns null.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T extends Period> T[] sortByStart( Collection<T> pPeriods ) {
+    T[] lSorted = (T[]) pPeriods.toArray(new Period[pPeriods.size()]);
+    Arrays.sort(lSorted, START_ORDER);
+    return lSorted;
+  }
+
+  /**
+   * Method sweeps over the passed periods and reports the indexes of all overlapping pairs.
+   *
+   * @param pSorted Periods sorted by their start. The parameter must not be null.
+   * @param pConsumer Consumer to which the indexes of all overlapping pairs are passed. The parameter must not be null.
+   */
+  private static void sweep( Period[] pSorted, IndexPairConsumer pConsumer ) {
+    // Indexes of all periods that started before the current one and that may still overlap with it.
+    int[] lActive = new int[Math.min(pSorted.length, 16)];
+    int lActiveCount = 0;
+    for (int i = 0; i < pSorted.length; i++) {
+      Period lCurrent = pSorted[i];
+      long lStart = lCurrent.getStartMillis();
+      long lEnd = lCurrent.getEndMillis();
+
+      // Periods that end before or at the start of the current one are removed as they can not overlap with any of the
+      // following periods. All other active periods start before or together with the current one and end after its
+      // start. Thus they overlap unless the current period is empty and starts together with them.
+      int lRemaining = 0;
+      for (int j = 0; j < lActiveCount; j++) {
+        Period lActivePeriod = pSorted[lActive[j]];
+        if (lActivePeriod.getEndMillis() > lStart) {
+          lActive[lRemaining] = lActive[j];
+          lRemaining++;
+          if (lActivePeriod.getStartMillis() < lEnd) {
+            pConsumer.accept(lActive[j], i);
+          }
+        }
+      }
+      lActiveCount = lRemaining;
+
+      if (lActiveCount == lActive.length) {
+        lActive = Arrays.copyOf(lActive, lActive.length * 2);
+      }
+      lActive[lActiveCount] = i;
+      lActiveCount++;
+    }
+  }
+
+  /**
+   * Method returns the root of the cluster of the passed period and compresses the path to it.
+   *
+   * @param pParents Parent of every period. The parameter must not be null.
+   * @param pIndex Index of the period.
+   * @return int Index of the root of the cluster.
+   */
+  private static int findRoot( int[] pParents, int pIndex ) {
+    int lRoot = pIndex;
+    while (pParents[lRoot] != lRoot) {
+      lRoot = pParents[lRoot];
+    }
+    int lIndex = pIndex;
+    while (pParents[lIndex] != lRoot) {
+      int lNext = pParents[lIndex];
+      pParents[lIndex] = lRoot;
+      lIndex = lNext;
+    }
+    return lRoot;
+  }
+
+  /**
+   * Interface is used to report the indexes of overlapping periods without boxing.
+   */
+  @FunctionalInterface
+  private interface IndexPairConsumer {
+    /**
+     * Method is called for every pair of overlapping periods.
+     *
+     * @param pFirst Index of the period that starts first.
+     * @param pSecond Index of the period that starts second.
+     */
+    void accept( int pFirst, int pSecond );
+  }
+
+  /**
+   * Class represents a pair of overlapping periods.
+   *
+   * @param <T> Type of the periods.
+   */
+  public static final class Pair<T extends Period> {
+    /**
+     * Period that starts first.
+     */
+    private final T first;
+
+    /**
+     * Period that starts second.
+     */
+    private final T second;
+
+    /**
+     * Initialize pair.
+     *
+     * @param pFirst Period that starts first. The parameter must not be null.
+     * @param pSecond Period that starts second. The parameter must not be null.
+     */
+    Pair( T pFirst, T pSecond ) {
+      first = pFirst;
+      second = pSecond;
+    }
+
+    /**
+     * Method returns the period that starts first.
+     *
+     * @return T Period that starts first. The method never returns null.
+     */
+    public T getFirst( ) {
+      return first;
+    }
+
+    /**
+     * Method returns the period that starts second.
+     *
+     * @return T Period that starts second. The method never returns null.
+     */
+    public T getSecond( ) {
+      return second;
+    }
+
+    /**
+     * Method returns the hash code of this pair.
+     *
+     * @return int Hash code of this pair.
+     */
+    @Override
+    public int hashCode( ) {
+      return Objects.hash(first, second);
+    }
+
+    /**
+     * Method checks whether the passed object is an equal pair.
+     *
+     * @param pObject Object that should be compared with this object. The parameter may be null.
+     * @return boolean The method returns true if the passed object is a pair with equal periods in the same order and
+     * false in all other cases.
+     */
+    @Override
+    public boolean equals( Object pObject ) {
+      boolean lIsEqual;
+      if (pObject instanceof Pair) {
+        Pair<?> lOtherPair = (Pair<?>) pObject;
+        lIsEqual = first.equals(lOtherPair.first) && second.equals(lOtherPair.second);
+      }
+      else {
+        lIsEqual = false;
+      }
+      return lIsEqual;
+    }
+
+    /**
+     * Method returns a string representation of this pair.
+     *
+     * @return {@link String} String representation of this pair. The method never returns null.
+     */
+    @Override
+    public String toString( ) {
+      return "[" + first + "] <-> [" + second + "]";
+    }
+  }
+}
@@ -0,0 +1,410 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class represents a set of points in time as sorted list of disjoint periods. Whenever a set is created its periods
+ * are normalized. This means that overlapping or adjacent periods are merged into one period. Thus two sets that cover
+ * the same points in time are always equal.
+ *
+ * Like {@link Period#isEnclosed(long)} every period covers all milliseconds from its start up to and including its
+ * end. Therefore a period that ends one millisecond before the next one starts is adjacent to it. In the same way the
+ * complement of a set and the gaps between its periods start one millisecond after the end of a period and end one
+ * millisecond before the start of the next period. Open boundaries are handled like points in time before or after all
+ * other points in time.
+ *
+ * All set operations merge the sorted periods of both sets in a single pass and thus run in linear time. Checks for
+ * single points in time use binary search.
+ *
+ * The class is immutable.
+ *
+ * @author JEAF Development Team
+ */
+public final class PeriodSet implements Serializable {
+  /**
+   * Constant for an empty set of periods.
+   */
+  public static final PeriodSet EMPTY = new PeriodSet(new long[0], 0);
+
+  /**
+   * Default serial version uid for this class.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Comparator orders periods by their start.
+   */
+  private static final Comparator<Period> START_ORDER = Comparator.comparingLong(Period::getStartMillis);
+
+  /**
+   * Start and end of all periods of this set as milliseconds since 1970. The start of a period is stored at an even
+   * index followed by its end. Periods are sorted, disjoint and not adjacent.
+   */
+  private final long[] bounds;
+
+  /**
+   * Initialize set with the passed periods.
+   *
+   * @param pPeriods Periods that should be covered by the set. The parameter must not be null and must not contain
+   * null.
+   */
+  public PeriodSet( Collection<Period> pPeriods ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriods, "pPeriods");
+
+    Period[] lSorted = pPeriods.toArray(new Period[pPeriods.size()]);
+    Arrays.sort(lSorted, START_ORDER);
+    long[] lBounds = new long[lSorted.length * 2];
+    int lLength = 0;
+    for (Period lPeriod : lSorted) {
+      lLength = PeriodSet.append(lBounds, lLength, lPeriod.getStartMillis(), lPeriod.getEndMillis());
+    }
+    bounds = Arrays.copyOf(lBounds, lLength);
+  }
+
+  /**
+   * Initialize set with the passed periods.
+   *
+   * @param pPeriods Periods that should be covered by the set. The parameter must not be null and must not contain
+   * null.
+   */
+  public PeriodSet( Period... pPeriods ) {
+    this(Arrays.asList(pPeriods));
+  }
+
+  /**
+   * Initialize set with already normalized bounds.
+   *
+   * @param pBounds Normalized bounds of all periods. The parameter must not be null.
+   * @param pLength Number of used elements of the passed array.
+   */
+  private PeriodSet( long[] pBounds, int pLength ) {
+    if (pBounds.length == pLength) {
+      bounds = pBounds;
+    }
+    else {
+      bounds = Arrays.copyOf(pBounds, pLength);
+    }
+  }
+
+  /**
+   * Method returns the number of disjoint periods of this set.
+   *
+   * @return int Number of periods.
+   */
+  public int size( ) {
+    return bounds.length / 2;
+  }
+
+  /**
+   * Method checks whether this set is empty.
+   *
+   * @return boolean Method returns true if the set does not contain any period and false in all other cases.
+   */
+  public boolean isEmpty( ) {
+    return bounds.length == 0;
+  }
+
+  /**
+   * Method returns all disjoint periods of this set.
+   *
+   * @return {@link List} Unmodifiable list with all periods sorted by their start. The method never returns null.
+   */
+  public List<Period> getPeriods( ) {
+    return PeriodSet.toPeriods(bounds, bounds.length);
+  }
+
+  /**
+   * Method returns the gaps between the periods of this set. In contrast to {@link #complement()} the time before the
+   * first and after the last period is not part of the result.
+   *
+   * @return {@link List} Unmodifiable list with all gaps sorted by their start. The method never returns null.
+   */
+  public List<Period> getGaps( ) {
+    long[] lGaps = new long[Math.max(bounds.length - 2, 0)];
+    for (int i = 1; i < bounds.length - 1; i = i + 2) {
+      lGaps[i - 1] = bounds[i] + 1;
+      lGaps[i] = bounds[i + 1] - 1;
+    }
+    return PeriodSet.toPeriods(lGaps, lGaps.length);
+  }
+
+  /**
+   * Method checks whether the passed point of time is covered by this set.
+   *
+   * @param pPointOfTime Point of time as milliseconds since 1970.
+   * @return boolean Method returns true if one of the periods of this set encloses the passed point of time and false
+   * in all other cases.
+   */
+  public boolean contains( long pPointOfTime ) {
+    int lIndex = this.findPeriod(pPointOfTime);
+    return lIndex >= 0 && pPointOfTime <= bounds[lIndex + 1];
+  }
+
+  /**
+   * Method checks whether the passed point of time is covered by this set.
+   *
+   * @param pPointOfTime Point of time that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if one of the periods of this set encloses the passed point of time and false
+   * in all other cases.
+   */
+  public boolean contains( Instant pPointOfTime ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPointOfTime, "pPointOfTime");
+
+    return this.contains(pPointOfTime.toEpochMilli());
+  }
+
+  /**
+   * Method checks whether the passed point of time is covered by this set.
+   *
+   * @param pPointOfTime Point of time that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if one of the periods of this set encloses the passed point of time and false
+   * in all other cases.
+   */
+  public boolean contains( Date pPointOfTime ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPointOfTime, "pPointOfTime");
+
+    return this.contains(pPointOfTime.getTime());
+  }
+
+  /**
+   * Method checks whether the passed period is completely covered by this set.
+   *
+   * @param pPeriod Period that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the passed period is completely covered by this set and false in all other
+   * cases.
+   */
+  public boolean contains( Period pPeriod ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPeriod, "pPeriod");
+
+    // As periods of this set are not adjacent the passed period has to be enclosed by a single one.
+    int lIndex = this.findPeriod(pPeriod.getStartMillis());
+    return lIndex >= 0 && pPeriod.getEndMillis() <= bounds[lIndex + 1];
+  }
+
+  /**
+   * Method returns the union of this set and the passed one.
+   *
+   * @param pOther Set that should be united with this one. The parameter must not be null.
+   * @return {@link PeriodSet} Set that covers all points in time that are covered by at least one of both sets. The
+   * method never returns null.
+   */
+  public PeriodSet union( PeriodSet pOther ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pOther, "pOther");
+
+    long[] lOtherBounds = pOther.bounds;
+    long[] lResult = new long[bounds.length + lOtherBounds.length];
+    int lLength = 0;
+    int i = 0;
+    int j = 0;
+    while (i < bounds.length || j < lOtherBounds.length) {
+      if (j == lOtherBounds.length || (i < bounds.length && bounds[i] <= lOtherBounds[j])) {
+        lLength = PeriodSet.append(lResult, lLength, bounds[i], bounds[i + 1]);
+        i = i + 2;
+      }
+      else {
+        lLength = PeriodSet.append(lResult, lLength, lOtherBounds[j], lOtherBounds[j + 1]);
+        j = j + 2;
+      }
+    }
+    return new PeriodSet(lResult, lLength);
+  }
+
+  /**
+   * Method returns the intersection of this set and the passed one.
+   *
+   * @param pOther Set that should be intersected with this one. The parameter must not be null.
+   * @return {@link PeriodSet} Set that covers all points in time that are covered by both sets. The method never
+   * returns null.
+   */
+  public PeriodSet intersection( PeriodSet pOther ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pOther, "pOther");
+
+    long[] lOtherBounds = pOther.bounds;
+    long[] lResult = new long[bounds.length + lOtherBounds.length];
+    int lLength = 0;
+    int i = 0;
+    int j = 0;
+    while (i < bounds.length && j < lOtherBounds.length) {
+      long lStart = Math.max(bounds[i], lOtherBounds[j]);
+      long lEnd = Math.min(bounds[i + 1], lOtherBounds[j + 1]);
+      if (lStart <= lEnd) {
+        lLength = PeriodSet.append(lResult, lLength, lStart, lEnd);
+      }
+      // Period that ends first can not intersect with any further period of the other set.
+      if (bounds[i + 1] <= lOtherBounds[j + 1]) {
+        i = i + 2;
+      }
+      else {
+        j = j + 2;
+      }
+    }
+    return new PeriodSet(lResult, lLength);
+  }
+
+  /**
+   * Method returns the difference of this set and the passed one.
+   *
+   * @param pOther Set that should be subtracted from this one. The parameter must not be null.
+   * @return {@link PeriodSet} Set that covers all points in time that are covered by this set but not by the passed
+   * one. The method never returns null.
+   */
+  public PeriodSet difference( PeriodSet pOther ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pOther, "pOther");
+
+    return this.intersection(pOther.complement());
+  }
+
+  /**
+   * Method returns the complement of this set.
+   *
+   * @return {@link PeriodSet} Set that covers all points in time that are not covered by this set. The method never
+   * returns null.
+   */
+  public PeriodSet complement( ) {
+    long[] lResult = new long[bounds.length + 2];
+    int lLength = 0;
+    long lNextStart = Period.OPEN_BEGINNING;
+    boolean lOpenEnd = false;
+    for (int i = 0; i < bounds.length; i = i + 2) {
+      if (bounds[i] != Period.OPEN_BEGINNING) {
+        lResult[lLength] = lNextStart;
+        lResult[lLength + 1] = bounds[i] - 1;
+        lLength = lLength + 2;
+      }
+      if (bounds[i + 1] != Period.OPEN_END) {
+        lNextStart = bounds[i + 1] + 1;
+      }
+      else {
+        lOpenEnd = true;
+      }
+    }
+    if (lOpenEnd == false) {
+      lResult[lLength] = lNextStart;
+      lResult[lLength + 1] = Period.OPEN_END;
+      lLength = lLength + 2;
+    }
+    return new PeriodSet(lResult, lLength);
+  }
+
+  /**
+   * Method returns the hash code of this set.
+   *
+   * @return int Hash code of this set.
+   */
+  @Override
+  public int hashCode( ) {
+    return Arrays.hashCode(bounds);
+  }
+
+  /**
+   * Method checks whether the passed object is a set that covers the same points in time.
+   *
+   * @param pObject Object that should be compared with this object. The parameter may be null.
+   * @return boolean The method returns true if the passed object is an equal set and false in all other cases.
+   */
+  @Override
+  public boolean equals( Object pObject ) {
+    boolean lIsEqual;
+    if (pObject instanceof PeriodSet) {
+      lIsEqual = Arrays.equals(bounds, ((PeriodSet) pObject).bounds);
+    }
+    else {
+      lIsEqual = false;
+    }
+    return lIsEqual;
+  }
+
+  /**
+   * Method returns a string representation of this set with all its periods.
+   *
+   * @return {@link String} String representation of this set. The method never returns null.
+   */
+  @Override
+  public String toString( ) {
+    return this.getPeriods().toString();
+  }
+
+  /**
+   * Method returns the index of the start of the last period that starts before or at the passed point of time.
+   *
+   * @param pPointOfTime Point of time as milliseconds since 1970.
+   * @return int Index of the start of the period or -1 if all periods start after the passed point of time.
+   */
+  private int findPeriod( long pPointOfTime ) {
+    int lLow = 0;
+    int lHigh = bounds.length / 2 - 1;
+    int lResult = -1;
+    while (lLow <= lHigh) {
+      int lMiddle = (lLow + lHigh) >>> 1;
+      if (bounds[lMiddle * 2] <= pPointOfTime) {
+        lResult = lMiddle * 2;
+        lLow = lMiddle + 1;
+      }
+      else {
+        lHigh = lMiddle - 1;
+      }
+    }
+    return lResult;
+  }
+
+  /**
+   * Method appends the passed period to the passed bounds. The period must not start before the last period of the
+   * bounds. If it overlaps with or is adjacent to the last period both are merged.
+   *
+   * @param pBounds Bounds to which the period should be appended. The array must be large enough.
+   * @param pLength Number of used elements of the passed array.
+   * @param pStart Start of the period that should be appended.
+   * @param pEnd End of the period that should be appended.
+   * @return int New number of used elements of the passed array.
+   */
+  private static int append( long[] pBounds, int pLength, long pStart, long pEnd ) {
+    int lLength;
+    if (pLength > 0 && (pBounds[pLength - 1] == Period.OPEN_END || pStart <= pBounds[pLength - 1] + 1)) {
+      pBounds[pLength - 1] = Math.max(pBounds[pLength - 1], pEnd);
+      lLength = pLength;
+    }
+    else {
+      pBounds[pLength] = pStart;
+      pBounds[pLength + 1] = pEnd;
+      lLength = pLength + 2;
+    }
+    return lLength;
+  }
+
+  /**
+   * Method converts the passed bounds into periods.
+   *
+   * @param pBounds Bounds of the periods. The parameter must not be null.
+   * @param pLength Number of used elements of the passed array.
+   * @return {@link List} Unmodifiable list with all periods. The method never returns null.
+   */
+  private static List<Period> toPeriods( long[] pBounds, int pLength ) {
+    List<Period> lPeriods = new ArrayList<>(pLength / 2);
+    for (int i = 0; i < pLength; i = i + 2) {
+      lPeriods.add(new Period(pBounds[i], pBounds[i + 1]));
+    }
+    return Collections.unmodifiableList(lPeriods);
+  }
+}
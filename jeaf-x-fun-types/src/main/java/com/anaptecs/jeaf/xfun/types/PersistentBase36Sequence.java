@@ -0,0 +1,350 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements a {@link Base36Sequence} whose state survives restarts of the JVM. Therefore the sequence keeps a
+ * high-water mark in a small memory-mapped checkpoint file. Numbers are only handed out if they are below a high-water
+ * mark that was already forced to disk. The high-water mark is moved forward in leases of a configurable size so that
+ * one write to disk covers a whole lease of numbers.
+ *
+ * When a sequence is created for an existing checkpoint file it resumes with the last durable high-water mark. Numbers
+ * of a lease that were not handed out before the JVM stopped will be skipped.
+ *
+ * The checkpoint file contains two slots for the high-water mark which are written alternately. Each slot is protected
+ * by a checksum so that a write that was interrupted by a crash can not destroy the last durable high-water mark.
+ *
+ * A checkpoint file must only be used by one sequence at the same time. This is ensured by a file lock.
+ *
+ * @author JEAF Development Team
+ */
+public class PersistentBase36Sequence extends Base36Sequence implements Closeable {
+  /**
+   * Checkpoint file of this sequence.
+   */
+  private final Checkpoint checkpoint;
+
+  /**
+   * Number of values by which the high-water mark is moved forward at once.
+   */
+  private final int leaseSize;
+
+  /**
+   * All values below the lease end are covered by the durable high-water mark and thus can be handed out.
+   */
+  private volatile long leaseEnd;
+
+  /**
+   * Attribute indicates whether this sequence was already closed.
+   */
+  private boolean closed;
+
+  /**
+   * Initialize sequence. If the passed checkpoint file does not exist or is empty the sequence starts with the passed
+   * initial value. Otherwise the sequence resumes with the high-water mark that is stored in the checkpoint file.
+   *
+   * @param pCheckpointFile Checkpoint file of the sequence. The parameter must not be null.
+   * @param pInitialValue Initial value of the sequence. The number of digits of the passed value defines the number of
+   * digits of all numbers of the sequence. In case of an existing checkpoint file the number of digits must match to
+   * the one that is stored in the file. The parameter must not be null.
+   * @param pLeaseSize Number of values by which the high-water mark is moved forward at once. The parameter must be
+   * greater than zero.
+   * @throws IOException in case that the checkpoint file can not be accessed or is corrupt.
+   */
+  public PersistentBase36Sequence( Path pCheckpointFile, Base36 pInitialValue, int pLeaseSize ) throws IOException {
+    // Lease size is checked before the checkpoint file is opened so that an invalid call does not create a file.
+    this(PersistentBase36Sequence.checkLeaseSize(pLeaseSize), new Checkpoint(pCheckpointFile, pInitialValue));
+  }
+
+  /**
+   * Initialize sequence.
+   *
+   * @param pLeaseSize Number of values by which the high-water mark is moved forward at once.
+   * @param pCheckpoint Already opened checkpoint file. The parameter must not be null.
+   */
+  private PersistentBase36Sequence( int pLeaseSize, Checkpoint pCheckpoint ) {
+    super(pCheckpoint.digits, pCheckpoint.resumeValue);
+    checkpoint = pCheckpoint;
+    leaseSize = pLeaseSize;
+    leaseEnd = pCheckpoint.resumeValue;
+  }
+
+  /**
+   * Method checks the passed lease size.
+   *
+   * @param pLeaseSize Lease size that should be checked. The parameter must be greater than zero.
+   * @return int Passed lease size.
+   */
+  private static int checkLeaseSize( int pLeaseSize ) {
+    if (pLeaseSize <= 0) {
+      throw new IllegalArgumentException("Parameter 'pLeaseSize' must be greater than zero but is " + pLeaseSize + ".");
+    }
+    return pLeaseSize;
+  }
+
+  /**
+   * Method returns the current high-water mark of the sequence. All numbers that were handed out are below this value.
+   * Once the sequence is exhausted the high-water mark is 36 to the power of the number of digits of the sequence. This
+   * value can not be represented as {@link Base36} with the number of digits of the sequence.
+   *
+   * @return long Numeric value of the current durable high-water mark.
+   */
+  public long getHighWaterMark( ) {
+    return leaseEnd;
+  }
+
+  /**
+   * Method ensures that the passed value is covered by a durable lease before it is handed out.
+   *
+   * @param pLastValue Highest value that will be handed out.
+   */
+  @Override
+  void beforeIssue( long pLastValue ) {
+    if (pLastValue >= leaseEnd) {
+      this.extendLease(pLastValue);
+    }
+  }
+
+  /**
+   * Method moves the high-water mark forward so that the passed value is covered by the lease.
+   *
+   * @param pLastValue Highest value that has to be covered by the lease.
+   */
+  private synchronized void extendLease( long pLastValue ) {
+    // Lease might already have been extended by another thread.
+    if (pLastValue >= leaseEnd) {
+      if (closed == true) {
+        throw new IllegalStateException("Base 36 sequence is already closed.");
+      }
+      long lNewLeaseEnd = Math.min(Math.max(leaseEnd, pLastValue) + leaseSize, this.getMaxValue() + 1);
+      checkpoint.write(lNewLeaseEnd);
+      leaseEnd = lNewLeaseEnd;
+    }
+  }
+
+  /**
+   * Method closes the checkpoint file of this sequence. Numbers of the current lease can still be handed out but the
+   * lease can not be extended any longer.
+   */
+  @Override
+  public synchronized void close( ) {
+    if (closed == false) {
+      closed = true;
+      checkpoint.close();
+    }
+  }
+
+  /**
+   * Class represents the memory-mapped checkpoint file of a persistent sequence.
+   */
+  private static final class Checkpoint {
+    /**
+     * Magic number that identifies a checkpoint file ("B36S").
+     */
+    private static final int MAGIC = 0x42333653;
+
+    /**
+     * Offset of the number of digits inside the checkpoint file.
+     */
+    private static final int DIGITS_OFFSET = 4;
+
+    /**
+     * Offset of the first slot for the high-water mark. Every slot consists of the high-water mark and its checksum.
+     */
+    private static final int FIRST_SLOT_OFFSET = 8;
+
+    /**
+     * Size of one slot in bytes.
+     */
+    private static final int SLOT_SIZE = 16;
+
+    /**
+     * Size of the checkpoint file in bytes.
+     */
+    private static final int FILE_SIZE = FIRST_SLOT_OFFSET + 2 * SLOT_SIZE;
+
+    /**
+     * File channel of the checkpoint file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Lock on the checkpoint file.
+     */
+    private final FileLock lock;
+
+    /**
+     * Memory-mapped content of the checkpoint file.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Number of digits of the numbers of the sequence.
+     */
+    private final int digits;
+
+    /**
+     * Numeric value with which the sequence resumes. If the sequence is exhausted the value is 36 to the power of
+     * {@link #digits}.
+     */
+    private final long resumeValue;
+
+    /**
+     * Index of the slot that will be written next.
+     */
+    private int nextSlot;
+
+    /**
+     * Open checkpoint file.
+     *
+     * @param pCheckpointFile Checkpoint file that should be opened. The parameter must not be null.
+     * @param pInitialValue Initial value of the sequence that is used for new checkpoint files. The parameter must not
+     * be null.
+     * @throws IOException in case that the checkpoint file can not be accessed or is corrupt.
+     */
+    Checkpoint( Path pCheckpointFile, Base36 pInitialValue ) throws IOException {
+      // Check parameters.
+      Check.checkInvalidParameterNull(pCheckpointFile, "pCheckpointFile");
+      Check.checkInvalidParameterNull(pInitialValue, "pInitialValue");
+      final int lDigits = pInitialValue.getMaxLength();
+      if (lDigits > Base36.MAX_COMPACT_DIGITS) {
+        throw new IllegalArgumentException(
+            "Base 36 sequences support at most " + Base36.MAX_COMPACT_DIGITS + " digits but not " + lDigits + ".");
+      }
+      digits = lDigits;
+
+      channel = FileChannel.open(pCheckpointFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+      try {
+        lock = channel.tryLock();
+        if (lock == null) {
+          throw new IOException("Checkpoint file " + pCheckpointFile + " is already in use.");
+        }
+        final long lFileSize = channel.size();
+        buffer = channel.map(MapMode.READ_WRITE, 0, FILE_SIZE);
+
+        // New checkpoint file
+        if (lFileSize == 0) {
+          buffer.putInt(0, MAGIC);
+          buffer.putInt(DIGITS_OFFSET, lDigits);
+          long lInitialValue = pInitialValue.toLong();
+          this.writeSlot(0, lInitialValue);
+          this.writeSlot(1, lInitialValue);
+          buffer.force();
+          resumeValue = lInitialValue;
+        }
+        // Existing checkpoint file
+        else {
+          if (lFileSize != FILE_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("File " + pCheckpointFile + " is not a valid checkpoint file.");
+          }
+          if (buffer.getInt(DIGITS_OFFSET) != lDigits) {
+            throw new IOException("Checkpoint file " + pCheckpointFile + " belongs to a sequence with "
+                + buffer.getInt(DIGITS_OFFSET) + " digits but not " + lDigits + ".");
+          }
+          // Resume with the highest valid high-water mark. The slot with the other one will be overwritten next.
+          final long lFirstSlot = this.readSlot(0);
+          final long lSecondSlot = this.readSlot(1);
+          final long lHighWaterMark = Math.max(lFirstSlot, lSecondSlot);
+          // A high-water mark of 36^digits marks an exhausted sequence.
+          if (lHighWaterMark < 0 || lHighWaterMark > Base36Sequence.getUpperBound(lDigits)) {
+            throw new IOException("Checkpoint file " + pCheckpointFile + " is corrupt.");
+          }
+          if (lFirstSlot == lHighWaterMark) {
+            nextSlot = 1;
+          }
+          resumeValue = Math.max(lHighWaterMark, pInitialValue.toLong());
+        }
+      }
+      catch (OverlappingFileLockException e) {
+        channel.close();
+        throw new IOException("Checkpoint file " + pCheckpointFile + " is already in use.", e);
+      }
+      // Channel and with it the lock must not leak whatever goes wrong.
+      catch (RuntimeException | IOException e) {
+        channel.close();
+        throw e;
+      }
+    }
+
+    /**
+     * Method writes the passed high-water mark to the checkpoint file and forces it to disk.
+     *
+     * @param pHighWaterMark High-water mark that should be written.
+     */
+    void write( long pHighWaterMark ) {
+      this.writeSlot(nextSlot, pHighWaterMark);
+      buffer.force();
+      nextSlot = 1 - nextSlot;
+    }
+
+    /**
+     * Method writes the passed high-water mark to the passed slot.
+     *
+     * @param pSlot Index of the slot.
+     * @param pHighWaterMark High-water mark that should be written.
+     */
+    private void writeSlot( int pSlot, long pHighWaterMark ) {
+      final int lOffset = FIRST_SLOT_OFFSET + pSlot * SLOT_SIZE;
+      buffer.putLong(lOffset, pHighWaterMark);
+      buffer.putLong(lOffset + Long.BYTES, Checkpoint.checksum(pHighWaterMark));
+    }
+
+    /**
+     * Method reads the high-water mark from the passed slot.
+     *
+     * @param pSlot Index of the slot.
+     * @return long High-water mark of the slot or -1 if the slot is invalid.
+     */
+    private long readSlot( int pSlot ) {
+      final int lOffset = FIRST_SLOT_OFFSET + pSlot * SLOT_SIZE;
+      long lHighWaterMark = buffer.getLong(lOffset);
+      long lResult;
+      if (lHighWaterMark >= 0 && buffer.getLong(lOffset + Long.BYTES) == Checkpoint.checksum(lHighWaterMark)) {
+        lResult = lHighWaterMark;
+      }
+      else {
+        lResult = -1;
+      }
+      return lResult;
+    }
+
+    /**
+     * Method calculates the checksum of the passed high-water mark.
+     *
+     * @param pHighWaterMark High-water mark whose checksum should be calculated.
+     * @return long Checksum of the passed value.
+     */
+    private static long checksum( long pHighWaterMark ) {
+      return Long.rotateLeft(pHighWaterMark * 0x9E3779B97F4A7C15L, 31) ^ MAGIC;
+    }
+
+    /**
+     * Method releases the lock on the checkpoint file and closes it.
+     */
+    void close( ) {
+      try {
+        lock.release();
+        channel.close();
+      }
+      catch (IOException e) {
+        throw new IllegalStateException("Unable to close checkpoint file.", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class provides order-preserving binary encodings with a fixed length for {@link Base36} numbers and {@link Period}s.
+ * Comparing two encoded keys byte by byte as unsigned values (e.g. with
+ * {@link java.util.Arrays#compareUnsigned(byte[], byte[])}) gives the same order as the numerical order of the base 36
+ * numbers or the temporal order of the periods. Thus the keys can directly be used in sorted key value stores.
+ *
+ * <ul>
+ * <li>Base 36 numbers are encoded as their numerical value with 8 bytes in big-endian order.</li>
+ * <li>Periods are encoded as start followed by the end with 8 bytes each. Both are stored as milliseconds since epoch
+ * with flipped sign bit in big-endian order. An open beginning is encoded as the smallest possible value and an open
+ * end as the largest possible value. Thus the dates with the milliseconds {@link Long#MIN_VALUE} and
+ * {@link Long#MAX_VALUE} are reserved.</li>
+ * </ul>
+ *
+ * @author JEAF Development Team
+ */
+public final class SortableKeys {
+  /**
+   * Length of the key of a base 36 number in bytes.
+   */
+  public static final int BASE36_KEY_LENGTH = Long.BYTES;
+
+  /**
+   * Length of the key of a period in bytes.
+   */
+  public static final int PERIOD_KEY_LENGTH = 2 * Long.BYTES;
+
+  /**
+   * Class only provides static methods.
+   */
+  private SortableKeys( ) {
+  }
+
+  /**
+   * Method returns the order-preserving key of the passed base 36 number.
+   *
+   * @param pValue Base 36 number that should be encoded. The parameter must not be null and its value must not exceed
+   * {@link Long#MAX_VALUE}.
+   * @return byte[] Key with {@link #BASE36_KEY_LENGTH} bytes. The method never returns null.
+   */
+  public static byte[] toKey( Base36 pValue ) {
+    byte[] lKey = new byte[BASE36_KEY_LENGTH];
+    SortableKeys.toKey(pValue, lKey, 0);
+    return lKey;
+  }
+
+  /**
+   * Method writes the order-preserving key of the passed base 36 number to the passed array.
+   *
+   * @param pValue Base 36 number that should be encoded. The parameter must not be null and its value must not exceed
+   * {@link Long#MAX_VALUE}.
+   * @param pTarget Array to which the key should be written. The parameter must not be null.
+   * @param pOffset Index of the array to which the first byte of the key should be written.
+   */
+  public static void toKey( Base36 pValue, byte[] pTarget, int pOffset ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+    Check.checkInvalidParameterNull(pTarget, "pTarget");
+    if (pValue.isLongValue() == false) {
+      throw new IllegalArgumentException("Base 36 number " + pValue + " is too large to be encoded as key.");
+    }
+    SortableKeys.writeLong(pValue.toLong(), pTarget, pOffset);
+  }
+
+  /**
+   * Method converts the passed key back into a base 36 number.
+   *
+   * @param pKey Array that contains the key. The parameter must not be null.
+   * @param pOffset Index of the first byte of the key.
+   * @param pDigits Number of digits of the base 36 number.
+   * @return {@link Base36} Base 36 number that is represented by the key. The method never returns null.
+   */
+  public static Base36 toBase36( byte[] pKey, int pOffset, int pDigits ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+
+    return new Base36(SortableKeys.readLong(pKey, pOffset), pDigits);
+  }
+
+  /**
+   * Method returns the order-preserving key of the passed period.
+   *
+   * @param pPeriod Period that should be encoded. The parameter must not be null.
+   * @return byte[] Key with {@link #PERIOD_KEY_LENGTH} bytes. The method never returns null.
+   */
+  public static byte[] toKey( Period pPeriod ) {
+    byte[] lKey = new byte[PERIOD_KEY_LENGTH];
+    SortableKeys.toKey(pPeriod, lKey, 0);
+    return lKey;
+  }
+
+  /**
+   * Method writes the order-preserving key of the passed period to the passed array.
+   *
+   * @param pPeriod Period that should be encoded. The parameter must not be null.
+   * @param pTarget Array to which the key should be written. The parameter must not be null.
+   * @param pOffset Index of the array to which the first byte of the key should be written.
+   */
+  public static void toKey( Period pPeriod, byte[] pTarget, int pOffset ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pPeriod, "pPeriod");
+    Check.checkInvalidParameterNull(pTarget, "pTarget");
+
+    // Open beginning (Long.MIN_VALUE) and open end (Long.MAX_VALUE) already sort as smallest and largest value. Thus
+    // they do not require any special handling.
+    long lStart = pPeriod.getStartMillis();
+    long lEnd = pPeriod.getEndMillis();
+    // Flip sign bit so that negative values are sorted before positive ones.
+    SortableKeys.writeLong(lStart ^ Long.MIN_VALUE, pTarget, pOffset);
+    SortableKeys.writeLong(lEnd ^ Long.MIN_VALUE, pTarget, pOffset + Long.BYTES);
+  }
+
+  /**
+   * Method converts the passed key back into a period.
+   *
+   * @param pKey Array that contains the key. The parameter must not be null.
+   * @param pOffset Index of the first byte of the key.
+   * @return {@link Period} Period that is represented by the key. The method never returns null.
+   */
+  public static Period toPeriod( byte[] pKey, int pOffset ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+
+    long lStart = SortableKeys.readLong(pKey, pOffset) ^ Long.MIN_VALUE;
+    long lEnd = SortableKeys.readLong(pKey, pOffset + Long.BYTES) ^ Long.MIN_VALUE;
+    return new Period(lStart, lEnd);
+  }
+
+  /**
+   * Method writes the passed value in big-endian order to the passed array.
+   *
+   * @param pValue Value that should be written.
+   * @param pTarget Array to which the value should be written.
+   * @param pOffset Index of the first byte.
+   */
+  private static void writeLong( long pValue, byte[] pTarget, int pOffset ) {
+    for (int i = Long.BYTES - 1; i >= 0; i--) {
+      pTarget[pOffset + i] = (byte) (pValue >>> ((Long.BYTES - 1 - i) * Byte.SIZE));
+    }
+  }
+
+  /**
+   * Method reads a value in big-endian order from the passed array.
+   *
+   * @param pSource Array from which the value should be read.
+   * @param pOffset Index of the first byte.
+   * @return long Read value.
+   */
+  private static long readLong( byte[] pSource, int pOffset ) {
+    long lValue = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      lValue = (lValue << Byte.SIZE) | (pSource[pOffset + i] & 0xFF);
+    }
+    return lValue;
+  }
+}
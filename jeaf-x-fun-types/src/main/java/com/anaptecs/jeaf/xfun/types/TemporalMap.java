@@ -0,0 +1,469 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+
+/**
+ * Class implements a map whose values are only valid for a certain period of time. Every key has a history of values
+ * with non-overlapping validity periods, e.g. prices or rates that change over time. Lookups for a point in time use
+ * binary search on the history of the key.
+ *
+ * Like {@link Period#isEnclosed(long)} a validity period covers all milliseconds from its start up to and including its
+ * end. When a value is put for a period the validity of all existing values of the key is trimmed so that they do not
+ * cover the new period any more. If the new period lies within the validity of an existing value this value is split
+ * into two entries. Thus for every key and point in time there is at most one value.
+ *
+ * The class is thread safe. The history of every key is immutable and replaced as a whole on every change. Therefore
+ * readers never lock and do not block writers. Changes of the same key are serialized.
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ *
+ * @author JEAF Development Team
+ */
+public final class TemporalMap<K, V> {
+  /**
+   * History of every key.
+   */
+  private final ConcurrentHashMap<K, Timeline> timelines = new ConcurrentHashMap<>();
+
+  /**
+   * Method puts the passed value for the passed validity period. Existing values of the key are trimmed or split so
+   * that they are no longer valid within the passed period.
+   *
+   * @param pKey Key to which the value belongs. The parameter must not be null.
+   * @param pValidity Period in which the value is valid. The parameter must not be null.
+   * @param pValue Value that should be put. The parameter must not be null.
+   */
+  public void put( K pKey, Period pValidity, V pValue ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+    Check.checkInvalidParameterNull(pValidity, "pValidity");
+    Check.checkInvalidParameterNull(pValue, "pValue");
+
+    final long lStart = pValidity.getStartMillis();
+    final long lEnd = pValidity.getEndMillis();
+    timelines.compute(pKey, ( pOldKey, pTimeline ) -> {
+      Timeline lTimeline;
+      if (pTimeline != null) {
+        lTimeline = pTimeline;
+      }
+      else {
+        lTimeline = Timeline.EMPTY;
+      }
+      return lTimeline.replace(lStart, lEnd, pValue);
+    });
+  }
+
+  /**
+   * Method removes all values of the passed key within the passed period. Values that are only partly valid within the
+   * period are trimmed or split.
+   *
+   * @param pKey Key whose values should be removed. The parameter must not be null.
+   * @param pValidity Period in which no value should be valid any longer. The parameter must not be null.
+   */
+  public void remove( K pKey, Period pValidity ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+    Check.checkInvalidParameterNull(pValidity, "pValidity");
+
+    final long lStart = pValidity.getStartMillis();
+    final long lEnd = pValidity.getEndMillis();
+    timelines.computeIfPresent(pKey, ( pOldKey, pTimeline ) -> {
+      Timeline lTimeline = pTimeline.replace(lStart, lEnd, null);
+      // Keys without any values are removed completely.
+      if (lTimeline.size() == 0) {
+        lTimeline = null;
+      }
+      return lTimeline;
+    });
+  }
+
+  /**
+   * Method returns the value of the passed key that is valid at the passed point of time.
+   *
+   * @param pKey Key whose value should be returned. The parameter must not be null.
+   * @param pPointOfTime Point of time as milliseconds since 1970.
+   * @return V Value that is valid at the passed point of time or null if there is no such value.
+   */
+  public V get( K pKey, long pPointOfTime ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+
+    Timeline lTimeline = timelines.get(pKey);
+    V lValue;
+    if (lTimeline != null) {
+      lValue = this.cast(lTimeline.get(pPointOfTime));
+    }
+    else {
+      lValue = null;
+    }
+    return lValue;
+  }
+
+  /**
+   * Method returns the value of the passed key that is valid at the passed point of time.
+   *
+   * @param pKey Key whose value should be returned. The parameter must not be null.
+   * @param pPointOfTime Point of time. The parameter must not be null.
+   * @return V Value that is valid at the passed point of time or null if there is no such value.
+   */
+  public V get( K pKey, Instant pPointOfTime ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPointOfTime, "pPointOfTime");
+
+    return this.get(pKey, pPointOfTime.toEpochMilli());
+  }
+
+  /**
+   * Method returns the value of the passed key that is valid at the passed point of time.
+   *
+   * @param pKey Key whose value should be returned. The parameter must not be null.
+   * @param pPointOfTime Point of time. The parameter must not be null.
+   * @return V Value that is valid at the passed point of time or null if there is no such value.
+   */
+  public V get( K pKey, Date pPointOfTime ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pPointOfTime, "pPointOfTime");
+
+    return this.get(pKey, pPointOfTime.getTime());
+  }
+
+  /**
+   * Method returns the complete history of the passed key.
+   *
+   * @param pKey Key whose history should be returned. The parameter must not be null.
+   * @return {@link List} Unmodifiable list with all entries of the key sorted by the start of their validity. The list
+   * is a snapshot and not affected by later changes. The method never returns null.
+   */
+  public List<Entry<V>> getHistory( K pKey ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+
+    Timeline lTimeline = timelines.get(pKey);
+    List<Entry<V>> lHistory;
+    if (lTimeline != null) {
+      List<Entry<V>> lEntries = new ArrayList<>(lTimeline.size());
+      for (int i = 0; i < lTimeline.size(); i++) {
+        Period lValidity = new Period(lTimeline.starts[i], lTimeline.ends[i]);
+        lEntries.add(new Entry<>(lValidity, this.cast(lTimeline.values[i])));
+      }
+      lHistory = Collections.unmodifiableList(lEntries);
+    }
+    else {
+      lHistory = Collections.emptyList();
+    }
+    return lHistory;
+  }
+
+  /**
+   * Method checks whether there is any value for the passed key.
+   *
+   * @param pKey Key that should be checked. The parameter must not be null.
+   * @return boolean Method returns true if the key has at least one value and false in all other cases.
+   */
+  public boolean containsKey( K pKey ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pKey, "pKey");
+
+    return timelines.containsKey(pKey);
+  }
+
+  /**
+   * Method returns all keys that have at least one value.
+   *
+   * @return {@link Set} Unmodifiable view on all keys. The method never returns null.
+   */
+  public Set<K> keySet( ) {
+    return Collections.unmodifiableSet(timelines.keySet());
+  }
+
+  /**
+   * Method returns the number of keys that have at least one value.
+   *
+   * @return int Number of keys.
+   */
+  public int size( ) {
+    return timelines.size();
+  }
+
+  /**
+   * Method checks whether this map is empty.
+   *
+   * @return boolean Method returns true if no key has a value and false in all other cases.
+   */
+  public boolean isEmpty( ) {
+    return timelines.isEmpty();
+  }
+
+  /**
+   * Method casts the passed value to the type of the values of this map. Only values of that type are stored.
+   *
+   * @param pValue Value that should be casted. The parameter may be null.
+   * @return V Passed value.
+   */
+  @SuppressWarnings("unchecked")
+  private V cast( Object pValue ) {
+    return (V) pValue;
+  }
+
+  /**
+   * Class represents one value of the history of a key together with its validity.
+   *
+   * @param <V> Type of the value.
+   */
+  public static final class Entry<V> {
+    /**
+     * Period in which the value is valid.
+     */
+    private final Period validity;
+
+    /**
+     * Value of the entry.
+     */
+    private final V value;
+
+    /**
+     * Initialize entry.
+     *
+     * @param pValidity Period in which the value is valid. The parameter must not be null.
+     * @param pValue Value of the entry. The parameter must not be null.
+     */
+    public Entry( Period pValidity, V pValue ) {
+      // Check parameters.
+      Check.checkInvalidParameterNull(pValidity, "pValidity");
+      Check.checkInvalidParameterNull(pValue, "pValue");
+
+      validity = pValidity;
+      value = pValue;
+    }
+
+    /**
+     * Method returns the period in which the value is valid.
+     *
+     * @return {@link Period} Validity of the value. The method never returns null.
+     */
+    public Period getValidity( ) {
+      return validity;
+    }
+
+    /**
+     * Method returns the value of the entry.
+     *
+     * @return V Value of the entry. The method never returns null.
+     */
+    public V getValue( ) {
+      return value;
+    }
+
+    /**
+     * Method returns the hash code of this entry.
+     *
+     * @return int Hash code of this entry.
+     */
+    @Override
+    public int hashCode( ) {
+      return Objects.hash(validity, value);
+    }
+
+    /**
+     * Method checks whether the passed object is an entry with the same validity and value.
+     *
+     * @param pObject Object that should be compared with this object. The parameter may be null.
+     * @return boolean The method returns true if the passed object is an equal entry and false in all other cases.
+     */
+    @Override
+    public boolean equals( Object pObject ) {
+      boolean lIsEqual;
+      if (pObject instanceof Entry) {
+        Entry<?> lOtherEntry = (Entry<?>) pObject;
+        lIsEqual = validity.equals(lOtherEntry.validity) && value.equals(lOtherEntry.value);
+      }
+      else {
+        lIsEqual = false;
+      }
+      return lIsEqual;
+    }
+
+    /**
+     * Method returns a string representation of this entry.
+     *
+     * @return {@link String} String representation of this entry. The method never returns null.
+     */
+    @Override
+    public String toString( ) {
+      return validity + " -> " + value;
+    }
+  }
+
+  /**
+   * Class represents the immutable history of one key. Start, end and value of every entry are stored in parallel
+   * arrays that are sorted by start. Validity periods of entries do not overlap.
+   */
+  private static final class Timeline {
+    /**
+     * Constant for a history without any entries.
+     */
+    static final Timeline EMPTY = new Timeline(new long[0], new long[0], new Object[0], 0);
+
+    /**
+     * Start of the validity of all entries.
+     */
+    final long[] starts;
+
+    /**
+     * End of the validity of all entries.
+     */
+    final long[] ends;
+
+    /**
+     * Values of all entries.
+     */
+    final Object[] values;
+
+    /**
+     * Initialize history.
+     *
+     * @param pStarts Start of the validity of all entries.
+     * @param pEnds End of the validity of all entries.
+     * @param pValues Values of all entries.
+     * @param pSize Number of used elements of the passed arrays.
+     */
+    Timeline( long[] pStarts, long[] pEnds, Object[] pValues, int pSize ) {
+      starts = Arrays.copyOf(pStarts, pSize);
+      ends = Arrays.copyOf(pEnds, pSize);
+      values = Arrays.copyOf(pValues, pSize);
+    }
+
+    /**
+     * Method returns the number of entries.
+     *
+     * @return int Number of entries.
+     */
+    int size( ) {
+      return starts.length;
+    }
+
+    /**
+     * Method returns the value that is valid at the passed point of time.
+     *
+     * @param pPointOfTime Point of time as milliseconds since 1970.
+     * @return Object Value that is valid at the passed point of time or null if there is no such value.
+     */
+    Object get( long pPointOfTime ) {
+      // Find last entry that starts before or at the passed point of time.
+      int lLow = 0;
+      int lHigh = starts.length - 1;
+      int lIndex = -1;
+      while (lLow <= lHigh) {
+        int lMiddle = (lLow + lHigh) >>> 1;
+        if (starts[lMiddle] <= pPointOfTime) {
+          lIndex = lMiddle;
+          lLow = lMiddle + 1;
+        }
+        else {
+          lHigh = lMiddle - 1;
+        }
+      }
+      Object lValue;
+      if (lIndex >= 0 && pPointOfTime <= ends[lIndex]) {
+        lValue = values[lIndex];
+      }
+      else {
+        lValue = null;
+      }
+      return lValue;
+    }
+
+    /**
+     * Method creates a new history in which the passed period is covered by the passed value. Existing entries are
+     * trimmed or split so that they do not overlap with the passed period.
+     *
+     * @param pStart Start of the period.
+     * @param pEnd End of the period.
+     * @param pValue Value for the period. If null is passed the period is not covered by any value.
+     * @return {@link Timeline} New history. The method never returns null.
+     */
+    Timeline replace( long pStart, long pEnd, Object pValue ) {
+      // Every existing entry results in at most two entries but only one entry can be split.
+      int lCapacity = starts.length + 2;
+      long[] lStarts = new long[lCapacity];
+      long[] lEnds = new long[lCapacity];
+      Object[] lValues = new Object[lCapacity];
+      int lSize = 0;
+      boolean lInserted = pValue == null;
+      for (int i = 0; i < starts.length; i++) {
+        if (ends[i] < pStart) {
+          // Entry ends before the passed period.
+          lStarts[lSize] = starts[i];
+          lEnds[lSize] = ends[i];
+          lValues[lSize] = values[i];
+          lSize++;
+        }
+        else if (starts[i] > pEnd) {
+          // Entry starts after the passed period.
+          if (lInserted == false) {
+            lSize = Timeline.add(lStarts, lEnds, lValues, lSize, pStart, pEnd, pValue);
+            lInserted = true;
+          }
+          lStarts[lSize] = starts[i];
+          lEnds[lSize] = ends[i];
+          lValues[lSize] = values[i];
+          lSize++;
+        }
+        else {
+          // Entry overlaps with the passed period. Only the parts before and after the period remain. As start and end
+          // of the period are between start and end of the entry they can not be open boundaries.
+          if (starts[i] < pStart) {
+            lSize = Timeline.add(lStarts, lEnds, lValues, lSize, starts[i], pStart - 1, values[i]);
+          }
+          if (ends[i] > pEnd) {
+            if (lInserted == false) {
+              lSize = Timeline.add(lStarts, lEnds, lValues, lSize, pStart, pEnd, pValue);
+              lInserted = true;
+            }
+            lSize = Timeline.add(lStarts, lEnds, lValues, lSize, pEnd + 1, ends[i], values[i]);
+          }
+        }
+      }
+      if (lInserted == false) {
+        lSize = Timeline.add(lStarts, lEnds, lValues, lSize, pStart, pEnd, pValue);
+      }
+      return new Timeline(lStarts, lEnds, lValues, lSize);
+    }
+
+    /**
+     * Method adds an entry to the passed arrays.
+     *
+     * @param pStarts Start of the validity of all entries.
+     * @param pEnds End of the validity of all entries.
+     * @param pValues Values of all entries.
+     * @param pSize Number of used elements of the passed arrays.
+     * @param pStart Start of the validity of the new entry.
+     * @param pEnd End of the validity of the new entry.
+     * @param pValue Value of the new entry.
+     * @return int New number of used elements of the passed arrays.
+     */
+    private static int add( long[] pStarts, long[] pEnds, Object[] pValues, int pSize, long pStart, long pEnd,
+        Object pValue ) {
+      pStarts[pSize] = pStart;
+      pEnds[pSize] = pEnd;
+      pValues[pSize] = pValue;
+      return pSize + 1;
+    }
+  }
+}
@@ -0,0 +1,339 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.checks.Check;
+import com.anaptecs.jeaf.xfun.api.errorhandling.ErrorCode;
+import com.anaptecs.jeaf.xfun.api.errorhandling.JEAFSystemException;
+
+/**
+ * Class generates unique base 36 numbers that are ordered by the time of their creation. Every number consists of three
+ * components:
+ * <ul>
+ * <li>the milliseconds since {@link #EPOCH},</li>
+ * <li>the index of the node that generated the number and</li>
+ * <li>a counter for all numbers that are generated by the node within the same millisecond.</li>
+ * </ul>
+ * The numerical value of a number is <code>(milliseconds * nodeCount + node) * countsPerMillisecond + counter</code>.
+ * Thus numbers of different nodes can be generated without any coordination and numbers that are generated later have
+ * a higher value. Within one millisecond numbers are ordered by node.
+ *
+ * The counter of every millisecond does not start at 0 but at a random offset within the first half of its range. So
+ * two generators that use the same node by mistake, e.g. because the node was chosen randomly, only collide if their
+ * counters overlap within the same millisecond. This requires that <code>countsPerMillisecond</code> is large enough
+ * to hold some randomness. The remaining half of the counter is always available for numbers of the same millisecond.
+ *
+ * The generator is thread safe and does not use any locks. The numbers of one generator are strictly increasing. If
+ * more numbers are requested within one millisecond than the counter can hold or if the clock is set back the
+ * generator continues with the next millisecond instead of waiting. As soon as the milliseconds do not fit into the
+ * number of digits any more an exception with error code {@link XFunMessages#MAX_BASE36_VALUE_EXCEEDED} is thrown.
+ *
+ * A generator only knows the numbers that it issued itself. If a node is restarted after it continued with the next
+ * milliseconds under load or after the clock was set back, the new generator may issue numbers again that were
+ * already issued before. To avoid this the last issued number ({@link #getLastValue()}) can be stored and passed to the
+ * new generator.
+ *
+ * @author JEAF Development Team
+ */
+public class TimeOrderedBase36Generator {
+  /**
+   * Start of the time component of all generated numbers (2020-01-01T00:00:00Z as milliseconds since 1970).
+   */
+  public static final long EPOCH = 1577836800000L;
+
+  /**
+   * Number of digits of all generated numbers.
+   */
+  private final int digits;
+
+  /**
+   * Number of nodes that generate numbers.
+   */
+  private final int nodeCount;
+
+  /**
+   * Index of the node of this generator.
+   */
+  private final int node;
+
+  /**
+   * Number of values of the counter per millisecond.
+   */
+  private final int countsPerMillisecond;
+
+  /**
+   * Number of different random offsets at which the counter of a millisecond starts.
+   */
+  private final int counterOffsets;
+
+  /**
+   * Number of milliseconds since {@link #EPOCH} that fit into the number of digits.
+   */
+  private final long maxMilliseconds;
+
+  /**
+   * Clock that is used to get the current time in milliseconds since 1970.
+   */
+  private final LongSupplier clock;
+
+  /**
+   * Last issued tick. A tick combines the milliseconds since {@link #EPOCH} and the counter
+   * (<code>milliseconds * countsPerMillisecond + counter</code>). If no number was issued yet the last tick is -1.
+   */
+  private final AtomicLong lastTick;
+
+  /**
+   * Initialize generator with a randomly chosen node. This can be used if there is no configured node index. The
+   * probability of a collision of two generators then depends on the passed number of nodes.
+   *
+   * @param pDigits Number of digits of all generated numbers. The parameter must be greater than zero and must not be
+   * greater than {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pNodeCount Number of nodes. The parameter must be greater than zero.
+   * @param pCountsPerMillisecond Number of values of the counter per millisecond. The parameter must be greater than
+   * zero.
+   */
+  public TimeOrderedBase36Generator( int pDigits, int pNodeCount, int pCountsPerMillisecond ) {
+    this(pDigits, pNodeCount, new SecureRandom().nextInt(Math.max(pNodeCount, 1)), pCountsPerMillisecond);
+  }
+
+  /**
+   * Initialize generator.
+   *
+   * @param pDigits Number of digits of all generated numbers. The parameter must be greater than zero and must not be
+   * greater than {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pNodeCount Number of nodes. The parameter must be greater than zero.
+   * @param pNode Index of the node of this generator. The index must be between 0 and pNodeCount - 1.
+   * @param pCountsPerMillisecond Number of values of the counter per millisecond. The parameter must be greater than
+   * zero.
+   */
+  public TimeOrderedBase36Generator( int pDigits, int pNodeCount, int pNode, int pCountsPerMillisecond ) {
+    this(pDigits, pNodeCount, pNode, pCountsPerMillisecond, -1, System::currentTimeMillis);
+  }
+
+  /**
+   * Initialize generator that continues after the passed number. This should be used if a node is restarted so that
+   * numbers that were already issued by the node before are not issued again.
+   *
+   * @param pDigits Number of digits of all generated numbers. The parameter must be greater than zero and must not be
+   * greater than {@link Base36#MAX_COMPACT_DIGITS}.
+   * @param pNodeCount Number of nodes. The parameter must be greater than zero.
+   * @param pNode Index of the node of this generator. The index must be between 0 and pNodeCount - 1.
+   * @param pCountsPerMillisecond Number of values of the counter per millisecond. The parameter must be greater than
+   * zero.
+   * @param pLastValue Numerical value of the last number that was issued by the node. The value must have been
+   * generated by a generator with the same configuration.
+   */
+  public TimeOrderedBase36Generator( int pDigits, int pNodeCount, int pNode, int pCountsPerMillisecond,
+      long pLastValue ) {
+    this(pDigits, pNodeCount, pNode, pCountsPerMillisecond, pLastValue, System::currentTimeMillis);
+    // Check parameter.
+    if (pLastValue < 0) {
+      throw new IllegalArgumentException("Parameter 'pLastValue' must not be negative but is " + pLastValue + ".");
+    }
+  }
+
+  /**
+   * Initialize generator with the passed clock.
+   *
+   * @param pDigits Number of digits of all generated numbers.
+   * @param pNodeCount Number of nodes.
+   * @param pNode Index of the node of this generator.
+   * @param pCountsPerMillisecond Number of values of the counter per millisecond.
+   * @param pLastValue Numerical value of the last number that was issued by the node or -1 if there is none.
+   * @param pClock Clock that returns the current time in milliseconds since 1970. The parameter must not be null.
+   */
+  TimeOrderedBase36Generator( int pDigits, int pNodeCount, int pNode, int pCountsPerMillisecond, long pLastValue,
+      LongSupplier pClock ) {
+    // Check parameters.
+    Check.checkInvalidParameterNull(pClock, "pClock");
+    if (pDigits <= 0 || pDigits > Base36.MAX_COMPACT_DIGITS) {
+      throw new IllegalArgumentException(
+          "Parameter 'pDigits' must be between 1 and " + Base36.MAX_COMPACT_DIGITS + " but is " + pDigits + ".");
+    }
+    if (pNodeCount <= 0) {
+      throw new IllegalArgumentException("Parameter 'pNodeCount' must be greater than zero but is " + pNodeCount + ".");
+    }
+    if (pNode < 0 || pNode >= pNodeCount) {
+      throw new IllegalArgumentException(
+          "Parameter 'pNode' must be between 0 and " + (pNodeCount - 1) + " but is " + pNode + ".");
+    }
+    if (pCountsPerMillisecond <= 0) {
+      throw new IllegalArgumentException(
+          "Parameter 'pCountsPerMillisecond' must be greater than zero but is " + pCountsPerMillisecond + ".");
+    }
+    long lMaxMilliseconds = Base36.POWERS[pDigits] / pNodeCount / pCountsPerMillisecond;
+    if (lMaxMilliseconds == 0) {
+      throw new IllegalArgumentException("Base 36 numbers with " + pDigits + " digits can not hold " + pNodeCount
+          + " nodes with " + pCountsPerMillisecond + " numbers per millisecond.");
+    }
+    long lLastTick;
+    if (pLastValue >= 0) {
+      long lMillisecondsAndNode = pLastValue / pCountsPerMillisecond;
+      if (pLastValue >= Base36.POWERS[pDigits] || lMillisecondsAndNode % pNodeCount != pNode) {
+        throw new IllegalArgumentException(
+            "Parameter 'pLastValue' " + pLastValue + " was not generated by node " + pNode + ".");
+      }
+      lLastTick = lMillisecondsAndNode / pNodeCount * pCountsPerMillisecond + pLastValue % pCountsPerMillisecond;
+    }
+    else {
+      lLastTick = -1;
+    }
+
+    digits = pDigits;
+    nodeCount = pNodeCount;
+    node = pNode;
+    countsPerMillisecond = pCountsPerMillisecond;
+    counterOffsets = pCountsPerMillisecond / 2;
+    maxMilliseconds = lMaxMilliseconds;
+    clock = pClock;
+    lastTick = new AtomicLong(lLastTick);
+  }
+
+  /**
+   * Method returns the number of digits of all generated numbers.
+   *
+   * @return int Number of digits.
+   */
+  public final int getMaxLength( ) {
+    return digits;
+  }
+
+  /**
+   * Method returns the index of the node of this generator.
+   *
+   * @return int Index of the node.
+   */
+  public final int getNode( ) {
+    return node;
+  }
+
+  /**
+   * Method returns the point in time up to which numbers can be generated.
+   *
+   * @return long Milliseconds since 1970 (exclusive) up to which numbers can be generated.
+   */
+  public final long getMaxTimestamp( ) {
+    return EPOCH + maxMilliseconds;
+  }
+
+  /**
+   * Method returns the numerical value of the last number that was issued by this generator. The value can be passed
+   * to a new generator of the same node after a restart.
+   *
+   * @return long Numerical value of the last issued number or -1 if no number was issued yet.
+   */
+  public long getLastValue( ) {
+    long lTick = lastTick.get();
+    long lValue;
+    if (lTick >= 0) {
+      lValue = this.toValue(lTick);
+    }
+    else {
+      lValue = -1;
+    }
+    return lValue;
+  }
+
+  /**
+   * Method generates the next unique number. The method does not use any locks.
+   *
+   * @return {@link Base36} Generated number. The method never returns null.
+   */
+  public Base36 next( ) {
+    return new Base36(this.nextValue(), digits);
+  }
+
+  /**
+   * Method generates the numerical value of the next unique number. The method does not use any locks.
+   *
+   * @return long Numerical value of the generated number.
+   */
+  public long nextValue( ) {
+    // Next tick is a random one within the first half of the current millisecond or the one after the last issued tick
+    // if the current millisecond was already used or the clock was set back.
+    // Time is limited to the supported range before it is converted into ticks so that the tick can not overflow.
+    final long lCurrentTick = Math.min(clock.getAsLong() - EPOCH, maxMilliseconds) * countsPerMillisecond;
+    long lLastTick;
+    long lTick;
+    do {
+      lLastTick = lastTick.get();
+      if (lLastTick < lCurrentTick) {
+        lTick = lCurrentTick + this.nextCounterOffset();
+      }
+      else {
+        lTick = lLastTick + 1;
+      }
+    }
+    while (lastTick.compareAndSet(lLastTick, lTick) == false);
+
+    final long lMilliseconds = lTick / countsPerMillisecond;
+    if (lMilliseconds >= maxMilliseconds) {
+      final ErrorCode lErrorCode = XFunMessages.MAX_BASE36_VALUE_EXCEEDED;
+      String[] lParams = new String[] { new Base36(Base36.POWERS[digits] - 1, digits).toString(),
+        Long.toString(lMilliseconds) };
+      throw new JEAFSystemException(lErrorCode, lParams);
+    }
+    return this.toValue(lTick);
+  }
+
+  /**
+   * Method returns a random offset at which the counter of a new millisecond starts.
+   *
+   * @return int Offset between 0 and half of the counts per millisecond (exclusive).
+   */
+  private int nextCounterOffset( ) {
+    int lOffset;
+    if (counterOffsets > 1) {
+      lOffset = ThreadLocalRandom.current().nextInt(counterOffsets);
+    }
+    else {
+      lOffset = 0;
+    }
+    return lOffset;
+  }
+
+  /**
+   * Method converts the passed tick into the numerical value of a number of this node.
+   *
+   * @param pTick Tick that should be converted.
+   * @return long Numerical value of the number.
+   */
+  private long toValue( long pTick ) {
+    return (pTick / countsPerMillisecond * nodeCount + node) * countsPerMillisecond + pTick % countsPerMillisecond;
+  }
+
+  /**
+   * Method returns the point in time at which the passed number was generated. The number must have been generated by
+   * a generator with the same configuration.
+   *
+   * @param pValue Generated number. The parameter must not be null.
+   * @return long Milliseconds since 1970 at which the number was generated.
+   */
+  public long getTimestamp( Base36 pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+    return EPOCH + pValue.toLong() / countsPerMillisecond / nodeCount;
+  }
+
+  /**
+   * Method returns the index of the node that generated the passed number. The number must have been generated by a
+   * generator with the same configuration.
+   *
+   * @param pValue Generated number. The parameter must not be null.
+   * @return int Index of the node that generated the number.
+   */
+  public int getNode( Base36 pValue ) {
+    // Check parameter.
+    Check.checkInvalidParameterNull(pValue, "pValue");
+    return (int) (pValue.toLong() / countsPerMillisecond % nodeCount);
+  }
+}
@@ -0,0 +1,291 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.SystemException;
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Codec;
+import org.junit.jupiter.api.Test;
+
+public class Base36CodecTest {
+  @Test
+  public void testEncodeAndDecode( ) {
+    long[] lValues = new long[] { 0, 1, 35, 36, 2589212, 4738381338321616895L / 36 };
+    int lDigits = 11;
+
+    // Encoding has to produce the same representation as class Base36.
+    StringBuilder lExpected = new StringBuilder();
+    for (long lValue : lValues) {
+      lExpected.append(new Base36(lValue, lDigits).toString());
+    }
+    CharBuffer lChars = CharBuffer.allocate(lValues.length * lDigits);
+    Base36Codec.encode(lValues, 0, lValues.length, lDigits, lChars);
+    lChars.flip();
+    assertEquals(lExpected.toString(), lChars.toString());
+
+    ByteBuffer lBytes = ByteBuffer.allocate(lValues.length * lDigits);
+    Base36Codec.encode(lValues, 0, lValues.length, lDigits, lBytes);
+    lBytes.flip();
+    assertEquals(lExpected.toString(), StandardCharsets.US_ASCII.decode(lBytes.duplicate()).toString());
+
+    // Decode values again.
+    long[] lDecoded = new long[lValues.length];
+    Base36Codec.decode(lChars, lDigits, lDecoded, 0, lValues.length);
+    assertArrayEquals(lValues, lDecoded);
+    lDecoded = new long[lValues.length + 1];
+    Base36Codec.decode(lBytes, lDigits, lDecoded, 1, lValues.length);
+    assertEquals(0, lBytes.remaining());
+    assertEquals(2589212, lDecoded[5]);
+
+    // Non normalized representations and the place holder for 0 with only one digit.
+    Base36Codec.decode(CharBuffer.wrap("10#KUHJ1#"), 3, lDecoded, 0, 3);
+    assertEquals(1, lDecoded[0]);
+    assertEquals(20 + 30 * 36 + 17 * 36 * 36, lDecoded[1]);
+    Base36Codec.decode(CharBuffer.wrap("#"), 1, lDecoded, 0, 1);
+    assertEquals(0, lDecoded[0]);
+  }
+
+  @Test
+  public void testInvalidInput( ) {
+    long[] lValues = new long[2];
+    try {
+      Base36Codec.decode(CharBuffer.wrap("1#1"), 3, lValues, 0, 1);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+    }
+    try {
+      Base36Codec.decode(ByteBuffer.wrap("1a#".getBytes(StandardCharsets.US_ASCII)), 3, lValues, 0, 1);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+    }
+
+    // Like class Base36 numbers must not start with a place holder.
+    try {
+      new Base36("#1#", 3);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+    CharBuffer lChars = CharBuffer.wrap("1###1#");
+    try {
+      Base36Codec.decode(lChars, 3, lValues, 0, 2);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+    }
+    ByteBuffer lBytes = ByteBuffer.wrap("1###1#".getBytes(StandardCharsets.US_ASCII));
+    try {
+      Base36Codec.decode(lBytes, 3, lValues, 0, 2);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+    }
+
+    // Position of the buffer is not moved in case of an error.
+    assertEquals(0, lChars.position());
+    assertEquals(0, lBytes.position());
+    lChars = CharBuffer.wrap("1#Zx");
+    try {
+      Base36Codec.decode(lChars, 2, lValues, 0, 2);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+    }
+    assertEquals(0, lChars.position());
+    Base36Codec.decode(lChars, 2, lValues, 0, 1);
+    assertEquals(1, lValues[0]);
+    assertEquals(2, lChars.position());
+    try {
+      Base36Codec.encode(new long[] { 36 }, 0, 1, 1, CharBuffer.allocate(1));
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+
+    // Valid numbers before an invalid one must not move the position of the buffer either.
+    lChars = CharBuffer.allocate(3);
+    try {
+      Base36Codec.encode(new long[] { 1, 2, 36 }, 0, 3, 1, lChars);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+    assertEquals(0, lChars.position());
+    lBytes = ByteBuffer.allocate(3);
+    try {
+      Base36Codec.encode(new long[] { 1, -1 }, 0, 2, 1, lBytes);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+    assertEquals(0, lBytes.position());
+  }
+
+  @Test
+  public void testInvalidDigitsOfAllParsers( ) {
+    // All ways to parse the representation of class Base36 have to report invalid digits with the same error code.
+    for (String lInvalidValue : new String[] { "1#2", "#12", "1-#" }) {
+      try {
+        Base36.parse(lInvalidValue, 0, 3, 3);
+        fail("Exception expected.");
+      }
+      catch (SystemException e) {
+        assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+      }
+      try {
+        Base36Codec.decode(CharBuffer.wrap(lInvalidValue), 3, new long[1], 0, 1);
+        fail("Exception expected.");
+      }
+      catch (SystemException e) {
+        assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+      }
+      try {
+        Base36Codec.decode(ByteBuffer.wrap(lInvalidValue.getBytes(StandardCharsets.US_ASCII)), 3, new long[1], 0, 1);
+        fail("Exception expected.");
+      }
+      catch (SystemException e) {
+        assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+      }
+      try {
+        Base36Codec.toRadix36(lInvalidValue.toCharArray(), 0, 3, new char[3], 0, true);
+        fail("Exception expected.");
+      }
+      catch (SystemException e) {
+        assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+      }
+    }
+  }
+
+  @Test
+  public void testRadix36Conversion( ) {
+    Random lRandom = new Random(4711);
+    char[] lTarget = new char[40];
+    for (int i = 0; i < 10000; i++) {
+      int lDigits = 1 + lRandom.nextInt(12);
+      long lValue = (long) (lRandom.nextDouble() * Math.pow(36, lDigits));
+      if (i % 10 == 0) {
+        lValue = 0;
+      }
+      String lAvantis = new Base36(lValue, lDigits).toString();
+      String lStandard = Long.toString(lValue, 36);
+
+      int lLength = Base36Codec.toRadix36(lAvantis.toCharArray(), 0, lDigits, lTarget, 3, false);
+      assertEquals(lStandard, new String(lTarget, 3, lLength));
+      lLength = Base36Codec.toRadix36(lAvantis.toLowerCase().toCharArray(), 0, lDigits, lTarget, 0, true);
+      assertEquals(lStandard.toUpperCase(), new String(lTarget, 0, lLength));
+
+      Base36Codec.fromRadix36(lStandard.toCharArray(), 0, lStandard.length(), lDigits, lTarget, 1);
+      assertEquals(lAvantis, new String(lTarget, 1, lDigits));
+      Base36Codec.fromRadix36(("00" + lStandard.toUpperCase()).toCharArray(), 0, lStandard.length() + 2, lDigits,
+          lTarget, 0);
+      assertEquals(lAvantis, new String(lTarget, 0, lDigits));
+    }
+
+    // Conversion is not limited to values that fit into a long.
+    BigInteger lValue = BigInteger.valueOf(36).pow(30).subtract(BigInteger.valueOf(4711));
+    String lAvantis = new Base36(lValue, 32).toString();
+    char[] lWide = new char[32];
+    Base36Codec.fromRadix36(lValue.toString(36).toCharArray(), 0, lValue.toString(36).length(), 32, lWide, 0);
+    assertEquals(lAvantis, new String(lWide));
+    int lLength = Base36Codec.toRadix36(lWide, 0, 32, lTarget, 0, false);
+    assertEquals(lValue.toString(36), new String(lTarget, 0, lLength));
+
+    // Special representation of 0 with only one digit.
+    Base36Codec.fromRadix36("000".toCharArray(), 0, 3, 1, lTarget, 0);
+    assertEquals('#', lTarget[0]);
+    assertEquals(1, Base36Codec.toRadix36("#".toCharArray(), 0, 1, lTarget, 0, true));
+    assertEquals('0', lTarget[0]);
+    Base36Codec.fromRadix36("0".toCharArray(), 0, 1, 3, lTarget, 0);
+    assertEquals("0##", new String(lTarget, 0, 3));
+  }
+
+  @Test
+  public void testRadix36BufferConversion( ) {
+    ByteBuffer lSource = ByteBuffer.wrap("1A####zz0000".getBytes(StandardCharsets.US_ASCII));
+    ByteBuffer lTarget = ByteBuffer.allocate(20);
+    assertEquals(2, Base36Codec.toRadix36(lSource, 6, lTarget, false));
+    assertEquals(6, lSource.position());
+    assertEquals(2, Base36Codec.toRadix36(lSource, 6, lTarget, true));
+    assertEquals(12, lSource.position());
+    lTarget.flip();
+    assertEquals("a1ZZ", StandardCharsets.US_ASCII.decode(lTarget).toString());
+
+    lSource = ByteBuffer.wrap("00a1ZZ".getBytes(StandardCharsets.US_ASCII));
+    lTarget = ByteBuffer.allocate(12);
+    Base36Codec.fromRadix36(lSource, 4, 6, lTarget);
+    Base36Codec.fromRadix36(lSource, 2, 6, lTarget);
+    assertFalse(lSource.hasRemaining());
+    lTarget.flip();
+    assertEquals("1A####ZZ####", StandardCharsets.US_ASCII.decode(lTarget).toString());
+  }
+
+  @Test
+  public void testInvalidRadix36Input( ) {
+    char[] lTarget = new char[10];
+    try {
+      Base36Codec.toRadix36("1#1".toCharArray(), 0, 3, lTarget, 0, true);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+    }
+    try {
+      Base36Codec.fromRadix36("1-".toCharArray(), 0, 2, 3, lTarget, 0);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+    }
+    try {
+      Base36Codec.fromRadix36("0001234".toCharArray(), 0, 7, 3, lTarget, 0);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      Base36Codec.toRadix36("12".toCharArray(), 0, 3, lTarget, 0, true);
+      fail("Exception expected.");
+    }
+    catch (IndexOutOfBoundsException e) {
+      // Expected.
+    }
+
+    // Positions of buffers must not be changed in case of an error.
+    ByteBuffer lSource = ByteBuffer.wrap("12#".getBytes(StandardCharsets.US_ASCII));
+    try {
+      Base36Codec.toRadix36(lSource, 3, ByteBuffer.allocate(1), true);
+      fail("Exception expected.");
+    }
+    catch (BufferOverflowException e) {
+      assertEquals(0, lSource.position());
+    }
+  }
+}
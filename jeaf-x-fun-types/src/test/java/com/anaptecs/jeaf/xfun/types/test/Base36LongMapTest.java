@@ -0,0 +1,83 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36LongMap;
+import org.junit.jupiter.api.Test;
+
+public class Base36LongMapTest {
+  @Test
+  public void testPutGetRemove( ) {
+    Base36LongMap lMap = new Base36LongMap(4, 100);
+    assertTrue(lMap.isEmpty());
+    assertTrue(lMap.put(new Base36("AB1", 3), 42));
+    assertFalse(lMap.put(new Base36("AB1#", 4), 43));
+    assertEquals(43, lMap.getOrDefault(new Base36("AB1", 3), -1));
+    assertEquals(-1, lMap.getOrDefault(new Base36("AB2", 3), -1));
+    assertEquals(-1, lMap.getOrDefault(new Base36("00001", 5), -1));
+    assertTrue(lMap.containsKey(new Base36("AB1", 3)));
+    assertFalse(lMap.containsKey(-1));
+
+    // Value 0 has to be distinguishable from a missing key.
+    assertTrue(lMap.put(0, 0));
+    assertTrue(lMap.containsKey(0));
+    assertEquals(0, lMap.getOrDefault(0, -1));
+    assertEquals(2, lMap.size());
+
+    assertTrue(lMap.remove(new Base36("AB1", 3)));
+    assertFalse(lMap.remove(new Base36("AB1", 3)));
+    assertTrue(lMap.remove(0));
+    assertTrue(lMap.isEmpty());
+
+    try {
+      lMap.put(36 * 36 * 36 * 36, 1);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testCounters( ) {
+    Random lRandom = new Random(4711);
+    Base36LongMap lMap = new Base36LongMap(10);
+    Map<Long, Long> lExpected = new HashMap<>();
+    for (int i = 0; i < 200000; i++) {
+      long lKey = (long) (lRandom.nextDouble() * 1000000000000L);
+      if (i % 5 == 0) {
+        lKey = lRandom.nextInt(1000);
+      }
+      long lDelta = lRandom.nextInt(100) - 50;
+      long lNewValue = lExpected.merge(lKey, lDelta, Long::sum);
+      assertEquals(lNewValue, lMap.addTo(lKey, lDelta));
+      if (i % 7 == 0) {
+        lKey = lRandom.nextInt(1000);
+        assertEquals(lExpected.remove(lKey) != null, lMap.remove(lKey));
+      }
+    }
+    assertEquals(lExpected.size(), lMap.size());
+
+    Map<Long, Long> lIterated = new HashMap<>();
+    lMap.forEach(( pKey, pValue ) -> {
+      assertEquals(10, pKey.getMaxLength());
+      lIterated.put(pKey.toLong(), pValue);
+    });
+    assertEquals(lExpected, lIterated);
+    assertEquals(lExpected.get(lExpected.keySet().iterator().next()).longValue(),
+        lMap.getOrDefault(lExpected.keySet().iterator().next(), Long.MIN_VALUE));
+  }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Map;
+import org.junit.jupiter.api.Test;
+
+public class Base36MapTest {
+  @Test
+  public void testPutGetRemove( ) {
+    Base36Map<String> lMap = new Base36Map<>(6);
+    assertTrue(lMap.isEmpty());
+    assertEquals(6, lMap.getMaxLength());
+    assertNull(lMap.put(new Base36("KUHJ1#", 6), "First"));
+    assertEquals("First", lMap.put(2589212, "Second"));
+    assertEquals("Second", lMap.get(new Base36("KUHJ1", 5)));
+    assertEquals("Second", lMap.get(2589212));
+    assertTrue(lMap.containsKey(new Base36(2589212, 8)));
+    assertFalse(lMap.containsKey(2589213));
+    assertNull(lMap.get(-1));
+    assertNull(lMap.get(new Base36("0000001", 7)));
+    assertEquals(1, lMap.size());
+
+    lMap.forEach(( pKey, pValue ) -> {
+      assertEquals(new Base36("KUHJ1#", 6), pKey);
+      assertEquals(6, pKey.getMaxLength());
+      assertEquals("Second", pValue);
+    });
+
+    assertEquals("Second", lMap.remove(new Base36("KUHJ1", 5)));
+    assertNull(lMap.remove(2589212));
+    assertNull(lMap.remove(new Base36("0000001", 7)));
+    assertTrue(lMap.isEmpty());
+
+    // Keys have to fit into the number of digits of the map and values must not be null.
+    try {
+      lMap.put(new Base36("0000001", 7), "Invalid");
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      lMap.put(-1, "Invalid");
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      lMap.put(1, null);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      new Base36Map<String>(0);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testRandomOperations( ) {
+    // Many removals and insertions so that tombstones are reused and the table grows several times.
+    Random lRandom = new Random(4711);
+    Base36Map<Long> lMap = new Base36Map<>(8);
+    Map<Long, Long> lExpected = new HashMap<>();
+    for (int i = 0; i < 200000; i++) {
+      long lKey = lRandom.nextInt(50000);
+      if (lRandom.nextInt(3) == 0) {
+        assertEquals(lExpected.remove(lKey), lMap.remove(lKey));
+      }
+      else {
+        Long lValue = Long.valueOf(i);
+        assertEquals(lExpected.put(lKey, lValue), lMap.put(lKey, lValue));
+      }
+    }
+    assertEquals(lExpected.size(), lMap.size());
+    for (long i = 0; i < 50000; i++) {
+      assertEquals(lExpected.get(i), lMap.get(i));
+    }
+
+    Map<Long, Long> lIterated = new HashMap<>();
+    lMap.forEach(( pKey, pValue ) -> lIterated.put(pKey.toLong(), pValue));
+    assertEquals(lExpected, lIterated);
+
+    lMap.clear();
+    assertTrue(lMap.isEmpty());
+    assertNull(lMap.get(lExpected.keySet().iterator().next()));
+  }
+
+  @Test
+  public void testConcurrentReads( ) throws InterruptedException {
+    // Readers must always see either no value or the value that belongs to the key while the map is modified.
+    final Base36Map<Long> lMap = new Base36Map<>(6);
+    final AtomicBoolean lRunning = new AtomicBoolean(true);
+    final AtomicReference<String> lError = new AtomicReference<>();
+    Thread[] lReaders = new Thread[4];
+    for (int i = 0; i < lReaders.length; i++) {
+      lReaders[i] = new Thread(( ) -> {
+        Random lRandom = new Random();
+        while (lRunning.get() == true) {
+          long lKey = lRandom.nextInt(20000);
+          Long lValue = lMap.get(lKey);
+          if (lValue != null && lValue.longValue() != lKey * 7) {
+            lError.set("Wrong value " + lValue + " for key " + lKey);
+          }
+        }
+      });
+      lReaders[i].start();
+    }
+
+    Random lRandom = new Random(815);
+    for (int i = 0; i < 300000; i++) {
+      long lKey = lRandom.nextInt(20000);
+      if (i % 2 == 0) {
+        lMap.put(lKey, lKey * 7);
+      }
+      else {
+        lMap.remove(lKey);
+      }
+    }
+    lRunning.set(false);
+    for (Thread lReader : lReaders) {
+      lReader.join();
+    }
+    assertNull(lError.get());
+  }
+
+  @Test
+  public void testConcurrentReadsWithRemovedKeys( ) throws InterruptedException {
+    // Few keys in a small table are removed and added again and again. Readers must never see the value of a key that
+    // was stored in the same slot before.
+    final Base36Map<Long> lMap = new Base36Map<>(2);
+    final AtomicBoolean lRunning = new AtomicBoolean(true);
+    final AtomicReference<String> lError = new AtomicReference<>();
+    Thread[] lReaders = new Thread[4];
+    for (int i = 0; i < lReaders.length; i++) {
+      lReaders[i] = new Thread(( ) -> {
+        long lKey = 0;
+        while (lRunning.get() == true) {
+          lKey = (lKey + 1) % 8;
+          Long lValue = lMap.get(lKey);
+          if (lValue != null && lValue.longValue() != lKey * 7) {
+            lError.set("Wrong value " + lValue + " for key " + lKey);
+          }
+        }
+      });
+      lReaders[i].start();
+    }
+
+    for (int i = 0; i < 500000; i++) {
+      long lKey = i % 8;
+      lMap.remove(lKey);
+      lMap.put(lKey, lKey * 7);
+      lMap.remove((lKey + 3) % 8);
+    }
+    lRunning.set(false);
+    for (Thread lReader : lReaders) {
+      lReader.join();
+    }
+    assertNull(lError.get());
+    assertTrue(lMap.size() <= 8);
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Pool;
+import org.junit.jupiter.api.Test;
+
+public class Base36PoolTest {
+  @Test
+  public void testIntern( ) {
+    Base36Pool lPool = new Base36Pool(3);
+    Base36 lFirst = new Base36("KUHJ1#", 6);
+    assertSame(lFirst, lPool.intern(lFirst));
+    assertSame(lFirst, lPool.intern(new Base36("KUHJ1#", 6)));
+    assertSame(lFirst, lPool.valueOf(2589212, 6));
+    assertSame(lFirst, lPool.valueOf("KUHJ1", 6));
+    assertEquals(1, lPool.size());
+
+    // Equal numbers with a different representation have their own canonical instance.
+    Base36 lOtherDigits = lPool.valueOf("KUHJ1", 7);
+    assertEquals(lFirst, lOtherDigits);
+    assertNotSame(lFirst, lOtherDigits);
+    Base36 lOtherString = lPool.valueOf("100", 3);
+    assertNotSame(lOtherString, lPool.valueOf("1##", 3));
+    assertEquals(3, lPool.size());
+
+    // Pool is full.
+    Base36 lNotInterned = new Base36("ZZ", 2);
+    assertSame(lNotInterned, lPool.intern(lNotInterned));
+    assertSame(lFirst, lPool.intern(new Base36("KUHJ1#", 6)));
+    assertEquals(3, lPool.getMaximumSize());
+
+    lPool.clear();
+    assertEquals(0, lPool.size());
+    assertSame(lNotInterned, lPool.intern(lNotInterned));
+
+    try {
+      new Base36Pool(0);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testSharedPool( ) throws Exception {
+    Base36 lValue = new Base36("T3NANT0000001###", 16).intern();
+    assertSame(lValue, new Base36("T3NANT0000001###", 16).intern());
+    assertSame(Base36Pool.getSharedPool(), Base36Pool.getSharedPool());
+
+    // Deserialized numbers are replaced by their canonical instance.
+    ByteArrayOutputStream lBytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream lOutputStream = new ObjectOutputStream(lBytes)) {
+      lOutputStream.writeObject(new Base36("T3NANT0000001###", 16));
+      lOutputStream.writeObject(new Base36("N0TINTERNED", 16));
+    }
+    try (ObjectInputStream lInputStream = new ObjectInputStream(new ByteArrayInputStream(lBytes.toByteArray()))) {
+      assertSame(lValue, lInputStream.readObject());
+      assertEquals(new Base36("N0TINTERNED", 16), lInputStream.readObject());
+    }
+  }
+}
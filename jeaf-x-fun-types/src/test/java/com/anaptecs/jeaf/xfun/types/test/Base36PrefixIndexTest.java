@@ -0,0 +1,126 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36PrefixIndex;
+import org.junit.jupiter.api.Test;
+
+public class Base36PrefixIndexTest {
+  @Test
+  public void testPrefixSearch( ) {
+    List<Base36> lValues = Arrays.asList(new Base36("KUHJ1#", 6), new Base36("KU####", 6), new Base36("K0Z###", 6),
+        new Base36("K#####", 6), new Base36("0#####", 6), new Base36("KUHJ1#", 6), new Base36("KUA001", 6));
+    Base36PrefixIndex lIndex = new Base36PrefixIndex(lValues, 6);
+    assertEquals(6, lIndex.getMaxLength());
+    assertEquals(6, lIndex.size());
+    assertTrue(lIndex.contains(new Base36("KU", 2)));
+    assertFalse(lIndex.contains(new Base36("KV", 2)));
+
+    assertEquals(6, lIndex.countPrefix(""));
+    assertEquals(5, lIndex.countPrefix("K"));
+    assertEquals(3, lIndex.countPrefix("KU"));
+    assertEquals(1, lIndex.countPrefix("KU#"));
+    assertEquals(1, lIndex.countPrefix("K#"));
+    assertEquals(1, lIndex.countPrefix("K0"));
+    assertEquals(0, lIndex.countPrefix("K0#"));
+    assertEquals(1, lIndex.countPrefix("0"));
+    assertEquals(1, lIndex.countPrefix("KUA00"));
+    assertEquals(0, lIndex.countPrefix("KUA00##"));
+    assertEquals(0, lIndex.countPrefix("#"));
+    assertEquals(Arrays.asList(new Base36("KU####", 6), new Base36("KUA001", 6), new Base36("KUHJ1#", 6)),
+        lIndex.findPrefix("KU"));
+    assertEquals(Arrays.asList(new Base36("KU####", 6)), lIndex.findPrefix("KU", 1));
+
+    // Range scans follow the order of the string representation.
+    assertEquals(Arrays.asList(new Base36("KU####", 6), new Base36("KUA001", 6)),
+        lIndex.range(new Base36("KU####", 6), new Base36("KUB###", 6)));
+    assertTrue(lIndex.range(new Base36("KUB###", 6), new Base36("KU####", 6)).isEmpty());
+
+    try {
+      lIndex.countPrefix("k");
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      new Base36PrefixIndex(new long[] { 36 * 36 }, 2);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testRandomPrefixes( ) {
+    // Results are compared with a search on the string representation.
+    Random lRandom = new Random(4711);
+    for (int lDigits = 1; lDigits <= 5; lDigits++) {
+      long lBound = 1;
+      for (int i = 0; i < lDigits; i++) {
+        lBound = lBound * 36;
+      }
+      long[] lValues = new long[2000];
+      TreeSet<String> lStrings = new TreeSet<>();
+      for (int i = 0; i < lValues.length; i++) {
+        // Small values create numbers that end with '#'.
+        if (i % 3 == 0) {
+          lValues[i] = lRandom.nextInt((int) Math.min(40, lBound));
+        }
+        else {
+          lValues[i] = (long) (lRandom.nextDouble() * lBound);
+        }
+        lStrings.add(new Base36(lValues[i], lDigits).toString());
+      }
+      Base36PrefixIndex lIndex = new Base36PrefixIndex(lValues, lDigits);
+      assertEquals(lStrings.size(), lIndex.size());
+      assertEquals(new ArrayList<>(lStrings), toStrings(lIndex.toList()));
+
+      String lCharacters = "#0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+      for (int i = 0; i < 3000; i++) {
+        StringBuilder lPrefix = new StringBuilder();
+        int lPrefixLength = lRandom.nextInt(lDigits + 2);
+        for (int j = 0; j < lPrefixLength; j++) {
+          if (lRandom.nextInt(4) == 0) {
+            lPrefix.append(lCharacters.charAt(lRandom.nextInt(2)));
+          }
+          else {
+            lPrefix.append(lCharacters.charAt(lRandom.nextInt(lCharacters.length())));
+          }
+        }
+        List<String> lExpected = new ArrayList<>();
+        for (String lNext : lStrings) {
+          if (lNext.startsWith(lPrefix.toString())) {
+            lExpected.add(lNext);
+          }
+        }
+        assertEquals(lExpected, toStrings(lIndex.findPrefix(lPrefix)), lPrefix.toString());
+        assertEquals(lExpected.size(), lIndex.countPrefix(lPrefix));
+      }
+    }
+  }
+
+  private static List<String> toStrings( List<Base36> pValues ) {
+    List<String> lStrings = new ArrayList<>();
+    for (Base36 lNext : pValues) {
+      lStrings.add(lNext.toString());
+    }
+    return lStrings;
+  }
+}
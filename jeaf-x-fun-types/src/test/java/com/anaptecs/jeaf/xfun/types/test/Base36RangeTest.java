@@ -0,0 +1,120 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Range;
+import org.junit.jupiter.api.Test;
+
+public class Base36RangeTest {
+  @Test
+  public void testRange( ) {
+    Base36Range lRange = new Base36Range(new Base36("X##", 3), new Base36("31#", 3));
+    assertEquals(33, lRange.getFrom().toLong());
+    assertEquals(39, lRange.getTo().toLong());
+    assertEquals(6, lRange.size());
+    assertEquals(3, lRange.getMaxLength());
+    assertTrue(lRange.contains(new Base36("X", 1)));
+    assertTrue(lRange.contains(38));
+    assertFalse(lRange.contains(39));
+    assertFalse(lRange.contains(new Base36("ZZZZZZZZZZZZZZZZZZZZ")));
+    assertEquals("[X##, 31#)", lRange.toString());
+    assertEquals(new Base36Range(33, 39, 3), lRange);
+    assertEquals(new Base36Range(33, 39, 3).hashCode(), lRange.hashCode());
+
+    // Iteration creates the numbers in ascending order.
+    List<Base36> lValues = new ArrayList<>();
+    for (Base36 lValue : lRange) {
+      assertEquals(3, lValue.getMaxLength());
+      lValues.add(lValue);
+    }
+    assertEquals(6, lValues.size());
+    assertEquals(new Base36("X##", 3), lValues.get(0));
+    assertEquals(new Base36("21#", 3), lValues.get(5));
+    assertEquals(lValues, lRange.stream().collect(Collectors.toList()));
+
+    // Upper bound may require one more digit.
+    Base36Range lFull = new Base36Range(0, 36 * 36, 2);
+    assertEquals("001", lFull.getTo().toString());
+    assertEquals(36 * 36, lFull.longStream().count());
+    Base36Range lAllThreeDigits = new Base36Range(new Base36("0##", 3), new Base36("0001", 4));
+    assertEquals(3, lAllThreeDigits.getMaxLength());
+    assertEquals(36 * 36 * 36, lAllThreeDigits.size());
+    assertEquals("0001", lAllThreeDigits.getTo().toString());
+    assertEquals("ZZZ", lAllThreeDigits.stream().reduce(( pFirst, pSecond ) -> pSecond).get().toString());
+    Base36Range lWideRange = new Base36Range(new Base36("X", 1), new Base36("31", 2), 4);
+    assertEquals(4, lWideRange.getMaxLength());
+    assertEquals("X###", lWideRange.getFrom().toString());
+    assertTrue(new Base36Range(5, 5, 1).isEmpty());
+    Iterator<Base36> lIterator = new Base36Range(5, 5, 1).iterator();
+    assertFalse(lIterator.hasNext());
+
+    try {
+      new Base36Range(0, 36 * 36 + 1, 2);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      new Base36Range(10, 9, 2);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testSpliterator( ) {
+    Base36Range lRange = new Base36Range(100, 1101, 8);
+    Spliterator.OfLong lSpliterator = lRange.longSpliterator();
+    assertTrue(lSpliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+    assertNull(lSpliterator.getComparator());
+    assertEquals(1001, lSpliterator.getExactSizeIfKnown());
+
+    // Ranges are split into halves.
+    Spliterator.OfLong lPrefix = lSpliterator.trySplit();
+    assertEquals(500, lPrefix.estimateSize());
+    assertEquals(501, lSpliterator.estimateSize());
+    lPrefix.tryAdvance((long pValue) -> assertEquals(100, pValue));
+    long[] lSum = new long[1];
+    lPrefix.forEachRemaining((long pValue) -> lSum[0] += pValue);
+    assertEquals((101 + 599) * 499 / 2, lSum[0]);
+    assertEquals(0, lPrefix.estimateSize());
+    assertNull(new Base36Range(1, 2, 1).longSpliterator().trySplit());
+
+    Spliterator<Base36> lBase36Spliterator = lRange.spliterator();
+    Spliterator<Base36> lBase36Prefix = lBase36Spliterator.trySplit();
+    lBase36Spliterator.tryAdvance(pValue -> assertEquals(new Base36(600, 8), pValue));
+    assertEquals(500, lBase36Prefix.getExactSizeIfKnown());
+  }
+
+  @Test
+  public void testParallelStream( ) {
+    Base36Range lRange = new Base36Range(new Base36(0, 20), new Base36(1000000, 20));
+    assertEquals(1000000L * 999999 / 2, lRange.longStream().parallel().sum());
+    List<Base36> lValues = lRange.parallelStream().filter(pValue -> pValue.toLong() % 1000 == 0)
+        .collect(Collectors.toList());
+    assertEquals(1000, lValues.size());
+    for (int i = 0; i < lValues.size(); i++) {
+      assertEquals(i * 1000L, lValues.get(i).toLong());
+      assertEquals(20, lValues.get(i).getMaxLength());
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.SystemException;
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Sequence;
+import com.anaptecs.jeaf.xfun.types.Base36Sequence.Block;
+import org.junit.jupiter.api.Test;
+
+public class Base36SequenceTest {
+  @Test
+  public void testSequence( ) {
+    Base36Sequence lSequence = new Base36Sequence(new Base36("Y", 2));
+    assertEquals(2, lSequence.getMaxLength());
+    assertEquals("Y#", lSequence.next().toString());
+    assertEquals("Z#", lSequence.next().toString());
+    assertEquals("01", lSequence.next().toString());
+
+    Block lBlock = lSequence.reserve(3);
+    assertEquals(3, lBlock.getRemaining());
+    assertEquals("11", lBlock.next().toString());
+    assertEquals("21", lBlock.next().toString());
+    assertEquals("31", lBlock.next().toString());
+    assertFalse(lBlock.hasNext());
+    try {
+      lBlock.next();
+      fail("Exception expected.");
+    }
+    catch (NoSuchElementException e) {
+      // Nothing to do.
+    }
+    assertEquals("41", lSequence.next().toString());
+
+    try {
+      lSequence.reserve(0);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+  }
+
+  @Test
+  public void testSequenceOverflow( ) {
+    Base36Sequence lSequence = new Base36Sequence(new Base36("XZ", 2));
+
+    // Reservation that exceeds the maximum value must not consume the remaining values.
+    try {
+      lSequence.reserve(4);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    Block lBlock = lSequence.reserve(2);
+    assertEquals("XZ", lBlock.next().toString());
+    assertEquals("YZ", lBlock.next().toString());
+    assertEquals("ZZ", lSequence.next().toString());
+    try {
+      lSequence.next();
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+
+    try {
+      new Base36Sequence(new Base36("1", 13));
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+  }
+
+  @Test
+  public void testConcurrentSequence( ) throws InterruptedException {
+    final Base36Sequence lSequence = new Base36Sequence(new Base36(0, 6));
+    final Set<Base36> lNumbers = ConcurrentHashMap.newKeySet();
+    final int lThreadCount = 8;
+    final int lIterations = 2000;
+
+    List<Thread> lThreads = new ArrayList<>();
+    for (int i = 0; i < lThreadCount; i++) {
+      final boolean lUseBlocks = i % 2 == 0;
+      Thread lThread = new Thread(( ) -> {
+        for (int j = 0; j < lIterations; j++) {
+          if (lUseBlocks) {
+            Block lBlock = lSequence.reserve(10);
+            while (lBlock.hasNext()) {
+              lNumbers.add(lBlock.next());
+            }
+          }
+          else {
+            lNumbers.add(lSequence.next());
+          }
+        }
+      });
+      lThreads.add(lThread);
+      lThread.start();
+    }
+    for (Thread lThread : lThreads) {
+      lThread.join();
+    }
+    int lExpectedCount = (lThreadCount / 2) * lIterations * 11;
+    assertEquals(lExpectedCount, lNumbers.size());
+    assertTrue(lNumbers.contains(new Base36(lExpectedCount - 1, 6)));
+    assertEquals(lExpectedCount, lSequence.next().toInteger());
+  }
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Set;
+import org.junit.jupiter.api.Test;
+
+public class Base36SetTest {
+  @Test
+  public void testAddContainsRemove( ) {
+    Base36Set lSet = new Base36Set(6);
+    assertTrue(lSet.isEmpty());
+    assertTrue(lSet.add(new Base36("KUHJ1#", 6)));
+    assertFalse(lSet.add(2589212));
+    assertTrue(lSet.contains(new Base36("KUHJ1", 5)));
+    assertTrue(lSet.contains(2589212));
+    assertFalse(lSet.contains(2589213));
+    assertFalse(lSet.contains("KUHJ1"));
+    assertEquals(1, lSet.size());
+
+    assertTrue(lSet.remove(new Base36(2589212, 8)));
+    assertFalse(lSet.remove(2589212));
+    assertTrue(lSet.isEmpty());
+
+    // Values have to fit into the number of digits of the set.
+    try {
+      lSet.add(new Base36("0000001", 7));
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      lSet.add(-1);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testRandomValues( ) {
+    // Values are chosen so that sparse and dense containers are used.
+    Random lRandom = new Random(4711);
+    Base36Set lSet = new Base36Set(8);
+    TreeSet<Long> lExpected = new TreeSet<>();
+    for (int i = 0; i < 100000; i++) {
+      long lValue;
+      if (i % 2 == 0) {
+        lValue = lRandom.nextInt(20000);
+      }
+      else {
+        lValue = (long) (lRandom.nextDouble() * 36 * 36 * 36 * 36 * 36 * 36 * 36 * 36);
+      }
+      assertEquals(lExpected.add(lValue), lSet.add(lValue));
+    }
+    for (int i = 0; i < 30000; i++) {
+      long lValue = lRandom.nextInt(20000);
+      assertEquals(lExpected.remove(lValue), lSet.remove(lValue));
+    }
+    assertEquals(lExpected.size(), lSet.getCardinality());
+    assertIteration(lExpected, lSet);
+
+    // Removal through the iterator.
+    Iterator<Base36> lIterator = lSet.iterator();
+    while (lIterator.hasNext()) {
+      Base36 lNext = lIterator.next();
+      assertEquals(8, lNext.getMaxLength());
+      if (lNext.toLong() % 3 == 0) {
+        lIterator.remove();
+        lExpected.remove(lNext.toLong());
+      }
+    }
+    assertIteration(lExpected, lSet);
+  }
+
+  @Test
+  public void testRanges( ) {
+    Base36Set lSet = new Base36Set(5);
+    lSet.addRange(65530, 200000);
+    assertEquals(200000 - 65530, lSet.getCardinality());
+    assertFalse(lSet.contains(65529));
+    assertTrue(lSet.contains(65530));
+    assertTrue(lSet.contains(199999));
+    assertFalse(lSet.contains(200000));
+
+    lSet.removeRange(70000, 199999);
+    assertEquals(70000 - 65530 + 1, lSet.getCardinality());
+    assertTrue(lSet.contains(199999));
+    lSet.removeRange(0, Long.MAX_VALUE);
+    assertTrue(lSet.isEmpty());
+
+    try {
+      lSet.addRange(0, 36 * 36 * 36 * 36 * 36 + 1);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testSetOperations( ) {
+    Random lRandom = new Random(815);
+    Base36Set lFirst = new Base36Set(10);
+    Base36Set lSecond = new Base36Set(12);
+    TreeSet<Long> lFirstValues = new TreeSet<>();
+    TreeSet<Long> lSecondValues = new TreeSet<>();
+    for (int i = 0; i < 50000; i++) {
+      long lValue = lRandom.nextInt(300000);
+      lFirst.add(lValue);
+      lFirstValues.add(lValue);
+      lValue = lRandom.nextInt(200000) + 100000;
+      lSecond.add(lValue);
+      lSecondValues.add(lValue);
+    }
+    lFirst.addRange(1000000, 1100000);
+    lFirstValues.addAll(range(1000000, 1100000));
+
+    Base36Set lUnion = lFirst.union(lSecond);
+    TreeSet<Long> lExpected = new TreeSet<>(lFirstValues);
+    lExpected.addAll(lSecondValues);
+    assertEquals(12, lUnion.getMaxLength());
+    assertIteration(lExpected, lUnion);
+
+    Base36Set lIntersection = lFirst.intersection(lSecond);
+    lExpected = new TreeSet<>(lFirstValues);
+    lExpected.retainAll(lSecondValues);
+    assertIteration(lExpected, lIntersection);
+
+    Base36Set lDifference = lFirst.difference(lSecond);
+    lExpected = new TreeSet<>(lFirstValues);
+    lExpected.removeAll(lSecondValues);
+    assertIteration(lExpected, lDifference);
+
+    // Operations do not change the original sets.
+    assertIteration(lFirstValues, lFirst);
+    assertIteration(lSecondValues, lSecond);
+    assertTrue(lFirst.intersection(new Base36Set(10)).isEmpty());
+  }
+
+  @Test
+  public void testSerialization( ) throws Exception {
+    Base36Set lSet = new Base36Set(7);
+    lSet.addRange(0, 10000);
+    lSet.add(36L * 36 * 36 * 36 * 36 * 36 * 36 - 1);
+    lSet.add(123456789);
+
+    ByteArrayOutputStream lBytes = new ByteArrayOutputStream();
+    lSet.writeTo(new DataOutputStream(lBytes));
+    // Dense container with 8 KB and two sparse ones.
+    assertTrue(lBytes.size() < 9000);
+    Base36Set lRead = Base36Set.readFrom(new DataInputStream(new ByteArrayInputStream(lBytes.toByteArray())));
+    assertEquals(lSet, lRead);
+    assertEquals(7, lRead.getMaxLength());
+
+    lBytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream lOutputStream = new ObjectOutputStream(lBytes)) {
+      lOutputStream.writeObject(lSet);
+    }
+    try (ObjectInputStream lInputStream = new ObjectInputStream(new ByteArrayInputStream(lBytes.toByteArray()))) {
+      Base36Set lDeserialized = (Base36Set) lInputStream.readObject();
+      assertEquals(lSet.getCardinality(), lDeserialized.getCardinality());
+      assertTrue(lDeserialized.contains(123456789));
+    }
+
+    // Huge number of containers in a truncated stream must not lead to huge allocations.
+    lBytes = new ByteArrayOutputStream();
+    DataOutputStream lOutput = new DataOutputStream(lBytes);
+    lOutput.writeInt(1);
+    lOutput.writeInt(7);
+    lOutput.writeInt(Integer.MAX_VALUE);
+    try {
+      Base36Set.readFrom(new DataInputStream(new ByteArrayInputStream(lBytes.toByteArray())));
+      fail("Exception expected.");
+    }
+    catch (EOFException e) {
+      // Expected.
+    }
+  }
+
+  private static TreeSet<Long> range( long pFrom, long pTo ) {
+    TreeSet<Long> lValues = new TreeSet<>();
+    for (long i = pFrom; i < pTo; i++) {
+      lValues.add(i);
+    }
+    return lValues;
+  }
+
+  private static void assertIteration( TreeSet<Long> pExpected, Base36Set pSet ) {
+    assertEquals(pExpected.size(), pSet.getCardinality());
+    PrimitiveIterator.OfLong lIterator = pSet.longIterator();
+    for (Long lValue : pExpected) {
+      assertTrue(lIterator.hasNext());
+      assertEquals(lValue.longValue(), lIterator.nextLong());
+    }
+    assertFalse(lIterator.hasNext());
+  }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Sorter;
+import org.junit.jupiter.api.Test;
+
+public class Base36SorterTest {
+  @Test
+  public void testSortLongValues( ) {
+    Random lRandom = new Random(4711);
+    for (int lSize : new int[] { 0, 1, 2, 100, 10000, 200000 }) {
+      long[] lValues = new long[lSize];
+      for (int i = 0; i < lSize; i++) {
+        // Mix small and large values so that different numbers of passes are required.
+        if (i % 3 == 0) {
+          lValues[i] = lRandom.nextInt(36 * 36);
+        }
+        else {
+          lValues[i] = lRandom.nextLong() & Long.MAX_VALUE;
+        }
+      }
+      long[] lExpected = lValues.clone();
+      Arrays.sort(lExpected);
+
+      long[] lSorted = lValues.clone();
+      Base36Sorter.sort(lSorted);
+      assertArrayEquals(lExpected, lSorted);
+      lSorted = lValues.clone();
+      Base36Sorter.parallelSort(lSorted);
+      assertArrayEquals(lExpected, lSorted);
+    }
+
+    // Values that only differ in some bytes.
+    long[] lValues = new long[] { 0x0100000000L, 5, 0x0100000005L, 0, 0x0100000000L };
+    Base36Sorter.sort(lValues);
+    assertArrayEquals(new long[] { 0, 5, 0x0100000000L, 0x0100000000L, 0x0100000005L }, lValues);
+
+    // Sort only a range.
+    lValues = new long[] { 9, 8, 7, 6, 5 };
+    Base36Sorter.sort(lValues, 1, 4);
+    assertArrayEquals(new long[] { 9, 6, 7, 8, 5 }, lValues);
+
+    // Range in the middle of a larger array that requires several passes. Values outside of the range must not change.
+    long[] lLargeValues = new long[10000];
+    for (int i = 0; i < lLargeValues.length; i++) {
+      lLargeValues[i] = lRandom.nextInt(Integer.MAX_VALUE);
+    }
+    long[] lExpected = lLargeValues.clone();
+    Arrays.sort(lExpected, 4711, 5711);
+    Base36Sorter.sort(lLargeValues, 4711, 5711);
+    assertArrayEquals(lExpected, lLargeValues);
+
+    // Negative values are no base 36 numbers.
+    try {
+      Base36Sorter.sort(new long[] { 1, -1 });
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      Base36Sorter.sort(new long[5], 3, 6);
+      fail("Exception expected.");
+    }
+    catch (IndexOutOfBoundsException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testSortBase36Numbers( ) {
+    Random lRandom = new Random(815);
+    for (int lSize : new int[] { 0, 1, 1000, 100000 }) {
+      Base36[] lValues = new Base36[lSize];
+      for (int i = 0; i < lSize; i++) {
+        lValues[i] = new Base36(lRandom.nextInt(1000000), 4 + i % 3);
+      }
+      Base36[] lExpected = lValues.clone();
+      Arrays.sort(lExpected);
+
+      // Sorting has to be stable, thus even objects with equal values have to be at the same position.
+      Base36[] lSorted = lValues.clone();
+      Base36Sorter.sort(lSorted);
+      assertSameElements(lExpected, lSorted);
+      lSorted = lValues.clone();
+      Base36Sorter.parallelSort(lSorted);
+      assertSameElements(lExpected, lSorted);
+
+      List<Base36> lList = new LinkedList<>(Arrays.asList(lValues));
+      Base36Sorter.sort(lList);
+      assertSameElements(lExpected, lList.toArray(new Base36[0]));
+      lList = new ArrayList<>(Arrays.asList(lValues));
+      Base36Sorter.parallelSort(lList);
+      assertSameElements(lExpected, lList.toArray(new Base36[0]));
+    }
+
+    // Numbers that exceed the range of long values.
+    Base36 lLarge = new Base36("ZZZZZZZZZZZZZZ");
+    Base36 lSmall = new Base36("1", 20);
+    Base36 lMedium = new Base36(Long.MAX_VALUE, 20);
+    Base36[] lValues = new Base36[] { lLarge, lMedium, lSmall };
+    Base36Sorter.sort(lValues);
+    assertSameElements(new Base36[] { lSmall, lMedium, lLarge }, lValues);
+
+    try {
+      Base36Sorter.sort(new Base36[] { lSmall, null });
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  private static void assertSameElements( Base36[] pExpected, Base36[] pActual ) {
+    assertEquals(pExpected.length, pActual.length);
+    for (int i = 0; i < pExpected.length; i++) {
+      assertSame(pExpected[i], pActual[i]);
+    }
+  }
+}
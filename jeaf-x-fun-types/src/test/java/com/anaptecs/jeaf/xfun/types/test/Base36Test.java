@@ -10,6 +10,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
 import com.anaptecs.jeaf.xfun.api.XFunMessages;
 import com.anaptecs.jeaf.xfun.api.errorhandling.SystemException;
 import com.anaptecs.jeaf.xfun.types.Base36;
@@ -197,4 +204,317 @@ public class Base36Test {
     }
 
   }
+
+  /**
+   * Test of base 36 numbers with long values and with more digits than can be represented by a long value.
+   */
+  @Test
+  @Order(8)
+  public void testBase36LongValues( ) throws Exception {
+    // Test long based constructor.
+    Base36 lNumber = new Base36(4738381338321616895L, 12);
+    assertEquals("ZZZZZZZZZZZZ", lNumber.toString());
+    assertEquals(4738381338321616895L, lNumber.toLong());
+    assertEquals(new Base36("ZZZZZZZZZZZZ"), lNumber);
+    assertEquals("1###", new Base36(1L, 4).toString());
+    try {
+      new Base36(36L, 1);
+      fail("Creation of a base 36 number with too many digits must fail.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+
+    // Sums near the maximum value. Sums of the largest numbers with 12 digits even exceed Long.MAX_VALUE.
+    assertEquals(lNumber, new Base36(2369190669160808447L, 12).add(new Base36(2369190669160808448L, 12)));
+    try {
+      lNumber.add(lNumber);
+      fail("Clase should throw exception in case of an overflow when adding a value.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode(), "Wrong error code.");
+    }
+    try {
+      lNumber.add(Integer.MAX_VALUE);
+      fail("Clase should throw exception in case of an overflow when adding a value.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode(), "Wrong error code.");
+    }
+
+    // String representation has to be kept as it was passed.
+    Base36 lNotNormalized = new Base36("10", 3);
+    assertEquals("10#", lNotNormalized.toString());
+    assertEquals(new Base36("1", 3), lNotNormalized);
+    assertEquals("2##", lNotNormalized.increment().toString());
+    assertEquals("#", new Base36(0, 1).toString());
+    assertEquals("0##", new Base36(0, 3).toString());
+
+    // Test numbers with more digits than a long value can represent.
+    Base36 lWideNumber = new Base36("ZZZZZZZZZZZZZ", 14);
+    assertEquals(14, lWideNumber.getMaxLength());
+    assertEquals("00000000000001", lWideNumber.increment().toString());
+    assertEquals("Y0000000000001", lWideNumber.add(new Base36("Z", 2)).toString());
+    assertEquals("Y0000000000001", new Base36("Z", 2).add(lWideNumber).toString());
+    assertTrue(lWideNumber.compareTo(lNumber) > 0);
+    assertTrue(lNumber.compareTo(lWideNumber) < 0);
+    assertEquals(new Base36("ZZZZZZZZZZZZ", 12), new Base36("ZZZZZZZZZZZZ##", 14));
+    assertEquals("1#############", new Base36(1, 14).toString());
+    try {
+      new Base36("ZZZZZZZZZZZZZ").increment();
+      fail("Clase should throw exception in case of an overflow when adding a value.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode(), "Wrong error code.");
+    }
+  }
+
+  /**
+   * Test of parsing base 36 numbers from character sequences and appending them to builders.
+   */
+  @Test
+  @Order(9)
+  public void testBase36ParseAndAppend( ) throws Exception {
+    String lLine = "ID=KUHJ1#;";
+    Base36 lNumber = Base36.parse(lLine, 3, 9, 6);
+    assertEquals(2589212, lNumber.toInteger());
+    assertEquals(new Base36("KUHJ1#", 6).hashCode(), lNumber.hashCode());
+    assertEquals("KUHJ1##", Base36.parse(lLine, 3, 8, 7).toString());
+
+    StringBuilder lBuilder = new StringBuilder("ID=");
+    lNumber.appendTo(lBuilder).append(';');
+    assertEquals(lLine, lBuilder.toString());
+    Appendable lAppendable = new StringBuilder();
+    new Base36("1", 14).appendTo(lAppendable);
+    assertEquals("1#############", lAppendable.toString());
+
+    // Invalid characters and invalid position of place holders.
+    String[] lInvalidValues = new String[] { "#", "#1", "1#1", "a", "1-" };
+    for (String lInvalidValue : lInvalidValues) {
+      try {
+        Base36.parse(lInvalidValue, 0, lInvalidValue.length(), 5);
+        fail("Parsing '" + lInvalidValue + "' must fail.");
+      }
+      catch (SystemException e) {
+        assertEquals(XFunMessages.INVALID_BASE_36_DIGIT, e.getErrorCode());
+      }
+    }
+    try {
+      Base36.parse("", 0, 0, 5);
+      fail("Parsing an empty range must fail.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+    try {
+      Base36.parse(lLine, 3, 9, 5);
+      fail("Parsing a base 36 number with more characters than digits must fail.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+  }
+
+  /**
+   * Test of base 36 numbers whose value exceeds the range of long.
+   */
+  @Test
+  @Order(10)
+  public void testBase36WideValues( ) throws Exception {
+    // 20 digit legacy key with all digits set to 'Z' is 36^20 - 1.
+    BigInteger lMaxValue = BigInteger.valueOf(36).pow(20).subtract(BigInteger.ONE);
+    Base36 lNumber = new Base36("ZZZZZZZZZZZZZZZZZZZZ");
+    assertEquals(lMaxValue, lNumber.toBigInteger());
+    assertEquals(lNumber, new Base36(lMaxValue, 20));
+    assertEquals("ZZZZZZZZZZZZZZZZZZZZ", new Base36(lMaxValue, 20).toString());
+
+    // Conversion from and to big integer keeps the place holders.
+    BigInteger lValue = new BigInteger("123456789012345678901234567890");
+    Base36 lWide = new Base36(lValue, 24);
+    assertEquals(lValue, lWide.toBigInteger());
+    assertEquals(new Base36(lWide.toString(), 24), lWide);
+    assertTrue(lWide.toString().endsWith("#"));
+    assertEquals(new Base36(4711, 16).toString(), new Base36(BigInteger.valueOf(4711), 16).toString());
+    assertEquals(BigInteger.valueOf(2589212), new Base36("KUHJ1#", 6).toBigInteger());
+    assertEquals(BigInteger.valueOf(Long.MAX_VALUE), new Base36(Long.MAX_VALUE, 16).toBigInteger());
+
+    // Arithmetic operations carry over the limbs.
+    Base36 lLimbEnd = new Base36("ZZZZZZZZZZZZ########");
+    assertEquals("0000000000001#######", lLimbEnd.increment().toString());
+    assertEquals(lLimbEnd.toBigInteger().add(lValue), lLimbEnd.add(new Base36(lValue, 20)).toBigInteger());
+    assertEquals(lLimbEnd.toBigInteger().add(BigInteger.valueOf(36)), lLimbEnd.add(36).toBigInteger());
+    assertTrue(lLimbEnd.compareTo(lLimbEnd.increment()) < 0);
+    assertTrue(lNumber.compareTo(lWide) > 0);
+    assertTrue(lWide.compareTo(new Base36(Long.MAX_VALUE, 12 + 1)) > 0);
+    try {
+      lNumber.increment();
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+
+    // Sum of two limbs with all digits set to 'Z' exceeds Long.MAX_VALUE.
+    Base36 lFullLimbs = new Base36("ZZZZZZZZZZZZZZZZZZZZZZZZ", 25);
+    Base36 lDoubled = lFullLimbs.add(lFullLimbs);
+    assertEquals(lFullLimbs.toBigInteger().shiftLeft(1), lDoubled.toBigInteger());
+    assertEquals("YZZZZZZZZZZZZZZZZZZZZZZZ1", lDoubled.toString());
+    assertEquals(lDoubled, lFullLimbs.add(new Base36("ZZZZZZZZZZZZZZZZZZZZZZZZ", 24)));
+    try {
+      new Base36("ZZZZZZZZZZZZZZZZZZZZZZZZ").add(new Base36("ZZZZZZZZZZZZZZZZZZZZZZZZ"));
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    try {
+      lNumber.add(lNumber);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+
+    // Invalid values.
+    try {
+      new Base36(lMaxValue, 19);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+    try {
+      new Base36(BigInteger.valueOf(-1), 19);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+  }
+
+  /**
+   * Test of subtraction, multiplication and difference of base 36 numbers.
+   */
+  @Test
+  @Order(11)
+  public void testBase36Subtract( ) throws Exception {
+    Base36 lNumber = new Base36("KUHJ1#", 6);
+    assertEquals(new Base36(2589211, 6), lNumber.decrement());
+    assertEquals(new Base36(2589212 - 4711, 6), lNumber.subtract(4711));
+    assertEquals(new Base36(0, 6), lNumber.subtract(lNumber));
+    assertEquals("0#####", lNumber.subtract(lNumber).toString());
+    assertEquals(lNumber, lNumber.subtract(null));
+    assertEquals(8, lNumber.subtract(new Base36(1, 8)).getMaxLength());
+    assertEquals(new Base36(2589212L * 36, 6), lNumber.multiply(36));
+    assertEquals(new Base36(0, 6), lNumber.multiply(0));
+    assertEquals(4711, lNumber.difference(lNumber.subtract(4711)));
+    assertEquals(-4711, lNumber.subtract(4711).difference(lNumber));
+
+    // Wide numbers borrow from the higher limbs.
+    Base36 lWide = new Base36("0000000000001#######");
+    assertEquals("ZZZZZZZZZZZZ########", lWide.decrement().toString());
+    assertEquals(lWide.toBigInteger().subtract(BigInteger.valueOf(4711)), lWide.subtract(4711).toBigInteger());
+    assertEquals(BigInteger.ONE, lWide.subtract(lWide.decrement()).toBigInteger());
+    assertEquals(lWide.toBigInteger().multiply(BigInteger.valueOf(1000)), lWide.multiply(1000).toBigInteger());
+    assertEquals(1, lWide.difference(lWide.decrement()));
+    assertEquals(-4711, new Base36(0, 20).difference(new Base36(4711, 4)));
+
+    // Results must neither be negative nor exceed the number of digits.
+    try {
+      new Base36(0, 6).decrement();
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    try {
+      lNumber.subtract(lNumber.increment());
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    try {
+      lWide.subtract(new Base36("00000000000001######"));
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    try {
+      new Base36("ZZZZZZ").multiply(2);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    try {
+      new Base36("ZZZZZZZZZZZZ").multiply(Integer.MAX_VALUE);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    try {
+      new Base36("ZZZZZZZZZZZZZZZZZZZZ").multiply(2);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    try {
+      new Base36("ZZZZZZZZZZZZZZZZZZZZ").difference(new Base36(0, 1));
+      fail("Exception expected.");
+    }
+    catch (ArithmeticException e) {
+      // Nothing to do.
+    }
+  }
+
+  /**
+   * Test of serialization of base 36 numbers. Streams that were written by former versions have to remain readable.
+   */
+  @Test
+  @Order(12)
+  public void testBase36Serialization( ) throws Exception {
+    Base36[] lNumbers = new Base36[] { new Base36("KUHJ1#", 6), new Base36(0, 1), new Base36("0##", 3),
+      new Base36("ZZZZZZZZZZZZZZZZZZZZ"), new Base36(BigInteger.TEN.pow(30), 24) };
+    ByteArrayOutputStream lBytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream lOutputStream = new ObjectOutputStream(lBytes)) {
+      lOutputStream.writeObject(lNumbers);
+    }
+    try (ObjectInputStream lInputStream = new ObjectInputStream(new ByteArrayInputStream(lBytes.toByteArray()))) {
+      Base36[] lDeserialized = (Base36[]) lInputStream.readObject();
+      for (int i = 0; i < lNumbers.length; i++) {
+        assertEquals(lNumbers[i], lDeserialized[i]);
+        assertEquals(lNumbers[i].toString(), lDeserialized[i].toString());
+        assertEquals(lNumbers[i].getMaxLength(), lDeserialized[i].getMaxLength());
+      }
+    }
+    // Peers with former versions have to be able to read the stream so it must not name any other class.
+    String lStreamContent = new String(lBytes.toByteArray(), StandardCharsets.ISO_8859_1);
+    assertTrue(lStreamContent.contains("com.anaptecs.jeaf.xfun.types.Base36"));
+    assertFalse(lStreamContent.contains("com.anaptecs.jeaf.xfun.types.Base36$"));
+
+    // Array with "KUHJ1#", "#" and "ZZZZZZZZZZZZZZZZZZZZ" as it was serialized by former versions.
+    String lLegacyStream =
+        "aced0005757200135b4c6a6176612e6c616e672e4f626a6563743b90ce589f1073296c02000078700000000373720023"
+        + "636f6d2e616e6170746563732e6a6561662e7866756e2e74797065732e42617365333600000000000000010200015b00"
+        + "0576616c75657400025b437870757200025b43b02666b0e25d84ac020000787000000006004b00550048004a00310023"
+        + "7371007e00027571007e00050000000100237371007e00027571007e000500000014005a005a005a005a005a005a005a"
+        + "005a005a005a005a005a005a005a005a005a005a005a005a005a";
+    byte[] lLegacyBytes = new byte[lLegacyStream.length() / 2];
+    for (int i = 0; i < lLegacyBytes.length; i++) {
+      lLegacyBytes[i] = (byte) Integer.parseInt(lLegacyStream.substring(2 * i, 2 * i + 2), 16);
+    }
+    try (ObjectInputStream lInputStream = new ObjectInputStream(new ByteArrayInputStream(lLegacyBytes))) {
+      Object[] lDeserialized = (Object[]) lInputStream.readObject();
+      assertEquals(3, lDeserialized.length);
+      assertEquals("KUHJ1#", lDeserialized[0].toString());
+      assertEquals(2589212, ((Base36) lDeserialized[0]).toInteger());
+      assertEquals("#", lDeserialized[1].toString());
+      assertEquals(new Base36(0, 1), lDeserialized[1]);
+      assertEquals(lNumbers[3], lDeserialized[2]);
+    }
+  }
 }
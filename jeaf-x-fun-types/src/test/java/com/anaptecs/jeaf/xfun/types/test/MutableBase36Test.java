@@ -0,0 +1,140 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.SystemException;
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.MutableBase36;
+import org.junit.jupiter.api.Test;
+
+public class MutableBase36Test {
+  @Test
+  public void testAccumulator( ) {
+    MutableBase36 lAccumulator = new MutableBase36(new Base36("KUHJ1#", 6));
+    assertEquals(6, lAccumulator.getMaxLength());
+    assertEquals(2589213, lAccumulator.increment().toLong());
+    assertEquals(2589211, lAccumulator.decrement().decrement().toLong());
+    assertEquals(2589311, lAccumulator.add(100).toLong());
+    assertEquals(2589211, lAccumulator.add(-100).toLong());
+    assertEquals(2589111, lAccumulator.subtract(100).toLong());
+    assertEquals(2589211, lAccumulator.subtract(-100).toLong());
+
+    Base36 lFrozen = lAccumulator.freeze();
+    assertEquals(new Base36(2589211, 6), lFrozen);
+    assertEquals(lFrozen.toString(), lAccumulator.toString());
+    lAccumulator.increment();
+    assertEquals(2589211, lFrozen.toLong());
+
+    assertEquals("0#####", lAccumulator.set(0).toString());
+    assertEquals("ZZZZZZ", lAccumulator.set(new Base36("ZZZZZZ")).toString());
+    assertEquals("ZZZ###", lAccumulator.set(new Base36("ZZZ")).add(46620).add(-46620).toString());
+  }
+
+  @Test
+  public void testBounds( ) {
+    // Value remains unchanged after a failed operation.
+    MutableBase36 lAccumulator = new MutableBase36(new Base36("ZZZZZZ"));
+    try {
+      lAccumulator.increment();
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    assertEquals("ZZZZZZ", lAccumulator.toString());
+    try {
+      lAccumulator.add(Long.MAX_VALUE);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    lAccumulator.set(0);
+    try {
+      lAccumulator.decrement();
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    assertEquals(0, lAccumulator.toLong());
+
+    MutableBase36 lWide = new MutableBase36(new Base36("ZZZZZZZZZZZZZZZZZZZZ"));
+    try {
+      lWide.add(1);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    assertEquals("ZZZZZZZZZZZZZZZZZZZZ", lWide.toString());
+    try {
+      new MutableBase36(20).add(Long.MIN_VALUE);
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+
+    try {
+      lAccumulator.set(36 * 36 * 36 * 36 * 36 * 36);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      lAccumulator.set(new Base36(0, 7));
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testRandomOperations( ) {
+    // Results are compared with big integer arithmetic for compact and wide numbers.
+    Random lRandom = new Random(4711);
+    int[] lWidths = new int[] { 1, 5, 12, 13, 20, 24, 30 };
+    for (int lDigits : lWidths) {
+      BigInteger lBound = BigInteger.valueOf(36).pow(lDigits);
+      MutableBase36 lAccumulator = new MutableBase36(lDigits);
+      BigInteger lExpected = BigInteger.ZERO;
+      for (int i = 0; i < 20000; i++) {
+        long lValue;
+        switch (lRandom.nextInt(4)) {
+          case 0:
+            lValue = lRandom.nextLong();
+            break;
+          case 1:
+            lValue = lRandom.nextInt();
+            break;
+          default:
+            lValue = lRandom.nextInt(100) - 50;
+        }
+        BigInteger lResult = lExpected.add(BigInteger.valueOf(lValue));
+        try {
+          lAccumulator.add(lValue);
+          assertEquals(true, lResult.signum() >= 0 && lResult.compareTo(lBound) < 0);
+          lExpected = lResult;
+        }
+        catch (SystemException e) {
+          assertEquals(false, lResult.signum() >= 0 && lResult.compareTo(lBound) < 0);
+        }
+        assertEquals(lExpected, lAccumulator.freeze().toBigInteger());
+      }
+      assertEquals(new Base36(lExpected, lDigits).toString(), lAccumulator.toString());
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.SystemException;
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.PartitionedBase36Allocator;
+import com.anaptecs.jeaf.xfun.types.PartitionedBase36Allocator.Strategy;
+import org.junit.jupiter.api.Test;
+
+public class PartitionedBase36AllocatorTest {
+  @Test
+  public void testRangePartitions( ) {
+    // 36 ranges means that the highest digit is the index of the node.
+    PartitionedBase36Allocator lNode_0 = new PartitionedBase36Allocator(3, 36, 0, Strategy.RANGE);
+    PartitionedBase36Allocator lNode_11 = new PartitionedBase36Allocator(3, 36, 11, Strategy.RANGE);
+    assertEquals("0##", lNode_0.next().toString());
+    assertEquals("1##", lNode_0.next().toString());
+    assertEquals("00B", lNode_11.next().toString());
+    assertEquals("10B", lNode_11.next().toString());
+    assertEquals("ZZB", lNode_11.getLastValue().toString());
+    assertEquals(1296, lNode_11.getCapacity());
+    assertEquals(2, lNode_11.getUsed());
+    assertEquals(1294, lNode_11.getRemaining());
+    assertTrue(lNode_11.contains(new Base36("55B", 3)));
+    assertFalse(lNode_11.contains(new Base36("55C", 3)));
+
+    // Value space can not be split evenly. Last partition gets the remaining values.
+    PartitionedBase36Allocator lFirst = new PartitionedBase36Allocator(1, 5, 0, Strategy.RANGE);
+    PartitionedBase36Allocator lLast = new PartitionedBase36Allocator(1, 5, 4, Strategy.RANGE);
+    assertEquals(7, lFirst.getCapacity());
+    assertEquals(8, lLast.getCapacity());
+    assertEquals("S", lLast.getFirstValue().toString());
+    assertEquals("Z", lLast.getLastValue().toString());
+  }
+
+  @Test
+  public void testStridePartitions( ) {
+    Set<Base36> lNumbers = new HashSet<>();
+    long lCapacity = 0;
+    for (int i = 0; i < 5; i++) {
+      PartitionedBase36Allocator lAllocator = new PartitionedBase36Allocator(2, 5, i, Strategy.STRIDE);
+      lCapacity = lCapacity + lAllocator.getCapacity();
+      while (lAllocator.getRemaining() > 0) {
+        Base36 lNext = lAllocator.next();
+        assertTrue(lAllocator.contains(lNext));
+        assertTrue(lNumbers.add(lNext));
+      }
+      assertEquals(1.0, lAllocator.getUtilization());
+
+      // Partition is exhausted.
+      try {
+        lAllocator.next();
+        fail("Exception expected.");
+      }
+      catch (SystemException e) {
+        assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+      }
+    }
+    assertEquals(36 * 36, lCapacity);
+    assertEquals(36 * 36, lNumbers.size());
+  }
+
+  @Test
+  public void testRestartWithUsedValues( ) {
+    PartitionedBase36Allocator lAllocator = new PartitionedBase36Allocator(3, 36, 11, Strategy.STRIDE);
+    Set<Base36> lNumbers = new HashSet<>();
+    for (int i = 0; i < 10; i++) {
+      lNumbers.add(lAllocator.next());
+    }
+
+    // Restarted allocator continues after the values that were already allocated.
+    PartitionedBase36Allocator lRestarted =
+        new PartitionedBase36Allocator(3, 36, 11, Strategy.STRIDE, lAllocator.getUsed());
+    assertEquals(10, lRestarted.getUsed());
+    Base36 lNext = lRestarted.next();
+    assertFalse(lNumbers.contains(lNext));
+    assertEquals(lAllocator.next(), lNext);
+
+    // Completely used partition.
+    lRestarted = new PartitionedBase36Allocator(3, 36, 11, Strategy.RANGE, 1296);
+    assertEquals(0, lRestarted.getRemaining());
+    try {
+      lRestarted.next();
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+  }
+
+  @Test
+  public void testInvalidParameters( ) {
+    try {
+      new PartitionedBase36Allocator(2, 3, 3, Strategy.RANGE);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+    try {
+      new PartitionedBase36Allocator(1, 37, 0, Strategy.STRIDE);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+    try {
+      new PartitionedBase36Allocator(3, 36, 11, Strategy.RANGE, 1297);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+    try {
+      new PartitionedBase36Allocator(3, 36, 11, Strategy.RANGE, -1);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import com.anaptecs.jeaf.xfun.types.Period;
+import com.anaptecs.jeaf.xfun.types.PeriodArray;
+import org.junit.jupiter.api.Test;
+
+public class PeriodArrayTest {
+  @Test
+  public void testConversion( ) {
+    List<Period> lPeriods = Arrays.asList(new Period(0L, 10L), Period.UNLIMITED_PERIOD,
+        new Period(Period.OPEN_BEGINNING, -5L), new Period(7L, Period.OPEN_END));
+    PeriodArray lArray = new PeriodArray(lPeriods);
+    assertEquals(4, lArray.size());
+    assertEquals(lPeriods, lArray.toList());
+    assertEquals(lPeriods.get(2), lArray.get(2));
+    assertEquals(Period.OPEN_BEGINNING, lArray.getStart(2));
+    assertEquals(Period.OPEN_END, lArray.getEnd(3));
+
+    lArray = new PeriodArray(0);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i, lArray.add(i, 2L * i));
+    }
+    assertEquals(100, lArray.size());
+    assertEquals(new Period(99L, 198L), lArray.get(99));
+
+    try {
+      lArray.get(100);
+      fail("Exception expected.");
+    }
+    catch (IndexOutOfBoundsException e) {
+      // Expected.
+    }
+    try {
+      lArray.add(2, 1);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testBatchChecks( ) {
+    Random lRandom = new Random(4711);
+    List<Period> lPeriods = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      long lStart = lRandom.nextInt(1000);
+      long lEnd = lStart + lRandom.nextInt(50);
+      if (lRandom.nextInt(10) == 0) {
+        lStart = Period.OPEN_BEGINNING;
+      }
+      if (lRandom.nextInt(10) == 0) {
+        lEnd = Period.OPEN_END;
+      }
+      lPeriods.add(new Period(lStart, lEnd));
+    }
+    PeriodArray lArray = new PeriodArray(lPeriods);
+
+    long[] lPoints = new long[] { Long.MIN_VALUE, Long.MIN_VALUE + 1, -1, 0, 1, 17, 500, 999, 1048, 1049, 2000,
+      Long.MAX_VALUE - 1, Long.MAX_VALUE };
+    for (long lPoint : lPoints) {
+      BitSet lExpected = new BitSet();
+      for (int i = 0; i < lPeriods.size(); i++) {
+        if (lPeriods.get(i).isEnclosed(lPoint)) {
+          lExpected.set(i);
+        }
+      }
+      assertEquals(lExpected, lArray.findEnclosing(lPoint));
+      assertEquals(lExpected.cardinality(), lArray.countEnclosing(lPoint));
+    }
+
+    List<Period> lChecks = new ArrayList<>(Arrays.asList(Period.UNLIMITED_PERIOD,
+        new Period(Period.OPEN_BEGINNING, 10L), new Period(990L, Period.OPEN_END), new Period(500L, 500L)));
+    for (int i = 0; i < 50; i++) {
+      long lStart = lRandom.nextInt(1100) - 50;
+      lChecks.add(new Period(lStart, lStart + lRandom.nextInt(30)));
+    }
+    for (Period lCheck : lChecks) {
+      BitSet lExpected = new BitSet();
+      for (int i = 0; i < lPeriods.size(); i++) {
+        if (lPeriods.get(i).overlaps(lCheck)) {
+          lExpected.set(i);
+        }
+      }
+      assertEquals(lExpected, lArray.findOverlapping(lCheck));
+      assertEquals(lExpected.cardinality(), lArray.countOverlapping(lCheck));
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import com.anaptecs.jeaf.xfun.types.Period;
+import com.anaptecs.jeaf.xfun.types.PeriodEvaluator;
+import org.junit.jupiter.api.Test;
+
+public class PeriodEvaluatorTest {
+  @Test
+  public void testSmallInput( ) {
+    Period[] lPeriods = new Period[] { new Period(0L, 10L), new Period(10L, 20L), Period.UNLIMITED_PERIOD,
+      new Period(Period.OPEN_BEGINNING, 5L) };
+    assertEquals(BitSet.valueOf(new long[] { 0b0111 }),
+        PeriodEvaluator.evaluate(lPeriods, PeriodEvaluator.enclosing(10)));
+    assertEquals(BitSet.valueOf(new long[] { 0b1101 }),
+        PeriodEvaluator.evaluate(lPeriods, PeriodEvaluator.enclosing(new Date(3))));
+    assertEquals(Arrays.asList(lPeriods[1], lPeriods[2]),
+        PeriodEvaluator.filter(lPeriods, PeriodEvaluator.overlapping(new Period(12L, 13L))));
+    assertEquals(Arrays.asList(lPeriods[0], lPeriods[3]),
+        PeriodEvaluator.filter(lPeriods, PeriodEvaluator.endingBefore(new Period(10L, 13L))));
+
+    try {
+      PeriodEvaluator.evaluate(lPeriods, null);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testParallelEvaluation( ) {
+    Random lRandom = new Random(4711);
+    List<Period> lPeriods = new ArrayList<>();
+    for (int i = 0; i < 3 * PeriodEvaluator.PARALLEL_THRESHOLD + 17; i++) {
+      long lStart = lRandom.nextInt(100000);
+      lPeriods.add(new Period(lStart, lStart + lRandom.nextInt(1000)));
+    }
+    List<Predicate<Period>> lPredicates = Arrays.asList(PeriodEvaluator.enclosing(50000),
+        PeriodEvaluator.overlapping(new Period(20000L, 20500L)), PeriodEvaluator.endingBefore(new Period(500L, 600L)));
+    ForkJoinPool lPool = new ForkJoinPool(4);
+    try {
+      for (Predicate<Period> lPredicate : lPredicates) {
+        BitSet lExpected = new BitSet();
+        List<Period> lExpectedPeriods = new ArrayList<>();
+        for (int i = 0; i < lPeriods.size(); i++) {
+          if (lPredicate.test(lPeriods.get(i))) {
+            lExpected.set(i);
+            lExpectedPeriods.add(lPeriods.get(i));
+          }
+        }
+        assertEquals(lExpected, PeriodEvaluator.evaluate(lPeriods, lPredicate));
+        assertEquals(lExpected, PeriodEvaluator.evaluate(lPeriods, lPredicate, lPool));
+        assertEquals(lExpected, PeriodEvaluator.evaluate(new LinkedList<>(lPeriods), lPredicate));
+        assertEquals(lExpected, PeriodEvaluator.evaluate(lPeriods.toArray(new Period[0]), lPredicate));
+        assertEquals(lExpectedPeriods, PeriodEvaluator.filter(lPeriods, lPredicate, lPool));
+        assertEquals(lExpectedPeriods, PeriodEvaluator.filter(new LinkedList<>(lPeriods), lPredicate));
+      }
+    }
+    finally {
+      lPool.shutdown();
+    }
+  }
+}
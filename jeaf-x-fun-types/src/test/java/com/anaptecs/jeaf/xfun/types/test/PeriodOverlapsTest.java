@@ -0,0 +1,124 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.anaptecs.jeaf.xfun.types.Period;
+import com.anaptecs.jeaf.xfun.types.PeriodOverlaps;
+import com.anaptecs.jeaf.xfun.types.PeriodOverlaps.Pair;
+import org.junit.jupiter.api.Test;
+
+public class PeriodOverlapsTest {
+  @Test
+  public void testOverlappingPairs( ) {
+    Period lFirst = new Period(0L, 10L);
+    Period lTouching = new Period(10L, 20L);
+    Period lOverlapping = new Period(5L, 15L);
+    Period lOpenEnd = new Period(19L, Period.OPEN_END);
+    Period lSeparate = new Period(Period.OPEN_BEGINNING, -1L);
+    List<Period> lPeriods = Arrays.asList(lOpenEnd, lTouching, lFirst, lSeparate, lOverlapping);
+
+    List<Pair<Period>> lPairs = PeriodOverlaps.getOverlappingPairs(lPeriods);
+    assertEquals(3, lPairs.size());
+    assertEquals(lFirst, lPairs.get(0).getFirst());
+    assertEquals(lOverlapping, lPairs.get(0).getSecond());
+    assertEquals(lOverlapping, lPairs.get(1).getFirst());
+    assertEquals(lTouching, lPairs.get(1).getSecond());
+    assertEquals(lTouching, lPairs.get(2).getFirst());
+    assertEquals(lOpenEnd, lPairs.get(2).getSecond());
+
+    List<List<Period>> lClusters = PeriodOverlaps.getConflictClusters(lPeriods);
+    assertEquals(1, lClusters.size());
+    assertEquals(Arrays.asList(lFirst, lOverlapping, lTouching, lOpenEnd), lClusters.get(0));
+
+    assertEquals(0, PeriodOverlaps.getOverlappingPairs(Collections.<Period> emptyList()).size());
+    assertEquals(0, PeriodOverlaps.getConflictClusters(Arrays.asList(lFirst, lTouching)).size());
+
+    try {
+      PeriodOverlaps.getOverlappingPairs(null);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testAgainstPeriodOverlaps( ) {
+    Random lRandom = new Random(4711);
+    for (int lRun = 0; lRun < 50; lRun++) {
+      List<Period> lPeriods = new ArrayList<>();
+      int lCount = lRandom.nextInt(60);
+      for (int i = 0; i < lCount; i++) {
+        long lStart = lRandom.nextInt(200);
+        long lEnd = lStart + lRandom.nextInt(20);
+        if (lRandom.nextInt(10) == 0) {
+          lStart = Period.OPEN_BEGINNING;
+        }
+        if (lRandom.nextInt(10) == 0) {
+          lEnd = Period.OPEN_END;
+        }
+        lPeriods.add(new Period(lStart, lEnd));
+      }
+
+      // Expected pairs are determined by identity as periods may be equal.
+      Set<List<Integer>> lExpected = new HashSet<>();
+      for (int i = 0; i < lPeriods.size(); i++) {
+        for (int j = i + 1; j < lPeriods.size(); j++) {
+          if (lPeriods.get(i).overlaps(lPeriods.get(j)) == true) {
+            lExpected.add(Arrays.asList(Math.min(i, j), Math.max(i, j)));
+          }
+        }
+      }
+      Map<Period, Integer> lIndexes = new IdentityHashMap<>();
+      for (int i = 0; i < lPeriods.size(); i++) {
+        lIndexes.put(lPeriods.get(i), i);
+      }
+      Set<List<Integer>> lActual = new HashSet<>();
+      PeriodOverlaps.forEachOverlappingPair(lPeriods, ( pFirst, pSecond ) -> {
+        assertTrue(pFirst.getStartMillis() <= pSecond.getStartMillis());
+        int lFirst = lIndexes.get(pFirst);
+        int lSecond = lIndexes.get(pSecond);
+        assertTrue(lActual.add(Arrays.asList(Math.min(lFirst, lSecond), Math.max(lFirst, lSecond))));
+      });
+      assertEquals(lExpected, lActual);
+
+      // Every period of a cluster has to overlap with at least one other period of it and clusters must not overlap.
+      List<List<Period>> lClusters = PeriodOverlaps.getConflictClusters(lPeriods);
+      int lClusteredPeriods = 0;
+      for (List<Period> lCluster : lClusters) {
+        assertTrue(lCluster.size() >= 2);
+        lClusteredPeriods = lClusteredPeriods + lCluster.size();
+        for (Period lPeriod : lCluster) {
+          assertTrue(lCluster.stream().anyMatch(pOther -> pOther != lPeriod && pOther.overlaps(lPeriod)));
+          for (List<Period> lOtherCluster : lClusters) {
+            if (lOtherCluster != lCluster) {
+              assertTrue(lOtherCluster.stream().noneMatch(pOther -> pOther.overlaps(lPeriod)));
+            }
+          }
+        }
+      }
+      Set<Integer> lOverlapping = new HashSet<>();
+      for (List<Integer> lPair : lExpected) {
+        lOverlapping.addAll(lPair);
+      }
+      assertEquals(lOverlapping.size(), lClusteredPeriods);
+    }
+  }
+}
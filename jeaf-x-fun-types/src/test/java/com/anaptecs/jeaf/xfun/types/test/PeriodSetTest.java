@@ -0,0 +1,140 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.anaptecs.jeaf.xfun.types.Period;
+import com.anaptecs.jeaf.xfun.types.PeriodSet;
+import org.junit.jupiter.api.Test;
+
+public class PeriodSetTest {
+  @Test
+  public void testNormalization( ) {
+    PeriodSet lSet = new PeriodSet(new Period(20L, 30L), new Period(0L, 10L), new Period(11L, 15L),
+        new Period(25L, 40L), new Period(50L, 50L));
+    assertEquals(Arrays.asList(new Period(0L, 15L), new Period(20L, 40L), new Period(50L, 50L)), lSet.getPeriods());
+    assertEquals(3, lSet.size());
+    assertEquals(Arrays.asList(new Period(16L, 19L), new Period(41L, 49L)), lSet.getGaps());
+    assertEquals(lSet, new PeriodSet(lSet.getPeriods()));
+    assertEquals(lSet.hashCode(), new PeriodSet(lSet.getPeriods()).hashCode());
+
+    assertTrue(lSet.contains(0));
+    assertTrue(lSet.contains(15));
+    assertFalse(lSet.contains(16));
+    assertTrue(lSet.contains(50));
+    assertFalse(lSet.contains(51));
+    assertFalse(lSet.contains(-1));
+    assertTrue(lSet.contains(Instant.ofEpochMilli(40)));
+    assertTrue(lSet.contains(new Date(20)));
+    assertTrue(lSet.contains(new Period(21L, 39L)));
+    assertFalse(lSet.contains(new Period(10L, 20L)));
+
+    assertTrue(PeriodSet.EMPTY.isEmpty());
+    assertEquals(PeriodSet.EMPTY, new PeriodSet(Collections.<Period> emptyList()));
+    assertEquals(0, PeriodSet.EMPTY.getGaps().size());
+    assertFalse(PeriodSet.EMPTY.contains(0));
+    assertEquals(new PeriodSet(Period.UNLIMITED_PERIOD), PeriodSet.EMPTY.complement());
+    assertEquals(PeriodSet.EMPTY, new PeriodSet(Period.UNLIMITED_PERIOD).complement());
+
+    try {
+      new PeriodSet((List<Period>) null);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testOpenBoundaries( ) {
+    PeriodSet lSet = new PeriodSet(new Period(Period.OPEN_BEGINNING, 10L), new Period(100L, Period.OPEN_END));
+    assertEquals(Arrays.asList(new Period(11L, 99L)), lSet.getGaps());
+    assertEquals(new PeriodSet(new Period(11L, 99L)), lSet.complement());
+    assertEquals(lSet, lSet.complement().complement());
+    assertTrue(lSet.contains(Long.MIN_VALUE));
+    assertTrue(lSet.contains(Long.MAX_VALUE));
+    assertEquals(new PeriodSet(Period.UNLIMITED_PERIOD), lSet.union(lSet.complement()));
+    assertEquals(new PeriodSet(new Period(5L, 10L)),
+        lSet.intersection(new PeriodSet(new Period(5L, 20L))));
+    assertEquals(new PeriodSet(new Period(Period.OPEN_BEGINNING, 4L), new Period(100L, Period.OPEN_END)),
+        lSet.difference(new PeriodSet(new Period(5L, 20L))));
+  }
+
+  @Test
+  public void testAgainstPointwiseEvaluation( ) {
+    Random lRandom = new Random(4711);
+    long[] lPoints = new long[106];
+    for (int i = 0; i < 104; i++) {
+      lPoints[i] = i - 2;
+    }
+    lPoints[104] = Long.MIN_VALUE;
+    lPoints[105] = Long.MAX_VALUE;
+    for (int lRun = 0; lRun < 200; lRun++) {
+      List<Period> lFirstPeriods = this.createPeriods(lRandom);
+      List<Period> lSecondPeriods = this.createPeriods(lRandom);
+      PeriodSet lFirst = new PeriodSet(lFirstPeriods);
+      PeriodSet lSecond = new PeriodSet(lSecondPeriods);
+      PeriodSet lUnion = lFirst.union(lSecond);
+      PeriodSet lIntersection = lFirst.intersection(lSecond);
+      PeriodSet lDifference = lFirst.difference(lSecond);
+      PeriodSet lComplement = lFirst.complement();
+      for (long lPoint : lPoints) {
+        boolean lInFirst = this.isEnclosed(lFirstPeriods, lPoint);
+        boolean lInSecond = this.isEnclosed(lSecondPeriods, lPoint);
+        assertEquals(lInFirst, lFirst.contains(lPoint));
+        assertEquals(lInFirst || lInSecond, lUnion.contains(lPoint));
+        assertEquals(lInFirst && lInSecond, lIntersection.contains(lPoint));
+        assertEquals(lInFirst && lInSecond == false, lDifference.contains(lPoint));
+        assertEquals(lInFirst == false, lComplement.contains(lPoint));
+      }
+      for (PeriodSet lSet : Arrays.asList(lFirst, lUnion, lIntersection, lDifference, lComplement)) {
+        this.assertNormalized(lSet);
+      }
+      assertEquals(lUnion, lSecond.union(lFirst));
+      assertEquals(lIntersection, lSecond.intersection(lFirst));
+    }
+  }
+
+  private List<Period> createPeriods( Random pRandom ) {
+    List<Period> lPeriods = new ArrayList<>();
+    int lCount = pRandom.nextInt(8);
+    for (int i = 0; i < lCount; i++) {
+      long lStart = pRandom.nextInt(100);
+      long lEnd = lStart + pRandom.nextInt(15);
+      if (pRandom.nextInt(8) == 0) {
+        lStart = Period.OPEN_BEGINNING;
+      }
+      if (pRandom.nextInt(8) == 0) {
+        lEnd = Period.OPEN_END;
+      }
+      lPeriods.add(new Period(lStart, lEnd));
+    }
+    return lPeriods;
+  }
+
+  private boolean isEnclosed( List<Period> pPeriods, long pPoint ) {
+    return pPeriods.stream().anyMatch(pPeriod -> pPeriod.isEnclosed(pPoint));
+  }
+
+  private void assertNormalized( PeriodSet pSet ) {
+    List<Period> lPeriods = pSet.getPeriods();
+    for (int i = 1; i < lPeriods.size(); i++) {
+      assertTrue(lPeriods.get(i).getStartMillis() > lPeriods.get(i - 1).getEndMillis() + 1);
+    }
+  }
+}
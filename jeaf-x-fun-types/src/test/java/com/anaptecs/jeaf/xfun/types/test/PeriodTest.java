@@ -10,11 +10,25 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
 
 import com.anaptecs.jeaf.xfun.types.Period;
 import com.anaptecs.jeaf.xfun.types.Period.DateStringRepresentation;
@@ -264,4 +278,324 @@ public class PeriodTest {
     assertEquals(new Period((Date) null, (Date) null).hashCode(), new Period((Date) null, (Date) null).hashCode());
     assertEquals(new Period(null, lAfter).hashCode(), new Period(null, lAfter).hashCode());
   }
+
+  @Test
+  public void testPeriodWithMilliseconds( ) {
+    Date lStart = new Date(1293836400000L);
+    Date lEnd = new Date(1325286000000L);
+    Period lPeriod = new Period(lStart.getTime(), lEnd.getTime());
+    assertEquals(new Period(lStart, lEnd), lPeriod);
+    assertEquals(new Period(lStart, lEnd).hashCode(), lPeriod.hashCode());
+    assertEquals(lStart.hashCode(), lPeriod.hashCode());
+    assertEquals(new Period(lStart.toInstant(), lEnd.toInstant()), lPeriod);
+    assertEquals(lStart.getTime(), lPeriod.getStartMillis());
+    assertEquals(lEnd.getTime(), lPeriod.getEndMillis());
+    assertEquals(lStart.toInstant(), lPeriod.getStartInstant());
+    assertEquals(lEnd.toInstant(), lPeriod.getEndInstant());
+    assertEquals(lStart, lPeriod.getStart());
+
+    // Boundaries belong to the period.
+    assertTrue(lPeriod.isEnclosed(lStart.getTime()));
+    assertTrue(lPeriod.isEnclosed(lEnd.getTime()));
+    assertFalse(lPeriod.isEnclosed(lStart.getTime() - 1));
+    assertFalse(lPeriod.isEnclosed(lEnd.getTime() + 1));
+    assertTrue(lPeriod.isEnclosed(lStart.toInstant()));
+
+    // Open boundaries are represented by the sentinels.
+    Period lOpenPeriod = new Period((Instant) null, lEnd.toInstant());
+    assertTrue(lOpenPeriod.hasOpenBeginning());
+    assertEquals(Period.OPEN_BEGINNING, lOpenPeriod.getStartMillis());
+    assertEquals(null, lOpenPeriod.getStartInstant());
+    assertEquals(new Period(null, lEnd), lOpenPeriod);
+    assertTrue(lOpenPeriod.isEnclosed(Long.MIN_VALUE + 1));
+    assertTrue(Period.UNLIMITED_PERIOD.isEnclosed(Long.MAX_VALUE - 1));
+    assertEquals(Period.UNLIMITED_PERIOD, new Period((Date) null, (Date) null));
+    assertEquals(null, Period.UNLIMITED_PERIOD.getEnd());
+    assertEquals(null, Period.UNLIMITED_PERIOD.getEndInstant());
+    assertEquals(0, Period.UNLIMITED_PERIOD.hashCode());
+    assertFalse(lPeriod.overlaps(new Period(lEnd.getTime(), Period.OPEN_END)));
+    assertTrue(lPeriod.overlaps(new Period(lEnd.getTime() - 1, Period.OPEN_END)));
+    assertTrue(lPeriod.endsBefore(new Period(lEnd.getTime(), Period.OPEN_END)));
+    assertTrue(new Period(Period.OPEN_BEGINNING, lStart.getTime()).endsBefore(lPeriod));
+
+    try {
+      new Period(lEnd.getTime(), lStart.getTime());
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      lPeriod.isEnclosed((Instant) null);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testSerialization( ) throws IOException, ClassNotFoundException {
+    Period[] lPeriods = new Period[] { new Period(4711L, 4712L), new Period(Period.OPEN_BEGINNING, 4711L),
+      new Period(-4711L, Period.OPEN_END), Period.UNLIMITED_PERIOD };
+    for (Period lPeriod : lPeriods) {
+      ByteArrayOutputStream lBytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream lOutputStream = new ObjectOutputStream(lBytes)) {
+        lOutputStream.writeObject(lPeriod);
+      }
+      // Peers with former versions have to be able to read the stream so it must not name any other class.
+      assertFalse(new String(lBytes.toByteArray(), StandardCharsets.ISO_8859_1).contains("types.Period$"));
+      try (ObjectInputStream lInputStream = new ObjectInputStream(new ByteArrayInputStream(lBytes.toByteArray()))) {
+        Period lCopy = (Period) lInputStream.readObject();
+        assertEquals(lPeriod, lCopy);
+        assertEquals(lPeriod.hasOpenBeginning(), lCopy.hasOpenBeginning());
+        assertEquals(lPeriod.hasOpenEnd(), lCopy.hasOpenEnd());
+      }
+    }
+
+    // Array with periods [4711, 4712] and [open, -4711] as it was serialized by former versions.
+    String lLegacyStream =
+        "aced0005757200135b4c6a6176612e6c616e672e4f626a6563743b90ce589f1073296c02000078700000000273720023"
+        + "636f6d2e616e6170746563732e6a6561662e7866756e2e74797065732e506572696f6400000000000000010200024c00"
+        + "03656e647400104c6a6176612f7574696c2f446174653b4c0005737461727471007e000378707372000e6a6176612e75"
+        + "74696c2e44617465686a81014b597419030000787077080000000000001268787371007e000577080000000000001267"
+        + "787371007e00027371007e00057708ffffffffffffed997870";
+    byte[] lLegacyBytes = new byte[lLegacyStream.length() / 2];
+    for (int i = 0; i < lLegacyBytes.length; i++) {
+      lLegacyBytes[i] = (byte) Integer.parseInt(lLegacyStream.substring(2 * i, 2 * i + 2), 16);
+    }
+    try (ObjectInputStream lInputStream = new ObjectInputStream(new ByteArrayInputStream(lLegacyBytes))) {
+      Object[] lCopies = (Object[]) lInputStream.readObject();
+      assertEquals(new Period(4711L, 4712L), lCopies[0]);
+      assertEquals(new Period(Period.OPEN_BEGINNING, -4711L), lCopies[1]);
+    }
+  }
+
+  @Test
+  public void testStringRepresentation( ) {
+    // Output has to be the same as with SimpleDateFormat for all representations also for very early or late dates.
+    Random lRandom = new Random(4711);
+    long[] lSpecialDates = new long[] { -62135769600000L, -12219292800000L, -2208988800001L, -2208988800000L, 0,
+      253370764799999L, 253370764800000L, 253402300799999L, 253402300800000L };
+    for (int i = 0; i < 2000 + lSpecialDates.length; i++) {
+      long lStart;
+      if (i < lSpecialDates.length) {
+        lStart = lSpecialDates[i];
+      }
+      else {
+        lStart = (long) ((lRandom.nextDouble() - 0.5) * 2 * 300000000000000L);
+      }
+      long lEnd = lStart + lRandom.nextInt(Integer.MAX_VALUE);
+      Period lPeriod = new Period(lStart, lEnd);
+      for (DateStringRepresentation lFormat : DateStringRepresentation.values()) {
+        String lPattern;
+        switch (lFormat) {
+          case DATE:
+            lPattern = Period.DATE_PATTERN;
+            break;
+          case DATE_TIME:
+            lPattern = Period.DATE_TIME_PATTERN;
+            break;
+          case DATE_TIME_SECONDS:
+            lPattern = Period.DATE_TIME_SECONDS_PATTERN;
+            break;
+          default:
+            lPattern = Period.TIMESTAMP_PATTERN;
+        }
+        SimpleDateFormat lDateFormat = new SimpleDateFormat(lPattern);
+        String lExpected =
+            "Start: " + lDateFormat.format(new Date(lStart)) + " End: " + lDateFormat.format(new Date(lEnd));
+        assertEquals(lExpected, lPeriod.toString(lFormat));
+        StringBuilder lBuilder = new StringBuilder("Period ");
+        assertEquals("Period " + lExpected, lPeriod.appendTo(lBuilder, lFormat).toString());
+      }
+    }
+    assertEquals("Start: null End: null", Period.UNLIMITED_PERIOD.appendTo(new StringBuilder(), null).toString());
+    try {
+      Period.UNLIMITED_PERIOD.appendTo(null, DateStringRepresentation.DATE);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testStringRepresentationInOtherTimeZones( ) {
+    // Time zone rules of java.time and SimpleDateFormat differ for some zones far in the future, e.g. Africa/Windhoek
+    // from 2089 on or Asia/Gaza in the years 3917 and 6578. Output and parsing still have to be the same as with
+    // SimpleDateFormat.
+    String[] lZones = new String[] { "Africa/Windhoek", "Asia/Gaza", "Asia/Gaza" };
+    int[] lYears = new int[] { 2089, 3917, 6578 };
+    TimeZone lDefaultZone = TimeZone.getDefault();
+    try {
+      for (int i = 0; i < lZones.length; i++) {
+        TimeZone.setDefault(TimeZone.getTimeZone(lZones[i]));
+        SimpleDateFormat lDateFormat = new SimpleDateFormat(Period.TIMESTAMP_PATTERN);
+        long lFrom = LocalDate.of(lYears[i], 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        long lTo = LocalDate.of(lYears[i] + 1, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        for (long lMillis = lFrom; lMillis < lTo; lMillis = lMillis + 3600000) {
+          Period lPeriod = new Period(lMillis, Period.OPEN_END);
+          String lExpected = "Start: " + lDateFormat.format(new Date(lMillis)) + " End: null";
+          assertEquals(lExpected, lPeriod.toString(DateStringRepresentation.TIMESTAMP));
+          assertEquals(lExpected, Period.parse(lExpected).toString(DateStringRepresentation.TIMESTAMP));
+        }
+      }
+    }
+    finally {
+      TimeZone.setDefault(lDefaultZone);
+    }
+  }
+
+  @Test
+  public void testStringRepresentationInOtherLocales( ) {
+    // Locales with other calendars or digits than the ISO calendar with ASCII digits have to create the same output as
+    // SimpleDateFormat, e.g. years of the Buddhist or Japanese calendar or Thai, Arabic or Devanagari digits.
+    Locale[] lLocales = new Locale[] { new Locale("th", "TH", "TH"), new Locale("ja", "JP", "JP"),
+      Locale.forLanguageTag("ar-EG"), Locale.forLanguageTag("hi-IN-u-nu-deva"), Locale.forLanguageTag("th-TH") };
+    DateStringRepresentation[] lFormats = new DateStringRepresentation[] { DateStringRepresentation.DATE,
+      DateStringRepresentation.DATE_TIME, DateStringRepresentation.DATE_TIME_SECONDS,
+      DateStringRepresentation.TIMESTAMP };
+    String[] lPatterns = new String[] { Period.DATE_PATTERN, Period.DATE_TIME_PATTERN, Period.DATE_TIME_SECONDS_PATTERN,
+      Period.TIMESTAMP_PATTERN };
+    Locale lDefaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+    try {
+      for (Locale lLocale : lLocales) {
+        Locale.setDefault(Locale.Category.FORMAT, lLocale);
+        Period lPeriod = new Period(1699967000123L, 1699968000456L);
+        for (int i = 0; i < lFormats.length; i++) {
+          DateStringRepresentation lFormat = lFormats[i];
+          SimpleDateFormat lDateFormat = new SimpleDateFormat(lPatterns[i]);
+          String lExpected = "Start: " + lDateFormat.format(new Date(1699967000123L)) + " End: "
+              + lDateFormat.format(new Date(1699968000456L));
+          assertEquals(lExpected, lPeriod.toString(lFormat));
+          assertEquals(lExpected, Period.parse(lExpected).toString(lFormat));
+        }
+        assertEquals(lPeriod, Period.parse(lPeriod.toString(DateStringRepresentation.TIMESTAMP)));
+      }
+    }
+    finally {
+      Locale.setDefault(Locale.Category.FORMAT, lDefaultLocale);
+    }
+  }
+
+  @Test
+  public void testParse( ) {
+    Calendar lCalendar = Calendar.getInstance();
+    lCalendar.clear();
+    lCalendar.set(2010, 11, 31, 13, 45, 17);
+    lCalendar.set(Calendar.MILLISECOND, 98);
+    Period lPeriod = new Period(lCalendar, null);
+    assertEquals("Start: 2010-12-31 13:45:17.098 End: null", lPeriod.toString());
+    assertEquals(lPeriod, Period.parse(lPeriod.toString()));
+    assertEquals(lPeriod, Period.parse(lPeriod.toString(), DateStringRepresentation.TIMESTAMP));
+    assertEquals(Period.UNLIMITED_PERIOD, Period.parse("Start: null End: null"));
+    assertEquals(Period.UNLIMITED_PERIOD, Period.parse(new StringBuilder("Start: null End: null")));
+
+    // Parsing has to be the inverse of toString() for all representations, i.e. it has to return the same point of time
+    // as SimpleDateFormat. String representation does not contain the era so only dates after Christ can be parsed.
+    Random lRandom = new Random(4711);
+    for (int i = 0; i < 2000; i++) {
+      long lStart = -62000000000000L + (long) (lRandom.nextDouble() * 312000000000000L);
+      Period lNextPeriod = new Period(lStart, lStart + lRandom.nextInt(Integer.MAX_VALUE));
+      for (DateStringRepresentation lFormat : DateStringRepresentation.values()) {
+        String lText = lNextPeriod.toString(lFormat);
+        Period lExpected = PeriodTest.getParsedPeriod(lNextPeriod, lFormat);
+        assertEquals(lExpected, Period.parse(lText));
+        assertEquals(lExpected, Period.parse(lText, lFormat));
+      }
+    }
+
+    // Local times that are ambiguous due to the end of daylight saving time have to be resolved like SimpleDateFormat
+    // does and local times within a gap have to be rejected.
+    TimeZone lDefaultZone = TimeZone.getDefault();
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+      Period lAmbiguousPeriod = new Period(1635643800000L, Period.OPEN_END);
+      assertEquals("Start: 2021-10-31 02:30:00.000 End: null", lAmbiguousPeriod.toString());
+      assertEquals(1635643800000L, Period.parse(lAmbiguousPeriod.toString()).getStartMillis());
+      long[] lTransitions = new long[] { 1616893200000L, 1635642000000L };
+      for (long lTransition : lTransitions) {
+        for (long lMillis = lTransition - 7200000; lMillis < lTransition + 7200000; lMillis = lMillis + 60000) {
+          Period lNextPeriod = new Period(lMillis, Period.OPEN_END);
+          for (DateStringRepresentation lFormat : DateStringRepresentation.values()) {
+            assertEquals(PeriodTest.getParsedPeriod(lNextPeriod, lFormat),
+                Period.parse(lNextPeriod.toString(lFormat)));
+          }
+        }
+      }
+      try {
+        Period.parse("Start: 2021-03-28 02:30 End: null");
+        fail("Exception expected.");
+      }
+      catch (IllegalArgumentException e) {
+        // Expected.
+      }
+    }
+    finally {
+      TimeZone.setDefault(lDefaultZone);
+    }
+    assertEquals("Start: 1899-12-31 End: 2011-12-31",
+        Period.parse("Start: 1899-12-31 End: 2011-12-31 13:45").toString(DateStringRepresentation.DATE));
+
+    String[] lInvalidTexts = new String[] { "", "Start: 2010-12-31", "Begin: 2010-12-31 End: null",
+      "Start: 2010-13-01 End: null", "Start: 2010-02-30 End: null", "Start: 2010-12-3x End: null",
+      "Start: 2010/12/31 End: null", "Start: 2010-12-31 25:00 End: null", "Start: 2010-12-31 00:00:00.0 End: null",
+      "Start: null End: nul", "Start: 1899-02-30 End: null" };
+    for (String lText : lInvalidTexts) {
+      try {
+        Period.parse(lText);
+        fail("Exception expected for " + lText);
+      }
+      catch (IllegalArgumentException e) {
+        // Expected.
+      }
+    }
+    try {
+      Period.parse("Start: 2010-12-31 End: null", DateStringRepresentation.TIMESTAMP);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  /**
+   * Method returns the period that SimpleDateFormat reads from the string representation of the passed period.
+   * 
+   * @param pPeriod Period whose string representation is parsed. The period must not have open boundaries.
+   * @param pFormat Representation of start and end.
+   * @return {@link Period} Period with start and end as they are parsed by SimpleDateFormat.
+   */
+  private static Period getParsedPeriod( Period pPeriod, DateStringRepresentation pFormat ) {
+    String lPattern;
+    switch (pFormat) {
+      case DATE:
+        lPattern = Period.DATE_PATTERN;
+        break;
+      case DATE_TIME:
+        lPattern = Period.DATE_TIME_PATTERN;
+        break;
+      case DATE_TIME_SECONDS:
+        lPattern = Period.DATE_TIME_SECONDS_PATTERN;
+        break;
+      default:
+        lPattern = Period.TIMESTAMP_PATTERN;
+    }
+    SimpleDateFormat lDateFormat = new SimpleDateFormat(lPattern);
+    try {
+      long lStart = lDateFormat.parse(lDateFormat.format(pPeriod.getStart())).getTime();
+      long lEnd;
+      if (pPeriod.hasOpenEnd() == true) {
+        lEnd = Period.OPEN_END;
+      }
+      else {
+        lEnd = lDateFormat.parse(lDateFormat.format(pPeriod.getEnd())).getTime();
+      }
+      return new Period(lStart, lEnd);
+    }
+    catch (ParseException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
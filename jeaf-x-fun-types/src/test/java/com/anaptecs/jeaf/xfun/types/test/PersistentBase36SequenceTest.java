@@ -0,0 +1,122 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.SystemException;
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Base36Sequence.Block;
+import com.anaptecs.jeaf.xfun.types.PersistentBase36Sequence;
+import org.junit.jupiter.api.Test;
+
+public class PersistentBase36SequenceTest {
+  @Test
+  public void testResumeAfterRestart( ) throws IOException {
+    Path lFile = Files.createTempFile("base36", ".seq");
+    Files.delete(lFile);
+    try {
+      PersistentBase36Sequence lSequence = new PersistentBase36Sequence(lFile, new Base36(100, 4), 10);
+      assertEquals(new Base36(100, 4), lSequence.next());
+      assertEquals(110, lSequence.getHighWaterMark());
+      for (int i = 0; i < 9; i++) {
+        lSequence.next();
+      }
+      assertEquals(new Base36(110, 4), lSequence.next());
+      assertEquals(120, lSequence.getHighWaterMark());
+
+      // Reservation of a block larger than the lease.
+      Block lBlock = lSequence.reserve(25);
+      assertEquals(new Base36(111, 4), lBlock.next());
+      assertEquals(145, lSequence.getHighWaterMark());
+
+      // A checkpoint file must not be used twice.
+      try {
+        new PersistentBase36Sequence(lFile, new Base36(100, 4), 10);
+        fail("Exception expected.");
+      }
+      catch (IOException e) {
+        // Nothing to do.
+      }
+      lSequence.close();
+
+      // Sequence has to resume above the last durable lease.
+      lSequence = new PersistentBase36Sequence(lFile, new Base36(0, 4), 10);
+      assertEquals(new Base36(145, 4), lSequence.next());
+      lSequence.close();
+
+      // Destroy the slot with the older high-water mark as it happens if a crash interrupts writing it. The sequence
+      // has to resume with the latest durable one.
+      try (RandomAccessFile lRandomAccessFile = new RandomAccessFile(lFile.toFile(), "rw")) {
+        lRandomAccessFile.seek(8);
+        lRandomAccessFile.writeLong(999);
+      }
+      lSequence = new PersistentBase36Sequence(lFile, new Base36(0, 4), 10);
+      assertEquals(new Base36(155, 4), lSequence.next());
+      lSequence.close();
+
+      // Number of digits has to match.
+      try {
+        new PersistentBase36Sequence(lFile, new Base36(0, 5), 10);
+        fail("Exception expected.");
+      }
+      catch (IOException e) {
+        // Nothing to do.
+      }
+    }
+    finally {
+      Files.deleteIfExists(lFile);
+    }
+  }
+
+  @Test
+  public void testResumeExhaustedSequence( ) throws IOException {
+    Path lFile = Files.createTempFile("base36", ".seq");
+    Files.delete(lFile);
+    try {
+      // Invalid lease size must not create the checkpoint file.
+      try {
+        new PersistentBase36Sequence(lFile, new Base36(0, 1), 0);
+        fail("Exception expected.");
+      }
+      catch (IllegalArgumentException e) {
+        assertFalse(Files.exists(lFile));
+      }
+
+      PersistentBase36Sequence lSequence = new PersistentBase36Sequence(lFile, new Base36(0, 1), 10);
+      for (int i = 0; i < 36; i++) {
+        lSequence.next();
+      }
+      assertEquals(36, lSequence.getHighWaterMark());
+      lSequence.close();
+
+      // Exhausted sequence can be reopened again and again but does not hand out any further numbers.
+      for (int i = 0; i < 2; i++) {
+        lSequence = new PersistentBase36Sequence(lFile, new Base36(0, 1), 10);
+        assertEquals(36, lSequence.getHighWaterMark());
+        try {
+          lSequence.next();
+          fail("Exception expected.");
+        }
+        catch (SystemException e) {
+          assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+        }
+        lSequence.close();
+      }
+    }
+    finally {
+      Files.deleteIfExists(lFile);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.Period;
+import com.anaptecs.jeaf.xfun.types.SortableKeys;
+import org.junit.jupiter.api.Test;
+
+public class SortableKeysTest {
+  @Test
+  public void testBase36Keys( ) {
+    // String representation does not sort numerically but the keys have to.
+    Base36[] lNumbers = new Base36[] { new Base36("Z1", 2), new Base36("02", 2), new Base36("1", 5),
+      new Base36("ZZZZZZZZZZZZ"), new Base36("0", 13) };
+    for (Base36 lFirst : lNumbers) {
+      byte[] lFirstKey = SortableKeys.toKey(lFirst);
+      assertEquals(SortableKeys.BASE36_KEY_LENGTH, lFirstKey.length);
+      assertEquals(lFirst, SortableKeys.toBase36(lFirstKey, 0, lFirst.getMaxLength()));
+      for (Base36 lSecond : lNumbers) {
+        byte[] lSecondKey = SortableKeys.toKey(lSecond);
+        assertEquals(Integer.signum(lFirst.compareTo(lSecond)),
+            Integer.signum(Arrays.compareUnsigned(lFirstKey, lSecondKey)));
+      }
+    }
+    try {
+      SortableKeys.toKey(new Base36("ZZZZZZZZZZZZZ"));
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Nothing to do.
+    }
+  }
+
+  @Test
+  public void testPeriodKeys( ) {
+    Date lBefore1970 = new Date(-1000000);
+    Date lEpoch = new Date(0);
+    Date lNow = new Date();
+    // Periods in expected order.
+    Period[] lPeriods = new Period[] { new Period(null, lEpoch), Period.UNLIMITED_PERIOD, new Period(lBefore1970, null),
+      new Period(lEpoch, lEpoch), new Period(lEpoch, lNow), new Period(lEpoch, null), new Period(lNow, lNow) };
+
+    for (int i = 0; i < lPeriods.length; i++) {
+      byte[] lKey = SortableKeys.toKey(lPeriods[i]);
+      assertEquals(SortableKeys.PERIOD_KEY_LENGTH, lKey.length);
+      assertEquals(lPeriods[i], SortableKeys.toPeriod(lKey, 0));
+      for (int j = 0; j < lPeriods.length; j++) {
+        assertEquals(Integer.signum(Integer.compare(i, j)),
+            Integer.signum(Arrays.compareUnsigned(lKey, SortableKeys.toKey(lPeriods[j]))));
+      }
+    }
+
+    byte[] lKeys = new byte[SortableKeys.PERIOD_KEY_LENGTH + 3];
+    SortableKeys.toKey(lPeriods[4], lKeys, 3);
+    assertTrue(lPeriods[4].equals(SortableKeys.toPeriod(lKeys, 3)));
+  }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.anaptecs.jeaf.xfun.types.Period;
+import com.anaptecs.jeaf.xfun.types.TemporalMap;
+import com.anaptecs.jeaf.xfun.types.TemporalMap.Entry;
+import org.junit.jupiter.api.Test;
+
+public class TemporalMapTest {
+  @Test
+  public void testPutAndGet( ) {
+    TemporalMap<String, String> lMap = new TemporalMap<>();
+    assertTrue(lMap.isEmpty());
+    assertNull(lMap.get("price", 0));
+    assertEquals(Collections.emptyList(), lMap.getHistory("price"));
+
+    lMap.put("price", new Period(0L, 99L), "A");
+    lMap.put("price", new Period(100L, Period.OPEN_END), "B");
+    assertEquals(1, lMap.size());
+    assertTrue(lMap.containsKey("price"));
+    assertFalse(lMap.containsKey("rate"));
+    assertEquals(Collections.singleton("price"), lMap.keySet());
+    assertNull(lMap.get("price", -1));
+    assertEquals("A", lMap.get("price", 0));
+    assertEquals("A", lMap.get("price", 99));
+    assertEquals("B", lMap.get("price", Instant.ofEpochMilli(100)));
+    assertEquals("B", lMap.get("price", new Date(Long.MAX_VALUE)));
+
+    // Split existing entry.
+    lMap.put("price", new Period(40L, 59L), "C");
+    assertEquals(Arrays.asList(new Entry<>(new Period(0L, 39L), "A"), new Entry<>(new Period(40L, 59L), "C"),
+        new Entry<>(new Period(60L, 99L), "A"), new Entry<>(new Period(100L, Period.OPEN_END), "B")),
+        lMap.getHistory("price"));
+
+    // Trim existing entries and replace the ones in between.
+    lMap.put("price", new Period(50L, 150L), "D");
+    List<Entry<String>> lHistory = lMap.getHistory("price");
+    assertEquals(Arrays.asList(new Entry<>(new Period(0L, 39L), "A"), new Entry<>(new Period(40L, 49L), "C"),
+        new Entry<>(new Period(50L, 150L), "D"), new Entry<>(new Period(151L, Period.OPEN_END), "B")), lHistory);
+    assertEquals("C", lMap.get("price", 49));
+    assertEquals("D", lMap.get("price", 50));
+    assertEquals("D", lMap.get("price", 150));
+    assertEquals("B", lMap.get("price", 151));
+
+    // History is a snapshot.
+    lMap.put("price", Period.UNLIMITED_PERIOD, "E");
+    assertEquals(4, lHistory.size());
+    assertEquals(Arrays.asList(new Entry<>(Period.UNLIMITED_PERIOD, "E")), lMap.getHistory("price"));
+    assertEquals("E", lMap.get("price", Long.MIN_VALUE));
+    assertEquals("E", lMap.get("price", Long.MAX_VALUE));
+    try {
+      lHistory.clear();
+      fail("Exception expected.");
+    }
+    catch (UnsupportedOperationException e) {
+      // Expected.
+    }
+
+    try {
+      lMap.put("price", null, "F");
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      lMap.put("price", Period.UNLIMITED_PERIOD, null);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testRemove( ) {
+    TemporalMap<String, Integer> lMap = new TemporalMap<>();
+    lMap.remove("rate", Period.UNLIMITED_PERIOD);
+    assertTrue(lMap.isEmpty());
+
+    lMap.put("rate", new Period(Period.OPEN_BEGINNING, 100L), 1);
+    lMap.remove("rate", new Period(10L, 19L));
+    assertEquals(Arrays.asList(new Entry<>(new Period(Period.OPEN_BEGINNING, 9L), 1),
+        new Entry<>(new Period(20L, 100L), 1)), lMap.getHistory("rate"));
+    assertNull(lMap.get("rate", 15));
+    assertEquals(Integer.valueOf(1), lMap.get("rate", 20));
+
+    lMap.remove("rate", Period.UNLIMITED_PERIOD);
+    assertFalse(lMap.containsKey("rate"));
+    assertTrue(lMap.isEmpty());
+  }
+
+  @Test
+  public void testAgainstPointwiseEvaluation( ) {
+    Random lRandom = new Random(4711);
+    for (int lRun = 0; lRun < 100; lRun++) {
+      TemporalMap<String, Integer> lMap = new TemporalMap<>();
+      Integer[] lExpected = new Integer[100];
+      for (int lChange = 0; lChange < 20; lChange++) {
+        int lStart = lRandom.nextInt(100);
+        int lEnd = Math.min(lStart + lRandom.nextInt(30), 99);
+        Integer lValue = lRandom.nextInt(5);
+        if (lRandom.nextInt(4) == 0) {
+          lMap.remove("key", new Period((long) lStart, (long) lEnd));
+          lValue = null;
+        }
+        else {
+          lMap.put("key", new Period((long) lStart, (long) lEnd), lValue);
+        }
+        for (int i = lStart; i <= lEnd; i++) {
+          lExpected[i] = lValue;
+        }
+        for (int i = 0; i < lExpected.length; i++) {
+          assertEquals(lExpected[i], lMap.get("key", i));
+        }
+        List<Entry<Integer>> lHistory = lMap.getHistory("key");
+        for (int i = 1; i < lHistory.size(); i++) {
+          assertTrue(lHistory.get(i - 1).getValidity().getEndMillis() < lHistory.get(i).getValidity().getStartMillis());
+        }
+      }
+    }
+  }
+}
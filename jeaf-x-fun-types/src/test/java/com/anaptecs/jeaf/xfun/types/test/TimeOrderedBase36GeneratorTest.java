@@ -0,0 +1,182 @@
+/**
+ * Copyright 2004 - 2026 anaptecs GmbH, Burgstr. 96, 72764 Reutlingen, Germany
+ *
+ * All rights reserved.
+ */
+package com.anaptecs.jeaf.xfun.types.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+
+import com.anaptecs.jeaf.xfun.api.XFunMessages;
+import com.anaptecs.jeaf.xfun.api.errorhandling.SystemException;
+import com.anaptecs.jeaf.xfun.types.Base36;
+import com.anaptecs.jeaf.xfun.types.TimeOrderedBase36Generator;
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedBase36GeneratorTest {
+  @Test
+  public void testGenerateNumbers( ) {
+    TimeOrderedBase36Generator lGenerator = new TimeOrderedBase36Generator(12, 1296, 815, 1024);
+    assertEquals(12, lGenerator.getMaxLength());
+    assertEquals(815, lGenerator.getNode());
+    assertTrue(lGenerator.getMaxTimestamp() > System.currentTimeMillis());
+
+    long lStart = System.currentTimeMillis();
+    Base36 lPrevious = lGenerator.next();
+    for (int i = 0; i < 100000; i++) {
+      Base36 lNext = lGenerator.next();
+      assertEquals(12, lNext.getMaxLength());
+      assertTrue(lNext.compareTo(lPrevious) > 0);
+      lPrevious = lNext;
+    }
+    long lEnd = System.currentTimeMillis();
+    assertEquals(815, lGenerator.getNode(lPrevious));
+
+    // Numbers may be ahead of the clock if the counter of a millisecond is used up.
+    assertTrue(lGenerator.getTimestamp(lPrevious) >= lStart);
+    assertTrue(lGenerator.getTimestamp(lPrevious) <= lEnd + 100000 / 1024);
+
+    // Numbers of different nodes do not collide and are ordered by time.
+    TimeOrderedBase36Generator lOtherNode = new TimeOrderedBase36Generator(12, 1296, 816, 1024);
+    Base36 lOther = lOtherNode.next();
+    assertEquals(816, lGenerator.getNode(lOther));
+    assertTrue(lOther.equals(lPrevious) == false);
+    assertTrue(new TimeOrderedBase36Generator(12, 1296, 1024).getNode() < 1296);
+  }
+
+  @Test
+  public void testRandomCounterOffset( ) {
+    // Counter of a new millisecond starts at a random offset within the first half of the counter.
+    int lCounts = 1000000;
+    boolean lRandomOffset = false;
+    for (int i = 0; i < 20; i++) {
+      long lCounter = new TimeOrderedBase36Generator(12, 1, 0, lCounts).nextValue() % lCounts;
+      assertTrue(lCounter < lCounts / 2);
+      if (lCounter != 0) {
+        lRandomOffset = true;
+      }
+    }
+    assertTrue(lRandomOffset);
+
+    // Without enough values of the counter there is no random offset.
+    assertEquals(0, new TimeOrderedBase36Generator(12, 36, 5, 2).nextValue() % 2);
+  }
+
+  @Test
+  public void testRestartWithLastValue( ) {
+    TimeOrderedBase36Generator lGenerator = new TimeOrderedBase36Generator(12, 36, 5, 1024);
+    assertEquals(-1, lGenerator.getLastValue());
+    long lLastValue = 0;
+    for (int i = 0; i < 10000; i++) {
+      lLastValue = lGenerator.nextValue();
+    }
+    assertEquals(lLastValue, lGenerator.getLastValue());
+
+    // Restarted generator continues after the last value even if it is ahead of the clock.
+    long lAheadValue = lLastValue + 36 * 1024 * 60000L;
+    TimeOrderedBase36Generator lRestarted = new TimeOrderedBase36Generator(12, 36, 5, 1024, lAheadValue);
+    assertEquals(lAheadValue, lRestarted.getLastValue());
+    assertEquals(lAheadValue + 1, lRestarted.nextValue());
+    assertEquals(5, lRestarted.getNode(new Base36(lAheadValue + 1, 12)));
+
+    // Counter overflow continues with the next millisecond of the same node.
+    long lEndOfMillisecond = (lAheadValue / 1024 + 1) * 1024 - 1;
+    lRestarted = new TimeOrderedBase36Generator(12, 36, 5, 1024, lEndOfMillisecond);
+    assertEquals((lEndOfMillisecond / 1024 + 36) * 1024, lRestarted.nextValue());
+
+    // Last value must belong to the node.
+    try {
+      new TimeOrderedBase36Generator(12, 36, 6, 1024, lLastValue);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      new TimeOrderedBase36Generator(12, 36, 5, 1024, -1);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      new TimeOrderedBase36Generator(2, 1, 0, 1, 1296);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void testConcurrentGeneration( ) throws InterruptedException {
+    final TimeOrderedBase36Generator lGenerator = new TimeOrderedBase36Generator(11, 36, 7, 4096);
+    final int lThreadCount = 8;
+    final int lCount = 50000;
+    final long[][] lValues = new long[lThreadCount][lCount];
+    Thread[] lThreads = new Thread[lThreadCount];
+    for (int i = 0; i < lThreadCount; i++) {
+      final long[] lThreadValues = lValues[i];
+      lThreads[i] = new Thread(( ) -> {
+        for (int j = 0; j < lCount; j++) {
+          lThreadValues[j] = lGenerator.nextValue();
+        }
+      });
+      lThreads[i].start();
+    }
+    for (Thread lThread : lThreads) {
+      lThread.join();
+    }
+
+    // Every thread gets increasing values and no value is generated twice.
+    long[] lAllValues = new long[lThreadCount * lCount];
+    for (int i = 0; i < lThreadCount; i++) {
+      for (int j = 1; j < lCount; j++) {
+        assertTrue(lValues[i][j] > lValues[i][j - 1]);
+      }
+      System.arraycopy(lValues[i], 0, lAllValues, i * lCount, lCount);
+    }
+    Arrays.sort(lAllValues);
+    for (int i = 1; i < lAllValues.length; i++) {
+      assertTrue(lAllValues[i] > lAllValues[i - 1]);
+    }
+  }
+
+  @Test
+  public void testInvalidConfiguration( ) {
+    // 36^4 milliseconds after the epoch are already over.
+    TimeOrderedBase36Generator lGenerator = new TimeOrderedBase36Generator(4, 1, 0, 1);
+    try {
+      lGenerator.next();
+      fail("Exception expected.");
+    }
+    catch (SystemException e) {
+      assertEquals(XFunMessages.MAX_BASE36_VALUE_EXCEEDED, e.getErrorCode());
+    }
+    try {
+      new TimeOrderedBase36Generator(2, 36, 0, 37);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      new TimeOrderedBase36Generator(12, 10, 10, 1);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+    try {
+      new TimeOrderedBase36Generator(13, 10, 1, 1);
+      fail("Exception expected.");
+    }
+    catch (IllegalArgumentException e) {
+      // Expected.
+    }
+  }
+}